@@ -0,0 +1,167 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
+import oracle.kubernetes.operator.http.rest.Scan;
+import oracle.kubernetes.operator.http.rest.ScanCache;
+import oracle.kubernetes.operator.http.rest.ScanCacheStub;
+import oracle.kubernetes.operator.introspection.IntrospectionTestUtils;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.utils.InMemoryCertificates;
+import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+
+/**
+ * The in-memory Kubernetes stand-in, and the other test stubs, which let the domain processor run without a cluster.
+ * Each domain has an administration server and a single cluster, all of whose managed servers are to run.
+ */
+public class BenchmarkEnvironment {
+
+  public static final String ADMIN_NAME = "admin-server";
+  public static final String CLUSTER_NAME = "cluster-1";
+  private static final String DOMAIN_NAME = "base_domain";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<DomainPresenceInfo> domains = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final HttpAsyncTestSupport httpSupport = new HttpAsyncTestSupport();
+  private final KubernetesExecFactoryFake execFactoryFake = new KubernetesExecFactoryFake();
+  private final DomainProcessorTestSupport domainProcessorTestSupport = new DomainProcessorTestSupport();
+  private final DomainProcessorImpl processor
+      = new DomainProcessorImpl(DomainProcessorDelegateStub.createDelegate(testSupport));
+
+  /**
+   * Installs the stubs and defines the specified domains, without running the operator against them.
+   * @param numDomains the number of domains to define
+   * @param numManagedServers the number of managed servers in the cluster of each domain
+   * @return this environment
+   */
+  public BenchmarkEnvironment install(int numDomains, int numManagedServers) {
+    try {
+      mementos.add(TestUtils.silenceOperatorLogger());
+      mementos.add(testSupport.install());
+      mementos.add(httpSupport.install());
+      mementos.add(execFactoryFake.install());
+      mementos.add(domainProcessorTestSupport.install());
+      mementos.add(TuningParametersStub.install());
+      mementos.add(InMemoryCertificates.install());
+      mementos.add(ScanCacheStub.install());
+      mementos.add(StubWatchFactory.install());
+      mementos.add(NoopWatcherStarter.install());
+
+      DomainProcessorTestSetup.defineRequiredResources(testSupport);
+      IntrospectionTestUtils.completeIntrospectorJobs(testSupport);
+      for (int i = 0; i < numDomains; i++) {
+        defineDomain("domain" + i, numManagedServers);
+      }
+      testSupport.doOnCreate(KubernetesTestSupport.POD, p -> setPodReady((V1Pod) p));
+      return this;
+    } catch (NoSuchFieldException | JsonProcessingException e) {
+      revert();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void setPodReady(V1Pod pod) {
+    pod.status(new V1PodStatus().phase("Running")
+        .addConditionsItem(new V1PodCondition().status("True").type("Ready")));
+  }
+
+  private void defineDomain(String uid, int numManagedServers) throws JsonProcessingException {
+    final WlsDomainConfig domainConfig = createDomainConfig(uid, numManagedServers);
+    final ClusterResource cluster = createCluster(uid, numManagedServers);
+    final DomainResource domain = DomainProcessorTestSetup.createTestDomain(uid);
+    domain.getSpec().withCluster(new V1LocalObjectReference().name(cluster.getMetadata().getName()));
+
+    testSupport.defineResources(domain, cluster);
+    IntrospectionTestUtils.defineIntrospectionTopology(testSupport, uid, domainConfig);
+    ScanCache.INSTANCE.registerScan(NS, uid, new Scan(domainConfig, SystemClock.now()));
+    domains.add(new DomainPresenceInfo(domain));
+  }
+
+  private static WlsDomainConfig createDomainConfig(String uid, int numManagedServers) {
+    WlsClusterConfig clusterConfig = new WlsClusterConfig(CLUSTER_NAME);
+    IntStream.rangeClosed(1, numManagedServers)
+        .mapToObj(n -> new WlsServerConfig(getManagedServerName(n), uid + "-" + getManagedServerName(n), 8001))
+        .forEach(clusterConfig::addServerConfig);
+    return new WlsDomainConfig(DOMAIN_NAME)
+        .withAdminServer(ADMIN_NAME, uid + "-" + ADMIN_NAME, 7001)
+        .withCluster(clusterConfig);
+  }
+
+  public static String getManagedServerName(int n) {
+    return "managed-server" + n;
+  }
+
+  private static ClusterResource createCluster(String uid, int replicas) {
+    ClusterResource cluster = DomainProcessorTestSetup.createTestCluster(uid + "-" + CLUSTER_NAME);
+    return cluster.spec(new ClusterSpec().withClusterName(CLUSTER_NAME).withReplicas(replicas));
+  }
+
+  /**
+   * Runs a make-right operation against each domain in turn.
+   * @param explicitRecheck true if each operation should run even if the domain appears unchanged
+   */
+  public void makeRightAll(boolean explicitRecheck) {
+    for (DomainPresenceInfo info : domains) {
+      MakeRightDomainOperation operation = processor.createMakeRightOperation(info);
+      if (explicitRecheck) {
+        operation.withExplicitRecheck();
+      }
+      operation.execute();
+    }
+  }
+
+  public KubernetesTestSupport getTestSupport() {
+    return testSupport;
+  }
+
+  public DomainProcessorImpl getProcessor() {
+    return processor;
+  }
+
+  public List<DomainPresenceInfo> getDomains() {
+    return domains;
+  }
+
+  /**
+   * Returns a pod which the operator has created.
+   * @param uid the UID of the domain
+   * @param serverName the name of the server
+   */
+  public V1Pod getServerPod(String uid, String serverName) {
+    return testSupport.getResourceWithName(KubernetesTestSupport.POD, uid + "-" + serverName);
+  }
+
+  /**
+   * Removes the stubs.
+   */
+  public void revert() {
+    mementos.forEach(Memento::revert);
+    mementos.clear();
+  }
+}
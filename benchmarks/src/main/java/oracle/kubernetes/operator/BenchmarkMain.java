@@ -0,0 +1,52 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks selected by the JMH command-line options. Unless those options specify otherwise, the results
+ * are written as JSON to jmh-result.json, so that they may be compared between releases.
+ */
+public class BenchmarkMain {
+
+  static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  private BenchmarkMain() {
+    // no instances
+  }
+
+  /**
+   * Runs the benchmarks.
+   * @param args JMH command-line options
+   * @throws CommandLineOptionException if the options cannot be parsed
+   * @throws IOException if the help cannot be written
+   * @throws RunnerException if the benchmarks fail
+   */
+  public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp()) {
+      commandLineOptions.showHelp();
+      return;
+    } else if (commandLineOptions.shouldList()) {
+      new Runner(commandLineOptions).list();
+      return;
+    }
+
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+    if (commandLineOptions.getResultFormat().hasValue() || commandLineOptions.getResult().hasValue()) {
+      new Runner(options.build()).run();
+    } else {
+      new Runner(options.resultFormat(ResultFormatType.JSON).result(DEFAULT_RESULT_FILE).build()).run();
+    }
+  }
+}
@@ -0,0 +1,85 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken by make-right operations, both for new domains, when the operator creates every pod and
+ * service, and for running domains, when a periodic recheck finds nothing to change.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {
+    "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.time=ALL-UNNAMED"})
+public class MakeRightBenchmark {
+
+  @State(Scope.Benchmark)
+  public abstract static class Domains {
+    @Param({"1", "10", "100", "1000"})
+    int numDomains;
+
+    @Param({"2", "10"})
+    int numManagedServers;
+
+    BenchmarkEnvironment environment;
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      environment.revert();
+    }
+  }
+
+  public static class NewDomains extends Domains {
+
+    /**
+     * Defines the domains afresh before each invocation, so that each make-right creates their resources.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+      if (environment != null) {
+        environment.revert();
+      }
+      environment = new BenchmarkEnvironment().install(numDomains, numManagedServers);
+    }
+  }
+
+  public static class RunningDomains extends Domains {
+
+    /**
+     * Defines the domains and runs them once, so that later make-right operations find their resources present.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+      environment = new BenchmarkEnvironment().install(numDomains, numManagedServers);
+      environment.makeRightAll(false);
+    }
+  }
+
+  @Benchmark
+  public void startNewDomains(NewDomains domains) {
+    domains.environment.makeRightAll(false);
+  }
+
+  @Benchmark
+  public void recheckRunningDomains(RunningDomains domains) {
+    domains.environment.makeRightAll(true);
+  }
+}
@@ -0,0 +1,66 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import oracle.kubernetes.operator.work.Step;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to start managing a set of namespaces, during which the operator reviews its access to
+ * each namespace and lists the resources in it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {
+    "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.time=ALL-UNNAMED"})
+@State(Scope.Benchmark)
+public class NamespaceStartupBenchmark {
+
+  @Param({"1", "10", "100", "400"})
+  int numNamespaces;
+
+  private BenchmarkEnvironment environment;
+  private DomainRecheck domainRecheck;
+  private List<String> namespaces;
+
+  /**
+   * Installs the stubs, without any domains, and selects the namespaces to start.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    environment = new BenchmarkEnvironment().install(0, 0);
+    environment.getTestSupport().addToPacket(ProcessingConstants.DOMAIN_PROCESSOR, environment.getProcessor());
+    domainRecheck = new DomainRecheck(environment.getProcessor(), new DomainNamespaces(null), true);
+    namespaces = IntStream.range(0, numNamespaces).mapToObj(i -> "namespace" + i).toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    environment.revert();
+  }
+
+  @Benchmark
+  public void startNamespaces() {
+    Step step = domainRecheck.createStartNamespacesStep(namespaces);
+    environment.getTestSupport().runSteps(step);
+  }
+}
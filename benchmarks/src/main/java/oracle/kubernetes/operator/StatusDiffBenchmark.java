@@ -0,0 +1,67 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.custom.V1Patch;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of computing a patch for a domain status in which one server has changed state with the cost
+ * of serializing the whole status, as a replace request does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatusDiffBenchmark {
+
+  @Param({"10", "100", "1000"})
+  int numServers;
+
+  private DomainStatus oldStatus;
+  private DomainStatus newStatus;
+
+  /**
+   * Creates a status, and a copy in which the last server is shutting down.
+   */
+  @Setup
+  public void setUp() {
+    oldStatus = new DomainStatus().withMessage("running").withReplicas(numServers);
+    for (int i = 1; i <= numServers; i++) {
+      oldStatus.addServer(new ServerStatus().withServerName(BenchmarkEnvironment.getManagedServerName(i))
+          .withClusterName(BenchmarkEnvironment.CLUSTER_NAME)
+          .withState("RUNNING").withStateGoal("RUNNING").withNodeName("node" + (i % 10))
+          .withPodPhase("Running").withPodReady("True"));
+    }
+
+    newStatus = new DomainStatus(oldStatus);
+    newStatus.getServers().get(numServers - 1).withState("SHUTTING_DOWN").withStateGoal("SHUTDOWN");
+  }
+
+  @Benchmark
+  public V1Patch createPatch() {
+    return StatusDiff.createPatch("1", oldStatus, newStatus);
+  }
+
+  @Benchmark
+  public long serializeStatus() {
+    return StatusDiff.getStatusSize(newStatus);
+  }
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the dispatch of pod watch events which report no change to running server pods, as the operator
+ * receives when the watches are restarted or when Kubernetes updates fields that the operator does not use.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {
+    "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.time=ALL-UNNAMED"})
+@State(Scope.Benchmark)
+public class WatchDispatchBenchmark {
+
+  @Param({"1", "10", "100"})
+  int numDomains;
+
+  private BenchmarkEnvironment environment;
+  private List<Watch.Response<V1Pod>> events;
+
+  /**
+   * Starts the domains, and creates a modified event for each of their server pods.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    environment = new BenchmarkEnvironment().install(numDomains, 2);
+    environment.makeRightAll(false);
+    events = environment.getTestSupport().<V1Pod>getResources(KubernetesTestSupport.POD).stream()
+        .map(pod -> WatchEvent.createModifiedEvent(pod).toWatchResponse())
+        .toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    environment.revert();
+  }
+
+  /**
+   * Dispatches one event for each server pod.
+   */
+  @Benchmark
+  public void dispatchPodEvents() {
+    for (Watch.Response<V1Pod> event : events) {
+      environment.getProcessor().dispatchPodWatch(event);
+    }
+  }
+}
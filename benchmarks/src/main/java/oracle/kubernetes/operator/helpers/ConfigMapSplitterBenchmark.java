@@ -0,0 +1,69 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the splitting of introspector results among config maps, for results containing an encoded domain zip
+ * of various sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigMapSplitterBenchmark {
+
+  private static final int MEGABYTE = 1024 * 1024;
+
+  @Param({"1", "10", "50"})
+  int domainZipMegabytes;
+
+  private final Map<String, String> data = new HashMap<>();
+
+  /**
+   * Creates the introspector results, with a domain zip of random content.
+   */
+  @Setup
+  public void setUp() {
+    final byte[] domainZip = new byte[domainZipMegabytes * MEGABYTE * 3 / 4];
+    new Random(1).nextBytes(domainZip);
+    data.put("domainzip.secure", Base64.getEncoder().encodeToString(domainZip));
+    data.put("topology.yaml", "domainValid: true\ndomain:\n  name: \"base_domain\"\n");
+    data.put("domainzip_hash", "8b4c2b6e9d0a");
+    data.put("secrets.md5", "d41d8cd98f00b204e9800998ecf8427e");
+  }
+
+  @Benchmark
+  public List<Target> split() {
+    return new ConfigMapSplitter<>(Target::new).split(data);
+  }
+
+  public record Target(Map<String, String> data, Integer index) implements SplitterTarget {
+
+    @Override
+    public void recordNumTargets(int numTargets) {
+      // not needed for the benchmark
+    }
+  }
+}
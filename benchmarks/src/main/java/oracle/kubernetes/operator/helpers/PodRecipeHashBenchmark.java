@@ -0,0 +1,54 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.BenchmarkEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the hash of a managed server pod, which the operator computes for each server pod that it creates or
+ * verifies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+    "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.time=ALL-UNNAMED"})
+@State(Scope.Benchmark)
+public class PodRecipeHashBenchmark {
+
+  private V1Pod pod;
+
+  /**
+   * Obtains a pod created by the operator for a managed server.
+   */
+  @Setup
+  public void setUp() {
+    BenchmarkEnvironment environment = new BenchmarkEnvironment().install(1, 2);
+    try {
+      environment.makeRightAll(false);
+      pod = environment.getServerPod("domain0", BenchmarkEnvironment.getManagedServerName(1));
+    } finally {
+      environment.revert();
+    }
+  }
+
+  @Benchmark
+  public String hashPod() {
+    return AnnotationHelper.createHash(pod);
+  }
+}
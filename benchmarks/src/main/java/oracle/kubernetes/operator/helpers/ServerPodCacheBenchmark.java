@@ -0,0 +1,115 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.lang.ref.Reference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Yaml;
+import oracle.kubernetes.operator.BenchmarkEnvironment;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.SLIM_SERVER_CACHE_ENABLED;
+
+/**
+ * Measures the heap retained by the server pods which the operator records, with and without the slim server cache.
+ * Each invocation reads the pods which the operator created, as a watch would deliver them, and records them in a
+ * new domain presence info; the retainedBytesPerPod counter reports the growth of the heap after garbage collection,
+ * divided by the number of pods.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {
+    "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.time=ALL-UNNAMED"})
+public class ServerPodCacheBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class ServerPods {
+    @Param({"false", "true"})
+    String slimServerCacheEnabled;
+
+    @Param({"100", "1000"})
+    int numManagedServers;
+
+    private BenchmarkEnvironment environment;
+    private DomainResource domain;
+    private final Map<String, String> podYamlByServer = new HashMap<>();
+
+    /**
+     * Runs a domain, and records the serialized forms of the pods which the operator created for it.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+      environment = new BenchmarkEnvironment().install(1, numManagedServers);
+      TuningParametersStub.setParameter(SLIM_SERVER_CACHE_ENABLED, slimServerCacheEnabled);
+      environment.makeRightAll(false);
+
+      domain = environment.getDomains().get(0).getDomain();
+      List<V1Pod> pods = environment.getTestSupport().getResources(KubernetesTestSupport.POD);
+      pods.stream()
+          .filter(pod -> getServerName(pod) != null)
+          .forEach(pod -> podYamlByServer.put(getServerName(pod), Yaml.dump(pod)));
+    }
+
+    private static String getServerName(V1Pod pod) {
+      return pod.getMetadata().getLabels().get(LabelConstants.SERVERNAME_LABEL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      environment.revert();
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class RetainedHeap {
+    public long retainedBytesPerPod;
+
+    @Setup(Level.Iteration)
+    public void clear() {
+      retainedBytesPerPod = 0;
+    }
+  }
+
+  @Benchmark
+  public void recordServerPods(ServerPods pods, RetainedHeap heap) {
+    final long usedBefore = getUsedHeapAfterGc();
+    final DomainPresenceInfo info = new DomainPresenceInfo(pods.domain);
+    pods.podYamlByServer.forEach((name, yaml) -> info.setServerPod(name, Yaml.loadAs(yaml, V1Pod.class)));
+
+    heap.retainedBytesPerPod = (getUsedHeapAfterGc() - usedBefore) / pods.podYamlByServer.size();
+    Reference.reachabilityFence(info);
+  }
+
+  private static long getUsedHeapAfterGc() {
+    final Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
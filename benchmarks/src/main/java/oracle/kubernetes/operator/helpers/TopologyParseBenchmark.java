@@ -0,0 +1,63 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import oracle.kubernetes.operator.BenchmarkEnvironment;
+import oracle.kubernetes.operator.introspection.IntrospectionTestUtils;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parsing of the topology which the introspector reports, for domains of various sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TopologyParseBenchmark {
+
+  @Param({"10", "100", "1000"})
+  int numServers;
+
+  private String topologyYaml;
+
+  /**
+   * Creates the topology of a domain with a single cluster.
+   * @throws JsonProcessingException if the topology cannot be written
+   */
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    WlsClusterConfig clusterConfig = new WlsClusterConfig(BenchmarkEnvironment.CLUSTER_NAME);
+    for (int i = 1; i <= numServers; i++) {
+      String serverName = BenchmarkEnvironment.getManagedServerName(i);
+      clusterConfig.addServerConfig(new WlsServerConfig(serverName, "domain1-" + serverName, 8001));
+    }
+    WlsDomainConfig domainConfig = new WlsDomainConfig("base_domain")
+        .withAdminServer(BenchmarkEnvironment.ADMIN_NAME, "domain1-admin-server", 7001)
+        .withCluster(clusterConfig);
+    topologyYaml = IntrospectionTestUtils.createTopologyYaml(domainConfig);
+  }
+
+  @Benchmark
+  public DomainTopology parseTopology() {
+    return DomainTopology.parseDomainTopologyYaml(topologyYaml);
+  }
+}
@@ -0,0 +1,56 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the formatting of log records as JSON. Run with the gc profiler (-prof gc) to report the memory
+ * allocated for each record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoggingFormatterBenchmark {
+
+  private final OperatorLoggingFormatter formatter = new OperatorLoggingFormatter();
+  private final ServerStatus serverStatus
+      = new ServerStatus().withServerName("managed-server1").withState("RUNNING").withStateGoal("RUNNING");
+
+  /**
+   * Formats a record whose parameters are strings.
+   */
+  @Benchmark
+  public String formatMessage() {
+    LogRecord logRecord = new LogRecord(Level.FINE, "Server {0} in domain {1} is {2}");
+    logRecord.setParameters(new Object[] {"managed-server1", "domain1", "RUNNING"});
+    return formatter.format(logRecord);
+  }
+
+  /**
+   * Formats a record with a model object parameter, which the formatter serializes as JSON.
+   */
+  @Benchmark
+  public String formatMessageWithModelObject() {
+    LogRecord logRecord = new LogRecord(Level.FINE, "Server status is {0}");
+    logRecord.setParameters(new Object[] {serverStatus});
+    return formatter.format(logRecord);
+  }
+}
@@ -0,0 +1,111 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of holding many pending timers, such as requeues and retries, in three ways: in the operator's
+ * timer queue; in a thread pool's scheduled executor which also removes cancelled tasks; and as a parked virtual
+ * thread per timer, which is how delayed tasks were held before the timer queue. Each invocation schedules the
+ * timers and then cancels them all. Run with {@code -prof gc} to compare the memory allocated for each timer.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimerBenchmark {
+
+  private static final long DELAY_MINUTES = 60;
+
+  @Param({"10000", "100000", "1000000"})
+  int numTimers;
+
+  @Param({"timerQueue", "scheduledThreadPool", "virtualThreadPerTimer"})
+  String scheduler;
+
+  private ScheduledExecutorService executorService;
+
+  /**
+   * Creates the scheduler to measure.
+   */
+  @Setup(Level.Invocation)
+  public void setUp() {
+    executorService = switch (scheduler) {
+      case "timerQueue" -> new TimerScheduledExecutorService();
+      case "scheduledThreadPool" -> createScheduledThreadPool();
+      default -> null;
+    };
+  }
+
+  private static ScheduledExecutorService createScheduledThreadPool() {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  @TearDown(Level.Invocation)
+  public void tearDown() {
+    if (executorService != null) {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Benchmark
+  public void scheduleAndCancelTimers() throws InterruptedException {
+    if (executorService == null) {
+      scheduleAndCancelVirtualThreads();
+    } else {
+      scheduleAndCancelTasks();
+    }
+  }
+
+  private void scheduleAndCancelTasks() {
+    List<Future<?>> timers = new ArrayList<>(numTimers);
+    for (int i = 0; i < numTimers; i++) {
+      timers.add(executorService.schedule(() -> { }, DELAY_MINUTES, TimeUnit.MINUTES));
+    }
+    timers.forEach(timer -> timer.cancel(false));
+  }
+
+  private void scheduleAndCancelVirtualThreads() throws InterruptedException {
+    List<Thread> timers = new ArrayList<>(numTimers);
+    for (int i = 0; i < numTimers; i++) {
+      timers.add(Thread.ofVirtual().start(TimerBenchmark::sleepUntilDue));
+    }
+    timers.forEach(Thread::interrupt);
+    for (Thread timer : timers) {
+      timer.join();
+    }
+  }
+
+  private static void sleepUntilDue() {
+    try {
+      Thread.sleep(TimeUnit.MINUTES.toMillis(DELAY_MINUTES));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import oracle.kubernetes.operator.BenchmarkEnvironment;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static oracle.kubernetes.operator.BenchmarkEnvironment.CLUSTER_NAME;
+
+/**
+ * Measures the cost of obtaining the effective server and cluster specs of a domain whose domain and cluster
+ * configurations both define pod settings: once when only the start decision is needed, once when the merged
+ * pod settings are needed, and once for the cluster spec, which is still merged when it is created.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EffectiveSpecBenchmark {
+
+  private static final int NUM_ENV_VARS = 20;
+
+  @Param({"10", "100", "1000"})
+  int numServers;
+
+  private DomainPresenceInfo info;
+
+  /**
+   * Creates a domain with a single cluster, each of which defines environment variables for its pods.
+   */
+  @Setup
+  public void setUp() {
+    DomainResource domain = DomainProcessorTestSetup.createTestDomain("domain1");
+    ClusterResource cluster = DomainProcessorTestSetup.createTestCluster("domain1-" + CLUSTER_NAME);
+    cluster.spec(new ClusterSpec().withClusterName(CLUSTER_NAME).withReplicas(numServers));
+    domain.getSpec().withCluster(new V1LocalObjectReference().name(cluster.getMetadata().getName()));
+    domain.getSpec().setEnv(createEnvVars("DOMAIN"));
+    cluster.getSpec().setEnv(createEnvVars("CLUSTER"));
+
+    info = new DomainPresenceInfo(domain);
+    info.addClusterResource(cluster);
+  }
+
+  private static List<V1EnvVar> createEnvVars(String prefix) {
+    return IntStream.range(0, NUM_ENV_VARS)
+        .mapToObj(i -> new V1EnvVar().name(prefix + "_VAR" + i).value("value" + i))
+        .toList();
+  }
+
+  @Benchmark
+  public void decideServerStarts(Blackhole blackhole) {
+    for (int i = 1; i <= numServers; i++) {
+      blackhole.consume(info.getServer(BenchmarkEnvironment.getManagedServerName(i), CLUSTER_NAME).shouldStart(i));
+    }
+  }
+
+  @Benchmark
+  public void mergeServerPodSettings(Blackhole blackhole) {
+    for (int i = 1; i <= numServers; i++) {
+      blackhole.consume(
+          info.getServer(BenchmarkEnvironment.getManagedServerName(i), CLUSTER_NAME).getEnvironmentVariables());
+    }
+  }
+
+  @Benchmark
+  public void mergeClusterSpecs(Blackhole blackhole) {
+    for (int i = 1; i <= numServers; i++) {
+      blackhole.consume(info.getCluster(CLUSTER_NAME).getClusterLabels());
+    }
+  }
+}
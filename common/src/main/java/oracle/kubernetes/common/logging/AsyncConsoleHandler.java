@@ -0,0 +1,204 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.logging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * A handler which writes log records to the console from a background thread, so that a thread which logs does not
+ * wait for the console, or for other threads which are logging. Each record is formatted by the thread which logs
+ * it, so that the formatter sees that thread's context, and is then placed in a bounded queue. When the queue is
+ * full, the handler either waits for room or drops the record, as configured. A logger may be given its own
+ * formatter, so that loggers which format their records differently can share the queue and the writer thread.
+ *
+ * <p>The handler is configured from the logging properties, using its class name as a prefix:
+ * <ul>
+ *   <li>{@code .level} the lowest level to write; defaults to INFO</li>
+ *   <li>{@code .capacity} the number of formatted records which may wait to be written; defaults to 8192</li>
+ *   <li>{@code .overflowPolicy} BLOCK to wait for room in the queue, or DROP to discard the record;
+ *       defaults to BLOCK</li>
+ * </ul>
+ */
+public class AsyncConsoleHandler extends Handler {
+
+  static final int DEFAULT_CAPACITY = 8192;
+  private static final long POLL_MILLIS = 100;
+  private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+  public enum OverflowPolicy {
+    BLOCK, DROP
+  }
+
+  private final BlockingQueue<String> queue;
+  private final OverflowPolicy overflowPolicy;
+  private final Writer writer;
+  private final Thread writerThread;
+  private final AtomicLong droppedRecords = new AtomicLong();
+  private final Map<String, Formatter> loggerFormatters = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  /**
+   * Creates a handler which writes to System.err, as configured by the logging properties.
+   */
+  public AsyncConsoleHandler() {
+    this(System.err, getCapacity(), getOverflowPolicy());
+    setLevel(getConfiguredLevel());
+  }
+
+  @SuppressWarnings("this-escape")
+  AsyncConsoleHandler(OutputStream out, int capacity, OverflowPolicy overflowPolicy) {
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.overflowPolicy = overflowPolicy;
+    this.writer = new OutputStreamWriter(out, Charset.defaultCharset());
+    setFormatter(new SimpleFormatter());
+
+    writerThread = new Thread(this::writeRecords, getClass().getSimpleName());
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  private static String getProperty(String name) {
+    return LogManager.getLogManager().getProperty(AsyncConsoleHandler.class.getName() + "." + name);
+  }
+
+  private static int getCapacity() {
+    try {
+      return Optional.ofNullable(getProperty("capacity")).map(String::trim).map(Integer::parseInt)
+          .filter(capacity -> capacity > 0).orElse(DEFAULT_CAPACITY);
+    } catch (NumberFormatException e) {
+      return DEFAULT_CAPACITY;
+    }
+  }
+
+  private static OverflowPolicy getOverflowPolicy() {
+    return "DROP".equalsIgnoreCase(Optional.ofNullable(getProperty("overflowPolicy")).map(String::trim).orElse(""))
+        ? OverflowPolicy.DROP : OverflowPolicy.BLOCK;
+  }
+
+  private static Level getConfiguredLevel() {
+    try {
+      return Optional.ofNullable(getProperty("level")).map(String::trim).map(Level::parse).orElse(Level.INFO);
+    } catch (IllegalArgumentException e) {
+      return Level.INFO;
+    }
+  }
+
+  /**
+   * Formats the records of the named logger with the specified formatter, rather than with this handler's formatter.
+   * @param loggerName the name of a logger
+   * @param formatter the formatter for its records
+   */
+  public void setFormatter(String loggerName, Formatter formatter) {
+    loggerFormatters.put(loggerName, formatter);
+  }
+
+  private Formatter getFormatter(LogRecord logRecord) {
+    return Optional.ofNullable(logRecord.getLoggerName()).map(loggerFormatters::get).orElseGet(this::getFormatter);
+  }
+
+  @Override
+  public void publish(LogRecord logRecord) {
+    if (closed || !isLoggable(logRecord)) {
+      return;
+    }
+
+    try {
+      enqueue(getFormatter(logRecord).format(logRecord));
+    } catch (RuntimeException e) {
+      reportError(null, e, ErrorManager.FORMAT_FAILURE);
+    }
+  }
+
+  private void enqueue(String formattedRecord) {
+    if (overflowPolicy == OverflowPolicy.DROP) {
+      if (!queue.offer(formattedRecord)) {
+        droppedRecords.incrementAndGet();
+      }
+    } else {
+      try {
+        while (!queue.offer(formattedRecord, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+          if (closed) {
+            return;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  // Writes the queued records in batches, flushing the console after each batch.
+  private void writeRecords() {
+    List<String> batch = new ArrayList<>();
+    try {
+      while (!closed || !queue.isEmpty()) {
+        Optional.ofNullable(queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS)).ifPresent(batch::add);
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+          write(batch);
+          batch.clear();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void write(List<String> batch) {
+    try {
+      for (String formattedRecord : batch) {
+        writer.write(formattedRecord);
+      }
+      writer.flush();
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.WRITE_FAILURE);
+    }
+  }
+
+  /**
+   * Returns the number of records which have been dropped because the queue was full.
+   * @return a count of records
+   */
+  public long getDroppedRecordCount() {
+    return droppedRecords.get();
+  }
+
+  @Override
+  public void flush() {
+    // the writer thread flushes the console after each batch of records
+  }
+
+  /**
+   * Writes any queued records and stops the writer thread. Records published after this are ignored.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    try {
+      writerThread.join(CLOSE_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.common.logging;
@@ -28,15 +28,23 @@ public abstract class BaseLoggingFacade {
 
     final Logger parentLogger = Logger.getAnonymousLogger().getParent();
     final Handler[] handlers = parentLogger.getHandlers();
+    boolean asyncConsole = false;
     for (final Handler handler : handlers) {
       if (handler instanceof ConsoleHandler) {
         parentLogger.removeHandler(handler);
+      } else if (handler instanceof AsyncConsoleHandler asyncConsoleHandler) {
+        // the logging properties have asked for the console to be written asynchronously; the handler is shared
+        // by all loggers, so it is told how to format the records of this one
+        asyncConsoleHandler.setFormatter(logger.getName(), getLoggingFormatter());
+        asyncConsole = true;
       }
     }
 
-    ConsoleHandler handler = new ConsoleHandler();
-    handler.setFormatter(getLoggingFormatter());
-    logger.addHandler(handler);
+    if (!asyncConsole) {
+      ConsoleHandler handler = new ConsoleHandler();
+      handler.setFormatter(getLoggingFormatter());
+      logger.addHandler(handler);
+    }
   }
 
   /**
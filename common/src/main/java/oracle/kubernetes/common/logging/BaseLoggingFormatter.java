@@ -1,25 +1,29 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.common.logging;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 
-/** Custom log formatter to format log messages in JSON format. */
+/**
+ * Custom log formatter to format log messages in JSON format. Each record is streamed field by field into a buffer
+ * which is reused by the formatting thread, rather than collected into a map and then serialized.
+ */
 public abstract class BaseLoggingFormatter<T> extends Formatter {
-  private static final Map<String, List<String>> PLACEHOLDER = new HashMap<>();
+  private static final Map<String, List<String>> PLACEHOLDER = Collections.emptyMap();
 
   private static final String LOG_LEVEL = "level";
   private static final String TIMESTAMP = "timestamp";
@@ -40,6 +44,11 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
 
   private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
+  // a buffer which has grown beyond this size to format a large record is not kept for the next one
+  private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final ThreadLocal<RecordBuffer> BUFFER = ThreadLocal.withInitial(RecordBuffer::new);
+
   @Override
   public String format(LogRecord logRecord) {
     String sourceClassName;
@@ -67,35 +76,33 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
     body = throwableProcessing.getBody();
     throwable = throwableProcessing.getThrowable();
     String level = logRecord.getLevel().getLocalizedName();
-    Map<String, Object> map = new LinkedHashMap<>();
     long rawTime = logRecord.getMillis();
     final String dateString = DATE_FORMAT.format(OffsetDateTime.ofInstant(logRecord.getInstant(),
             ZoneId.systemDefault()));
     long thread = Thread.currentThread().threadId();
     T fiberObject = getCurrentFiberIfSet();
 
-    map.put(TIMESTAMP, dateString);
-    map.put(THREAD, thread);
-    map.put(FIBER, Optional.ofNullable(fiberObject).map(Object::toString).orElse(""));
-    Optional.ofNullable(getNamespace(fiberObject)).ifPresent(namespace -> map.put(DOMAIN_NAMESPACE, namespace));
-    Optional.ofNullable(getDomainUid(fiberObject)).ifPresent(uid -> map.put(DOMAIN_UID, uid));
-    map.put(LOG_LEVEL, level);
-    map.put(SOURCE_CLASS, sourceClassName);
-    map.put(SOURCE_METHOD, sourceMethodName);
-    map.put(TIME_IN_MILLIS, rawTime);
-    // if message or throwable have new lines in them, we need to replace with JSON newline control
-    // character \n
-    map.put(MESSAGE, message != null ? message.replace("\n", "\\\n") : "");
-    map.put(EXCEPTION, throwable.replace("\n", "\\\n"));
-    map.put(RESPONSE_CODE, code);
-    map.put(RESPONSE_HEADERS, headers);
-    map.put(RESPONSE_BODY, body.replace("\n", "\\\n"));
-    String json;
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
-
-    } catch (JsonProcessingException e) {
+    RecordBuffer buffer = BUFFER.get().reset();
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+      generator.writeStartObject();
+      generator.writeStringField(TIMESTAMP, dateString);
+      generator.writeNumberField(THREAD, thread);
+      generator.writeStringField(FIBER, Optional.ofNullable(fiberObject).map(Object::toString).orElse(""));
+      writeOptionalField(generator, DOMAIN_NAMESPACE, getNamespace(fiberObject));
+      writeOptionalField(generator, DOMAIN_UID, getDomainUid(fiberObject));
+      generator.writeStringField(LOG_LEVEL, level);
+      generator.writeStringField(SOURCE_CLASS, sourceClassName);
+      generator.writeStringField(SOURCE_METHOD, sourceMethodName);
+      generator.writeNumberField(TIME_IN_MILLIS, rawTime);
+      // if message or throwable have new lines in them, we need to replace with JSON newline control
+      // character \n
+      generator.writeStringField(MESSAGE, message != null ? message.replace("\n", "\\\n") : "");
+      generator.writeStringField(EXCEPTION, throwable.replace("\n", "\\\n"));
+      generator.writeStringField(RESPONSE_CODE, code);
+      writeHeaders(generator, headers);
+      generator.writeStringField(RESPONSE_BODY, body.replace("\n", "\\\n"));
+      generator.writeEndObject();
+    } catch (IOException e) {
       String tmp =
           "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
               + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
@@ -107,7 +114,30 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
           rawTime,
           e.getLocalizedMessage());
     }
-    return json + "\n";
+    return buffer.toRecord();
+  }
+
+  private void writeOptionalField(JsonGenerator generator, String name, String value) throws IOException {
+    if (value != null) {
+      generator.writeStringField(name, value);
+    }
+  }
+
+  private void writeHeaders(JsonGenerator generator, Map<String, List<String>> headers) throws IOException {
+    generator.writeObjectFieldStart(RESPONSE_HEADERS);
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      generator.writeFieldName(String.valueOf(header.getKey()));
+      if (header.getValue() == null) {
+        generator.writeNull();
+      } else {
+        generator.writeStartArray();
+        for (String value : header.getValue()) {
+          generator.writeString(value);
+        }
+        generator.writeEndArray();
+      }
+    }
+    generator.writeEndObject();
   }
 
   protected abstract void serializeModelObjectsWithJSON(LogRecord logRecord);
@@ -175,4 +205,41 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
     }
 
   }
+
+  // A writer which appends to a builder that is kept by the formatting thread from one record to the next.
+  private static class RecordBuffer extends Writer {
+    private StringBuilder builder = new StringBuilder(1024);
+
+    RecordBuffer reset() {
+      if (builder.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+        builder = new StringBuilder(1024);
+      }
+      builder.setLength(0);
+      return this;
+    }
+
+    String toRecord() {
+      return builder.append('\n').toString();
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+      builder.append(cbuf, off, len);
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+      builder.append(str, off, off + len);
+    }
+
+    @Override
+    public void flush() {
+      // nothing to flush
+    }
+
+    @Override
+    public void close() {
+      // the builder is reused
+    }
+  }
 }
@@ -0,0 +1,136 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.common.logging.AsyncConsoleHandler.OverflowPolicy.BLOCK;
+import static oracle.kubernetes.common.logging.AsyncConsoleHandler.OverflowPolicy.DROP;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class AsyncConsoleHandlerTest {
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+  private AsyncConsoleHandler createHandler(OutputStream stream, int capacity,
+                                            AsyncConsoleHandler.OverflowPolicy policy) {
+    AsyncConsoleHandler handler = new AsyncConsoleHandler(stream, capacity, policy);
+    handler.setFormatter(new MessageFormatter());
+    return handler;
+  }
+
+  private String getOutput() {
+    return out.toString(Charset.defaultCharset());
+  }
+
+  @Test
+  void afterClose_allPublishedRecordsAreWrittenInOrder() {
+    AsyncConsoleHandler handler = createHandler(out, 2, BLOCK);
+
+    for (int i = 0; i < 10; i++) {
+      handler.publish(new LogRecord(Level.INFO, "record" + i));
+    }
+    handler.close();
+
+    assertThat(getOutput(),
+        equalTo("record0;record1;record2;record3;record4;record5;record6;record7;record8;record9;"));
+  }
+
+  @Test
+  void whenLoggerHasOwnFormatter_formatItsRecordsWithIt() {
+    AsyncConsoleHandler handler = createHandler(out, 2, BLOCK);
+    handler.setFormatter("special", new BracketingFormatter());
+
+    handler.publish(createRecord("special", "first"));
+    handler.publish(createRecord("other", "second"));
+    handler.close();
+
+    assertThat(getOutput(), equalTo("[first];second;"));
+  }
+
+  private static LogRecord createRecord(String loggerName, String message) {
+    LogRecord logRecord = new LogRecord(Level.INFO, message);
+    logRecord.setLoggerName(loggerName);
+    return logRecord;
+  }
+
+  @Test
+  void recordsBelowLevelAreNotWritten() {
+    AsyncConsoleHandler handler = createHandler(out, 2, BLOCK);
+    handler.setLevel(Level.INFO);
+
+    handler.publish(new LogRecord(Level.FINE, "record"));
+    handler.close();
+
+    assertThat(getOutput(), emptyString());
+  }
+
+  @Test
+  void recordsPublishedAfterClose_areNotWritten() {
+    AsyncConsoleHandler handler = createHandler(out, 2, BLOCK);
+
+    handler.close();
+    handler.publish(new LogRecord(Level.INFO, "record"));
+
+    assertThat(getOutput(), emptyString());
+  }
+
+  @Test
+  void whenDropPolicyAndQueueFull_dropRecords() {
+    BlockingStream stream = new BlockingStream();
+    AsyncConsoleHandler handler = createHandler(stream, 1, DROP);
+
+    for (int i = 0; i < 3; i++) {
+      handler.publish(new LogRecord(Level.INFO, "record" + i));
+    }
+    stream.release();
+    handler.close();
+
+    assertThat(handler.getDroppedRecordCount(), greaterThanOrEqualTo(1L));
+  }
+
+  static class MessageFormatter extends Formatter {
+    @Override
+    public String format(LogRecord logRecord) {
+      return logRecord.getMessage() + ";";
+    }
+  }
+
+  static class BracketingFormatter extends Formatter {
+    @Override
+    public String format(LogRecord logRecord) {
+      return "[" + logRecord.getMessage() + "];";
+    }
+  }
+
+  // A stream which makes the writer thread wait until it is released.
+  static class BlockingStream extends OutputStream {
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    void release() {
+      latch.countDown();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        throw new IOException(e);
+      }
+    }
+  }
+}
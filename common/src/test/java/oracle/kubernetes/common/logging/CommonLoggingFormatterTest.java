@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.common.logging;
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class CommonLoggingFormatterTest {
@@ -58,4 +59,25 @@ class CommonLoggingFormatterTest {
 
     assertThat(getFormattedMessage().get("exception"), containsString("java.lang.RuntimeException: in the test"));
   }
+
+  @Test
+  void whenMessageContainsQuotesAndNewLines_produceValidJson() throws JsonProcessingException {
+    logRecord.setMessage("a \"quoted\"\nmessage");
+
+    assertThat(getFormattedMessage().get("message"), equalTo("a \"quoted\"\\\nmessage"));
+  }
+
+  @Test
+  void eachRecordIsTerminatedByNewLine() {
+    assertThat(formatter.format(logRecord).endsWith("}\n"), equalTo(true));
+  }
+
+  @Test
+  void whenFormatterReused_recordsDoNotShareContent() {
+    String first = formatter.format(logRecord);
+    logRecord.setMessage("another");
+
+    assertThat(formatter.format(logRecord), not(equalTo(first)));
+    assertThat(first, containsString("A simple one"));
+  }
 }
@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2023, Oracle and/or its affiliates.
+# Copyright (c) 2018, 2025, Oracle and/or its affiliates.
 # Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 {{- define "operator.operatorConfigMap" }}
@@ -51,6 +51,9 @@ data:
   {{- if .tokenReviewAuthentication }}
   tokenReviewAuthentication: {{ .tokenReviewAuthentication | quote }}
   {{- end }}
+  {{- if .introspectionSkipUnchangedInputs }}
+  introspectionSkipUnchangedInputs: {{ .introspectionSkipUnchangedInputs | quote }}
+  {{- end }}
   {{- if (hasKey . "istioLocalhostBindingsEnabled") }}
   istioLocalhostBindingsEnabled: {{ .istioLocalhostBindingsEnabled | quote }}
   {{- end }}
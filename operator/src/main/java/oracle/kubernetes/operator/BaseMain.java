@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -29,6 +29,7 @@ import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.helpers.HelmAccess;
 import oracle.kubernetes.operator.http.BaseServer;
 import oracle.kubernetes.operator.http.metrics.MetricsServer;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.http.rest.BaseRestServer;
 import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -38,7 +39,7 @@ import oracle.kubernetes.operator.utils.PathSupport;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
-import oracle.kubernetes.operator.work.VirtualScheduledExecutorService;
+import oracle.kubernetes.operator.work.TimerScheduledExecutorService;
 import oracle.kubernetes.utils.SystemClock;
 
 /** An abstract base main class for the operator and the webhook. */
@@ -51,7 +52,7 @@ public abstract class BaseMain {
   static final String GIT_BUILD_TIME_KEY = "git.build.time";
 
   static final ThreadFactory threadFactory = Thread.ofVirtual().factory();
-  static final ScheduledExecutorService executor = new VirtualScheduledExecutorService();
+  static final ScheduledExecutorService executor = new TimerScheduledExecutorService();
   static final AtomicReference<OffsetDateTime> lastFullRecheck =
       new AtomicReference<>(SystemClock.now());
   static final Semaphore shutdownSignal = new Semaphore(0);
@@ -182,6 +183,7 @@ public abstract class BaseMain {
 
   void startMetricsServer() throws UnrecoverableKeyException, CertificateException, IOException,
       NoSuchAlgorithmException, KeyStoreException, InvalidKeySpecException, KeyManagementException {
+    OperatorMetrics.installFiberMetrics();
     startMetricsServer(delegate.getMetricsPort());
   }
 
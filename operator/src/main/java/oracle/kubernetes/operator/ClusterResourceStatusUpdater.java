@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -12,6 +12,7 @@ import java.util.Objects;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import oracle.kubernetes.common.logging.MessageKeys;
@@ -21,6 +22,7 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.ClusterResourceEventData;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
@@ -34,6 +36,7 @@ import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
 import static oracle.kubernetes.operator.KubernetesConstants.CLUSTER;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.helpers.EventHelper.createClusterResourceEventData;
 
 /**
@@ -58,7 +61,12 @@ public class ClusterResourceStatusUpdater {
   }
 
   private static ReplaceClusterStatusContext createContext(Packet packet, ClusterResource resource) {
-    return new ReplaceClusterStatusContext(packet, resource);
+    return createContext(packet, resource, StatusDiff.isPatchEnabled());
+  }
+
+  private static ReplaceClusterStatusContext createContext(
+      Packet packet, ClusterResource resource, boolean mayPatch) {
+    return new ReplaceClusterStatusContext(packet, resource, mayPatch);
   }
 
   private static class ClusterResourceStatusUpdaterStep extends Step {
@@ -85,9 +93,9 @@ public class ClusterResourceStatusUpdater {
     private static Step createUpdateClusterResourceStatusSteps(Packet packet,
                                                                Collection<ClusterResource> clusterResources) {
       List<Fiber.StepAndPacket> result = clusterResources.stream()
-          .filter(res -> createContext(packet, res).isClusterResourceStatusChanged())
-          .map(res -> new Fiber.StepAndPacket(
-                  createContext(packet, res).createReplaceClusterResourceStatusStep(), packet))
+          .map(res -> createContext(packet, res))
+          .filter(ReplaceClusterStatusContext::isClusterResourceStatusChanged)
+          .map(context -> new Fiber.StepAndPacket(context.createReplaceClusterResourceStatusStep(), packet.copy()))
           .toList();
       return result.isEmpty() ? null : new RunInParallelStep(result);
     }
@@ -121,17 +129,24 @@ public class ClusterResourceStatusUpdater {
 
     @Override
     public Result onFailure(Packet packet, KubernetesApiResponse<ClusterResource> callResponse) {
-      if (isUnrecoverable(callResponse)) {
+      if (context.isPatch() && isPatchRejected(callResponse)) {
+        return doNext(createRetry(false), packet);
+      } else if (isUnrecoverable(callResponse)) {
         return super.onFailure(packet, callResponse);
       } else {
-        return onFailure(createRetry(), packet, callResponse);
+        return onFailure(createRetry(context.mayPatch), packet, callResponse);
       }
     }
 
-    private Step createRetry() {
+    // A failed test of the resource version shows that the cluster resource has changed since it was read.
+    private boolean isPatchRejected(KubernetesApiResponse<ClusterResource> callResponse) {
+      return callResponse.getHttpStatusCode() == HTTP_UNPROCESSABLE_ENTITY || hasConflict(callResponse);
+    }
+
+    private Step createRetry(boolean mayPatch) {
       return Step.chain(
           createClusterResourceRefreshStep(),
-          new SingleClusterResourceStatusUpdateStep(context.getClusterName()));
+          new SingleClusterResourceStatusUpdateStep(context.getClusterName(), mayPatch));
     }
 
     private Step createClusterResourceRefreshStep() {
@@ -163,12 +178,15 @@ public class ClusterResourceStatusUpdater {
     private final ClusterResource resource;
     private ClusterStatus newStatus;
     private final boolean isMakeRight;
+    private final boolean mayPatch;
+    private V1Patch patch;
 
-    private ReplaceClusterStatusContext(@Nonnull Packet packet, @Nonnull ClusterResource resource) {
+    private ReplaceClusterStatusContext(@Nonnull Packet packet, @Nonnull ClusterResource resource, boolean mayPatch) {
       this.packet = packet;
       DomainPresenceInfo info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
       this.domain = info.getDomain();
       this.resource = resource;
+      this.mayPatch = mayPatch;
       isMakeRight = MakeRightDomainOperation.isMakeRight(packet);
     }
 
@@ -207,7 +225,23 @@ public class ClusterResourceStatusUpdater {
     }
 
     boolean isClusterResourceStatusChanged() {
-      return !Objects.equals(getNewStatus(), resource.getStatus());
+      if (Objects.equals(getNewStatus(), resource.getStatus()) || (mayPatch && getPatch() == null)) {
+        OperatorMetrics.recordStatusWriteAvoided(CLUSTER, StatusDiff.UNCHANGED);
+        return false;
+      }
+      return true;
+    }
+
+    boolean isPatch() {
+      return mayPatch;
+    }
+
+    private V1Patch getPatch() {
+      if (patch == null) {
+        patch = StatusDiff.createPatch(
+            resource.getMetadata().getResourceVersion(), resource.getStatus(), getNewStatus());
+      }
+      return patch;
     }
 
     private Step createReplaceClusterResourceStatusStep() {
@@ -222,14 +256,14 @@ public class ClusterResourceStatusUpdater {
       }
 
       final List<Step> result = new ArrayList<>();
-      result.add(createReplaceClusterStatusAsyncStep());
+      Optional.ofNullable(createReplaceClusterStatusAsyncStep()).ifPresent(result::add);
 
       // add steps to create events for updating conditions
       Optional.ofNullable(newClusterStatus)
           .map(ncs -> getClusterStatusConditionEvents(ncs.getConditions())).orElse(Collections.emptyList())
           .stream().map(EventHelper::createClusterResourceEventStep).forEach(result::add);
 
-      return Step.chain(result);
+      return result.isEmpty() ? null : Step.chain(result);
     }
 
     private List<EventData> getClusterStatusConditionEvents(List<ClusterCondition> conditions) {
@@ -279,10 +313,28 @@ public class ClusterResourceStatusUpdater {
     }
 
     private Step createReplaceClusterStatusAsyncStep() {
+      if (mayPatch) {
+        return createPatchClusterStatusAsyncStep();
+      }
+
+      OperatorMetrics.recordStatusWrite(CLUSTER, StatusDiff.REPLACE, StatusDiff.getStatusSize(getNewStatus()));
       return RequestBuilder.CLUSTER.updateStatus(
           createReplacementClusterResource(), ClusterResource::getStatus,
           new ClusterResourceStatusReplaceResponseStep(this));
     }
+
+    // The patch is computed anew here, since the status which it must set may have changed since it was checked.
+    private Step createPatchClusterStatusAsyncStep() {
+      patch = null;
+      if (getPatch() == null) {
+        OperatorMetrics.recordStatusWriteAvoided(CLUSTER, StatusDiff.UNCHANGED);
+        return null;
+      }
+
+      OperatorMetrics.recordStatusWrite(CLUSTER, StatusDiff.PATCH, StatusDiff.getPatchSize(getPatch()));
+      return RequestBuilder.CLUSTER.patchStatus(getNamespace(), getClusterResourceName(), getPatch(),
+          new ClusterResourceStatusReplaceResponseStep(this));
+    }
   }
 
   private static class ReadClusterResponseStep extends ResponseStep<ClusterResource> {
@@ -305,9 +357,11 @@ public class ClusterResourceStatusUpdater {
 
   private static class SingleClusterResourceStatusUpdateStep extends Step {
     private final String clusterName;
+    private final boolean mayPatch;
 
-    SingleClusterResourceStatusUpdateStep(String clusterName) {
+    SingleClusterResourceStatusUpdateStep(String clusterName, boolean mayPatch) {
       this.clusterName = clusterName;
+      this.mayPatch = mayPatch;
     }
 
     @Override
@@ -315,7 +369,7 @@ public class ClusterResourceStatusUpdater {
       // Get the ClusterResource, that was refreshed, from DomainPresenceInfo.
       DomainPresenceInfo info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
       ClusterResource res = info.getClusterResource(clusterName);
-      return doNext(createContext(packet, res).createReplaceClusterResourceStatusStep(), packet);
+      return doNext(createContext(packet, res, mayPatch).createReplaceClusterResourceStatusStep(), packet);
     }
   }
 }
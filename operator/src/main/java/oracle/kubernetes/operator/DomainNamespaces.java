@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -12,8 +14,12 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -26,6 +32,11 @@ import io.kubernetes.client.openapi.models.V1PodDisruptionBudgetList;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
+import oracle.kubernetes.operator.calls.ApiRateLimiter;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.tuning.TuningParameters;
@@ -36,9 +47,12 @@ import oracle.kubernetes.operator.watcher.EventWatcher;
 import oracle.kubernetes.operator.watcher.JobWatcher;
 import oracle.kubernetes.operator.watcher.OperatorEventWatcher;
 import oracle.kubernetes.operator.watcher.PodWatcher;
+import oracle.kubernetes.operator.watcher.ResourceCache;
 import oracle.kubernetes.operator.watcher.ServiceWatcher;
+import oracle.kubernetes.operator.watcher.SharedInformer;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.watcher.Watcher;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import oracle.kubernetes.weblogic.domain.model.ClusterList;
@@ -58,23 +72,32 @@ public class DomainNamespaces {
   private final Map<String, AtomicBoolean> namespaceStoppingMap = new ConcurrentHashMap<>();
 
   private final WatcherControl<ClusterResource, ClusterWatcher> clusterWatchers
-      = new WatcherControl<>(ClusterWatcher::create, d -> d::dispatchClusterWatch);
+      = new WatcherControl<>(ClusterWatcher::create, d -> d::dispatchClusterWatch, SharedInformer.forClusters(),
+            Resource.CLUSTERS);
   private final WatcherControl<V1ConfigMap, ConfigMapWatcher> configMapWatchers
-        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
+        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch,
+              SharedInformer.forConfigMaps(), Resource.CONFIGMAPS);
   private final WatcherControl<DomainResource, DomainWatcher> domainWatchers
-        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch);
+        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch, SharedInformer.forDomains(),
+              Resource.DOMAINS);
   private final WatcherControl<CoreV1Event, EventWatcher> eventWatchers
-        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch);
+        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch, SharedInformer.forEvents(),
+              Resource.EVENTS);
   private final WatcherControl<CoreV1Event, OperatorEventWatcher> operatorEventWatchers
-      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch);
+      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch,
+            SharedInformer.forOperatorEvents(), Resource.EVENTS);
   private final WatcherControl<V1Job, JobWatcher> jobWatchers
-        = new WatcherControl<>(JobWatcher::create, d -> d::dispatchJobWatch);
+        = new WatcherControl<>(JobWatcher::create, d -> d::dispatchJobWatch, SharedInformer.forJobs(),
+              Resource.JOBS);
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
-        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch, SharedInformer.forPods(),
+              Resource.PODS);
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
-        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
+        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch, SharedInformer.forServices(),
+              Resource.SERVICES);
   private final WatcherControl<V1PodDisruptionBudget, PodDisruptionBudgetWatcher> podDisruptionBudgetWatchers
-          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch);
+          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch,
+                SharedInformer.forPodDisruptionBudgets(), Resource.PODDISRUPTIONBUDGETS);
 
   private final SemanticVersion productVersion;
 
@@ -115,6 +138,7 @@ public class DomainNamespaces {
    */
   void stopAllWatchers() {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
+    getWatcherControls().forEach(WatcherControl::stopSharedInformer);
   }
 
   /**
@@ -135,6 +159,7 @@ public class DomainNamespaces {
     jobWatchers.removeWatcher(ns);
 
     DomainProcessorImpl.cleanupNamespace(ns);
+    ApiRateLimiter.getInstance().removeNamespace(ns);
   }
 
   ConfigMapWatcher getConfigMapWatcher(String namespace) {
@@ -190,6 +215,42 @@ public class DomainNamespaces {
     return ThreadFactorySingleton.getInstance();
   }
 
+  /**
+   * Returns true if the operator has been configured to replace its per-namespace watchers with cluster-scoped
+   * shared informers. They require permission to watch resources in all namespaces, which is never available
+   * with the Dedicated selection strategy.
+   */
+  static boolean isSharedInformerConfigured() {
+    return TuningParameters.getInstance().isSharedInformerEnabled()
+          && Namespaces.getSelectionStrategy() != Namespaces.SelectionStrategy.DEDICATED;
+  }
+
+  // The operator may list and watch resources across the cluster only if it has been granted access in all
+  // namespaces, as it is when the Helm chart's enableClusterRoleBinding option is set. Each resource type
+  // is checked once, before its first namespace's watcher is started.
+  private Step createSharedInformerPermissionSteps() {
+    final List<Step> steps = isSharedInformerConfigured()
+          ? getWatcherControls()
+                .filter(WatcherControl::isPermissionUnknown)
+                .map(WatcherControl::createPermissionCheckStep)
+                .toList()
+          : List.of();
+    return steps.isEmpty() ? null : Step.chain(steps);
+  }
+
+  private Stream<WatcherControl<?, ?>> getWatcherControls() {
+    return Stream.<WatcherControl<?, ?>>of(clusterWatchers, configMapWatchers, domainWatchers, eventWatchers,
+          operatorEventWatchers, jobWatchers, podWatchers, serviceWatchers, podDisruptionBudgetWatchers);
+  }
+
+  /**
+   * Returns the cache of operator-created pods maintained by the shared pod informer, or null if the pods are not
+   * watched by that informer, or if it has not yet listed them.
+   */
+  ResourceCache<V1Pod> getPodCache() {
+    return podWatchers.getSharedInformerCache();
+  }
+
   /**
    * Returns a set-up steps to update the specified namespace.
    * This will include adding any existing domains, pod, services,
@@ -198,10 +259,29 @@ public class DomainNamespaces {
    * @param processor processing to be done to bring up any found domains
    */
   Step readExistingResources(String ns, DomainProcessor processor) {
-    NamespacedResources resources = new NamespacedResources(ns, null, this);
+    NamespacedResources resources = new NamespacedResources(ns, null);
     resources.addProcessing(new DomainResourcesValidation(ns, processor).getProcessors());
     resources.addProcessing(createWatcherStartupProcessing(ns, processor));
-    return Step.chain(ConfigMapHelper.createScriptConfigMapStep(ns, productVersion), resources.createListSteps());
+    return Step.chain(createSharedInformerPermissionSteps(),
+          ConfigMapHelper.createScriptConfigMapStep(ns, productVersion), new PauseWatchersStep(ns),
+          resources.createListSteps());
+  }
+
+  // The lists are read concurrently, and the domains missing from them are only known once all have been processed.
+  // A watch event handled before then could be for a domain created after its list was read, which would then be
+  // taken as deleted. The watchers resume, from the versions of the lists, once the lists have been processed.
+  private class PauseWatchersStep extends Step {
+    private final String ns;
+
+    PauseWatchersStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      getWatcherControls().forEach(control -> control.pauseWatcher(ns));
+      return doNext(packet);
+    }
   }
 
   public boolean shouldStartNamespace(String ns) {
@@ -212,7 +292,7 @@ public class DomainNamespaces {
     getNamespaceStatus(ns).clearNamespaceStartingFlag();
   }
 
-  interface WatcherFactory<T, W extends Watcher<T>> {
+  interface WatcherFactory<T extends KubernetesObject, W extends Watcher<T>> {
     W create(
           ThreadFactory threadFactory,
           String namespace,
@@ -224,19 +304,71 @@ public class DomainNamespaces {
 
   interface ListenerSelector<T> extends Function<DomainProcessor, WatchListener<T>> { }
 
-  class WatcherControl<T, W extends Watcher<T>> {
+  class WatcherControl<T extends KubernetesObject, W extends Watcher<T>> {
     private final Map<String, W> watchers = new ConcurrentHashMap<>();
     private final WatcherFactory<T,W> factory;
     private final ListenerSelector<T> selector;
+    private final SharedInformer<T> informer;
+    private final Resource resource;
+    private volatile Boolean permittedInAllNamespaces;
 
-    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector,
+                           SharedInformer<T> informer, Resource resource) {
       this.factory = factory;
       this.selector = selector;
+      this.informer = informer;
+      this.resource = resource;
+    }
+
+    void startWatcher(String namespace, KubernetesListObject list, List<T> items, DomainProcessor domainProcessor) {
+      final String resourceVersion = getResourceVersion(list);
+      if (useSharedInformer()) {
+        informer.addListener(namespace, selector.apply(domainProcessor), items, resourceVersion);
+        informer.start(getThreadFactory(), getWatchTuning());
+      } else {
+        watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion, selector.apply(domainProcessor)));
+        getWatcher(namespace).withResourceVersion(resourceVersion).resume();
+      }
+    }
+
+    void pauseWatcher(String namespace) {
+      if (useSharedInformer()) {
+        informer.removeListener(namespace);
+      } else {
+        Optional.ofNullable(getWatcher(namespace)).ifPresent(Watcher::pause);
+      }
     }
 
-    void startWatcher(String namespace, String resourceVersion, DomainProcessor domainProcessor) {
-      watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion, selector.apply(domainProcessor)));
-      getWatcher(namespace).withResourceVersion(resourceVersion).resume();
+    // Without permission to watch in all namespaces, the shared informer's watch would fail repeatedly,
+    // so the operator falls back to its per-namespace watchers, as it does if permission has not been checked.
+    private boolean useSharedInformer() {
+      return isSharedInformerConfigured() && Boolean.TRUE.equals(permittedInAllNamespaces);
+    }
+
+    boolean isPermissionUnknown() {
+      return permittedInAllNamespaces == null;
+    }
+
+    Step createPermissionCheckStep() {
+      final AuthorizationProxy proxy = new AuthorizationProxy();
+      return proxy.createCheckStep(Operation.LIST, resource, Scope.CLUSTER, null, this::recordListPermission,
+            proxy.createCheckStep(Operation.WATCH, resource, Scope.CLUSTER, null, this::recordWatchPermission, null));
+    }
+
+    private void recordListPermission(boolean permitted) {
+      if (!permitted) {
+        permittedInAllNamespaces = false;
+      }
+    }
+
+    private void recordWatchPermission(boolean permitted) {
+      if (permittedInAllNamespaces == null) {
+        permittedInAllNamespaces = permitted;
+      }
+    }
+
+    ResourceCache<T> getSharedInformerCache() {
+      return useSharedInformer() && informer.hasSynced() ? informer.getCache() : null;
     }
 
     W createWatcher(String ns, String resourceVersion, WatchListener<T> listener) {
@@ -249,6 +381,11 @@ public class DomainNamespaces {
 
     void removeWatcher(String ns) {
       watchers.remove(ns);
+      informer.removeListener(ns);
+    }
+
+    void stopSharedInformer() {
+      informer.stop();
     }
   }
 
@@ -259,58 +396,96 @@ public class DomainNamespaces {
   class WatcherStartupProcessing implements Processors {
     private final String ns;
     private final DomainProcessor domainProcessor;
+    private final Map<WatcherControl<?, ?>, ListedResources<?>> listedResources = new ConcurrentHashMap<>();
 
     WatcherStartupProcessing(String ns, DomainProcessor domainProcessor) {
       this.ns = ns;
       this.domainProcessor = domainProcessor;
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends KubernetesObject> void addPage(WatcherControl<T, ?> control, KubernetesListObject page,
+                                                      List<T> items) {
+      ((ListedResources<T>) listedResources.computeIfAbsent(control, c -> new ListedResources<>(control)))
+          .addPage(page, items);
+    }
+
+    // Starts the watchers only once every list has been processed, each from the version of its list.
+    @Override
+    public void completeProcessing(Packet packet) {
+      listedResources.values().forEach(ListedResources::startWatcher);
+    }
+
+    private class ListedResources<T extends KubernetesObject> {
+      private final WatcherControl<T, ?> control;
+      private final List<T> items = new ArrayList<>();
+      private KubernetesListObject list;
+
+      ListedResources(WatcherControl<T, ?> control) {
+        this.control = control;
+      }
+
+      void addPage(KubernetesListObject page, List<T> pageItems) {
+        list = page;
+        items.addAll(pageItems);
+      }
+
+      void startWatcher() {
+        control.startWatcher(ns, list, items, domainProcessor);
+      }
+    }
+
     @Override
     public Consumer<V1ConfigMapList> getConfigMapListProcessing() {
-      return l -> configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> addPage(configMapWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<CoreV1EventList> getEventListProcessing() {
-      return l -> eventWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> addPage(eventWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<CoreV1EventList> getOperatorEventListProcessing() {
-      return l -> operatorEventWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> addPage(operatorEventWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1JobList> getJobListProcessing() {
-      return l -> jobWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> addPage(jobWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1PodList> getPodListProcessing() {
-      return l -> podWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> addPage(podWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1ServiceList> getServiceListProcessing() {
-      return l -> serviceWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> addPage(serviceWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1PodDisruptionBudgetList> getPodDisruptionBudgetListProcessing() {
-      return l -> podDisruptionBudgetWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> addPage(podDisruptionBudgetWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<DomainList> getDomainListProcessing() {
-      return l -> domainWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> addPage(domainWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<ClusterList> getClusterListProcessing() {
-      return l -> clusterWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> addPage(clusterWatchers, l, l.getItems());
     }
   }
 
+  /**
+   * Returns processing which has the running watchers for the specified namespace resume, when they next
+   * re-establish their watches, from the resource versions of the lists read during a make-right.
+   * @param ns the name of the namespace
+   */
   Processors createWatcherResumeProcessing(String ns) {
     return new WatcherResumeProcessing(ns);
   }
@@ -325,55 +500,55 @@ public class DomainNamespaces {
     @Override
     public Consumer<V1ConfigMapList> getConfigMapListProcessing() {
       return l -> Optional.ofNullable(configMapWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)));
     }
 
     @Override
     public Consumer<CoreV1EventList> getEventListProcessing() {
       return l -> Optional.ofNullable(eventWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)));
     }
 
     @Override
     public Consumer<CoreV1EventList> getOperatorEventListProcessing() {
       return l -> Optional.ofNullable(operatorEventWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)));
     }
 
     @Override
     public Consumer<V1JobList> getJobListProcessing() {
       return l -> Optional.ofNullable(jobWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)));
     }
 
     @Override
     public Consumer<V1PodList> getPodListProcessing() {
       return l -> Optional.ofNullable(podWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)));
     }
 
     @Override
     public Consumer<V1ServiceList> getServiceListProcessing() {
       return l -> Optional.ofNullable(serviceWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)));
     }
 
     @Override
     public Consumer<V1PodDisruptionBudgetList> getPodDisruptionBudgetListProcessing() {
       return l -> Optional.ofNullable(podDisruptionBudgetWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)));
     }
 
     @Override
     public Consumer<DomainList> getDomainListProcessing() {
       return l -> Optional.ofNullable(domainWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)));
     }
 
     @Override
     public Consumer<ClusterList> getClusterListProcessing() {
       return l -> Optional.ofNullable(clusterWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)));
     }
   }
 }
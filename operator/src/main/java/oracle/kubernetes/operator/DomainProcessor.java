@@ -141,6 +141,14 @@ public interface DomainProcessor {
     return new ConcurrentHashMap<>();
   }
 
+  /**
+   * Get the queue of server pods which watch events have shown to be terminating.
+   * @return a queue of terminating pods
+   */
+  default TerminatingPodQueue getTerminatingPods() {
+    return new TerminatingPodQueue();
+  }
+
   Map<String, FiberGate> getMakeRightFiberGateMap();
 
   DomainPresenceInfo getExistingDomainPresenceInfo(String namespace, String domainUid);
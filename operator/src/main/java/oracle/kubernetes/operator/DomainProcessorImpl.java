@@ -47,6 +47,7 @@ import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResourcePresenceInfo;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
@@ -114,11 +115,15 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @SuppressWarnings("FieldMayBeFinal")
   private static Map<String, Map<String, Cancellable>> statusUpdaters = new ConcurrentHashMap<>();
 
+  // Server pods seen to be terminating, by the time by which they should have been removed.
+  private static final TerminatingPodQueue terminatingPods = new TerminatingPodQueue();
+
   // List of clusters in a namespace.
   private static final Map<String, Map<String, ClusterPresenceInfo>> clusters = new ConcurrentHashMap<>();
 
   private final DomainProcessorDelegate delegate;
   private final SemanticVersion productVersion;
+  private final MakeRightCoalescer makeRightCoalescer;
 
   // Map namespace to map of domainUID to KubernetesEventObjects; tests may replace this value.
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
@@ -136,9 +141,18 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     this(delegate, null);
   }
 
+  /**
+   * Creates a domain processor.
+   * @param delegate the services required for domain processing
+   * @param productVersion the version of the operator
+   */
   public DomainProcessorImpl(DomainProcessorDelegate delegate, SemanticVersion productVersion) {
     this.delegate = delegate;
     this.productVersion = productVersion;
+    this.makeRightCoalescer = new MakeRightCoalescer(delegate);
+    OperatorMetrics.registerFiberGates("makeRight", makeRightFiberGates);
+    OperatorMetrics.registerFiberGates("status", statusFiberGates);
+    OperatorMetrics.registerMakeRightCoalescer(makeRightCoalescer);
   }
 
   @Override
@@ -163,6 +177,11 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     return domains;
   }
 
+  @Override
+  public TerminatingPodQueue getTerminatingPods() {
+    return terminatingPods;
+  }
+
   @Override
   public Map<String,DomainPresenceInfo>  getDomainPresenceInfoMapForNS(String namespace) {
     return domains.get(namespace);
@@ -187,13 +206,17 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   }
 
   static void cleanupNamespace(String namespace) {
-    clusterEventK8SObjects.remove(namespace);
+    Optional.ofNullable(clusterEventK8SObjects.remove(namespace)).ifPresent(DomainProcessorImpl::closeEventObjects);
     domains.remove(namespace);
-    domainEventK8SObjects.remove(namespace);
-    namespaceEventK8SObjects.remove(namespace);
+    Optional.ofNullable(domainEventK8SObjects.remove(namespace)).ifPresent(DomainProcessorImpl::closeEventObjects);
+    Optional.ofNullable(namespaceEventK8SObjects.remove(namespace)).ifPresent(KubernetesEventObjects::close);
     statusUpdaters.remove((namespace));
   }
 
+  private static void closeEventObjects(Map<String, KubernetesEventObjects> eventObjects) {
+    eventObjects.values().forEach(KubernetesEventObjects::close);
+  }
+
   private static void registerStatusUpdater(
         String ns, String domainUid, Cancellable future) {
     Cancellable existing =
@@ -361,6 +384,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       try (ThreadLoggingContext ignored = setThreadContext().presenceInfo(liveInfo)) {
         if (shouldContinue(operation, liveInfo)) {
           logStartingDomain(liveInfo);
+          OperatorMetrics.recordMakeRightStart(liveInfo.getNamespace());
           new DomainPlan(operation, delegate).execute();
         } else {
           logNotStartingDomain(liveInfo);
@@ -602,8 +626,10 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     switch (watchType) {
       case ADDED:
         info.setServerPodFromEvent(serverName, pod);
+        recordTerminatingPod(pod);
         break;
       case MODIFIED:
+        recordTerminatingPod(pod);
         boolean podPreviouslyEvicted = info.setServerPodFromEvent(serverName, pod, PodHelper::isEvicted);
         boolean isEvicted = PodHelper.isEvicted(pod);
         if (isEvicted && !podPreviouslyEvicted) {
@@ -616,7 +642,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
         boolean isReady = PodHelper.isReady(pod);
         boolean isLabeledForShutdown = PodHelper.isPodAlreadyAnnotatedForShutdown(pod);
         if ((isEvicted || isReady != isLabeledForShutdown || PodHelper.isFailed(pod)) && !PodHelper.isDeleting(pod)) {
-          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+          makeRightForPodChange(info);
         }
         boolean isUnschedulable = PodHelper.hasUnSchedulableCondition(pod);
         if (isUnschedulable) {
@@ -624,11 +650,12 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
         }
         break;
       case DELETED:
+        terminatingPods.removePod(pod);
         boolean removed = info.deleteServerPodFromEvent(serverName, pod);
         if (removed && isNotDeleting(info) && Boolean.FALSE.equals(info.isServerPodBeingDeleted(serverName))) {
           LOGGER.info(MessageKeys.POD_DELETED, domainUid, getPodNamespace(pod), serverName);
         }
-        createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+        makeRightForPodChange(info);
         break;
 
       case ERROR:
@@ -636,6 +663,26 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     }
   }
 
+  private void recordTerminatingPod(V1Pod pod) {
+    if (TuningParameters.getInstance().isStuckPodDetectionFromWatch()) {
+      terminatingPods.recordPod(pod);
+    }
+  }
+
+  private void makeRightForPodChange(DomainPresenceInfo info) {
+    final Long watchEventTime = OperatorMetrics.getWatchEventTime();
+    makeRightCoalescer.trigger(info.getNamespace(), info.getDomainUid(),
+        () -> OperatorMetrics.runForWatchEvent(watchEventTime,
+            () -> createMakeRightOperation(info).interrupt().withExplicitRecheck().execute()));
+  }
+
+  /**
+   * Returns the coalescer which merges make-right requests caused by bursts of pod changes.
+   */
+  public MakeRightCoalescer getMakeRightCoalescer() {
+    return makeRightCoalescer;
+  }
+
   /**
    * If a pod is unschedulable, return the condition's message.
    * @param pod Kubernetes V1Pod
@@ -1058,10 +1105,16 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   private static class DomainPlan extends Plan<MakeRightDomainOperation> {
 
+    private final long startNanos = System.nanoTime();
+
     public DomainPlan(MakeRightDomainOperation operation, DomainProcessorDelegate delegate) {
       super(operation, delegate);
     }
 
+    private void recordMakeRight(boolean succeeded) {
+      OperatorMetrics.recordMakeRight(presenceInfo.getNamespace(), succeeded, startNanos);
+    }
+
     @Override
     public CompletionCallback createCompletionCallback() {
       return new DomainPlanCompletionCallback();
@@ -1071,11 +1124,13 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
       @Override
       public void onCompletion(Packet packet) {
+        recordMakeRight(true);
         retryIfNeeded(packet);
       }
 
       @Override
       public void onThrowable(Packet packet, Throwable throwable) {
+        recordMakeRight(false);
         reportFailure(throwable);
       }
 
@@ -53,7 +53,8 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_CR
 class DomainResourcesValidation {
   private final String namespace;
   private final DomainProcessor processor;
-  private ClusterList activeClusterResources;
+  private List<ClusterResource> activeClusterResources;
+  private Set<String> listedDomainUids;
   private final Set<String> modifiedClusterNames = new HashSet<>();
   private final Set<String> newClusterNames = new HashSet<>();
   private final Set<String> modifiedDomainNames = new HashSet<>();
@@ -100,6 +101,7 @@ class DomainResourcesValidation {
       public void completeProcessing(Packet packet) {
         DomainProcessor dp = Optional.ofNullable((DomainProcessor)
             packet.get(ProcessingConstants.DOMAIN_PROCESSOR)).orElse(processor);
+        Optional.ofNullable(listedDomainUids).ifPresent(DomainResourcesValidation.this::updateDeletedDomainsInDPI);
         getStrandedDomainPresenceInfos(dp).forEach(info -> removeStrandedDomainPresenceInfo(dp, info));
         Optional.ofNullable(activeClusterResources).ifPresent(c -> getActiveDomainPresenceInfos()
             .forEach(info -> adjustClusterResources(c, info)));
@@ -123,11 +125,11 @@ class DomainResourcesValidation {
 
   @NotNull
   private List<ClusterResource> getActiveClusterResources() {
-    return Optional.ofNullable(activeClusterResources).map(ClusterList::getItems).orElse(new ArrayList<>());
+    return Optional.ofNullable(activeClusterResources).orElse(new ArrayList<>());
   }
 
-  private void adjustClusterResources(ClusterList clusters, DomainPresenceInfo info) {
-    List<ClusterResource> resources = clusters.getItems().stream()
+  private void adjustClusterResources(List<ClusterResource> clusters, DomainPresenceInfo info) {
+    List<ClusterResource> resources = clusters.stream()
         .filter(c -> isForDomain(c, info)).toList();
     info.adjustClusterResources(resources);
   }
@@ -205,15 +207,16 @@ class DomainResourcesValidation {
     }
   }
 
+  // A list may arrive in several pages, so domains missing from it are only known once all have been processed.
   private void addDomainList(DomainList list) {
-    getDomainPresenceInfoMap().values().forEach(dpi -> updateDeletedDomainsInDPI(list));
+    if (listedDomainUids == null) {
+      listedDomainUids = new HashSet<>();
+    }
+    list.getItems().stream().map(DomainResource::getDomainUid).forEach(listedDomainUids::add);
     list.getItems().forEach(this::addDomain);
   }
 
-  private void updateDeletedDomainsInDPI(DomainList list) {
-    Collection<String> domainNamesFromList = list.getItems().stream()
-        .map(DomainResource::getDomainUid).toList();
-
+  private void updateDeletedDomainsInDPI(Collection<String> domainNamesFromList) {
     getDomainPresenceInfoMap().values().stream()
         .filter(dpi -> !domainNamesFromList.contains(dpi.getDomainUid()))
         .filter(dpi -> isNotBeingProcessed(dpi.getNamespace(), dpi.getDomainUid()))
@@ -242,7 +245,10 @@ class DomainResourcesValidation {
   }
 
   private void addClusterList(ClusterList list) {
-    activeClusterResources = list;
+    if (activeClusterResources == null) {
+      activeClusterResources = new ArrayList<>();
+    }
+    activeClusterResources.addAll(list.getItems());
     list.getItems().forEach(this::addCluster);
   }
 
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -20,6 +20,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -38,6 +39,7 @@ import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.LastKnownStatus;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
@@ -47,6 +49,7 @@ import oracle.kubernetes.operator.watcher.PodWatcher;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.OperatorUtils;
@@ -77,6 +80,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_RUNNING;
 import static oracle.kubernetes.common.logging.MessageKeys.POD_UNSCHEDULABLE_MESSAGE;
 import static oracle.kubernetes.operator.ClusterResourceStatusUpdater.createClusterResourceStatusUpdaterStep;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.KubernetesConstants.MINIMUM_CLUSTER_COUNT;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
@@ -117,6 +121,7 @@ import static oracle.kubernetes.weblogic.domain.model.DomainFailureSeverity.SEVE
 public class DomainStatusUpdater {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String STATUS_PATCH_REJECTED = "statusPatchRejected";
   public static final int SERVER_DISPLAY_LIMIT = 5;
   public static final int CLUSTER_MESSAGE_LIMIT = 2;
 
@@ -373,22 +378,35 @@ public class DomainStatusUpdater {
 
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<DomainResource> callResponse) {
+      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
       if (callResponse.getObject() != null) {
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
         info.setDomain(callResponse.getObject());
       }
-      return doNext(createClusterResourceStatusUpdaterStep(getNext()), packet);
+
+      Step next = createClusterResourceStatusUpdaterStep(getNext());
+      Fiber.StepAndPacket deferredUpdate = context.endStatusWrite();
+      return deferredUpdate == null ? doNext(next, packet) : doForkJoin(next, packet, List.of(deferredUpdate));
     }
 
     @Override
     public Result onFailure(Packet packet, KubernetesApiResponse<DomainResource> callResponse) {
-      if (isUnrecoverable(callResponse)) {
+      // a deferred update is dropped, as a later update will be computed from the state at that time
+      context.endStatusWrite();
+      if (context.isPatch() && isPatchRejected(callResponse)) {
+        packet.put(STATUS_PATCH_REJECTED, Boolean.TRUE);
+        return doNext(createRetry(context), packet);
+      } else if (isUnrecoverable(callResponse)) {
         return super.onFailure(packet, callResponse);
       } else {
         return onFailure(createRetry(context), packet, callResponse);
       }
     }
 
+    // A failed test of the resource version shows that the domain has changed since it was read.
+    private boolean isPatchRejected(KubernetesApiResponse<DomainResource> callResponse) {
+      return callResponse.getHttpStatusCode() == HTTP_UNPROCESSABLE_ENTITY || hasConflict(callResponse);
+    }
+
     public Step createRetry(DomainStatusUpdaterContext context) {
       return Step.chain(createDomainRefreshStep(context), updaterStep);
     }
@@ -424,12 +442,16 @@ public class DomainStatusUpdater {
     private DomainStatus newStatus;
     private final List<EventData> newEvents = new ArrayList<>();
     final boolean endOfProcessing;
+    private final boolean mayPatch;
+    private boolean isPatch;
+    private boolean isWriteTracked;
 
     DomainStatusUpdaterContext(Packet packet, DomainStatusUpdaterStep domainStatusUpdaterStep) {
       info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
       isMakeRight = MakeRightDomainOperation.isMakeRight(packet);
       this.domainStatusUpdaterStep = domainStatusUpdaterStep;
       endOfProcessing = (Boolean) packet.getOrDefault(ProcessingConstants.END_OF_PROCESSING, Boolean.FALSE);
+      mayPatch = StatusDiff.isPatchEnabled() && packet.remove(STATUS_PATCH_REJECTED) == null;
     }
 
     DomainStatus getNewStatus() {
@@ -506,6 +528,10 @@ public class DomainStatusUpdater {
       DomainStatus status = oldDomain.getStatus();
 
       if (isGenerationChanged(oldDomain, status)) {
+        // A patch is computed from the recorded status, which must therefore be left unchanged
+        if (mayPatch) {
+          status = cloneStatus();
+        }
         // Only set observedGeneration during a make-right, but not during a background status update
         status.setObservedGeneration(getDomainGeneration(oldDomain));
 
@@ -516,6 +542,13 @@ public class DomainStatusUpdater {
     }
 
     private Step getCallStep(DomainResource oldDomain, DomainStatus status) {
+      if (mayPatch) {
+        return getPatchStep(oldDomain, status);
+      }
+
+      startStatusWrite();
+      OperatorMetrics.recordStatusWrite(
+          KubernetesConstants.DOMAIN, StatusDiff.REPLACE, StatusDiff.getStatusSize(status));
       DomainResource newDomain = new DomainResource()
           .withKind(KubernetesConstants.DOMAIN)
           .withApiVersion(KubernetesConstants.API_VERSION_WEBLOGIC_ORACLE)
@@ -527,6 +560,42 @@ public class DomainStatusUpdater {
           domainStatusUpdaterStep.createResponseStep(this));
     }
 
+    // Sends only the changes from the recorded status. If there are none, still updates the cluster resources.
+    private Step getPatchStep(DomainResource oldDomain, DomainStatus status) {
+      V1Patch patch = StatusDiff.createPatch(oldDomain.getMetadata().getResourceVersion(), getStatus(), status);
+      if (patch == null) {
+        OperatorMetrics.recordStatusWriteAvoided(KubernetesConstants.DOMAIN, StatusDiff.UNCHANGED);
+        return createClusterResourceStatusUpdaterStep(null);
+      }
+
+      startStatusWrite();
+      isPatch = true;
+      OperatorMetrics.recordStatusWrite(KubernetesConstants.DOMAIN, StatusDiff.PATCH, StatusDiff.getPatchSize(patch));
+      return RequestBuilder.DOMAIN.patchStatus(getNamespace(), getDomainName(), patch,
+          domainStatusUpdaterStep.createResponseStep(this));
+    }
+
+    boolean isPatch() {
+      return isPatch;
+    }
+
+    // Records the start of a status write, so that background updates which follow closely may be deferred.
+    private void startStatusWrite() {
+      int coalescingSeconds = StatusDiff.getCoalescingSeconds();
+      if (coalescingSeconds > 0) {
+        isWriteTracked = true;
+        info.startStatusWrite(coalescingSeconds);
+      }
+    }
+
+    /**
+     * Records the completion of a status write started by this context.
+     * @return the status update deferred until the write completed, or null
+     */
+    Fiber.StepAndPacket endStatusWrite() {
+      return isWriteTracked ? info.endStatusWrite() : null;
+    }
+
     private String createPatchString() {
       JsonPatchBuilder builder = Json.createPatchBuilder();
       getNewStatus().createPatchFrom(builder, getStatus());
@@ -538,6 +607,8 @@ public class DomainStatusUpdater {
       if (!isStatusUnchanged()) {
         result.add(createDomainStatusReplaceStep());
       } else {
+        Optional.ofNullable(getDomain()).ifPresent(d -> OperatorMetrics.recordStatusWriteAvoided(
+            KubernetesConstants.DOMAIN, StatusDiff.UNCHANGED));
         if (endOfProcessing && isMakeRight) {
           Optional.ofNullable(createDomainStatusObservedGenerationReplaceStep()).ifPresent(result::add);
         }
@@ -680,9 +751,23 @@ public class DomainStatusUpdater {
 
       @Override
       Step createUpdateSteps(Step next) {
-        return shouldSkipUpdate(packet)
-            ? next
-            : super.createUpdateSteps(next);
+        if (shouldSkipUpdate(packet)) {
+          return next;
+        } else if (shouldDeferWrite()) {
+          getInfo().deferStatusUpdate(new Fiber.StepAndPacket(new StatusUpdateStep(null), packet.copy()));
+          OperatorMetrics.recordStatusWriteAvoided(KubernetesConstants.DOMAIN, StatusDiff.COALESCED);
+          return next;
+        } else {
+          return super.createUpdateSteps(next);
+        }
+      }
+
+      // A background update made while another status write is in progress is deferred until that write completes,
+      // and then made from the latest state, so that a burst of such updates results in few writes.
+      private boolean shouldDeferWrite() {
+        int coalescingSeconds = StatusDiff.getCoalescingSeconds();
+        return coalescingSeconds > 0 && !isMakeRight && !endOfProcessing
+            && getInfo().isStatusWriteInProgress(coalescingSeconds) && !isStatusUnchanged();
       }
 
       boolean shouldSkipUpdate(Packet packet) {
@@ -0,0 +1,147 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Collapses bursts of make-right requests for a domain into a single make-right. A request for a domain
+ * with no pending make-right starts a coalescing window; later requests within the window are merged into it.
+ * The make-right runs once no request has arrived for the configured quiet period, or once the maximum latency
+ * has passed since the first request of the window, whichever comes first. A quiet period of zero disables
+ * coalescing, and each request runs immediately.
+ */
+public class MakeRightCoalescer {
+
+  private final CoreDelegate delegate;
+
+  /** Namespace to domain UID to pending make-right. */
+  private final Map<String, Map<String, PendingMakeRight>> pending = new ConcurrentHashMap<>();
+
+  private final AtomicLong triggersReceived = new AtomicLong();
+  private final AtomicLong triggersMerged = new AtomicLong();
+  private final AtomicLong makeRightsExecuted = new AtomicLong();
+
+  MakeRightCoalescer(CoreDelegate delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Requests a make-right for the specified domain.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param makeRight the action to run the make-right. If requests are merged, the latest action is run.
+   */
+  void trigger(String namespace, String domainUid, Runnable makeRight) {
+    triggersReceived.incrementAndGet();
+    long quietPeriod = getQuietPeriodMillis();
+    if (quietPeriod <= 0) {
+      execute(makeRight);
+      return;
+    }
+
+    long now = currentTimeMillis();
+    Map<String, PendingMakeRight> domainMap = pending.computeIfAbsent(namespace, n -> new ConcurrentHashMap<>());
+    PendingMakeRight created = new PendingMakeRight(domainMap, domainUid, now, makeRight);
+    PendingMakeRight actual = domainMap.compute(domainUid, (uid, existing) -> merge(existing, created, now));
+    if (actual == created) {
+      delegate.schedule(created::check, quietPeriod, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private PendingMakeRight merge(PendingMakeRight existing, PendingMakeRight created, long now) {
+    if (existing == null) {
+      return created;
+    }
+
+    triggersMerged.incrementAndGet();
+    existing.lastTrigger = now;
+    existing.makeRight = created.makeRight;
+    return existing;
+  }
+
+  private void execute(Runnable makeRight) {
+    makeRightsExecuted.incrementAndGet();
+    makeRight.run();
+  }
+
+  private static long getQuietPeriodMillis() {
+    return TuningParameters.getInstance().getMakeRightQuietPeriodMillis();
+  }
+
+  private static long getMaxLatencyMillis() {
+    return TuningParameters.getInstance().getMakeRightMaxLatencyMillis();
+  }
+
+  private static long currentTimeMillis() {
+    return SystemClock.now().toInstant().toEpochMilli();
+  }
+
+  /**
+   * Returns the number of make-right requests received.
+   */
+  public long getTriggersReceived() {
+    return triggersReceived.get();
+  }
+
+  /**
+   * Returns the number of make-right requests which were merged into an already pending make-right.
+   */
+  public long getTriggersMerged() {
+    return triggersMerged.get();
+  }
+
+  /**
+   * Returns the number of make-rights run in response to requests.
+   */
+  public long getMakeRightsExecuted() {
+    return makeRightsExecuted.get();
+  }
+
+  private class PendingMakeRight {
+    private final Map<String, PendingMakeRight> domainMap;
+    private final String domainUid;
+    private final long firstTrigger;
+    private long lastTrigger;
+    private Runnable makeRight;
+
+    PendingMakeRight(Map<String, PendingMakeRight> domainMap, String domainUid, long now, Runnable makeRight) {
+      this.domainMap = domainMap;
+      this.domainUid = domainUid;
+      this.firstTrigger = now;
+      this.lastTrigger = now;
+      this.makeRight = makeRight;
+    }
+
+    // Runs the make-right if the window has closed, or checks again when it is due to close. The decision is made
+    // while holding the map entry, so that a request arriving concurrently is either merged or starts a new window.
+    void check() {
+      long now = currentTimeMillis();
+      long[] delay = {-1};
+      domainMap.computeIfPresent(domainUid, (uid, existing) -> {
+        if (existing != this) {
+          return existing;
+        }
+        delay[0] = Math.max(0, getDueTime() - now);
+        return delay[0] > 0 ? this : null;
+      });
+
+      if (delay[0] > 0) {
+        delegate.schedule(this::check, delay[0], TimeUnit.MILLISECONDS);
+      } else if (delay[0] == 0) {
+        execute(makeRight);
+      }
+    }
+
+    private long getDueTime() {
+      return Math.min(lastTrigger + getQuietPeriodMillis(), firstTrigger + getMaxLatencyMillis());
+    }
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -33,7 +33,7 @@ public interface MakeRightExecutor {
    */
   default Step createNamespacedResourceSteps(Processors processors, DomainPresenceInfo info,
                                              DomainNamespaces domainNamespaces) {
-    NamespacedResources resources = new NamespacedResources(info.getNamespace(), info.getDomainUid(), domainNamespaces);
+    NamespacedResources resources = new NamespacedResources(info.getNamespace(), info.getDomainUid());
     resources.addProcessing(processors);
     if (domainNamespaces != null) {
       resources.addProcessing(domainNamespaces.createWatcherResumeProcessing(info.getNamespace()));
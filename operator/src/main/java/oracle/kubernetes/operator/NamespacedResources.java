@@ -1,14 +1,16 @@
-// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.common.KubernetesListObject;
@@ -23,15 +25,9 @@ import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
-import oracle.kubernetes.operator.watcher.ClusterWatcher;
-import oracle.kubernetes.operator.watcher.ConfigMapWatcher;
-import oracle.kubernetes.operator.watcher.DomainWatcher;
-import oracle.kubernetes.operator.watcher.EventWatcher;
-import oracle.kubernetes.operator.watcher.JobWatcher;
-import oracle.kubernetes.operator.watcher.OperatorEventWatcher;
-import oracle.kubernetes.operator.watcher.PodWatcher;
-import oracle.kubernetes.operator.watcher.ServiceWatcher;
-import oracle.kubernetes.operator.watcher.Watcher;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.ForkJoinLimit;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.ClusterList;
@@ -39,20 +35,30 @@ import oracle.kubernetes.weblogic.domain.model.DomainList;
 
 import static oracle.kubernetes.operator.LabelConstants.forDomainUidSelector;
 import static oracle.kubernetes.operator.LabelConstants.getCreatedByOperatorSelector;
+import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_NAMESPACE_LIST_CONCURRENCY_LIMIT;
 
 /**
  * A Class to manage listing Kubernetes resources associated with a namespace and doing processing on them.
+ * The lists for a namespace are requested concurrently, subject to a limit shared by all namespaces, and each page
+ * of results is processed as it arrives. Processing of the pages for a single namespace is serialized.
  */
 class NamespacedResources {
+
+  private static final ForkJoinLimit LIST_LIMIT = new ForkJoinLimit(NamespacedResources::getListConcurrencyLimit);
+
   private final String namespace;
   private final String domainUid;
   private final List<Processors> processors = new ArrayList<>();
-  private final DomainNamespaces domainNamespaces;
 
-  NamespacedResources(String namespace, String domainUid, DomainNamespaces domainNamespaces) {
+  NamespacedResources(String namespace, String domainUid) {
     this.namespace = namespace;
     this.domainUid = domainUid;
-    this.domainNamespaces = domainNamespaces;
+  }
+
+  private static int getListConcurrencyLimit() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getNamespaceListConcurrencyLimit)
+        .orElse(DEFAULT_NAMESPACE_LIST_CONCURRENCY_LIMIT);
   }
 
   void addProcessing(Processors processor) {
@@ -60,7 +66,7 @@ class NamespacedResources {
   }
 
   Step createListSteps() {
-    return Step.chain(
+    return new ListInParallelStep(Stream.of(
           getConfigMapListSteps(),
           getPodEventListSteps(),
           getOperatorEventListSteps(),
@@ -69,13 +75,8 @@ class NamespacedResources {
           getServiceListSteps(),
           getPodDisruptionBudgetListSteps(),
           getDomainListSteps(),
-          getClusterListSteps(),
-          new CompletionStep()
-    );
-  }
-
-  private Step getPauseWatchersStep(Watcher<?> watcher) {
-    return new PauseWatchersStep<>(watcher);
+          getClusterListSteps()
+    ).filter(Objects::nonNull).toList(), new CompletionStep());
   }
 
   private Step getConfigMapListSteps() {
@@ -83,12 +84,9 @@ class NamespacedResources {
   }
 
   private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
-    return Step.chain(getPauseWatchersStep(getConfigMapWatcher()),
-        RequestBuilder.CM.list(namespace, new ListResponseStep<>(processing)));
-  }
-
-  private ConfigMapWatcher getConfigMapWatcher() {
-    return Optional.ofNullable(domainNamespaces).map(n -> n.getConfigMapWatcher(namespace)).orElse(null);
+    return RequestBuilder.CM.list(namespace,
+        new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL),
+        new ListResponseStep<>(processing));
   }
 
   private Step getPodEventListSteps() {
@@ -96,14 +94,9 @@ class NamespacedResources {
   }
 
   private Step createPodEventListStep(List<Consumer<CoreV1EventList>> processing) {
-    return Step.chain(getPauseWatchersStep(getEventWatcher()),
-        RequestBuilder.EVENT.list(namespace,
-            new ListOptions().fieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER),
-            new ListResponseStep<>(processing)));
-  }
-
-  private EventWatcher getEventWatcher() {
-    return Optional.ofNullable(domainNamespaces).map(n -> n.getEventWatcher(namespace)).orElse(null);
+    return RequestBuilder.EVENT.list(namespace,
+        new ListOptions().fieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER),
+        new ListResponseStep<>(processing));
   }
 
   private Step getOperatorEventListSteps() {
@@ -112,14 +105,9 @@ class NamespacedResources {
   }
 
   private Step createOperatorEventListStep(List<Consumer<CoreV1EventList>> processing) {
-    return Step.chain(getPauseWatchersStep(getOperatorEventWatcher()),
-        RequestBuilder.EVENT.list(namespace,
-            new ListOptions().labelSelector(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER),
-            new ListResponseStep<>(processing)));
-  }
-
-  private OperatorEventWatcher getOperatorEventWatcher() {
-    return Optional.ofNullable(domainNamespaces).map(n -> n.getDomainEventWatcher(namespace)).orElse(null);
+    return RequestBuilder.EVENT.list(namespace,
+        new ListOptions().labelSelector(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER),
+        new ListResponseStep<>(processing));
   }
 
   private Step getPodDisruptionBudgetListSteps() {
@@ -128,15 +116,9 @@ class NamespacedResources {
   }
 
   private Step createPodDisruptionBudgetListStep(List<Consumer<V1PodDisruptionBudgetList>> processing) {
-    return Step.chain(getPauseWatchersStep(getPodDisruptionBudgetWatcher()),
-        RequestBuilder.PDB.list(namespace,
-            new ListOptions().labelSelector(forDomainUidSelector(domainUid) + "," + getCreatedByOperatorSelector()),
-            new ListResponseStep<>(processing)));
-  }
-
-  private PodDisruptionBudgetWatcher getPodDisruptionBudgetWatcher() {
-    return Optional.ofNullable(domainNamespaces).map(n -> n.getPodDisruptionBudgetWatcher(namespace))
-        .orElse(null);
+    return RequestBuilder.PDB.list(namespace,
+        new ListOptions().labelSelector(forDomainUidSelector(domainUid) + "," + getCreatedByOperatorSelector()),
+        new ListResponseStep<>(processing));
   }
 
   private Step getJobListSteps() {
@@ -144,14 +126,9 @@ class NamespacedResources {
   }
 
   private Step createJobListStep(List<Consumer<V1JobList>> processing) {
-    return Step.chain(getPauseWatchersStep(getJobWatcher()),
-        RequestBuilder.JOB.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
-            new ListResponseStep<>(processing)));
-  }
-
-  private JobWatcher getJobWatcher() {
-    return Optional.ofNullable(domainNamespaces).map(n -> n.getJobWatcher(namespace)).orElse(null);
+    return RequestBuilder.JOB.list(namespace,
+        new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
+        new ListResponseStep<>(processing));
   }
 
   private Step getPodListSteps() {
@@ -159,14 +136,9 @@ class NamespacedResources {
   }
 
   private Step createPodListStep(List<Consumer<V1PodList>> processing) {
-    return Step.chain(getPauseWatchersStep(getPodWatcher()),
-        RequestBuilder.POD.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
-            new ListResponseStep<>(processing)));
-  }
-
-  private PodWatcher getPodWatcher() {
-    return Optional.ofNullable(domainNamespaces).map(n -> n.getPodWatcher(namespace)).orElse(null);
+    return RequestBuilder.POD.list(namespace,
+        new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
+        new ListResponseStep<>(processing));
   }
 
   private String getDomainUidLabel() {
@@ -178,14 +150,9 @@ class NamespacedResources {
   }
 
   private Step createServiceListStep(List<Consumer<V1ServiceList>> processing) {
-    return Step.chain(getPauseWatchersStep(getServiceWatcher()),
-        RequestBuilder.SERVICE.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
-            new ListResponseStep<>(processing)));
-  }
-
-  private ServiceWatcher getServiceWatcher() {
-    return Optional.ofNullable(domainNamespaces).map(n -> n.getServiceWatcher(namespace)).orElse(null);
+    return RequestBuilder.SERVICE.list(namespace,
+        new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
+        new ListResponseStep<>(processing));
   }
 
   private Step getClusterListSteps() {
@@ -193,12 +160,7 @@ class NamespacedResources {
   }
 
   private Step createClusterListSteps(List<Consumer<ClusterList>> processing) {
-    return Step.chain(getPauseWatchersStep(getClusterWatcher()),
-        RequestBuilder.CLUSTER.list(namespace, new ListResponseStep<>(processing)));
-  }
-
-  private ClusterWatcher getClusterWatcher() {
-    return Optional.ofNullable(domainNamespaces).map(n -> n.getClusterWatcher(namespace)).orElse(null);
+    return RequestBuilder.CLUSTER.list(namespace, new ListResponseStep<>(processing));
   }
 
   private Step getDomainListSteps() {
@@ -206,12 +168,7 @@ class NamespacedResources {
   }
 
   private Step createDomainListSteps(List<Consumer<DomainList>> processing) {
-    return Step.chain(getPauseWatchersStep(getDomainWatcher()),
-        RequestBuilder.DOMAIN.list(namespace, new ListResponseStep<>(processing)));
-  }
-
-  private DomainWatcher getDomainWatcher() {
-    return Optional.ofNullable(domainNamespaces).map(n -> n.getDomainWatcher(namespace)).orElse(null);
+    return RequestBuilder.DOMAIN.list(namespace, new ListResponseStep<>(processing));
   }
 
   private <L extends KubernetesListObject>
@@ -223,7 +180,6 @@ class NamespacedResources {
     return list.isEmpty() ? Optional.empty() : Optional.of(list);
   }
 
-
   class CompletionStep extends Step {
     @Override
     public @Nonnull Result apply(Packet packet) {
@@ -232,31 +188,38 @@ class NamespacedResources {
     }
   }
 
-  static class PauseWatchersStep<T> extends Step {
-    private final Watcher<T> watcher;
+  // Runs the list steps in child fibers, sharing the concurrency limit with the list steps of other namespaces.
+  private static class ListInParallelStep extends Step {
+    private final Collection<Step> listSteps;
 
-    PauseWatchersStep(Watcher<T> watcher) {
-      this.watcher = watcher;
+    ListInParallelStep(Collection<Step> listSteps, Step next) {
+      super(next);
+      this.listSteps = listSteps;
     }
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      Optional.ofNullable(watcher).ifPresent(Watcher::pause);
-      return doNext(packet);
+      return doForkJoin(getNext(), packet,
+          listSteps.stream().map(step -> new Fiber.StepAndPacket(step, packet.copy())).toList(), LIST_LIMIT);
     }
   }
 
-  private static class ListResponseStep<L extends KubernetesListObject> extends DefaultResponseStep<L> {
-    private final List<Consumer<L>> processors;
+  private class ListResponseStep<L extends KubernetesListObject> extends DefaultResponseStep<L> {
+    private final List<Consumer<L>> listProcessors;
 
-    ListResponseStep(List<Consumer<L>> processors) {
-      this.processors = processors;
+    ListResponseStep(List<Consumer<L>> listProcessors) {
+      this.listProcessors = listProcessors;
     }
 
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<L> callResponse) {
-      processors.forEach(p -> p.accept(callResponse.getObject()));
+      processPage(listProcessors, callResponse.getObject());
       return doContinueListOrNext(callResponse, packet);
     }
   }
+
+  // Pages from different lists may arrive at once; the processors expect to see them one at a time.
+  private synchronized <L extends KubernetesListObject> void processPage(List<Consumer<L>> listProcessors, L page) {
+    listProcessors.forEach(p -> p.accept(page));
+  }
 }
@@ -41,6 +41,7 @@ import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.http.rest.BaseRestServer;
 import oracle.kubernetes.operator.http.rest.OperatorRestServer;
+import oracle.kubernetes.operator.http.rest.ResourceCache;
 import oracle.kubernetes.operator.http.rest.RestConfigImpl;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
@@ -307,7 +308,13 @@ public class OperatorMain extends BaseMain {
   }
 
   Runnable checkStuckPods() {
-    return () -> getDomainNamespaces().getNamespaces().forEach(stuckPodProcessing::checkStuckPods);
+    return () -> {
+      if (TuningParameters.getInstance().isStuckPodDetectionFromWatch()) {
+        stuckPodProcessing.checkTerminatingPods();
+      } else {
+        getDomainNamespaces().getNamespaces().forEach(stuckPodProcessing::checkStuckPods);
+      }
+    };
   }
 
   Step createDomainRecheckSteps() {
@@ -414,7 +421,12 @@ public class OperatorMain extends BaseMain {
   protected BaseRestServer createRestServer() {
     return OperatorRestServer.create(
         new RestConfigImpl(mainDelegate.getPrincipal(), mainDelegate.getDomainNamespaces()::getNamespaces,
-                new Certificates(mainDelegate)));
+                createResourceCache(), new Certificates(mainDelegate)));
+  }
+
+  private ResourceCache createResourceCache() {
+    DomainProcessor processor = mainDelegate.getDomainProcessor();
+    return new ResourceCache(processor::getDomainPresenceInfoMap);
   }
 
   // -----------------------------------------------------------------------------
@@ -35,6 +35,7 @@ public interface ProcessingConstants {
   String DOMAIN_INTROSPECTOR_LOG_RESULT = "domainIntrospectorLogResult";
   String DOMAIN_INTROSPECT_REQUESTED = "domainIntrospectRequested";
   String REMAINING_SERVERS_HEALTH_TO_READ = "serverHealthRead";
+  String AGGREGATE_SERVER_HEALTH_MAP = "aggregateServerHealthMap";
   String MII_DYNAMIC_UPDATE = "miiDynamicUpdate";
   String MII_DYNAMIC_UPDATE_WDTROLLBACKFILE = "miiDynamicUpdateRollbackFile";
   String MII_DYNAMIC_UPDATE_SUCCESS = "0";
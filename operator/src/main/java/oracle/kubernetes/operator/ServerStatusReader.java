@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -18,8 +19,10 @@ import javax.annotation.Nonnull;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ContainerState;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.Client;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -42,6 +45,7 @@ import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 
 import static oracle.kubernetes.operator.KubernetesConstants.WLS_CONTAINER_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.AGGREGATE_SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static oracle.kubernetes.operator.logging.ThreadLoggingContext.setThreadContext;
@@ -91,6 +95,9 @@ public class ServerStatusReader {
 
       AtomicInteger remainingServerHealthToRead = new AtomicInteger();
       packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
+      if (isAggregateServerHealthRead()) {
+        packet.put(AGGREGATE_SERVER_HEALTH_MAP, new ConcurrentHashMap<String, Pair<String, ServerHealth>>());
+      }
 
       Collection<Fiber.StepAndPacket> startDetails =
           info.getServerPods()
@@ -101,10 +108,18 @@ public class ServerStatusReader {
         return doNext(packet);
       } else {
         remainingServerHealthToRead.set(startDetails.size());
+        if (isAggregateServerHealthRead()) {
+          return doNext(ReadHealthStep.createReadAggregateHealthStep(
+              new ServerStatusReadersStep(startDetails, getNext())), packet);
+        }
         return doForkJoin(getNext(), packet, startDetails);
       }
     }
 
+    private boolean isAggregateServerHealthRead() {
+      return TuningParameters.getInstance().isAggregateServerHealthRead();
+    }
+
     /**
      * Creates asynchronous step to read WebLogic server state from a particular pod.
      *
@@ -124,6 +139,21 @@ public class ServerStatusReader {
     }
   }
 
+  // Runs the per-server status readers once the aggregate health of the servers has been read.
+  private static class ServerStatusReadersStep extends Step {
+    private final Collection<Fiber.StepAndPacket> startDetails;
+
+    ServerStatusReadersStep(Collection<Fiber.StepAndPacket> startDetails, Step next) {
+      super(next);
+      this.startDetails = startDetails;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doForkJoin(getNext(), packet, startDetails);
+    }
+  }
+
   private static class ServerStatusReaderStep extends Step {
     private final String serverName;
     private final long timeoutSeconds;
@@ -162,6 +192,12 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
+      if (isWebLogicContainerNotRunning(currentPod)) {
+        // an exec into the container would fail, so don't pay for opening the session
+        serverStateMap.put(serverName, chooseStateOrLastKnownServerStatus(info, lastKnownStatus, null, currentPod));
+        return doNext(packet);
+      }
+
       final boolean stdin = false;
       final boolean tty = false;
       Process proc = null;
@@ -217,6 +253,15 @@ public class ServerStatusReader {
       return doNext(packet);
     }
 
+    private boolean isWebLogicContainerNotRunning(V1Pod pod) {
+      return Optional.ofNullable(pod.getStatus())
+          .map(V1PodStatus::getContainerStatuses)
+          .orElse(Collections.emptyList())
+          .stream()
+          .filter(status -> WLS_CONTAINER_NAME.equals(status.getName()))
+          .anyMatch(status -> Optional.ofNullable(status.getState()).map(V1ContainerState::getRunning).isEmpty());
+    }
+
     private boolean isPodBeingDeleted(DomainPresenceInfo info, V1Pod pod) {
       return PodHelper.isDeleting(pod) || info.isServerPodBeingDeleted(PodHelper.getPodServerName(pod));
     }
@@ -0,0 +1,85 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.JSON;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+
+/**
+ * Computes the JSON patch which changes the status of a resource from the value which the operator last read to a
+ * new value, so that a small change to a large status sends only the fields which changed. The patch starts by
+ * testing the resource version, so that Kubernetes rejects it if the resource has changed since it was read.
+ */
+final class StatusDiff {
+
+  static final String PATCH = "patch";
+  static final String REPLACE = "replace";
+  static final String UNCHANGED = "unchanged";
+  static final String COALESCED = "coalesced";
+
+  private static final JSON json = new JSON();
+
+  private StatusDiff() {
+    // no instances
+  }
+
+  static boolean isPatchEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::isStatusPatchEnabled).orElse(false);
+  }
+
+  static int getCoalescingSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getStatusWriteCoalescingSeconds).orElse(0);
+  }
+
+  /**
+   * Returns a JSON patch which changes the status of a resource.
+   * @param resourceVersion the version of the resource from which the old status was read
+   * @param oldStatus the status last read
+   * @param newStatus the status to write
+   * @return a patch, or null if the two values serialize identically
+   */
+  static V1Patch createPatch(String resourceVersion, Object oldStatus, Object newStatus) {
+    JsonArray operations = Json.createDiff(toStatusObject(oldStatus), toStatusObject(newStatus)).toJsonArray();
+    if (operations.isEmpty()) {
+      return null;
+    }
+
+    JsonArrayBuilder patch = Json.createArrayBuilder();
+    Optional.ofNullable(resourceVersion).ifPresent(version -> patch.add(createResourceVersionTest(version)));
+    operations.forEach(patch::add);
+    return new V1Patch(patch.build().toString());
+  }
+
+  private static JsonObject createResourceVersionTest(String resourceVersion) {
+    return Json.createObjectBuilder()
+        .add("op", "test").add("path", "/metadata/resourceVersion").add("value", resourceVersion).build();
+  }
+
+  private static JsonObject toStatusObject(Object status) {
+    JsonObjectBuilder builder = Json.createObjectBuilder();
+    Optional.ofNullable(status).map(json::serialize)
+        .ifPresent(s -> builder.add("status", Json.createReader(new StringReader(s)).readObject()));
+    return builder.build();
+  }
+
+  static long getPatchSize(V1Patch patch) {
+    return patch.getValue().getBytes(StandardCharsets.UTF_8).length;
+  }
+
+  static long getStatusSize(Object status) {
+    return json.serialize(status).getBytes(StandardCharsets.UTF_8).length;
+  }
+}
@@ -9,10 +9,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
-import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
@@ -24,6 +24,8 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.watcher.ResourceCache;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -44,11 +46,76 @@ public class StuckPodProcessing {
     this.mainDelegate = mainDelegate;
   }
 
+  /**
+   * Deletes the operator-created pods in the specified namespace which have not been removed by the end of their
+   * grace periods. The pods are read from the shared pod informer's cache when it is available, and listed otherwise.
+   * @param namespace the name of the namespace
+   */
   void checkStuckPods(String namespace) {
-    Step step = RequestBuilder.POD.list(namespace,
-        new ListOptions().labelSelector(LabelConstants.getCreatedByOperatorSelector()),
-        new PodListProcessing(namespace, SystemClock.now()));
-    mainDelegate.runSteps(BaseMain.createPacketWithLoggingContext(namespace), step, null);
+    final Packet packet = BaseMain.createPacketWithLoggingContext(namespace);
+    final ResourceCache<V1Pod> podCache = getPodCache();
+    final Step step;
+    if (podCache != null) {
+      final OffsetDateTime now = SystemClock.now();
+      podCache.list(namespace).stream().filter(pod -> isStuck(pod, now)).forEach(getStuckPodList(packet)::add);
+      step = new PodActionsStep(namespace);
+    } else {
+      step = RequestBuilder.POD.list(namespace,
+          new ListOptions().labelSelector(LabelConstants.getCreatedByOperatorSelector()),
+          new PodListProcessing(namespace, SystemClock.now()));
+    }
+    mainDelegate.runSteps(packet, step, null);
+  }
+
+  private ResourceCache<V1Pod> getPodCache() {
+    return Optional.ofNullable(mainDelegate.getDomainNamespaces()).map(DomainNamespaces::getPodCache).orElse(null);
+  }
+
+  private static boolean isStuck(V1Pod pod, OffsetDateTime now)  {
+    return TerminatingPodQueue.getExpectedDeleteTime(pod).isBefore(now);
+  }
+
+  /**
+   * Deletes the server pods which pod watch events have shown to be terminating, and which have not been removed
+   * by the end of their grace periods. Unlike {@link #checkStuckPods(String)}, this does not list any pods.
+   */
+  void checkTerminatingPods() {
+    final TerminatingPodQueue terminatingPods = mainDelegate.getDomainProcessor().getTerminatingPods();
+    terminatingPods.pollOverdue(SystemClock.now(), TuningParameters.getInstance().getStuckPodRecheckSeconds())
+        .stream()
+        .filter(pod -> isStillTerminating(pod, terminatingPods))
+        .collect(Collectors.groupingBy(PodHelper::getPodNamespace))
+        .forEach(this::deleteStuckPods);
+  }
+
+  // A pod whose deletion event was missed would otherwise remain queued, and might be confused with its replacement.
+  private boolean isStillTerminating(V1Pod pod, TerminatingPodQueue terminatingPods) {
+    final boolean stillTerminating = Optional.ofNullable(getCachedServerPod(pod))
+        .filter(PodHelper::isDeleting)
+        .map(cached -> Objects.equals(getUid(cached), getUid(pod)))
+        .orElse(false);
+    if (!stillTerminating) {
+      terminatingPods.removePod(pod);
+    }
+    return stillTerminating;
+  }
+
+  private V1Pod getCachedServerPod(V1Pod pod) {
+    return Optional.ofNullable(mainDelegate.getDomainProcessor().getDomainPresenceInfoMap())
+        .map(domains -> domains.get(PodHelper.getPodNamespace(pod)))
+        .map(infos -> infos.get(PodHelper.getPodDomainUid(pod)))
+        .map(info -> info.getServerPod(PodHelper.getPodServerName(pod)))
+        .orElse(null);
+  }
+
+  private void deleteStuckPods(String namespace, List<V1Pod> stuckPods) {
+    final Packet packet = BaseMain.createPacketWithLoggingContext(namespace);
+    getStuckPodList(packet).addAll(stuckPods);
+    mainDelegate.runSteps(packet, new PodActionsStep(namespace), null);
+  }
+
+  private static String getUid(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getUid();
   }
 
   @SuppressWarnings("unchecked")
@@ -74,22 +141,6 @@ public class StuckPodProcessing {
       return doContinueListOrNext(callResponse, packet);
     }
 
-    private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
-      return getExpectedDeleteTime(pod).isBefore(now);
-    }
-
-    private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
-      return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
-    }
-
-    private long getDeletionGracePeriodSeconds(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
-    }
-
-    private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
-    }
-
     private void addStuckPodToPacket(Packet packet, V1Pod stuckPod) {
       getStuckPodList(packet).add(stuckPod);
     }
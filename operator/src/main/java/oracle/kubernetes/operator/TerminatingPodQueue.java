@@ -0,0 +1,107 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * The server pods which watch events have shown to be terminating, ordered by the time by which Kubernetes should
+ * have removed them. Finding the pods which are stuck therefore takes time proportional to the number of such pods,
+ * rather than to the number of pods which the operator manages.
+ */
+public class TerminatingPodQueue {
+
+  private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>(Comparator.comparing(Deadline::time));
+  private final Map<String, Deadline> deadlinesByPod = new HashMap<>();
+
+  /**
+   * Records a pod from a watch event. A pod which is terminating is added to the queue, unless it is already there.
+   * @param pod the pod
+   */
+  public synchronized void recordPod(V1Pod pod) {
+    if (PodHelper.isDeleting(pod) && !isQueued(pod)) {
+      addDeadline(new Deadline(getExpectedDeleteTime(pod), pod));
+    }
+  }
+
+  private boolean isQueued(V1Pod pod) {
+    return Optional.ofNullable(deadlinesByPod.get(getKey(pod)))
+        .map(d -> Objects.equals(getMetadata(d.pod()).getUid(), getMetadata(pod).getUid()))
+        .orElse(false);
+  }
+
+  private void addDeadline(Deadline deadline) {
+    deadlinesByPod.put(getKey(deadline.pod()), deadline);
+    deadlines.add(deadline);
+  }
+
+  /**
+   * Removes a pod from the queue, typically because it has been deleted.
+   * @param pod the pod
+   */
+  public synchronized void removePod(V1Pod pod) {
+    deadlinesByPod.remove(getKey(pod));
+  }
+
+  /**
+   * Returns the queued pods which should have been removed by the specified time. Each is re-queued to be
+   * reported again after the specified delay, unless it is removed before then.
+   * @param now the current time
+   * @param retryDelaySeconds the time after which a returned pod should be reported again
+   * @return a list of pods, in the order in which they should have been removed
+   */
+  public synchronized List<V1Pod> pollOverdue(OffsetDateTime now, long retryDelaySeconds) {
+    List<Deadline> overdue = new ArrayList<>();
+    while (!deadlines.isEmpty() && deadlines.peek().time().isBefore(now)) {
+      Deadline deadline = deadlines.poll();
+      if (deadlinesByPod.get(getKey(deadline.pod())) == deadline) {
+        overdue.add(deadline);
+      }
+    }
+
+    overdue.forEach(d -> addDeadline(new Deadline(now.plusSeconds(retryDelaySeconds), d.pod())));
+    return overdue.stream().map(Deadline::pod).toList();
+  }
+
+  synchronized int size() {
+    return deadlinesByPod.size();
+  }
+
+  private static String getKey(V1Pod pod) {
+    return getMetadata(pod).getNamespace() + "/" + getMetadata(pod).getName();
+  }
+
+  private static V1ObjectMeta getMetadata(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata()).orElse(new V1ObjectMeta());
+  }
+
+  static OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
+    return getDeletionTimeStamp(pod).plusSeconds(getDeletionGracePeriodSeconds(pod));
+  }
+
+  private static long getDeletionGracePeriodSeconds(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+  }
+
+  private static OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp)
+        .orElse(SystemClock.now());
+  }
+
+  private record Deadline(OffsetDateTime time, V1Pod pod) {
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -10,6 +10,12 @@ public interface WatchTuning {
 
   int getWatchLifetime();
 
+  /**
+   * Returns the largest amount by which the lifetime of a watch may be randomly extended, as a percentage of
+   * {@link #getWatchLifetime()}.
+   */
+  int getWatchLifetimeJitterPercent();
+
   int getWatchMinimumDelay();
 
   int getWatchBackstopRecheckDelay();
@@ -0,0 +1,194 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+import oracle.kubernetes.operator.tuning.CallBuilderTuning;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * A client-side limiter for calls to the Kubernetes API server, which spreads out bursts of work, such as the
+ * make-rights which follow an operator restart, so that they do not trip the server's flow control. Calls take
+ * tokens from a bucket which is refilled at a sustained rate, up to a configurable burst. A call which cannot take
+ * a token is told how long to wait before trying again; nothing is reserved for it in the meantime, so calls which
+ * are still waiting never delay other calls.
+ *
+ * <p>Calls for resources in a namespace must first take a token from a smaller bucket for that namespace, so that
+ * one busy namespace cannot starve the others: its waiting calls take nothing from the overall bucket.
+ *
+ * <p>Calls are assigned to priority lanes. A call may take a token from the overall bucket only if enough tokens
+ * remain for the lanes above it, and a waiting call is asked to retry only after the calls waiting ahead of it in
+ * its own and higher lanes, so that high priority calls, such as pod changes and watches, go ahead of low priority
+ * calls, such as events and status updates, however many of those are waiting. Once the API server has asked the
+ * operator to retry after a delay, no call is permitted until that delay has passed.
+ */
+public class ApiRateLimiter {
+
+  /** The priority lanes for calls, from lowest to highest. */
+  public enum Priority {
+    LOW(50),
+    NORMAL(25),
+    HIGH(10),
+    WATCH(0);
+
+    private final int reservedBurstPercent;
+
+    Priority(int reservedBurstPercent) {
+      this.reservedBurstPercent = reservedBurstPercent;
+    }
+
+    // The number of tokens which calls in this lane must leave in the overall bucket for higher lanes.
+    private double getReservedTokens(int burst) {
+      return Math.min(burst - 1, burst * reservedBurstPercent / 100.0);
+    }
+  }
+
+  // Leave as non-final; unit tests may replace this value
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static ApiRateLimiter instance = new ApiRateLimiter();
+
+  private final TokenBucket overall = new TokenBucket();
+  private final Map<String, TokenBucket> namespaces = new HashMap<>();
+  private final Map<Priority, Queue<Long>> retryTimes = new EnumMap<>(Priority.class);
+  private long pausedUntil;
+
+  public static ApiRateLimiter getInstance() {
+    return instance;
+  }
+
+  /**
+   * Tries to obtain permission for a call to the API server. If the call may not be made now, the caller should
+   * wait for the returned time and then try again.
+   * @param priority the priority lane of the call
+   * @param namespace the namespace of the resource to which the call applies, or null if it is cluster-scoped
+   * @return zero if the call may be made at once; otherwise the time in milliseconds to wait before trying again
+   */
+  public synchronized long tryAcquire(Priority priority, String namespace) {
+    CallBuilderTuning tuning = getTuning();
+    if (tuning == null || tuning.getApiRequestsPerSecond() <= 0) {
+      return 0;
+    }
+
+    final long now = currentTimeMillis();
+    if (now < pausedUntil) {
+      return pausedUntil - now;
+    }
+
+    final double tokensPerMilli = tuning.getApiRequestsPerSecond() / 1000.0;
+    final int burst = Math.max(1, tuning.getApiRequestBurst());
+    overall.refill(now, tokensPerMilli, burst);
+
+    final TokenBucket namespaceBucket = getNamespaceBucket(priority, namespace);
+    if (namespaceBucket != null) {
+      final double share = Math.clamp(tuning.getApiNamespaceSharePercent(), 1, 100) / 100.0;
+      namespaceBucket.refill(now, tokensPerMilli * share, Math.max(1, burst * share));
+      if (namespaceBucket.tokens < 1) {
+        return namespaceBucket.getRetryDelay(now, tokensPerMilli * share);
+      }
+    }
+
+    final double tokensNeeded = 1 + priority.getReservedTokens(burst);
+    if (overall.tokens < tokensNeeded) {
+      final double tokensAwaited = tokensNeeded + countWaitingAhead(priority, now) - overall.tokens;
+      final long delay = (long) Math.ceil(tokensAwaited / tokensPerMilli);
+      getRetryTimes(priority, now).add(now + delay);
+      return delay;
+    }
+
+    overall.tokens--;
+    Optional.ofNullable(namespaceBucket).ifPresent(b -> b.tokens--);
+    return 0;
+  }
+
+  // Calls for cluster-scoped resources, and watches, are limited only by the overall bucket.
+  private TokenBucket getNamespaceBucket(Priority priority, String namespace) {
+    if (namespace == null || priority == Priority.WATCH) {
+      return null;
+    }
+    return namespaces.computeIfAbsent(namespace, n -> new TokenBucket());
+  }
+
+  // Counts the calls in the specified lane, and the lanes above it, which are waiting for the overall bucket.
+  // A call which must wait is asked to retry after those calls, so that waiting calls do not all retry at once.
+  private int countWaitingAhead(Priority priority, long now) {
+    return Arrays.stream(Priority.values())
+        .filter(p -> p.compareTo(priority) >= 0)
+        .mapToInt(p -> getRetryTimes(p, now).size())
+        .sum();
+  }
+
+  /**
+   * Discards the allowance for the specified namespace, once the operator stops managing it.
+   * @param namespace the namespace
+   */
+  public synchronized void removeNamespace(String namespace) {
+    namespaces.remove(namespace);
+  }
+
+  /**
+   * Prevents any call from being made until the specified delay has passed, as requested by the API server.
+   * @param delayMillis the time to wait, in milliseconds
+   */
+  public synchronized void pauseFor(long delayMillis) {
+    pausedUntil = Math.max(pausedUntil, currentTimeMillis() + delayMillis);
+  }
+
+  /**
+   * Returns the number of calls in the specified lane which are waiting to try again for a token from the
+   * overall bucket.
+   * @param priority the priority lane
+   */
+  public synchronized int getNumWaitingCalls(Priority priority) {
+    return getRetryTimes(priority, currentTimeMillis()).size();
+  }
+
+  // Returns the retry times of calls in the specified lane, after discarding those which have passed.
+  private Queue<Long> getRetryTimes(Priority priority, long now) {
+    Queue<Long> times = retryTimes.computeIfAbsent(priority, p -> new PriorityQueue<>());
+    discardPassedTimes(times, now);
+    return times;
+  }
+
+  private static void discardPassedTimes(Queue<Long> times, long now) {
+    while (!times.isEmpty() && times.peek() <= now) {
+      times.remove();
+    }
+  }
+
+  private static CallBuilderTuning getTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getCallBuilderTuning).orElse(null);
+  }
+
+  private static long currentTimeMillis() {
+    return SystemClock.now().toInstant().toEpochMilli();
+  }
+
+  // A bucket of tokens, refilled at a sustained rate up to its capacity. A new bucket is full.
+  private static class TokenBucket {
+    private double tokens = Double.MAX_VALUE;
+    private long lastRefill;
+    private final Queue<Long> retryTimes = new PriorityQueue<>();
+
+    void refill(long now, double tokensPerMilli, double capacity) {
+      tokens = Math.min(capacity, tokens + Math.max(0, now - lastRefill) * tokensPerMilli);
+      lastRefill = now;
+    }
+
+    // Returns the time until a token will be available for a call, after those which are already waiting for one.
+    long getRetryDelay(long now, double tokensPerMilli) {
+      discardPassedTimes(retryTimes, now);
+      final long delay = (long) Math.ceil((1 + retryTimes.size() - tokens) / tokensPerMilli);
+      retryTimes.add(now + delay);
+      return delay;
+    }
+  }
+}
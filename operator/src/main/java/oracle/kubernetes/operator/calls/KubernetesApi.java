@@ -1,4 +1,4 @@
-// Copyright (c) 2024, Oracle and/or its affiliates.
+// Copyright (c) 2024, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.calls;
@@ -169,6 +169,16 @@ public interface KubernetesApi<A extends KubernetesObject, L extends KubernetesL
   KubernetesApiResponse<A> updateStatus(
       A object, Function<A, Object> status, final UpdateOptions updateOptions);
 
+  /**
+   * Patch the status subresource of a namespaced resource with a JSON patch.
+   *
+   * @param namespace the namespace
+   * @param name the name
+   * @param patch the JSON patch
+   * @return the Kubernetes API response
+   */
+  KubernetesApiResponse<A> patchStatus(String namespace, String name, V1Patch patch);
+
   /**
    * Patch Kubernetes API response.
    *
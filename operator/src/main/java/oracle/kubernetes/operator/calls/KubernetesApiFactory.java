@@ -81,6 +81,22 @@ public interface KubernetesApiFactory {
       }
     }
 
+    @Override
+    public KubernetesApiResponse<A> patchStatus(String namespace, String name, V1Patch patch) {
+      CustomObjectsApi c = new CustomObjectsApi(Client.getInstance());
+      try {
+        return new KubernetesApiResponse<>(PatchUtils.patch(
+            apiTypeClass,
+            () ->
+                c.patchNamespacedCustomObjectStatusCall(
+                    apiGroup, apiVersion, namespace, resourcePlural, name, patch, null, null, null, null, null),
+            V1Patch.PATCH_FORMAT_JSON_PATCH,
+            c.getApiClient()));
+      } catch (ApiException e) {
+        return RequestStep.responseFromApiException(c.getApiClient(), e);
+      }
+    }
+
     @Override
     public KubernetesApiResponse<RequestBuilder.V1StatusObject> deleteCollection(
         String namespace, ListOptions listOptions, DeleteOptions deleteOptions) {
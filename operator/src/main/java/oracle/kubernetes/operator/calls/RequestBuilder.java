@@ -980,6 +980,21 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
     return response.get();
   }
 
+  /**
+   * Patch status with a JSON patch.
+   * @param namespace Namespace
+   * @param name Name
+   * @param patch JSON patch of the status subresource
+   * @param responseStep Response step
+   * @return Request step
+   */
+  public RequestStep<A, L, A> patchStatus(
+      String namespace, String name, V1Patch patch, ResponseStep<A> responseStep) {
+    return new RequestStep.PatchStatusRequestStep<>(
+        responseStep, apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, resourceSingular,
+        namespace, name, patch, CLIENT_SELECTOR);
+  }
+
   /**
    * Update status.
    * @param object Resource object
@@ -5,6 +5,8 @@ package oracle.kubernetes.operator.calls;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -30,6 +32,7 @@ import io.kubernetes.client.util.generic.options.GetOptions;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import io.kubernetes.client.util.generic.options.PatchOptions;
 import io.kubernetes.client.util.generic.options.UpdateOptions;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
@@ -43,6 +46,10 @@ public abstract class RequestStep<
   public static final String CONTINUE = "continue";
   public static final int FIBER_TIMEOUT = 0;
 
+  private static final String EVENTS = "events";
+  private static final String PODS = "pods";
+  private static final Set<String> MODIFYING_OPERATIONS = Set.of("create", "update", "patch", "delete");
+
   private final Class<A> apiTypeClass;
   private final Class<L> apiListTypeClass;
   private final String apiGroup;
@@ -107,10 +114,20 @@ public abstract class RequestStep<
 
   @Override
   public @Nonnull Result apply(Packet packet) {
+    long delay = ApiRateLimiter.getInstance().tryAcquire(getPriority(), getNamespace());
+    if (delay > 0) {
+      return doDelay(this, packet, delay, TimeUnit.MILLISECONDS);
+    }
+    return callApi(packet);
+  }
+
+  private Result callApi(Packet packet) {
     KubernetesApi<A, L> client
             = RequestBuilder.createKubernetesApi(apiTypeClass, apiListTypeClass, apiGroup, apiVersion,
             resourcePlural, clientSelector);
+    final long startNanos = System.nanoTime();
     KubernetesApiResponse<R> result = execute(client, packet);
+    OperatorMetrics.recordApiRequest(resourcePlural, operationName, startNanos);
 
     // update packet
     packet.put(RESPONSE_COMPONENT_NAME, result);
@@ -118,6 +135,24 @@ public abstract class RequestStep<
     return doNext(packet);
   }
 
+  /**
+   * Returns the lane in which the rate limiter places this call. Events are low priority, and changes to pods are
+   * high priority.
+   */
+  ApiRateLimiter.Priority getPriority() {
+    if (EVENTS.equals(resourcePlural)) {
+      return ApiRateLimiter.Priority.LOW;
+    } else if (PODS.equals(resourcePlural) && MODIFYING_OPERATIONS.contains(operationName)) {
+      return ApiRateLimiter.Priority.HIGH;
+    } else {
+      return ApiRateLimiter.Priority.NORMAL;
+    }
+  }
+
+  String getResourcePlural() {
+    return resourcePlural;
+  }
+
   String getResourceSingular() {
     return resourceSingular;
   }
@@ -224,6 +259,10 @@ public abstract class RequestStep<
       return name;
     }
 
+    String getNamespace() {
+      return namespace;
+    }
+
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.get(namespace, name, getOptions);
     }
@@ -632,6 +671,66 @@ public abstract class RequestStep<
     }
   }
 
+  public static class PatchStatusRequestStep<A extends KubernetesObject, L extends KubernetesListObject>
+      extends RequestStep<A, L, A> {
+    private final String namespace;
+    private final String name;
+    private final V1Patch patch;
+
+    /**
+     * Construct patch status request step.
+     *
+     * @param next Response step
+     * @param apiTypeClass API type class
+     * @param apiListTypeClass API list type class
+     * @param apiGroup API group
+     * @param apiVersion API version
+     * @param resourcePlural Resource plural
+     * @param resourceSingular Resource singular
+     * @param namespace Namespace
+     * @param name Name
+     * @param patch JSON patch
+     * @param clientSelector Client selector
+     */
+    public PatchStatusRequestStep(
+        ResponseStep<A> next,
+        Class<A> apiTypeClass,
+        Class<L> apiListTypeClass,
+        String apiGroup,
+        String apiVersion,
+        String resourcePlural,
+        String resourceSingular,
+        String namespace,
+        String name,
+        V1Patch patch,
+        UnaryOperator<ApiClient> clientSelector) {
+      super(next, apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural,
+              resourceSingular, "patchStatus", clientSelector);
+      this.namespace = namespace;
+      this.name = name;
+      this.patch = patch;
+    }
+
+    @Override
+    String getName() {
+      return name;
+    }
+
+    @Override
+    String getNamespace() {
+      return namespace;
+    }
+
+    @Override
+    ApiRateLimiter.Priority getPriority() {
+      return ApiRateLimiter.Priority.LOW;
+    }
+
+    KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
+      return client.patchStatus(namespace, name, patch);
+    }
+  }
+
   public static class UpdateStatusRequestStep<A extends KubernetesObject, L extends KubernetesListObject>
       extends RequestStep<A, L, A> {
     private final A object;
@@ -684,6 +783,11 @@ public abstract class RequestStep<
               .map(KubernetesObject::getMetadata).map(V1ObjectMeta::getNamespace).orElse(super.getNamespace());
     }
 
+    @Override
+    ApiRateLimiter.Priority getPriority() {
+      return ApiRateLimiter.Priority.LOW;
+    }
+
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.updateStatus(object, status, updateOptions);
     }
@@ -13,9 +13,11 @@ import io.kubernetes.client.common.KubernetesType;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.openapi.models.V1StatusDetails;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.tuning.TuningParameters;
@@ -251,12 +253,18 @@ public abstract class ResponseStep<T extends KubernetesType> extends Step {
     if (retryStrategy != null) {
       Result result = retryStrategy.doPotentialRetry(conflict, packet, callResponse);
       if (result != null) {
+        recordRetry();
         return result;
       }
     }
     return onFailureNoRetry(packet, callResponse);
   }
 
+  private void recordRetry() {
+    Optional.ofNullable(previousStep)
+        .ifPresent(s -> OperatorMetrics.recordApiRetry(s.getResourcePlural(), s.getOperationName()));
+  }
+
   private RetryStrategy getOrCreateRetryStrategy(Packet packet) {
     return (RetryStrategy) packet.computeIfAbsent(
             RETRY, s -> create(retryStrategyFactory,
@@ -325,7 +333,7 @@ public abstract class ResponseStep<T extends KubernetesType> extends Step {
       int statusCode = Optional.ofNullable(callResponse)
           .map(KubernetesApiResponse::getHttpStatusCode).orElse(FIBER_TIMEOUT);
       if (mayRetryOnStatusValue(statusCode)) {
-        return retriesLeft() ? backOffAndRetry(packet, retryStep) : null;
+        return retriesLeft() ? backOffAndRetry(packet, retryStep, getRetryAfterMillis(callResponse)) : null;
       } else if (isRestartableConflict(conflictStep, statusCode)) {
         return backOffAndRetry(packet, conflictStep);
       }
@@ -349,11 +357,31 @@ public abstract class ResponseStep<T extends KubernetesType> extends Step {
 
     @Nonnull
     private Result backOffAndRetry(Packet packet, Step nextStep) {
-      final long waitTime = getNextWaitTime();
+      return backOffAndRetry(packet, nextStep, 0);
+    }
+
+    // Waits at least as long as the API server asked, and holds back all other calls for that time as well.
+    @Nonnull
+    private Result backOffAndRetry(Packet packet, Step nextStep, long retryAfterMillis) {
+      if (retryAfterMillis > 0) {
+        ApiRateLimiter.getInstance().pauseFor(retryAfterMillis);
+      }
+      final long waitTime = Math.max(getNextWaitTime(), retryAfterMillis);
 
       return doDelay(nextStep, packet, waitTime, TimeUnit.MILLISECONDS);
     }
 
+    // The delay requested by the API server when it rejects a call because of load, if any.
+    private long getRetryAfterMillis(KubernetesApiResponse<?> callResponse) {
+      return Optional.ofNullable(callResponse)
+          .filter(r -> r.getHttpStatusCode() == HTTP_TOO_MANY_REQUESTS || r.getHttpStatusCode() == HTTP_UNAVAILABLE)
+          .map(KubernetesApiResponse::getStatus)
+          .map(V1Status::getDetails)
+          .map(V1StatusDetails::getRetryAfterSeconds)
+          .map(TimeUnit.SECONDS::toMillis)
+          .orElse(0L);
+    }
+
     // Compute wait time, increasing exponentially
     private int getNextWaitTime() {
       return Math.min((2 << ++retryCount) * SCALE, MAX) + (R.nextInt(HIGH - LOW) + LOW);
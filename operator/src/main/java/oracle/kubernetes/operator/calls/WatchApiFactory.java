@@ -1,4 +1,4 @@
-// Copyright (c) 2024, Oracle and/or its affiliates.
+// Copyright (c) 2024, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.calls;
@@ -7,6 +7,7 @@ import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.util.generic.GenericKubernetesApi;
+import okhttp3.OkHttpClient;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -25,7 +26,11 @@ public interface WatchApiFactory {
     }
 
     private static ApiClient getWatchClient(ApiClient client) {
-      return client.setHttpClient(client.getHttpClient().newBuilder().readTimeout(0, SECONDS).build());
+      final OkHttpClient.Builder builder = client.getHttpClient().newBuilder().readTimeout(0, SECONDS);
+      if (builder.interceptors().stream().noneMatch(WatchBookmarkInterceptor.class::isInstance)) {
+        builder.addInterceptor(new WatchBookmarkInterceptor());
+      }
+      return client.setHttpClient(builder.build());
     }
   }
 
@@ -0,0 +1,48 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import javax.annotation.Nonnull;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Asks the API server to send bookmark events on watches, so that a restarted watch can resume from a recent
+ * resource version rather than replaying the state of every object. The generic API does not expose the
+ * allowWatchBookmarks option, so it is added to the query of each watch request.
+ */
+public class WatchBookmarkInterceptor implements Interceptor {
+
+  static final String WATCH_PARAMETER = "watch";
+  static final String ALLOW_WATCH_BOOKMARKS_PARAMETER = "allowWatchBookmarks";
+
+  /**
+   * Adds the request for bookmarks to a watch request.
+   *
+   * @param chain Chain
+   * @return Response response
+   */
+  @Nonnull
+  public Response intercept(Chain chain) throws IOException {
+    final Request request = chain.request();
+    if (!isWatchWithoutBookmarks(request.url())) {
+      return chain.proceed(request);
+    } else {
+      return chain.proceed(request.newBuilder().url(withBookmarks(request.url())).build());
+    }
+  }
+
+  private boolean isWatchWithoutBookmarks(HttpUrl url) {
+    return "true".equals(url.queryParameter(WATCH_PARAMETER))
+        && url.queryParameter(ALLOW_WATCH_BOOKMARKS_PARAMETER) == null;
+  }
+
+  private HttpUrl withBookmarks(HttpUrl url) {
+    return url.newBuilder().addQueryParameter(ALLOW_WATCH_BOOKMARKS_PARAMETER, "true").build();
+  }
+}
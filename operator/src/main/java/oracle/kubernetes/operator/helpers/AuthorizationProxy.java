@@ -1,23 +1,30 @@
-// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ResourceAttributes;
 import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReview;
 import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReviewSpec;
+import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewSpec;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
 
 /** Delegate authorization decisions to Kubernetes ABAC and/or RBAC. */
 public class AuthorizationProxy {
@@ -87,6 +94,52 @@ public class AuthorizationProxy {
     return result;
   }
 
+  /**
+   * Creates a step to check if the operator itself is allowed to perform the specified operation on the specified
+   * resource in the specified scope. The result is passed to the specified consumer; a failed check is reported
+   * as not allowed.
+   *
+   * @param operation The operation to be authorized.
+   * @param resource The kind of resource on which the operation is to be authorized.
+   * @param scope The scope of the operation (cluster or namespace).
+   * @param namespaceName name of the namespace if scope is namespace else null.
+   * @param resultConsumer the consumer to receive true if the operation is allowed, or false if not.
+   * @param next the step to run after the check
+   * @return a step which performs the check
+   */
+  public Step createCheckStep(Operation operation, Resource resource, Scope scope, String namespaceName,
+                              Consumer<Boolean> resultConsumer, Step next) {
+    return RequestBuilder.SAR.create(
+        prepareSubjectAccessReview(null, null, operation, resource, null, scope, namespaceName),
+        new CheckResponseStep(resultConsumer, next));
+  }
+
+  private static class CheckResponseStep extends ResponseStep<V1SubjectAccessReview> {
+    private final Consumer<Boolean> resultConsumer;
+
+    CheckResponseStep(Consumer<Boolean> resultConsumer, Step next) {
+      super(next);
+      this.resultConsumer = resultConsumer;
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1SubjectAccessReview> callResponse) {
+      resultConsumer.accept(Optional.ofNullable(callResponse.getObject())
+          .map(V1SubjectAccessReview::getStatus)
+          .map(V1SubjectAccessReviewStatus::getAllowed)
+          .orElse(false));
+      return doNext(packet);
+    }
+
+    @Override
+    public Result onFailure(Packet packet, KubernetesApiResponse<V1SubjectAccessReview> callResponse) {
+      LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_SUBJECT_ACCESS_REVIEW,
+          Optional.ofNullable(callResponse.getStatus()).map(V1Status::getMessage).orElse(null));
+      resultConsumer.accept(false);
+      return doNext(packet);
+    }
+  }
+
   /**
    * Prepares an instance of SubjectAccessReview and returns same.
    *
@@ -212,6 +265,8 @@ public class AuthorizationProxy {
     CRDS("customresourcedefinitions", "apiextensions.k8s.io"),
     DOMAINS("domains", "weblogic.oracle"),
     DOMAINSTATUSES("domains", "status", "weblogic.oracle"),
+    CLUSTERS("clusters", "weblogic.oracle"),
+    PODDISRUPTIONBUDGETS("poddisruptionbudgets", "policy"),
     SELFSUBJECTRULESREVIEWS("selfsubjectrulesreviews", "authorization.k8s.io"),
     TOKENREVIEWS("tokenreviews", "authentication.k8s.io"),
     SECRETS("secrets", "");
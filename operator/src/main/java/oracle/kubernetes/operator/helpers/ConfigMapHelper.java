@@ -1,11 +1,8 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -60,6 +57,7 @@ import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SECRETS_
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SIT_CONFIG_FILE_PREFIX;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_DOMAIN_SPEC_GENERATION;
+import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_INPUTS_FINGERPRINT;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_TIME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_VALIDATION_ERRORS;
@@ -77,7 +75,7 @@ public class ConfigMapHelper {
   private static final String NON_DYNAMIC_CHANGES_FILE = "non_dynamic_changes.file";
 
   private static final String SCRIPT_LOCATION = "/scripts";
-  private static final String UPDATEDOMAINRESULT = "UPDATEDOMAINRESULT";
+  static final String UPDATEDOMAINRESULT = "UPDATEDOMAINRESULT";
   private static final ConfigMapComparator COMPARATOR = new ConfigMapComparator();
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
@@ -95,57 +93,6 @@ public class ConfigMapHelper {
     return new ScriptConfigMapStep(domainNamespace, productVersion);
   }
 
-  static Map<String, String> parseIntrospectorResult(String text, String domainUid) {
-    Map<String, String> map = new HashMap<>();
-    String updateResultToken = ">>>  updatedomainResult=";
-
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.contains(updateResultToken)) {
-          int index = line.indexOf(updateResultToken);
-          int beg = index + 1 + updateResultToken.length();
-          map.put(UPDATEDOMAINRESULT, line.substring(beg - 1));
-        }
-        if (line.startsWith(">>>") && !line.endsWith("EOF")) {
-          String filename = extractFilename(line);
-          readFile(reader, filename, map, domainUid);
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException exc) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, exc);
-    }
-
-    return map;
-  }
-
-  static void readFile(
-      BufferedReader reader, String fileName, Map<String, String> map, String domainUid) {
-    StringBuilder stringBuilder = new StringBuilder();
-    try {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString().trim());
-          return;
-        } else {
-          // add line to StringBuilder
-          stringBuilder.append(line);
-          stringBuilder.append(System.getProperty("line.separator"));
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException ioe) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_FILE, fileName, domainUid, ioe);
-    }
-  }
-
-  static String extractFilename(String line) {
-    int lastSlash = line.lastIndexOf('/');
-    return line.substring(lastSlash + 1);
-  }
-
   /**
    * getModelInImageSpecHash returns the hash for the fields that should be compared for changes.
    *
@@ -347,6 +294,8 @@ public class ConfigMapHelper {
             .ifPresent(value -> addLabel(INTROSPECTION_DOMAIN_SPEC_GENERATION, value.toString()));
         Optional.ofNullable((String) packet.get(INTROSPECTION_TIME))
                 .ifPresent(value -> addAnnotation(INTROSPECTION_TIME, value));
+        Optional.ofNullable(packet.<String>getValue(INTROSPECTION_INPUTS_FINGERPRINT))
+                .ifPresent(value -> addAnnotation(INTROSPECTION_INPUTS_FINGERPRINT, value));
         V1ConfigMap existingMap = withoutTransientData(callResponse.getObject());
         if (existingMap == null) {
           return doNext(createConfigMap(getNext()), packet);
@@ -392,7 +341,8 @@ public class ConfigMapHelper {
       }
 
       private boolean mustPatchCurrentMap(V1ConfigMap currentMap) {
-        return KubernetesUtils.isMissingValues(getMapLabels(currentMap), getLabels());
+        return KubernetesUtils.isMissingValues(getMapLabels(currentMap), getLabels())
+            || KubernetesUtils.isMissingValues(getMapAnnotations(currentMap), getAnnotations());
       }
 
       private boolean mustPatchImageHashInMap(V1ConfigMap currentMap, Packet packet) {
@@ -404,6 +354,11 @@ public class ConfigMapHelper {
         return Optional.ofNullable(map.getMetadata()).map(V1ObjectMeta::getLabels).orElseGet(Collections::emptyMap);
       }
 
+      private Map<String, String> getMapAnnotations(@NotNull V1ConfigMap map) {
+        return Optional.ofNullable(map.getMetadata()).map(V1ObjectMeta::getAnnotations)
+            .orElseGet(Collections::emptyMap);
+      }
+
       private ResponseStep<V1ConfigMap> createPatchResponseStep(Step next) {
         return new PatchResponseStep(next);
       }
@@ -417,6 +372,11 @@ public class ConfigMapHelper {
         
         KubernetesUtils.addPatches(
             patchBuilder, "/metadata/labels/", getMapLabels(currentMap), getLabels());
+        if (annotationsNotDefined(currentMap) && !getAnnotations().isEmpty()) {
+          patchBuilder.add("/metadata/annotations", JsonValue.EMPTY_JSON_OBJECT);
+        }
+        KubernetesUtils.addPatches(
+            patchBuilder, "/metadata/annotations/", getMapAnnotations(currentMap), getAnnotations());
 
         return RequestBuilder.CM.patch(
             namespace, name, V1Patch.PATCH_FORMAT_JSON_PATCH,
@@ -436,6 +396,10 @@ public class ConfigMapHelper {
       private boolean labelsNotDefined(V1ConfigMap currentMap) {
         return Objects.requireNonNull(currentMap.getMetadata()).getLabels() == null;
       }
+
+      private boolean annotationsNotDefined(V1ConfigMap currentMap) {
+        return Objects.requireNonNull(currentMap.getMetadata()).getAnnotations() == null;
+      }
     }
 
     private class CreateResponseStep extends ResponseStep<V1ConfigMap> {
@@ -547,8 +511,8 @@ public class ConfigMapHelper {
     }
 
     private void parseIntrospectorResult() {
-      String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
-      data = ConfigMapHelper.parseIntrospectorResult(result, info.getDomainUid());
+      data = packet.getValue(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
+      packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
       Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
               .map(t -> data.put(IntrospectorConfigMapConstants.TOPOLOGY_JSON, convertToJson(t)));
 
@@ -559,6 +523,7 @@ public class ConfigMapHelper {
       wlsDomainConfig = Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
             .map(this::getDomainTopology)
             .map(DomainTopology::getDomain)
+            .map(WlsDomainConfig::indexed)
             .orElse(null);
 
       String updateDomainResult = data.get(UPDATEDOMAINRESULT);
@@ -790,7 +755,7 @@ public class ConfigMapHelper {
         Collection<Fiber.StepAndPacket> startDetails = new ArrayList<>();
         for (String configMapName : configMapNames) {
           startDetails.add(new Fiber.StepAndPacket(
-                new DeleteIntrospectorConfigMapStep(domainUid, namespace, configMapName), packet));
+                new DeleteIntrospectorConfigMapStep(domainUid, namespace, configMapName), packet.copy()));
         }
         return doForkJoin(getNext(), packet, startDetails);
       }
@@ -946,6 +911,10 @@ public class ConfigMapHelper {
 
       Optional.ofNullable(annotations).map(l -> l.get(INTROSPECTION_TIME))
               .ifPresent(value -> packet.put(INTROSPECTION_TIME, value));
+      Optional.ofNullable(annotations).map(l -> l.get(INTROSPECTION_INPUTS_FINGERPRINT))
+              .ifPresentOrElse(
+                      fingerprint -> packet.put(INTROSPECTION_INPUTS_FINGERPRINT, fingerprint),
+                      () -> packet.remove(INTROSPECTION_INPUTS_FINGERPRINT));
     }
 
     private String getTopologyYaml(Map<String, String> data) {
@@ -953,12 +922,13 @@ public class ConfigMapHelper {
     }
 
     private void recordTopology(Packet packet, DomainPresenceInfo info, DomainTopology domainTopology) {
+      final WlsDomainConfig domainConfig = domainTopology.getDomain().indexed();
       ScanCache.INSTANCE.registerScan(
           info.getNamespace(),
           info.getDomainUid(),
-          new Scan(domainTopology.getDomain(), SystemClock.now()));
+          new Scan(domainConfig, SystemClock.now()));
 
-      packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, domainTopology.getDomain());
+      packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, domainConfig);
     }
 
     private void copyMapEntryToPacket(V1ConfigMap result, Packet packet, String mapKey) {
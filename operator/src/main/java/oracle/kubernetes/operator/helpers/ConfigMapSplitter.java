@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -18,14 +18,17 @@ import javax.annotation.Nonnull;
  */
 public class ConfigMapSplitter<T extends SplitterTarget> {
 
-  // The limit for a Kubernetes Config Map is 1MB, including all components of the map. We use a data limit a bit
-  // below that to ensure that the map structures, including the keys, metadata and the results of JSON encoding, don't
-  // accidentally put us over the limit.
+  // The limit for a Kubernetes Config Map is 1MB, including all components of the map. The size of each entry is
+  // measured as the number of bytes it occupies in the JSON encoding of the map's data, which is never less than
+  // the size Kubernetes checks against its limit. We keep a data limit well below 1MB, as the metadata, including
+  // labels and annotations such as the fingerprint of the introspection inputs, also counts against the limit.
 
   // not private or local so that unit tests can set it.
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal", "FieldCanBeLocal"})
   private static int dataLimit = 900_000;
 
+  private static final byte[] ASCII_ENCODED_SIZES = createAsciiEncodedSizes();
+
   private final BiFunction<Map<String, String>, Integer, T> factory;
 
   private final List<T> result = new ArrayList<>();
@@ -76,9 +79,9 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
    * @param entry a data entry
    */
   private void addToSplitResult(DataEntry entry) {
-    while (entry.getRemainingLength() > 0) {
+    while (entry.hasRemainingData()) {
       remainingRoom -= entry.addToMap(current, remainingRoom);
-      if (remainingRoom == 0) {
+      if (entry.hasRemainingData()) {
         recordSplitResult();
         startSplitResult();
       }
@@ -93,31 +96,87 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
     target.recordNumTargets(size);
   }
 
+  /**
+   * Returns the number of bytes that the specified character occupies in a JSON string, as encoded by the
+   * Kubernetes client. A surrogate pair is counted as two characters of two bytes each.
+   * @param c a character
+   */
+  static int getEncodedSize(char c) {
+    if (c < ASCII_ENCODED_SIZES.length) {
+      return ASCII_ENCODED_SIZES[c];
+    } else if (c < 0x800 || Character.isSurrogate(c)) {
+      return 2;
+    } else if (c == '\u2028' || c == '\u2029') {
+      return 6;
+    } else {
+      return 3;
+    }
+  }
+
+  private static byte[] createAsciiEncodedSizes() {
+    final byte[] sizes = new byte[0x80];
+    for (char c = 0; c < sizes.length; c++) {
+      sizes[c] = (byte) switch (c) {
+        case '"', '\\', '\t', '\b', '\n', '\r', '\f' -> 2;
+        case '<', '>', '&', '=', '\'' -> 6;
+        default -> c < 0x20 ? 6 : 1;
+      };
+    }
+    return sizes;
+  }
+
   static class DataEntry implements Comparable<DataEntry> {
+    // the quotes around the key and value, the colon between them and the comma which separates entries
+    private static final int ENTRY_OVERHEAD = 6;
+
     private final String key;
-    private String value;
+    private final String value;
+    private final int keySize;
+    private int start;
 
     public DataEntry(Map.Entry<String, String> mapEntry) {
       key = mapEntry.getKey();
       value = mapEntry.getValue();
+      keySize = ENTRY_OVERHEAD + key.chars().map(c -> getEncodedSize((char) c)).sum();
     }
 
     /**
-     * Adds to the specified map, as much of this entry as will fit, removing it from the string
-     * still to be added. Returns the number of characters added.
+     * Adds to the specified map as much of this entry as will fit, advancing past the part added. The value is
+     * copied only once, whether or not it is split, and a surrogate pair is never divided. Returns the number of
+     * bytes added, including the key.
      * @param map the map to update
-     * @param limit the maximum number of characters to add
+     * @param limit the maximum number of bytes to add
      */
     int addToMap(Map<String, String> map, int limit) {
-      final int numCharsAdded = Math.min(limit, value.length());
-      map.put(key, value.substring(0, numCharsAdded));
-      value = value.substring(numCharsAdded);
+      final int length = value.length();
+      final int room = limit - keySize;
+      int end = start;
+      int size = 0;
+      while (end < length) {
+        final char c = value.charAt(end);
+        final int charCount = Character.isHighSurrogate(c) && end + 1 < length ? 2 : 1;
+        final int charSize = charCount * getEncodedSize(c);
+        if (size + charSize > room) {
+          break;
+        }
+        size += charSize;
+        end += charCount;
+      }
+
+      if (end == start) {
+        return 0;
+      }
+      map.put(key, start == 0 && end == length ? value : value.substring(start, end));
+      start = end;
+      return keySize + size;
+    }
 
-      return numCharsAdded;
+    private boolean hasRemainingData() {
+      return start < value.length();
     }
 
     private int getRemainingLength() {
-      return value.length();
+      return value.length() - start;
     }
 
     @Override
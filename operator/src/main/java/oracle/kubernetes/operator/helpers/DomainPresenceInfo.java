@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -86,6 +86,8 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   private final List<String> validationWarnings = Collections.synchronizedList(new ArrayList<>());
   private final List<String> serverNamesFromPodList = Collections.synchronizedList(new ArrayList<>());
   private Map<String, Fiber.StepAndPacket> serversToRoll = Collections.emptyMap();
+  private OffsetDateTime statusWriteStartTime;
+  private Fiber.StepAndPacket deferredStatusUpdate;
 
   /**
    * Create presence for a domain.
@@ -310,7 +312,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   }
 
   public void setServerService(String serverName, V1Service service) {
-    getSko(serverName).getService().set(service);
+    getSko(serverName).getService().set(PodProjection.toRecorded(service));
   }
 
   private ServerKubernetesObjects getSko(String serverName) {
@@ -344,7 +346,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @param pod the pod
    */
   public void setServerPod(String serverName, V1Pod pod) {
-    getSko(serverName).getPod().set(pod);
+    getSko(serverName).getPod().set(PodProjection.toRecorded(pod));
   }
 
   /**
@@ -423,6 +425,33 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     getSko(serverName).getHttpRequestFailureCount().getAndIncrement();
   }
 
+  /**
+   * Returns the result of an earlier check whether the hash of a server pod could be matched by adjusting
+   * the recipe to the conventions of an earlier operator version.
+   *
+   * @param serverName the name of the server
+   * @param checkKey identifies the version of the pod and the recipe to compare
+   * @return the result of the check, or null if the check has not been made for this key
+   */
+  Boolean getLegacyPodHashMatch(String serverName, String checkKey) {
+    return Optional.ofNullable(getSko(serverName).getLegacyPodHashCheck().get())
+        .filter(check -> check.key().equals(checkKey))
+        .map(ServerKubernetesObjects.PodHashCheck::matched)
+        .orElse(null);
+  }
+
+  /**
+   * Records the result of a check whether the hash of a server pod could be matched by adjusting
+   * the recipe to the conventions of an earlier operator version.
+   *
+   * @param serverName the name of the server
+   * @param checkKey identifies the version of the pod and the recipe which were compared
+   * @param matched true if the hashes matched
+   */
+  void setLegacyPodHashMatch(String serverName, String checkKey, boolean matched) {
+    getSko(serverName).getLegacyPodHashCheck().set(new ServerKubernetesObjects.PodHashCheck(checkKey, matched));
+  }
+
   /**
    * Returns a collection of the names of the active servers.
    */
@@ -443,7 +472,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    */
   public void setServerPodFromEvent(String serverName, V1Pod event) {
     updateStatus(serverName, event);
-    getSko(serverName).getPod().accumulateAndGet(event, this::getNewerPod);
+    getSko(serverName).getPod().accumulateAndGet(PodProjection.toRecorded(event), this::getNewerPod);
   }
 
   /**
@@ -457,7 +486,8 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    */
   public boolean setServerPodFromEvent(String serverName, V1Pod event, @Nonnull Predicate<V1Pod> podPredicate) {
     updateStatus(serverName, event);
-    return podPredicate.test(getSko(serverName).getPod().getAndAccumulate(event, this::getNewerPod));
+    return podPredicate.test(
+        getSko(serverName).getPod().getAndAccumulate(PodProjection.toRecorded(event), this::getNewerPod));
   }
 
   private void updateStatus(String serverName, V1Pod event) {
@@ -573,7 +603,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @param event the service associated with the event
    */
   void setServerServiceFromEvent(String serverName, V1Service event) {
-    getSko(serverName).getService().accumulateAndGet(event, this::getNewerService);
+    getSko(serverName).getService().accumulateAndGet(PodProjection.toRecorded(event), this::getNewerService);
   }
 
   /**
@@ -748,6 +778,45 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     isPopulated.set(populated);
   }
 
+  /**
+   * Returns true if a write of the domain status started less than the specified time ago, and has not yet completed.
+   * @param maxSeconds the time after which a write which has not reported its completion is ignored
+   */
+  public synchronized boolean isStatusWriteInProgress(int maxSeconds) {
+    return statusWriteStartTime != null && SystemClock.now().isBefore(statusWriteStartTime.plusSeconds(maxSeconds));
+  }
+
+  /**
+   * Records the start of a write of the domain status. An update deferred behind an earlier write which has not
+   * reported its completion within the specified time is discarded.
+   * @param maxSeconds the time after which a write which has not reported its completion is ignored
+   */
+  public synchronized void startStatusWrite(int maxSeconds) {
+    if (!isStatusWriteInProgress(maxSeconds)) {
+      deferredStatusUpdate = null;
+    }
+    statusWriteStartTime = SystemClock.now();
+  }
+
+  /**
+   * Records the completion of a write of the domain status, and removes any status update deferred until then.
+   * @return the step and packet which will make the deferred update, or null
+   */
+  public synchronized Fiber.StepAndPacket endStatusWrite() {
+    Fiber.StepAndPacket result = deferredStatusUpdate;
+    statusWriteStartTime = null;
+    deferredStatusUpdate = null;
+    return result;
+  }
+
+  /**
+   * Defers a status update until the write in progress completes, replacing any update deferred earlier.
+   * @param statusUpdate the step and packet which will make the update
+   */
+  public synchronized void deferStatusUpdate(Fiber.StepAndPacket statusUpdate) {
+    deferredStatusUpdate = statusUpdate;
+  }
+
   /**
    * Gets the domain. Except the instance to change frequently based on status updates.
    *
@@ -0,0 +1,238 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Limits the number of event writes made about a single object. Once too many distinct events about an object with
+ * the same reason have been seen within a window, further such events are combined into a single event, whose count
+ * is incremented. Repeats of existing events are written only while the object's token bucket holds a token; the
+ * remaining repeats are counted, and written together as a single update once a token is available. A bucket which
+ * has refilled completely is discarded, as a new bucket would be the same.
+ */
+class EventCorrelator {
+
+  static final String COMBINED_MESSAGE_PREFIX = "(combined from similar events): ";
+
+  private final Supplier<Collection<CoreV1Event>> recordedEvents;
+  private final Map<V1ObjectReference, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final Map<String, DeferredRepeats> deferred = new ConcurrentHashMap<>();
+  private final Set<Fiber> writers = new HashSet<>();
+  private boolean closed;
+
+  EventCorrelator(Supplier<Collection<CoreV1Event>> recordedEvents) {
+    this.recordedEvents = recordedEvents;
+  }
+
+  /**
+   * Returns the event to write in place of the specified one. This is the specified event unless too many distinct
+   * events similar to it have been recorded recently, in which case it is a copy with the message of the combined
+   * event for them, so that writing it increments the count of that event.
+   * @param event a new event
+   */
+  CoreV1Event aggregate(CoreV1Event event) {
+    final int maxSimilar = getTuningParameter(TuningParameters::getEventAggregationMaxSimilar, 0);
+    if (maxSimilar < 1 || isCombined(event)) {
+      return event;
+    }
+
+    final List<CoreV1Event> similar = recordedEvents.get().stream().filter(e -> isSimilar(e, event)).toList();
+    if (similar.stream().anyMatch(e -> Objects.equals(e.getMessage(), event.getMessage()))
+        || countRecentDistinct(similar) < maxSimilar) {
+      return event;
+    }
+
+    return new CoreV1Event()
+        .metadata(event.getMetadata())
+        .reportingComponent(event.getReportingComponent())
+        .reportingInstance(event.getReportingInstance())
+        .lastTimestamp(event.getLastTimestamp())
+        .type(event.getType())
+        .reason(event.getReason())
+        .message(getCombinedMessage(similar, event))
+        .involvedObject(event.getInvolvedObject())
+        .count(event.getCount());
+  }
+
+  private boolean isCombined(CoreV1Event event) {
+    return Optional.ofNullable(event.getMessage()).map(m -> m.startsWith(COMBINED_MESSAGE_PREFIX)).orElse(false);
+  }
+
+  private boolean isSimilar(CoreV1Event recorded, CoreV1Event event) {
+    return Objects.equals(recorded.getInvolvedObject(), event.getInvolvedObject())
+        && Objects.equals(recorded.getReason(), event.getReason());
+  }
+
+  private long countRecentDistinct(List<CoreV1Event> similar) {
+    final OffsetDateTime windowStart = SystemClock.now()
+        .minusSeconds(getTuningParameter(TuningParameters::getEventAggregationWindowSeconds, 0));
+    return similar.stream()
+        .filter(e -> !isCombined(e))
+        .filter(e -> e.getLastTimestamp() != null && !e.getLastTimestamp().isBefore(windowStart))
+        .count();
+  }
+
+  // Reuses the message of any existing combined event, so that the event is written as a repeat of it.
+  private String getCombinedMessage(List<CoreV1Event> similar, CoreV1Event event) {
+    return similar.stream()
+        .filter(this::isCombined)
+        .map(CoreV1Event::getMessage)
+        .findFirst()
+        .orElse(COMBINED_MESSAGE_PREFIX + event.getMessage());
+  }
+
+  /**
+   * Takes a token from the bucket for the specified object, if one is available.
+   * @param involvedObject the object about which an event is to be written
+   * @return true if a token was taken
+   */
+  boolean tryAcquire(V1ObjectReference involvedObject) {
+    if (!buckets.containsKey(involvedObject)) {
+      evictIdleBuckets();
+    }
+    return buckets.computeIfAbsent(involvedObject, o -> new TokenBucket()).tryAcquire();
+  }
+
+  // Discards the buckets which are full, so that objects about which no events are being written are forgotten.
+  private void evictIdleBuckets() {
+    buckets.values().removeIf(TokenBucket::isFull);
+  }
+
+  int getNumBuckets() {
+    return buckets.size();
+  }
+
+  /**
+   * Returns the number of seconds until a token is available for the specified object.
+   * @param involvedObject the object about which an event is to be written
+   */
+  long getSecondsUntilToken(V1ObjectReference involvedObject) {
+    return Optional.ofNullable(buckets.get(involvedObject)).map(TokenBucket::getSecondsUntilToken).orElse(0L);
+  }
+
+  /**
+   * Records a repeat of an existing event which is not yet to be written.
+   * @param existingEvent the event which was repeated
+   * @param timestamp the time of the repeat
+   * @return true if no other repeats of the event were already waiting to be written
+   */
+  boolean defer(CoreV1Event existingEvent, OffsetDateTime timestamp) {
+    return deferred.merge(getName(existingEvent), new DeferredRepeats(1, timestamp), DeferredRepeats::plus)
+        .count() == 1;
+  }
+
+  /**
+   * Removes and returns the repeats of the specified event which are waiting to be written.
+   * @param existingEvent the event which was repeated
+   * @return the repeats, or null if there are none
+   */
+  DeferredRepeats takeDeferred(CoreV1Event existingEvent) {
+    return deferred.remove(getName(existingEvent));
+  }
+
+  /**
+   * Records a fiber which is waiting to write deferred repeats, so that it can be cancelled by {@link #close()}.
+   * @param fiber the fiber
+   * @return false if this correlator has been closed, in which case the fiber should end
+   */
+  synchronized boolean addWriter(Fiber fiber) {
+    if (!closed) {
+      writers.add(fiber);
+    }
+    return !closed;
+  }
+
+  /**
+   * Forgets a fiber which is no longer waiting to write deferred repeats.
+   * @param fiber the fiber
+   */
+  synchronized void removeWriter(Fiber fiber) {
+    writers.remove(fiber);
+  }
+
+  /**
+   * Cancels any fibers waiting to write deferred repeats, and discards the repeats and the token buckets.
+   */
+  synchronized void close() {
+    closed = true;
+    writers.forEach(Fiber::cancel);
+    writers.clear();
+    deferred.clear();
+    buckets.clear();
+  }
+
+  // Without tuning parameters, events are neither combined nor limited.
+  private static int getTuningParameter(ToIntFunction<TuningParameters> getter, int defaultValue) {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(getter::applyAsInt).orElse(defaultValue);
+  }
+
+  private String getName(CoreV1Event event) {
+    return Optional.ofNullable(event.getMetadata()).map(V1ObjectMeta::getName).orElse("");
+  }
+
+  record DeferredRepeats(int count, OffsetDateTime lastTimestamp) {
+
+    DeferredRepeats plus(DeferredRepeats other) {
+      return new DeferredRepeats(count + other.count, other.lastTimestamp);
+    }
+  }
+
+  private static class TokenBucket {
+    private double tokens = getBurst();
+    private OffsetDateTime lastRefill = SystemClock.now();
+
+    synchronized boolean tryAcquire() {
+      refill();
+      if (tokens < 1) {
+        return false;
+      }
+      tokens--;
+      return true;
+    }
+
+    synchronized boolean isFull() {
+      refill();
+      return tokens >= getBurst();
+    }
+
+    synchronized long getSecondsUntilToken() {
+      refill();
+      return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * getRefillSeconds());
+    }
+
+    private void refill() {
+      final OffsetDateTime now = SystemClock.now();
+      final double elapsedSeconds = Math.max(0, Duration.between(lastRefill, now).toMillis() / 1000.0);
+      tokens = Math.min(getBurst(), tokens + elapsedSeconds / getRefillSeconds());
+      lastRefill = now;
+    }
+
+    private static int getBurst() {
+      return getTuningParameter(TuningParameters::getEventSpamBurst, Integer.MAX_VALUE);
+    }
+
+    private static double getRefillSeconds() {
+      return Math.max(1, getTuningParameter(TuningParameters::getEventSpamRefillSeconds, 1));
+    }
+  }
+}
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.helpers;
 import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
@@ -26,6 +27,7 @@ import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
@@ -199,12 +201,22 @@ public class EventHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      return doNext(createEventAPICall(createEventModel(packet, eventData)), packet);
+      return doNext(createEventAPICall(aggregate(createEventModel(packet, eventData)), packet), packet);
     }
 
-    private Step createEventAPICall(CoreV1Event event) {
+    private CoreV1Event aggregate(CoreV1Event event) {
+      return EventHelper.aggregate(getEventK8SObjects(event), event);
+    }
+
+    private Step createEventAPICall(CoreV1Event event, Packet packet) {
       CoreV1Event existingEvent = getExistingEvent(event);
-      return existingEvent != null ? createReplaceEventCall(event, existingEvent) : createCreateEventCall(event);
+      if (existingEvent == null) {
+        return createCreateEventCall(event);
+      } else if (deferRepeat(getEventK8SObjects(event), event, existingEvent, packet)) {
+        return getNext();
+      } else {
+        return createReplaceEventCall(event, existingEvent);
+      }
     }
 
     private Step createCreateEventCall(CoreV1Event event) {
@@ -293,7 +305,8 @@ public class EventHelper {
           return doNext(packet);
         }
         if (isNotFound(callResponse) || hasConflict(callResponse)) {
-          return doNext(Step.chain(createCreateEventCall(createEventModel(packet, eventData)), getNext()), packet);
+          return doNext(Step.chain(createCreateEventCall(aggregate(createEventModel(packet, eventData))), getNext()),
+              packet);
         } else if (isUnrecoverable(callResponse)) {
           return onFailureNoRetry(packet, callResponse);
         } else {
@@ -349,6 +362,83 @@ public class EventHelper {
     return random.nextLong() * Long.MAX_VALUE;
   }
 
+  private static CoreV1Event aggregate(KubernetesEventObjects eventObjects, CoreV1Event event) {
+    return Optional.ofNullable(eventObjects).map(o -> o.getCorrelator().aggregate(event)).orElse(event);
+  }
+
+  // Returns true if a repeat of an existing event is to be written later, because the spam filter has no token
+  // available for the event's object. The first such repeat starts a background fiber to write them all, so that
+  // the current fiber does not wait for it. The background fiber is cancelled if the operator stops managing the
+  // namespace before it writes the repeats.
+  private static boolean deferRepeat(
+      KubernetesEventObjects eventObjects, CoreV1Event event, CoreV1Event existingEvent, Packet packet) {
+    final Fiber fiber = packet.getFiber();
+    if (eventObjects == null || fiber == null
+        || eventObjects.getCorrelator().tryAcquire(event.getInvolvedObject())) {
+      return false;
+    }
+
+    if (eventObjects.getCorrelator().defer(existingEvent, event.getLastTimestamp())) {
+      fiber.startDetached(new WriteDeferredRepeatsStep(eventObjects, existingEvent), packet.copy());
+    }
+    return true;
+  }
+
+  private static class WriteDeferredRepeatsStep extends Step {
+    private final KubernetesEventObjects eventObjects;
+    private final CoreV1Event existingEvent;
+
+    WriteDeferredRepeatsStep(KubernetesEventObjects eventObjects, CoreV1Event existingEvent) {
+      this.eventObjects = eventObjects;
+      this.existingEvent = existingEvent;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final EventCorrelator correlator = eventObjects.getCorrelator();
+      final V1ObjectReference involvedObject = existingEvent.getInvolvedObject();
+      if (!correlator.addWriter(packet.getFiber())) {
+        return doEnd(packet);
+      } else if (!correlator.tryAcquire(involvedObject)) {
+        return doDelay(this, packet, correlator.getSecondsUntilToken(involvedObject), TimeUnit.SECONDS);
+      }
+
+      correlator.removeWriter(packet.getFiber());
+      final CoreV1Event event = eventObjects.getExistingEvent(existingEvent);
+      final EventCorrelator.DeferredRepeats repeats = correlator.takeDeferred(existingEvent);
+      if (event == null || repeats == null) {
+        return doNext(packet);
+      }
+
+      LOGGER.fine(MessageKeys.REPLACING_EVENT, event.getReason());
+      event.count(Optional.ofNullable(event.getCount()).orElse(0) + repeats.count());
+      event.lastTimestamp(repeats.lastTimestamp());
+      return doNext(RequestBuilder.EVENT.update(event, new WriteDeferredRepeatsResponseStep(event, repeats)), packet);
+    }
+  }
+
+  // Events are informational, so a failure to write deferred repeats is not retried.
+  private static class WriteDeferredRepeatsResponseStep extends ResponseStep<CoreV1Event> {
+    private final CoreV1Event event;
+    private final EventCorrelator.DeferredRepeats repeats;
+
+    WriteDeferredRepeatsResponseStep(CoreV1Event event, EventCorrelator.DeferredRepeats repeats) {
+      this.event = event;
+      this.repeats = repeats;
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<CoreV1Event> callResponse) {
+      return doNext(packet);
+    }
+
+    @Override
+    public Result onFailure(Packet packet, KubernetesApiResponse<CoreV1Event> callResponse) {
+      event.count(Optional.ofNullable(event.getCount()).orElse(repeats.count()) - repeats.count());
+      return doNext(packet);
+    }
+  }
+
   public enum EventItem {
     CLUSTER_AVAILABLE {
       @Override
@@ -1178,12 +1268,22 @@ public class EventHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      return doNext(createEventAPICall(createEventModel(eventData)), packet);
+      return doNext(createEventAPICall(aggregate(createEventModel(eventData)), packet), packet);
+    }
+
+    private CoreV1Event aggregate(CoreV1Event event) {
+      return EventHelper.aggregate(getClusterEventK8SObjects(event), event);
     }
 
-    private Step createEventAPICall(CoreV1Event event) {
+    private Step createEventAPICall(CoreV1Event event, Packet packet) {
       CoreV1Event existingEvent = getExistingClusterEvent(event);
-      return existingEvent != null ? createReplaceEventCall(event, existingEvent) : createCreateEventCall(event);
+      if (existingEvent == null) {
+        return createCreateEventCall(event);
+      } else if (deferRepeat(getClusterEventK8SObjects(event), event, existingEvent, packet)) {
+        return getNext();
+      } else {
+        return createReplaceEventCall(event, existingEvent);
+      }
     }
 
     private Step createCreateEventCall(CoreV1Event event) {
@@ -1236,7 +1336,7 @@ public class EventHelper {
       public Result onFailure(Packet packet, KubernetesApiResponse<CoreV1Event> callResponse) {
         restoreExistingClusterEvent();
         if (isNotFound(callResponse) || hasConflict(callResponse)) {
-          return doNext(Step.chain(createCreateEventCall(createEventModel(eventData)), getNext()), packet);
+          return doNext(Step.chain(createCreateEventCall(aggregate(createEventModel(eventData))), getNext()), packet);
         } else if (isUnrecoverable(callResponse)) {
           return onFailureNoRetry(packet, callResponse);
         } else {
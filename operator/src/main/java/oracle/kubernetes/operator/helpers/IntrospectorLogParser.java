@@ -0,0 +1,140 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTION_COMPLETE;
+
+/**
+ * Reads the output of an introspector job in a single pass. The output contains log messages, each of which starts
+ * with a line beginning with '@[' and continues until the next such line, and files, each of which starts with a
+ * line of the form '>>> path' and ends with the line '>>> EOF'. Each log message is passed to a consumer as soon as
+ * it is complete, and the contents of each file are recorded under the file's name, so the output is neither split
+ * into an array of lines nor read more than once. File contents are not copied to the operator log.
+ */
+public class IntrospectorLogParser {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String LOG_MESSAGE_START = "@[";
+  private static final String FILE_MARKER = ">>>";
+  private static final String FILE_END = "EOF";
+  private static final String UPDATE_RESULT_TOKEN = ">>>  updatedomainResult=";
+
+  private final String domainUid;
+  private final Consumer<String> logMessageConsumer;
+  private final Map<String, String> files = new HashMap<>();
+  private final StringBuilder logMessage = new StringBuilder();
+  private String fileName;
+  private StringBuilder fileContents;
+  private boolean introspectionComplete;
+
+  /**
+   * Creates a parser.
+   * @param domainUid the UID of the domain which was introspected
+   * @param logMessageConsumer receives each log message written by the introspector
+   */
+  public IntrospectorLogParser(String domainUid, Consumer<String> logMessageConsumer) {
+    this.domainUid = domainUid;
+    this.logMessageConsumer = logMessageConsumer;
+  }
+
+  /**
+   * Parses the specified introspector job output.
+   * @param jobLog the output of the introspector job
+   * @return this parser
+   */
+  public IntrospectorLogParser parse(String jobLog) {
+    return parse(new StringReader(jobLog));
+  }
+
+  /**
+   * Parses introspector job output, reading it a line at a time.
+   * @param reader a reader of the output of the introspector job
+   * @return this parser
+   */
+  public IntrospectorLogParser parse(Reader reader) {
+    try (BufferedReader lines = new BufferedReader(reader)) {
+      String line;
+      while ((line = lines.readLine()) != null) {
+        processLine(line);
+      }
+    } catch (IOException exc) {
+      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, exc);
+    }
+    completeLogMessage();
+    return this;
+  }
+
+  /**
+   * Returns the files found in the output, keyed by file name, along with the result of any dynamic update.
+   * The map may be modified by the caller.
+   */
+  public Map<String, String> getFiles() {
+    return files;
+  }
+
+  /**
+   * Returns true if the output reported that introspection completed.
+   */
+  public boolean isIntrospectionComplete() {
+    return introspectionComplete;
+  }
+
+  private void processLine(String line) {
+    if (line.contains(DOMAIN_INTROSPECTION_COMPLETE)) {
+      introspectionComplete = true;
+    }
+
+    if (fileContents != null) {
+      addFileLine(line);
+      return;
+    }
+
+    if (line.contains(UPDATE_RESULT_TOKEN)) {
+      final int resultStart = line.indexOf(UPDATE_RESULT_TOKEN) + UPDATE_RESULT_TOKEN.length();
+      files.put(ConfigMapHelper.UPDATEDOMAINRESULT, line.substring(resultStart));
+    }
+    if (isFileStart(line)) {
+      completeLogMessage();
+      fileName = line.substring(line.lastIndexOf('/') + 1);
+      fileContents = new StringBuilder();
+    } else if (line.startsWith(LOG_MESSAGE_START)) {
+      completeLogMessage();
+      logMessage.append(line.trim());
+    } else if (!logMessage.isEmpty()) {
+      logMessage.append(System.lineSeparator()).append(line.trim());
+    }
+  }
+
+  private boolean isFileStart(String line) {
+    return line.startsWith(FILE_MARKER) && !line.endsWith(FILE_END);
+  }
+
+  private void addFileLine(String line) {
+    if (line.startsWith(FILE_MARKER) && line.endsWith(FILE_END)) {
+      files.put(fileName, fileContents.toString().trim());
+      fileContents = null;
+    } else {
+      fileContents.append(line).append(System.lineSeparator());
+    }
+  }
+
+  private void completeLogMessage() {
+    if (!logMessage.isEmpty()) {
+      logMessageConsumer.accept(logMessage.toString());
+      logMessage.setLength(0);
+    }
+  }
+}
@@ -43,6 +43,7 @@ import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.ServerStartPolicy;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
@@ -67,9 +68,9 @@ import static oracle.kubernetes.operator.DomainStatusUpdater.createIntrospection
 import static oracle.kubernetes.operator.DomainStatusUpdater.createRemoveFailuresStep;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createRemoveSelectedFailuresStep;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_DOMAIN_SPEC_GENERATION;
+import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_INPUTS_FINGERPRINT;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_TIME;
-import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTION_COMPLETE;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECT_REQUESTED;
 import static oracle.kubernetes.operator.ProcessingConstants.INTROSPECTOR_JOB_FAILURE_THROWABLE;
@@ -97,6 +98,11 @@ public class JobHelper {
     return new IntrospectorJobStepContext(packet).createJobSpec();
   }
 
+  // Returns the fingerprint of the introspection inputs for the domain in the specified packet
+  static String getIntrospectionInputsFingerprint(Packet packet) {
+    return new IntrospectorJobStepContext(packet).getIntrospectionInputsFingerprint();
+  }
+
   static Step deleteDomainIntrospectorJobStep(Step next) {
     return UnitTestAdaptor.create(IntrospectorJobStepContext::deleteIntrospectorJob, next);
   }
@@ -258,7 +264,12 @@ public class JobHelper {
         } else if (job != null) {
           return doNext(processExistingIntrospectorJob(getNext()), packet);
         } else if (isIntrospectionNeeded(packet)) {
+          OperatorMetrics.recordIntrospection(true);
           return doNext(createIntrospectionSteps(getNext()), packet);
+        } else if (isBringingUpNewDomain(packet)) {
+          LOGGER.fine("Introspection inputs unchanged; using the recorded topology for domain " + getDomainUid());
+          OperatorMetrics.recordIntrospection(false);
+          return doNext(packet);
         } else {
           return doNext(packet);
         }
@@ -351,12 +362,13 @@ public class JobHelper {
             .orElse(null);
     }
 
+    // The check for a new domain comes last, as it computes the fingerprint of the introspection inputs.
     private boolean isIntrospectionNeeded(Packet packet) {
       return getDomainTopology() == null
-              || isBringingUpNewDomain(packet)
               || isIntrospectionRequested(packet)
               || isModelInImageUpdate(packet)
-              || isIntrospectVersionChanged(packet);
+              || isIntrospectVersionChanged(packet)
+              || (isBringingUpNewDomain(packet) && !canSkipIntrospection(packet));
     }
 
     @Nonnull
@@ -365,7 +377,17 @@ public class JobHelper {
     }
 
     private boolean isBringingUpNewDomain(Packet packet) {
-      return getNumRunningServers() == 0 && creatingServers(info) && (isDomainGenerationChanged(packet));
+      return getNumRunningServers() == 0 && creatingServers(info) && isDomainGenerationChanged(packet);
+    }
+
+    // Returns true if skipping is enabled and the inputs to introspection are unchanged since the recorded topology
+    // was found. The fingerprint covers only the introspector pod spec, so it cannot see a changed domain home on a
+    // persistent volume, an image rebuilt under the same tag, or new contents of a referenced secret or config map.
+    private boolean canSkipIntrospection(Packet packet) {
+      return TuningParameters.getInstance().isIntrospectionSkipUnchangedInputs()
+          && Optional.ofNullable(packet.<String>getValue(INTROSPECTION_INPUTS_FINGERPRINT))
+              .map(fingerprint -> fingerprint.equals(getIntrospectionInputsFingerprint()))
+              .orElse(false);
     }
 
     private int getNumRunningServers() {
@@ -520,9 +542,18 @@ public class JobHelper {
         Optional.ofNullable(jobPod).map(V1Pod::getMetadata)
             .map(V1ObjectMeta::getCreationTimestamp).map(OffsetDateTime::toString)
                 .ifPresent(creationTime -> packet.put(INTROSPECTION_TIME, creationTime));
+        packet.put(INTROSPECTION_INPUTS_FINGERPRINT, getInputsFingerprint(packet.getValue(DOMAIN_INTROSPECTOR_JOB)));
         return doNext(readDomainIntrospectorPodLog(jobPodName, containerName, getNext()), packet);
       }
 
+      // The fingerprint was computed when the job was created, so it describes the inputs of this introspection,
+      // even if the domain has changed since.
+      private String getInputsFingerprint(V1Job job) {
+        return Optional.ofNullable(job).map(V1Job::getMetadata).map(V1ObjectMeta::getAnnotations)
+            .map(annotations -> annotations.get(INTROSPECTION_INPUTS_FINGERPRINT))
+            .orElse(null);
+      }
+
       private V1ContainerStatus getJobPodContainerStatus(V1Pod jobPod) {
         return Optional.ofNullable(getContainerStatuses(jobPod)).flatMap(cs -> cs.stream().findFirst()).orElse(null);
       }
@@ -575,8 +606,8 @@ public class JobHelper {
 
     private static class ReadPodLogResponseStep extends ResponseStep<RequestBuilder.StringObject> {
       public static final String INTROSPECTION_FAILED = "INTROSPECTION_FAILED";
-      private StringBuilder logMessage = new StringBuilder();
       private final List<String> severeStatuses = new ArrayList<>();
+      private boolean introspectionComplete;
 
       ReadPodLogResponseStep(Step nextStep) {
         super(nextStep);
@@ -591,7 +622,7 @@ public class JobHelper {
 
         final V1Job domainIntrospectorJob = packet.getValue(DOMAIN_INTROSPECTOR_JOB);
         if (severeStatuses.isEmpty()) {
-          if (!isDomainIntrospectionComplete(callResponse)) {
+          if (!introspectionComplete) {
             LOGGER.severe(DOMAIN_INTROSPECTION_INCOMPLETE, callResponse.getObject());
             severeStatuses.add(LOGGER.formatMessage(DOMAIN_INTROSPECTION_INCOMPLETE, callResponse.getObject()));
             return handleFailure(packet, domainIntrospectorJob);
@@ -602,13 +633,6 @@ public class JobHelper {
         }
       }
 
-      @Nonnull
-      private Boolean isDomainIntrospectionComplete(KubernetesApiResponse<RequestBuilder.StringObject> callResponse) {
-        return Optional.ofNullable(callResponse).map(KubernetesApiResponse::getObject)
-            .map(RequestBuilder.StringObject::value)
-            .map(r -> r.contains(DOMAIN_INTROSPECTION_COMPLETE)).orElse(false);
-      }
-
       // Note: fluentd container log can be huge, may not be a good idea to read the container log.
       //  Just set a flag and let the user know they can check the container log to determine unlikely
       //  starting error, most likely a very bad formatted configuration.
@@ -617,13 +641,23 @@ public class JobHelper {
             .ifPresent(severeStatuses::add);
       }
 
+      // Parses the job log in a single pass, copying its messages to the operator log as they are read,
+      // and passes on only the files it contains.
       private void processIntrospectionResult(Packet packet, String result) {
-        LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
-        convertJobLogsToOperatorLogs(result);
-        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result);
+        if (LOGGER.isFineEnabled()) {
+          LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
+        }
+        IntrospectorLogParser parser = new IntrospectorLogParser(getDomainUid(packet), this::logToOperator);
+        parser.parse(result);
+        introspectionComplete = parser.isIntrospectionComplete();
+        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, parser.getFiles());
         MakeRightDomainOperation.recordInspection(packet);
       }
 
+      private String getDomainUid(Packet packet) {
+        return DomainPresenceInfo.fromPacket(packet).map(DomainPresenceInfo::getDomainUid).orElse(null);
+      }
+
       private Result handleFailure(Packet packet, V1Job domainIntrospectorJob) {
         Optional.ofNullable(domainIntrospectorJob).ifPresent(job -> logIntrospectorFailure(packet, job));
 
@@ -656,30 +690,9 @@ public class JobHelper {
               .orElse(OffsetDateTime.now());
       }
 
-      // Parse log messages out of a Job Log
-      //  - assumes each job log message starts with '@['
-      //  - assumes any lines that don't start with '@[' are part
-      //    of the previous log message
-      //  - ignores all lines in the log up to the first line that starts with '@['
-      private void convertJobLogsToOperatorLogs(String jobLogs) {
-        for (String line : jobLogs.split(EOL_PATTERN)) {
-          if (line.startsWith("@[")) {
-            logToOperator();
-            logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-          } else if (!logMessage.isEmpty()) {
-            logMessage.append(System.lineSeparator()).append(line.trim());
-          }
-        }
-        logToOperator();
-      }
-
       @SuppressWarnings("fallthrough")
-      private void logToOperator() {
-        if (logMessage.isEmpty()) {
-          return;
-        }
-
-        String logMsg = logMessage.toString();
+      private void logToOperator(String introspectorMessage) {
+        String logMsg = INTROSPECTOR_LOG_PREFIX + introspectorMessage;
         switch (getLogLevel(logMsg)) {
           case "SEVERE":
             addSevereStatus(logMsg); // fall through
@@ -9,12 +9,20 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.V1ConfigMapVolumeSource;
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1EnvFromSource;
@@ -64,6 +72,7 @@ import oracle.kubernetes.weblogic.domain.model.InitializeDomainOnPV;
 import oracle.kubernetes.weblogic.domain.model.IntrospectorJobEnvVars;
 import oracle.kubernetes.weblogic.domain.model.ServerEnvVars;
 import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.jetbrains.annotations.NotNull;
 
 import static oracle.kubernetes.common.AuxiliaryImageConstants.AUXILIARY_IMAGE_TARGET_PATH;
@@ -99,9 +108,15 @@ public class JobStepContext extends BasePodStepContext {
         "/weblogic-operator/scripts/introspectDomain.sh";
   private static final String CONFIGMAP_TYPE = "cm";
   private static final String SECRET_TYPE = "st";
+  private static final String INTROSPECTION_RESULTS_VOLUME_PREFIX
+        = "mii" + IntrospectorConfigMapConstants.INTROSPECTOR_CONFIG_MAP_NAME_SUFFIX + '-';
+  // environment variables which are derived from an earlier introspection or from the domain status
+  private static final Set<String> ENV_VARS_NOT_FINGERPRINTED
+        = Set.of("ADMIN_NAME", "ADMIN_PORT", "ADMIN_PORT_SECURE", "AS_SERVICE_NAME", MII_RUNNING_SERVERS_STATES);
   // domainTopology is null if this is 1st time we're running job for this domain
   private final WlsDomainConfig domainTopology;
   private static final CommonUtils.CheckedFunction<String, String> getMD5Hash = CommonUtils::getMD5Hash;
+  private static final Gson GSON = new JSON().getGson();
   private V1Job jobModel;
   private Step conflict;
   private Packet packet;
@@ -292,10 +307,18 @@ public class JobStepContext extends BasePodStepContext {
    * @return a step to be scheduled.
    */
   Step createJob() {
-    conflict = RequestBuilder.JOB.create(getJobModel(), newCreateResponse());
+    conflict = RequestBuilder.JOB.create(withInputsFingerprint(getJobModel()), newCreateResponse());
     return conflict;
   }
 
+  // The job carries the fingerprint of the inputs from which it was created, so that the fingerprint recorded with
+  // its results is not affected by changes made to the domain while it runs.
+  private V1Job withInputsFingerprint(V1Job job) {
+    Objects.requireNonNull(job.getMetadata())
+        .putAnnotationsItem(LabelConstants.INTROSPECTION_INPUTS_FINGERPRINT, getIntrospectionInputsFingerprint());
+    return job;
+  }
+
   String getJobCreatedMessageKey() {
     return MessageKeys.JOB_CREATED;
   }
@@ -443,6 +466,50 @@ public class JobStepContext extends BasePodStepContext {
     return updateForDeepSubstitution(podTemplateSpec.getSpec(), podTemplateSpec);
   }
 
+  /**
+   * Returns a fingerprint of the inputs to introspection: the domain's introspect and restart versions, and the
+   * specification of the introspector pod, which names the images, auxiliary images, config maps and secrets it uses.
+   * Settings which depend on an earlier introspection, on the domain status or on the number of earlier failures
+   * are left out, so that the fingerprint changes only when a new introspection could give a different result.
+   */
+  String getIntrospectionInputsFingerprint() {
+    final JsonObject podSpec = GSON.toJsonTree(getJobModelPodSpec()).getAsJsonObject();
+    podSpec.remove("activeDeadlineSeconds");
+    removeElements(podSpec, "volumes", this::isIntrospectionResultsVolume);
+    getElements(podSpec, "containers").forEach(this::removeSettingsNotFingerprinted);
+    getElements(podSpec, "initContainers").forEach(this::removeSettingsNotFingerprinted);
+
+    final JsonObject inputs = new JsonObject();
+    inputs.addProperty("introspectVersion", getIntrospectVersionLabel());
+    inputs.addProperty("restartVersion", getDomain().getRestartVersion());
+    inputs.add("podSpec", podSpec);
+    return DigestUtils.sha256Hex(inputs.toString());
+  }
+
+  private List<JsonObject> getElements(JsonObject object, String arrayName) {
+    return Optional.ofNullable(object.getAsJsonArray(arrayName)).map(JsonArray::asList).orElse(List.of()).stream()
+          .map(JsonElement::getAsJsonObject)
+          .toList();
+  }
+
+  private void removeElements(JsonObject object, String arrayName, Predicate<JsonObject> condition) {
+    Optional.ofNullable(object.getAsJsonArray(arrayName))
+          .ifPresent(array -> array.asList().removeIf(element -> condition.test(element.getAsJsonObject())));
+  }
+
+  private void removeSettingsNotFingerprinted(JsonObject container) {
+    removeElements(container, "volumeMounts", this::isIntrospectionResultsVolume);
+    removeElements(container, "env", envVar -> ENV_VARS_NOT_FINGERPRINTED.contains(getName(envVar)));
+  }
+
+  private boolean isIntrospectionResultsVolume(JsonObject volumeOrMount) {
+    return getName(volumeOrMount).startsWith(INTROSPECTION_RESULTS_VOLUME_PREFIX);
+  }
+
+  private String getName(JsonObject object) {
+    return object.get("name").getAsString();
+  }
+
   private boolean auxiliaryOrDomainCreationImagesConfigured() {
     return getAuxiliaryImages() != null || getDomainCreationImages() != null;
   }
@@ -1,4 +1,4 @@
-// Copyright (c) 2021, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -15,6 +15,7 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
  * a domain resource. */
 public class KubernetesEventObjects {
   private final Map<EventIdentifier, CoreV1Event> events = new ConcurrentHashMap<>();
+  private final EventCorrelator correlator = new EventCorrelator(events::values);
 
   public int size() {
     return events.size();
@@ -32,6 +33,18 @@ public class KubernetesEventObjects {
     return events.get(new EventIdentifier(event));
   }
 
+  EventCorrelator getCorrelator() {
+    return correlator;
+  }
+
+  /**
+   * Cancels any background writes of deferred event repeats. Called when the operator stops managing the namespace
+   * of these events.
+   */
+  public void close() {
+    correlator.close();
+  }
+
   private static class EventIdentifier {
     V1ObjectReference involvedObject;
     String reason;
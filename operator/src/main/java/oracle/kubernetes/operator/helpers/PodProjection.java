@@ -0,0 +1,127 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+
+import static oracle.kubernetes.operator.KubernetesConstants.WLS_CONTAINER_NAME;
+
+/**
+ * Reduces the server pods and services which the operator records to the fields that it reads, so that a large
+ * number of them does not dominate the operator's heap. A projected pod keeps its metadata, other than managed
+ * fields, and its status, but only the node, the names, images and ports of its containers, and the shutdown
+ * settings in the environment of the WebLogic Server container. A projection is a plain {@link V1Pod}, so that it
+ * compares and serializes like any other. While projection is enabled, every recorded pod is a projection, and the
+ * few decisions which need the rest of the pod must read it from Kubernetes.
+ */
+final class PodProjection {
+
+  private static final String SHUTDOWN_ENV_PREFIX = "SHUTDOWN_";
+
+  private PodProjection() {
+    // no instances
+  }
+
+  static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::isSlimServerCacheEnabled).orElse(false);
+  }
+
+  /**
+   * Returns the pod to record for a server, which is a projection if that is enabled.
+   * @param pod the pod as returned by Kubernetes
+   * @return the pod to record
+   */
+  static V1Pod toRecorded(V1Pod pod) {
+    return pod == null || !isEnabled() ? pod : project(pod);
+  }
+
+  /**
+   * Returns the service to record for a server, without its managed fields if projection is enabled.
+   * @param service the service as returned by Kubernetes
+   * @return the service to record
+   */
+  static V1Service toRecorded(V1Service service) {
+    if (service == null || !isEnabled() || service.getMetadata() == null
+        || service.getMetadata().getManagedFields() == null) {
+      return service;
+    }
+    return new V1Service().apiVersion(service.getApiVersion()).kind(service.getKind())
+        .metadata(projectMetadata(service.getMetadata())).spec(service.getSpec()).status(service.getStatus());
+  }
+
+  static V1Pod project(V1Pod pod) {
+    return new V1Pod().apiVersion(pod.getApiVersion()).kind(pod.getKind())
+        .metadata(Optional.ofNullable(pod.getMetadata()).map(PodProjection::projectMetadata).orElse(null))
+        .spec(Optional.ofNullable(pod.getSpec()).map(PodProjection::projectSpec).orElse(null))
+        .status(Optional.ofNullable(pod.getStatus()).map(PodProjection::projectStatus).orElse(null));
+  }
+
+  private static V1ObjectMeta projectMetadata(V1ObjectMeta metadata) {
+    return new V1ObjectMeta()
+        .name(metadata.getName())
+        .namespace(metadata.getNamespace())
+        .uid(metadata.getUid())
+        .resourceVersion(metadata.getResourceVersion())
+        .generation(metadata.getGeneration())
+        .creationTimestamp(metadata.getCreationTimestamp())
+        .deletionTimestamp(metadata.getDeletionTimestamp())
+        .deletionGracePeriodSeconds(metadata.getDeletionGracePeriodSeconds())
+        .labels(metadata.getLabels())
+        .annotations(metadata.getAnnotations())
+        .ownerReferences(metadata.getOwnerReferences());
+  }
+
+  private static V1PodSpec projectSpec(V1PodSpec spec) {
+    return new V1PodSpec()
+        .nodeName(spec.getNodeName())
+        .hostname(spec.getHostname())
+        .subdomain(spec.getSubdomain())
+        .terminationGracePeriodSeconds(spec.getTerminationGracePeriodSeconds())
+        .containers(Optional.ofNullable(spec.getContainers()).map(PodProjection::projectContainers).orElse(null));
+  }
+
+  private static List<V1Container> projectContainers(List<V1Container> containers) {
+    return containers.stream().map(PodProjection::projectContainer).collect(Collectors.toList());
+  }
+
+  private static V1Container projectContainer(V1Container container) {
+    return new V1Container()
+        .name(container.getName())
+        .image(container.getImage())
+        .ports(container.getPorts())
+        .env(WLS_CONTAINER_NAME.equals(container.getName()) ? projectEnv(container.getEnv()) : null);
+  }
+
+  // The shutdown settings are read from the environment of a running server's pod.
+  private static List<V1EnvVar> projectEnv(List<V1EnvVar> env) {
+    return Optional.ofNullable(env)
+        .map(vars -> vars.stream().filter(v -> v.getName().startsWith(SHUTDOWN_ENV_PREFIX)).toList())
+        .filter(vars -> !vars.isEmpty())
+        .orElse(null);
+  }
+
+  private static V1PodStatus projectStatus(V1PodStatus status) {
+    return new V1PodStatus()
+        .phase(status.getPhase())
+        .reason(status.getReason())
+        .message(status.getMessage())
+        .conditions(status.getConditions())
+        .containerStatuses(status.getContainerStatuses())
+        .podIP(status.getPodIP())
+        .hostIP(status.getHostIP())
+        .startTime(status.getStartTime());
+  }
+}
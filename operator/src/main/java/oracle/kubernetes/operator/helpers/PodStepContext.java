@@ -68,6 +68,7 @@ import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.steps.ShutdownManagedServerStep;
 import oracle.kubernetes.operator.tuning.PodTuning;
 import oracle.kubernetes.operator.tuning.TuningParameters;
@@ -140,6 +141,9 @@ public abstract class PodStepContext extends BasePodStepContext {
   private final String domainRestartVersion;
   private boolean addRestartRequiredLabel;
   private String sha256Hash;
+  // The current pod as read from Kubernetes, when only a projection of it has been recorded; used only by the
+  // verification which follows the read, so that a retry starts again from the recorded pod.
+  private V1Pod completePod;
 
   PodStepContext(Step conflictStep, Packet packet) {
     super((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO));
@@ -528,6 +532,9 @@ public abstract class PodStepContext extends BasePodStepContext {
     return new CreateResponseStep(next);
   }
 
+  // The recipe hash is computed on every make-right rather than remembered per domain generation: the recipe also
+  // depends on the cluster resource, the introspection results and the operator's tuning parameters, none of which
+  // change the domain generation, and a stale hash would keep a server running a pod which no longer matches.
   V1Pod createPodModel() {
     final V1Pod podRecipe = createPodRecipe();
     sha256Hash = AnnotationHelper.createHash(podRecipe);
@@ -1344,7 +1351,33 @@ public abstract class PodStepContext extends BasePodStepContext {
           }));
     }
 
+    // Checking every combination of adjustments is expensive, so remember the result until the pod or recipe changes.
     private boolean canAdjustRecentOperatorMajorVersion3HashToMatch(V1Pod currentPod, String requiredHash) {
+      final String checkKey = getLegacyHashCheckKey(currentPod, requiredHash);
+      return Optional.ofNullable(checkKey)
+          .map(key -> info.getLegacyPodHashMatch(getServerName(), key))
+          .orElseGet(() -> checkAdjustedHashes(currentPod, requiredHash, checkKey));
+    }
+
+    // Returns a key which identifies the version of the current pod and of the recipe, or null if the pod has
+    // no resource version.
+    private String getLegacyHashCheckKey(V1Pod currentPod, String requiredHash) {
+      return Optional.ofNullable(currentPod.getMetadata())
+          .filter(metadata -> metadata.getResourceVersion() != null)
+          .map(metadata -> String.join("/",
+              metadata.getUid(), metadata.getResourceVersion(), requiredHash, sha256Hash))
+          .orElse(null);
+    }
+
+    private boolean checkAdjustedHashes(V1Pod currentPod, String requiredHash, String checkKey) {
+      boolean matched = canAdjustHashToMatch(currentPod, requiredHash);
+      if (checkKey != null) {
+        info.setLegacyPodHashMatch(getServerName(), checkKey, matched);
+      }
+      return matched;
+    }
+
+    private boolean canAdjustHashToMatch(V1Pod currentPod, String requiredHash) {
       // start with list of adjustment methods
       // generate stream of combinations
       // for each combination, start with pod recipe, apply all adjustments, and generate hash
@@ -1365,8 +1398,12 @@ public abstract class PodStepContext extends BasePodStepContext {
           .anyMatch(requiredHash::equals);
     }
 
+    private boolean hasRecipeHash(V1Pod currentPod) {
+      return AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
+    }
+
     private boolean hasCorrectPodHash(V1Pod currentPod) {
-      return AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod))
+      return hasRecipeHash(currentPod)
           || (isPodFromRecentOperator(currentPod)
             && canAdjustRecentOperatorMajorVersion3HashToMatch(currentPod, AnnotationHelper.getHash(currentPod)));
     }
@@ -1384,11 +1421,37 @@ public abstract class PodStepContext extends BasePodStepContext {
       return useCurrent;
     }
 
+    // A projected pod lacks the fields needed to patch it, or to check whether the recipe of an earlier operator
+    // can be adjusted to match it.
+    private boolean mustReadCompletePod(V1Pod currentPod) {
+      return PodProjection.isEnabled() && (mustCheckLegacyHash(currentPod) || mustPatchPod(currentPod));
+    }
+
+    private V1Pod takeCompletePod() {
+      final V1Pod pod = completePod;
+      completePod = null;
+      return pod;
+    }
+
+    private boolean mustCheckLegacyHash(V1Pod currentPod) {
+      return !hasRecipeHash(currentPod)
+          && isPodFromRecentOperator(currentPod)
+          && Optional.ofNullable(getLegacyHashCheckKey(currentPod, AnnotationHelper.getHash(currentPod)))
+              .map(key -> info.getLegacyPodHashMatch(getServerName(), key)).isEmpty();
+    }
+
+    private Step readCompletePod() {
+      return RequestBuilder.POD.get(getNamespace(), getPodName(), new ReadCompletePodResponseStep(this));
+    }
+
     @Override
     public @Nonnull Result apply(Packet packet) {
-      V1Pod currentPod = info.getServerPod(getServerName());
+      final V1Pod readPod = takeCompletePod();
+      V1Pod currentPod = Optional.ofNullable(readPod).orElseGet(() -> info.getServerPod(getServerName()));
 
-      if (currentPod == null) {
+      if (currentPod != null && readPod == null && mustReadCompletePod(currentPod)) {
+        return doNext(readCompletePod(), packet);
+      } else if (currentPod == null) {
         return doNext(createNewPod(getNext()), packet);
       } else if (!canUseCurrentPod(currentPod)) {
         return doNext(replaceCurrentPod(currentPod, getNext()), packet);
@@ -1409,6 +1472,22 @@ public abstract class PodStepContext extends BasePodStepContext {
     return version.getMajor() == 3 && version.getMinor() == 4 && version.getRevision() > 0;
   }
 
+  private class ReadCompletePodResponseStep extends DefaultResponseStep<V1Pod> {
+
+    ReadCompletePodResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1Pod> callResponse) {
+      completePod = callResponse.getObject();
+      if (completePod == null) {
+        setRecordedPod(null);
+      }
+      return doNext(packet);
+    }
+  }
+
   private abstract class BaseResponseStep extends ResponseStep<V1Pod> {
     BaseResponseStep(Step next) {
       super(next);
@@ -180,7 +180,7 @@ public class RollingHelper {
       }
 
       private void addWork(Packet packet, Step step) {
-        work.add(new StepAndPacket(step, packet));
+        work.add(new StepAndPacket(step, packet.copy()));
       }
 
       private boolean hasNoWork() {
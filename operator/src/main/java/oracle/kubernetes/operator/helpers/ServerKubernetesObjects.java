@@ -16,6 +16,7 @@ class ServerKubernetesObjects {
   private final AtomicReference<LastKnownStatus> lastKnownStatus = new AtomicReference<>(null);
   private final AtomicReference<V1Service> service = new AtomicReference<>(null);
   private final AtomicReference<V1Service> externalService = new AtomicReference<>();
+  private final AtomicReference<PodHashCheck> legacyPodHashCheck = new AtomicReference<>();
 
   ServerKubernetesObjects() {
   }
@@ -54,4 +55,22 @@ class ServerKubernetesObjects {
   AtomicReference<V1Service> getExternalService() {
     return externalService;
   }
+
+  /**
+   * The result of the last check whether the pod's hash could be matched by adjusting the recipe to the
+   * conventions of an earlier operator version.
+   *
+   * @return Check result
+   */
+  AtomicReference<PodHashCheck> getLegacyPodHashCheck() {
+    return legacyPodHashCheck;
+  }
+
+  /**
+   * The result of a pod hash check.
+   * @param key identifies the version of the pod and the recipe which were compared
+   * @param matched true if the hashes matched
+   */
+  record PodHashCheck(String key, boolean matched) {
+  }
 }
@@ -0,0 +1,323 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.Counter;
+import io.prometheus.client.CounterMetricFamily;
+import io.prometheus.client.GaugeMetricFamily;
+import io.prometheus.client.Histogram;
+import oracle.kubernetes.operator.MakeRightCoalescer;
+import oracle.kubernetes.operator.calls.ApiRateLimiter;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * Metrics which describe the operator's own processing: make-rights, calls to the Kubernetes API server,
+ * fibers, watch events and introspections. They are registered with the default registry, and so are exported
+ * by the {@link MetricsServer}.
+ */
+public final class OperatorMetrics {
+
+  private static final String PREFIX = "weblogic_operator_";
+  private static final double[] MAKE_RIGHT_BUCKETS = {0.1, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300, 600};
+
+  private static final Histogram MAKE_RIGHT_DURATION = Histogram.build()
+      .name(PREFIX + "make_right_duration_seconds")
+      .help("Time from the start of a make-right until its fiber completes")
+      .labelNames("namespace", "outcome")
+      .buckets(MAKE_RIGHT_BUCKETS)
+      .register();
+
+  private static final Histogram WATCH_EVENT_TO_MAKE_RIGHT = Histogram.build()
+      .name(PREFIX + "watch_event_to_make_right_seconds")
+      .help("Time from the receipt of a watch event until the start of the make-right which it triggered")
+      .labelNames("namespace")
+      .buckets(MAKE_RIGHT_BUCKETS)
+      .register();
+
+  private static final Histogram API_REQUEST_DURATION = Histogram.build()
+      .name(PREFIX + "api_request_duration_seconds")
+      .help("Latency of calls to the Kubernetes API server")
+      .labelNames("resource", "verb")
+      .register();
+
+  private static final Counter API_REQUEST_RETRIES = Counter.build()
+      .name(PREFIX + "api_request_retries_total")
+      .help("Calls to the Kubernetes API server which were retried after a failure")
+      .labelNames("resource", "verb")
+      .register();
+
+  private static final Counter WATCH_EVENTS = Counter.build()
+      .name(PREFIX + "watch_events_total")
+      .help("Watch events received, by kind of resource and type of event")
+      .labelNames("kind", "type")
+      .register();
+
+  private static final Counter WATCH_RESTARTS = Counter.build()
+      .name(PREFIX + "watch_restarts_total")
+      .help("Watches restarted, by kind of resource and the cause of the restart")
+      .labelNames("kind", "cause")
+      .register();
+
+  private static final Counter STATUS_WRITE_BYTES = Counter.build()
+      .name(PREFIX + "status_write_bytes_total")
+      .help("Bytes of status sent to the Kubernetes API server, by kind of resource and method of writing")
+      .labelNames("resource", "method")
+      .register();
+
+  private static final Counter STATUS_WRITES_AVOIDED = Counter.build()
+      .name(PREFIX + "status_writes_avoided_total")
+      .help("Status updates which did not need their own write, by kind of resource and reason")
+      .labelNames("resource", "reason")
+      .register();
+
+  private static final Counter FIBERS_STARTED = Counter.build()
+      .name(PREFIX + "fibers_started_total")
+      .help("Fibers started")
+      .register();
+
+  private static final Counter STEPS_RUN = Counter.build()
+      .name(PREFIX + "fiber_steps_total")
+      .help("Steps run by fibers, by step class")
+      .labelNames("step")
+      .register();
+
+  private static final Counter AUTH_REVIEW_CACHE_LOOKUPS = Counter.build()
+      .name(PREFIX + "auth_review_cache_lookups_total")
+      .help("Lookups of cached REST API token and subject access reviews, by kind of review and result")
+      .labelNames("review", "result")
+      .register();
+
+  private static final Counter INTROSPECTIONS = Counter.build()
+      .name(PREFIX + "introspections_total")
+      .help("Decisions to introspect a domain, by whether the introspector job ran or was skipped because its "
+          + "inputs were unchanged")
+      .labelNames("result")
+      .register();
+
+  private static volatile MakeRightCoalescer makeRightCoalescer;
+
+  /** The names of the kinds of fiber gates, each mapped to its gates by namespace. */
+  private static final Map<String, Map<String, FiberGate>> FIBER_GATES = new ConcurrentHashMap<>();
+
+  private static final ThreadLocal<Long> WATCH_EVENT_TIME = new ThreadLocal<>();
+
+  static {
+    new ProcessingCollector().register();
+  }
+
+  private OperatorMetrics() {
+    // no instances
+  }
+
+  /**
+   * Records the completion of a make-right. It is not labelled by domain, as a series per domain would grow
+   * without bound with the number of domains managed.
+   * @param namespace the namespace of the domain
+   * @param succeeded true if the make-right completed without a failure
+   * @param startNanos the value of {@link System#nanoTime()} when the make-right started
+   */
+  public static void recordMakeRight(String namespace, boolean succeeded, long startNanos) {
+    MAKE_RIGHT_DURATION.labels(namespace, succeeded ? "success" : "failure").observe(secondsSince(startNanos));
+  }
+
+  /**
+   * Records the start of a make-right, measuring the time since the watch event which triggered it, if any.
+   * @param namespace the namespace of the domain
+   */
+  public static void recordMakeRightStart(String namespace) {
+    Optional.ofNullable(WATCH_EVENT_TIME.get())
+        .ifPresent(eventNanos -> WATCH_EVENT_TO_MAKE_RIGHT.labels(namespace).observe(secondsSince(eventNanos)));
+  }
+
+  /**
+   * Records a call to the Kubernetes API server.
+   * @param resource the plural name of the resource type
+   * @param verb the operation performed
+   * @param startNanos the value of {@link System#nanoTime()} when the call started
+   */
+  public static void recordApiRequest(String resource, String verb, long startNanos) {
+    API_REQUEST_DURATION.labels(resource, verb).observe(secondsSince(startNanos));
+  }
+
+  public static void recordApiRetry(String resource, String verb) {
+    API_REQUEST_RETRIES.labels(resource, verb).inc();
+  }
+
+  /**
+   * Counts the fibers started and the steps which they run, by adding an adapter to those which the fiber
+   * engine applies to each step.
+   */
+  public static void installFiberMetrics() {
+    Step.addAdapter(new FiberMetricsAdapter());
+  }
+
+  /**
+   * Records a lookup of a cached token review or subject access review.
+   * @param review the kind of review
+   * @param hit true if a cached result was used
+   */
+  public static void recordAuthReviewCacheLookup(String review, boolean hit) {
+    AUTH_REVIEW_CACHE_LOOKUPS.labels(review, hit ? "hit" : "miss").inc();
+  }
+
+  /**
+   * Records a decision about running the introspector job for a domain.
+   * @param ran true if the job ran, or false if it was skipped because the inputs to introspection were unchanged
+   */
+  public static void recordIntrospection(boolean ran) {
+    INTROSPECTIONS.labels(ran ? "ran" : "skipped").inc();
+  }
+
+  /**
+   * Records the receipt of a watch event, and runs the code which handles it. Any make-right started by that
+   * code is measured from the receipt of the event.
+   * @param kind the kind of the resource changed
+   * @param type the type of the event
+   * @param handler the code to handle the event
+   */
+  public static void recordWatchEvent(String kind, String type, Runnable handler) {
+    WATCH_EVENTS.labels(kind, type).inc();
+    runForWatchEvent(System.nanoTime(), handler);
+  }
+
+  /**
+   * Records the restart of a watch.
+   * @param kind the kind of the resource watched
+   * @param cause the reason that the previous watch ended: its lifetime expired, or it failed
+   */
+  public static void recordWatchRestart(String kind, String cause) {
+    WATCH_RESTARTS.labels(kind, cause).inc();
+  }
+
+  /**
+   * Records a write of the status of a resource.
+   * @param resource the kind of the resource
+   * @param method "patch" or "replace"
+   * @param bytes the size of the body of the write
+   */
+  public static void recordStatusWrite(String resource, String method, long bytes) {
+    STATUS_WRITE_BYTES.labels(resource, method).inc(bytes);
+  }
+
+  /**
+   * Records a status update which did not make a write of its own.
+   * @param resource the kind of the resource
+   * @param reason "unchanged" if the status already had the computed value, or "coalesced" if the update was
+   *               deferred to be combined with later ones
+   */
+  public static void recordStatusWriteAvoided(String resource, String reason) {
+    STATUS_WRITES_AVOIDED.labels(resource, reason).inc();
+  }
+
+  /**
+   * Returns the time at which the watch event being handled on this thread was received, if any.
+   * @return a value of {@link System#nanoTime()}, or null if no watch event is being handled
+   */
+  public static Long getWatchEventTime() {
+    return WATCH_EVENT_TIME.get();
+  }
+
+  /**
+   * Runs code as the handling of a watch event received earlier, such as when that handling has been deferred.
+   * @param eventNanos the time at which the event was received, or null if the code does not handle an event
+   * @param handler the code to run
+   */
+  public static void runForWatchEvent(Long eventNanos, Runnable handler) {
+    final Long previous = WATCH_EVENT_TIME.get();
+    WATCH_EVENT_TIME.set(eventNanos);
+    try {
+      handler.run();
+    } finally {
+      WATCH_EVENT_TIME.set(previous);
+    }
+  }
+
+  /**
+   * Registers a set of fiber gates whose fibers in flight should be reported.
+   * @param gateKind the kind of work which the gates control
+   * @param gatesByNamespace a map of namespaces to their gates
+   */
+  public static void registerFiberGates(String gateKind, Map<String, FiberGate> gatesByNamespace) {
+    FIBER_GATES.put(gateKind, gatesByNamespace);
+  }
+
+  public static void registerMakeRightCoalescer(MakeRightCoalescer coalescer) {
+    makeRightCoalescer = coalescer;
+  }
+
+  private static double secondsSince(long startNanos) {
+    return (System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+  }
+
+  private static class FiberMetricsAdapter implements Step.StepAdapter {
+
+    @Override
+    public Step adapt(Fiber fiber, Step step, Packet packet) {
+      STEPS_RUN.labels(getStepName(step.getClass())).inc();
+      return step;
+    }
+
+    private String getStepName(Class<?> stepClass) {
+      return stepClass.isAnonymousClass() ? stepClass.getName() : stepClass.getSimpleName();
+    }
+
+    @Override
+    public void fiberStarted(Fiber fiber) {
+      FIBERS_STARTED.inc();
+    }
+  }
+
+  // Reports values which are read when metrics are collected, rather than recorded as events occur.
+  private static class ProcessingCollector extends Collector {
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+      List<MetricFamilySamples> samples = new ArrayList<>();
+      samples.add(collectFibersInFlight());
+      samples.add(collectWaitingApiCalls());
+      Optional.ofNullable(makeRightCoalescer).ifPresent(c -> samples.addAll(collectMakeRightTriggers(c)));
+      return samples;
+    }
+
+    private List<MetricFamilySamples> collectMakeRightTriggers(MakeRightCoalescer coalescer) {
+      return List.of(
+          new CounterMetricFamily(PREFIX + "make_right_triggers_received_total",
+              "Requests for make-rights caused by pod changes", coalescer.getTriggersReceived()),
+          new CounterMetricFamily(PREFIX + "make_right_triggers_merged_total",
+              "Requests for make-rights merged into an already pending make-right", coalescer.getTriggersMerged()),
+          new CounterMetricFamily(PREFIX + "make_right_triggers_executed_total",
+              "Make-rights run in response to requests caused by pod changes", coalescer.getMakeRightsExecuted()));
+    }
+
+    private MetricFamilySamples collectFibersInFlight() {
+      GaugeMetricFamily family = new GaugeMetricFamily(PREFIX + "fibers_in_flight",
+          "Fibers currently running or suspended, by fiber gate", List.of("gate", "namespace"));
+      FIBER_GATES.forEach((kind, gates) -> gates.forEach((namespace, gate) ->
+          family.addMetric(List.of(kind, namespace), gate.getCurrentFibers().size())));
+      return family;
+    }
+
+    private MetricFamilySamples collectWaitingApiCalls() {
+      GaugeMetricFamily family = new GaugeMetricFamily(PREFIX + "api_calls_waiting",
+          "Calls to the Kubernetes API server waiting for the client-side rate limiter", List.of("priority"));
+      for (ApiRateLimiter.Priority priority : ApiRateLimiter.Priority.values()) {
+        family.addMetric(List.of(priority.name().toLowerCase(Locale.ROOT)),
+            ApiRateLimiter.getInstance().getNumWaitingCalls(priority));
+      }
+      return family;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.rest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+/**
+ * A read-only view of the domain resources which the operator holds in memory, and which its watchers keep
+ * current. REST requests which only read these resources use it rather than listing them from the Kubernetes
+ * API server; requests which change resources read them from the API server instead.
+ */
+public class ResourceCache {
+
+  private final Supplier<Map<String, Map<String, DomainPresenceInfo>>> domains;
+
+  /**
+   * Creates a cache backed by the operator's domain presence info map.
+   * @param domains a supplier of the map of namespaces to domain presence infos, by domain UID
+   */
+  public ResourceCache(Supplier<Map<String, Map<String, DomainPresenceInfo>>> domains) {
+    this.domains = domains;
+  }
+
+  /**
+   * Returns the domain resources in the specified namespace.
+   * @param namespace the namespace
+   * @return a list of domain resources, or null if the operator is not yet tracking the namespace
+   */
+  @Nullable
+  List<DomainResource> getDomains(String namespace) {
+    if (!isTracking(namespace)) {
+      return null;
+    }
+    return Optional.ofNullable(domains.get().get(namespace))
+        .map(m -> m.values().stream()
+            .filter(DomainPresenceInfo::isNotDeleting)
+            .map(DomainPresenceInfo::getDomain)
+            .filter(Objects::nonNull)
+            .toList())
+        .orElse(Collections.emptyList());
+  }
+
+  // The domains map has an entry for each namespace which the operator has started tracking.
+  private boolean isTracking(String namespace) {
+    return domains.get().containsKey(namespace);
+  }
+}
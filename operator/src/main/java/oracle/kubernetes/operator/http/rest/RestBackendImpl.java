@@ -9,7 +9,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -63,6 +62,7 @@ import oracle.kubernetes.weblogic.domain.model.ClusterList;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.apache.commons.codec.digest.DigestUtils;
 
 import static oracle.kubernetes.common.logging.MessageKeys.INVALID_DOMAIN_UID;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
@@ -70,7 +70,8 @@ import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorName
 /**
  * RestBackendImpl implements the backend of the WebLogic operator REST api by making calls to
  * Kubernetes and WebLogic. A separate instance is created for each REST request since we need to
- * hold some per-request state.
+ * hold some per-request state. Where the operator already holds the domain resources in memory, requests
+ * which only read them use those copies; requests which change resources read them from Kubernetes.
  */
 public class RestBackendImpl implements RestBackend {
 
@@ -87,10 +88,16 @@ public class RestBackendImpl implements RestBackend {
         return null;
       };
 
+  private static final ReviewCache<String, V1TokenReviewStatus> TOKEN_REVIEWS
+      = new ReviewCache<>("TokenReview", RestBackendImpl::isAuthenticated);
+  private static final ReviewCache<AccessReviewKey, Boolean> ACCESS_REVIEWS
+      = new ReviewCache<>("SubjectAccessReview", Boolean::booleanValue);
+
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
   private final Supplier<Collection<String>> domainNamespaces;
+  private final ResourceCache resourceCache;
   private V1UserInfo userInfo;
   private Gson gson;
   private UnaryOperator<ApiClient> clientSupplier;
@@ -104,7 +111,23 @@ public class RestBackendImpl implements RestBackend {
    * @param domainNamespaces a function that returns the names of the managed Kubernetes namepaces.
    */
   RestBackendImpl(String principal, String accessToken, Supplier<Collection<String>> domainNamespaces) {
+    this(principal, accessToken, domainNamespaces, null);
+  }
+
+  /**
+   * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request, reading domain
+   * resources from the operator's in-memory cache for requests which do not change them.
+   *  @param principal is the name of the Kubernetes user to use when calling the Kubernetes REST
+   *     api.
+   * @param accessToken is the access token of the Kubernetes service account of the client calling
+   *     the WebLogic operator REST api.
+   * @param domainNamespaces a function that returns the names of the managed Kubernetes namepaces.
+   * @param resourceCache the cached domain resources, or null to always read them from Kubernetes
+   */
+  RestBackendImpl(String principal, String accessToken, Supplier<Collection<String>> domainNamespaces,
+                  ResourceCache resourceCache) {
     this.domainNamespaces = domainNamespaces;
+    this.resourceCache = resourceCache;
     this.principal = principal;
     userInfo = authenticate(accessToken);
     try {
@@ -124,35 +147,21 @@ public class RestBackendImpl implements RestBackend {
     if (!useAuthenticateWithTokenReview()) {
       return;
     }
-    boolean authorized;
-    if (domainUid == null) {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              null,
-              Scope.CLUSTER,
-              null);
-    } else {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              domainUid,
-              Scope.NAMESPACE,
-              getNamespace(domainUid));
-    }
-    if (!authorized) {
+    AccessReviewKey key = domainUid == null
+        ? new AccessReviewKey(userInfo, operation, null, Scope.CLUSTER, null)
+        : new AccessReviewKey(userInfo, operation, domainUid, Scope.NAMESPACE, getNamespace(domainUid));
+    if (!ACCESS_REVIEWS.get(key, () -> checkAccess(key))) {
       WebApplicationException e = createWebApplicationException(Status.FORBIDDEN, null);
       LOGGER.throwing(e);
       throw e;
     }
   }
 
+  private boolean checkAccess(AccessReviewKey key) {
+    return atz.check(key.user(), key.groups(), key.operation(), Resource.DOMAINS,
+        key.resourceName(), key.scope(), key.namespace());
+  }
+
   private String getNamespace(String domainUid) {
     return getDomain(domainUid).map(DomainResource::getMetadata).map(V1ObjectMeta::getNamespace).orElse(null);
   }
@@ -162,8 +171,9 @@ public class RestBackendImpl implements RestBackend {
     if (!useAuthenticateWithTokenReview()) {
       return null;
     }
-    V1TokenReviewStatus status = atn.check(principal, accessToken,
-        OperatorMain.isDedicated() ? getOperatorNamespace() : null);
+    String namespace = OperatorMain.isDedicated() ? getOperatorNamespace() : null;
+    V1TokenReviewStatus status = TOKEN_REVIEWS.get(getTokenReviewKey(accessToken, namespace),
+        () -> atn.check(principal, accessToken, namespace));
     if (status == null) {
       throw new AssertionError(LOGGER.formatMessage(MessageKeys.NULL_TOKEN_REVIEW_STATUS));
     }
@@ -186,10 +196,19 @@ public class RestBackendImpl implements RestBackend {
     return userInfo;
   }
 
-  private boolean isNotAuthenticated(@Nonnull V1TokenReviewStatus status) {
+  // The token is a credential, so only its hash is kept as a key.
+  private String getTokenReviewKey(String accessToken, String namespace) {
+    return DigestUtils.sha256Hex(Optional.ofNullable(accessToken).orElse("")) + "/" + namespace;
+  }
+
+  private static boolean isNotAuthenticated(@Nonnull V1TokenReviewStatus status) {
     return !Boolean.TRUE.equals(status.getAuthenticated());
   }
 
+  private static boolean isAuthenticated(@Nonnull V1TokenReviewStatus status) {
+    return status.getError() == null && !isNotAuthenticated(status);
+  }
+
   @Override
   public Set<String> getDomainUids() {
     authorize(null, Operation.LIST);
@@ -201,11 +220,11 @@ public class RestBackendImpl implements RestBackend {
     return domainNamespaces.get().stream().map(this::getDomains).flatMap(Collection::stream);
   }
 
-  private Stream<ClusterResource> getClusterStream() {
-    return domainNamespaces.get().stream().map(this::getClusterResources).flatMap(Collection::stream);
+  private List<DomainResource> getDomains(String ns) {
+    return Optional.ofNullable(resourceCache).map(c -> c.getDomains(ns)).orElseGet(() -> listDomains(ns));
   }
 
-  private List<DomainResource> getDomains(String ns) {
+  private List<DomainResource> listDomains(String ns) {
     try {
       return RequestBuilder.DOMAIN.list(ns, new ListOptions(), clientSupplier).getItems();
     } catch (ApiException e) {
@@ -213,7 +232,7 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
-  private List<ClusterResource> getClusterResources(String ns) {
+  private List<ClusterResource> listClusterResources(String ns) {
     try {
       return RequestBuilder.CLUSTER.list(ns, new ListOptions(), clientSupplier).getItems();
     } catch (ApiException e) {
@@ -287,7 +306,16 @@ public class RestBackendImpl implements RestBackend {
       throw new AssertionError(LOGGER.formatMessage(MessageKeys.NULL_DOMAIN_UID));
     }
 
-    getDomain(domainUid).ifPresentOrElse(consumer, () -> reportNotFound(domainUid));
+    readDomain(domainUid).ifPresentOrElse(consumer, () -> reportNotFound(domainUid));
+  }
+
+  // Changes are computed from the resources as Kubernetes currently holds them, rather than from the cache,
+  // which may not yet reflect recent updates.
+  private Optional<DomainResource> readDomain(String domainUid) {
+    authorize(null, Operation.LIST);
+
+    return domainNamespaces.get().stream().map(this::listDomains).flatMap(Collection::stream)
+        .filter(domain -> domainUid.equals(domain.getDomainUid())).findFirst();
   }
 
   private void reportNotFound(String domainUid) {
@@ -300,21 +328,16 @@ public class RestBackendImpl implements RestBackend {
     return getDomainStream().filter(domain -> domainUid.equals(domain.getDomainUid())).findFirst();
   }
 
-  private Optional<ClusterResource> getClusterResource(DomainResource domain, String clusterName) {
+  private Optional<ClusterResource> readClusterResource(DomainResource domain, String clusterName) {
     authorize(null, Operation.LIST);
 
     List<String> referencedClusterResources = getReferencedClusterResourceNames(domain);
-    return getClusterStream()
-        .filter(c -> isInSameNamespace(c, domain))
+    return listClusterResources(domain.getNamespace()).stream()
         .filter(c -> isReferencedByDomain(c, referencedClusterResources))
         .filter(c -> isMatchingClusterResource(clusterName, c))
         .findFirst();
   }
 
-  private boolean isInSameNamespace(ClusterResource clusterResource, DomainResource domain) {
-    return Objects.equals(clusterResource.getNamespace(), domain.getNamespace());
-  }
-
   private boolean isReferencedByDomain(ClusterResource clusterResource, List<String> referencedClusterResources) {
     return Optional.ofNullable(referencedClusterResources)
         .map(l -> l.contains(clusterResource.getClusterResourceName()))
@@ -356,7 +379,7 @@ public class RestBackendImpl implements RestBackend {
   private void performScaling(DomainResource domain, String cluster, int managedServerCount) {
     verifyWlsConfiguredClusterCapacity(domain.getDomainUid(), cluster, managedServerCount);
 
-    getClusterResource(domain, cluster)
+    readClusterResource(domain, cluster)
         .ifPresentOrElse(cr -> patchClusterResourceReplicas(cr, managedServerCount),
             () -> createClusterIfNecessary(domain, cluster, managedServerCount));
   }
@@ -416,6 +439,17 @@ public class RestBackendImpl implements RestBackend {
         .withReplicas(replicas);
     try {
       RequestBuilder.CLUSTER.create(cluster, new CreateOptions(), clientSupplier);
+    } catch (ApiException e) {
+      if (e.getCode() != KubernetesConstants.HTTP_CONFLICT) {
+        throw handleApiException(e);
+      }
+      patchClusterResourceReplicas(readCluster(namespace, cluster.getMetadata().getName()), replicas);
+    }
+  }
+
+  private ClusterResource readCluster(String namespace, String name) {
+    try {
+      return RequestBuilder.CLUSTER.get(namespace, name, new GetOptions(), clientSupplier);
     } catch (ApiException e) {
       throw handleApiException(e);
     }
@@ -588,7 +622,20 @@ public class RestBackendImpl implements RestBackend {
     return this;
   }
 
+  // Intended for unit tests
+  static void clearReviewCaches() {
+    TOKEN_REVIEWS.clear();
+    ACCESS_REVIEWS.clear();
+  }
+
   interface TopologyRetriever {
     WlsDomainConfig getWlsDomainConfig(String ns, String domainUid);
   }
+
+  private record AccessReviewKey(String user, List<String> groups, Operation operation, String resourceName,
+                                 Scope scope, String namespace) {
+    AccessReviewKey(V1UserInfo userInfo, Operation operation, String resourceName, Scope scope, String namespace) {
+      this(userInfo.getUsername(), userInfo.getGroups(), operation, resourceName, scope, namespace);
+    }
+  }
 }
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
@@ -16,6 +16,7 @@ public class RestConfigImpl implements RestConfig {
 
   private final String principal;
   private final Supplier<Collection<String>> domainNamespaces;
+  private final ResourceCache resourceCache;
   private final Certificates certificates;
 
   /**
@@ -23,7 +24,7 @@ public class RestConfigImpl implements RestConfig {
    * @param certificates Certificates.
    */
   public RestConfigImpl(Certificates certificates) {
-    this(null, null, certificates);
+    this(null, null, null, certificates);
   }
 
   /**
@@ -31,10 +32,13 @@ public class RestConfigImpl implements RestConfig {
    *  @param principal is the name of the Kubernetes User or Service Account to use when calling the
    *     Kubernetes REST API.
    * @param domainNamespaces returns a list of the Kubernetes Namespaces covered by this Operator.
+   * @param resourceCache the domain and cluster resources held by this Operator, or null if there are none
    * @param certificates Certificates
    */
-  public RestConfigImpl(String principal, Supplier<Collection<String>> domainNamespaces, Certificates certificates) {
+  public RestConfigImpl(String principal, Supplier<Collection<String>> domainNamespaces,
+                        ResourceCache resourceCache, Certificates certificates) {
     this.domainNamespaces = domainNamespaces;
+    this.resourceCache = resourceCache;
     this.principal = principal;
     this.certificates = certificates;
   }
@@ -101,7 +105,7 @@ public class RestConfigImpl implements RestConfig {
 
   @Override
   public RestBackend getBackend(String accessToken) {
-    return new RestBackendImpl(principal, accessToken, domainNamespaces);
+    return new RestBackendImpl(principal, accessToken, domainNamespaces, resourceCache);
   }
 
   @Override
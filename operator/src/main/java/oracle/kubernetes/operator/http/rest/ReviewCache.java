@@ -0,0 +1,121 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.rest;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * A bounded cache of the results of the reviews which the REST API asks Kubernetes to make, so that repeated
+ * requests made with the same credentials do not each wait for them. Favorable and unfavorable results expire
+ * after separate, configurable times; when both are zero, every lookup makes a new review.
+ *
+ * @param <K> the type of the key which identifies a review
+ * @param <V> the type of the result of a review
+ */
+final class ReviewCache<K, V> {
+
+  private final String name;
+  private final Predicate<V> isFavorable;
+  private final Map<K, CachedResult<V>> results = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, CachedResult<V>> eldest) {
+      return size() > getMaxEntries();
+    }
+  };
+
+  /**
+   * Creates a cache.
+   * @param name the name of the kind of review, used to label metrics
+   * @param isFavorable a test which returns true for results that expire after the positive TTL
+   */
+  ReviewCache(String name, Predicate<V> isFavorable) {
+    this.name = name;
+    this.isFavorable = isFavorable;
+  }
+
+  /**
+   * Returns the result of a review, either from the cache or by making the review. A null result, which
+   * indicates that the review could not be made, is never cached.
+   * @param key the key which identifies the review
+   * @param review a supplier which makes the review
+   * @return the result of the review
+   */
+  V get(K key, Supplier<V> review) {
+    if (isDisabled()) {
+      return review.get();
+    }
+
+    V cached = getCachedResult(key);
+    OperatorMetrics.recordAuthReviewCacheLookup(name, cached != null);
+    if (cached != null) {
+      return cached;
+    }
+
+    V result = review.get();
+    Optional.ofNullable(result).ifPresent(r -> addResult(key, r));
+    return result;
+  }
+
+  private synchronized V getCachedResult(K key) {
+    CachedResult<V> cached = results.get(key);
+    if (cached == null) {
+      return null;
+    } else if (cached.isExpired()) {
+      results.remove(key);
+      return null;
+    } else {
+      return cached.result();
+    }
+  }
+
+  private synchronized void addResult(K key, V result) {
+    int ttlSeconds = isFavorable.test(result) ? getTtlSeconds() : getNegativeTtlSeconds();
+    if (ttlSeconds > 0) {
+      results.put(key, new CachedResult<>(result, SystemClock.now().plusSeconds(ttlSeconds)));
+    }
+  }
+
+  synchronized void clear() {
+    results.clear();
+  }
+
+  // for test
+  synchronized int size() {
+    return results.size();
+  }
+
+  private boolean isDisabled() {
+    return getTtlSeconds() <= 0 && getNegativeTtlSeconds() <= 0;
+  }
+
+  private int getTtlSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getAuthReviewCacheTtlSeconds).orElse(0);
+  }
+
+  private int getNegativeTtlSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getAuthReviewCacheNegativeTtlSeconds).orElse(0);
+  }
+
+  private int getMaxEntries() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getAuthReviewCacheMaxEntries).orElse(0);
+  }
+
+  private record CachedResult<V>(V result, OffsetDateTime expiration) {
+    boolean isExpired() {
+      return !SystemClock.now().isBefore(expiration);
+    }
+  }
+}
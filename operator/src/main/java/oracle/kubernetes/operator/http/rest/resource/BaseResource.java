@@ -4,11 +4,17 @@
 package oracle.kubernetes.operator.http.rest.resource;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
 
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.core.UriBuilder;
@@ -28,6 +34,7 @@ public class BaseResource {
 
   @Context private UriInfo uriInfo;
   @Context private ContainerRequestContext containerRequestContext;
+  @Context private Request request;
 
   protected BaseResource(BaseResource parent, String pathSegment) {
     this.parent = parent;
@@ -55,6 +62,10 @@ public class BaseResource {
     return getRoot().containerRequestContext;
   }
 
+  protected Request getRequest() {
+    return getRoot().request;
+  }
+
   protected BaseResource getRoot() {
     return (getParent() != null) ? getParent().getRoot() : this;
   }
@@ -75,6 +86,23 @@ public class BaseResource {
     lc.addLink(rel, href(rel));
   }
 
+  /**
+   * Creates the response to a request for a collection, tagged with an entity tag derived from the identifiers
+   * of its items. If the request's If-None-Match header already names that tag, the response is
+   * 304 (Not Modified), without the collection.
+   *
+   * @param collection the collection to return
+   * @param itemIds the identifiers of the items in the collection
+   * @return the response
+   */
+  protected Response collectionResponse(Object collection, Collection<String> itemIds) {
+    EntityTag tag = new EntityTag(Integer.toHexString(Objects.hash(href(), new TreeSet<>(itemIds))));
+    return Optional.ofNullable(getRequest().evaluatePreconditions(tag))
+        .orElseGet(() -> Response.ok(collection))
+        .tag(tag)
+        .build();
+  }
+
   protected WebApplicationException notFound(String pathSegment) {
     String notFoundHref = href(pathSegment);
     return new WebApplicationException(
@@ -3,12 +3,15 @@
 
 package oracle.kubernetes.operator.http.rest.resource;
 
+import java.util.Set;
+
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import oracle.kubernetes.operator.http.rest.model.ClusterModel;
 import oracle.kubernetes.operator.http.rest.model.CollectionModel;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -36,22 +39,23 @@ public class ClustersResource extends BaseResource {
   /**
    * List a WebLogic domain's clusters.
    *
-   * @return a collection of ClusterModels describing the clusters.
+   * @return a response containing a collection of ClusterModels describing the clusters.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<ClusterModel> get() {
+  public Response get() {
     LOGGER.entering(href());
     String domainUid = getDomainUid();
     CollectionModel<ClusterModel> collection = new CollectionModel<>();
-    for (String cluster : getBackend().getClusters(domainUid)) {
+    Set<String> clusters = getBackend().getClusters(domainUid);
+    for (String cluster : clusters) {
       ClusterModel item = new ClusterModel(cluster);
       item.addSelfLinks(href(item.getCluster()));
       collection.addItem(item);
     }
     addSelfAndParentLinks(collection);
     LOGGER.exiting(collection);
-    return collection;
+    return collectionResponse(collection, clusters);
   }
 
   /**
@@ -3,12 +3,15 @@
 
 package oracle.kubernetes.operator.http.rest.resource;
 
+import java.util.Set;
+
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import oracle.kubernetes.operator.http.rest.model.CollectionModel;
 import oracle.kubernetes.operator.http.rest.model.DomainModel;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -36,21 +39,22 @@ public class DomainsResource extends BaseResource {
   /**
    * List the WebLogic domains that are registered with the WebLogic operator.
    *
-   * @return a collection of DomainModels describing the domains.
+   * @return a response containing a collection of DomainModels describing the domains.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<DomainModel> get() {
+  public Response get() {
     LOGGER.entering(href());
     CollectionModel<DomainModel> collection = new CollectionModel<>();
-    for (String domainUid : getBackend().getDomainUids()) {
+    Set<String> domainUids = getBackend().getDomainUids();
+    for (String domainUid : domainUids) {
       DomainModel item = new DomainModel(domainUid);
       item.addSelfLinks(href(item.getDomainUid()));
       collection.addItem(item);
     }
     addSelfAndParentLinks(collection);
     LOGGER.exiting(collection);
-    return collection;
+    return collectionResponse(collection, domainUids);
   }
 
   /**
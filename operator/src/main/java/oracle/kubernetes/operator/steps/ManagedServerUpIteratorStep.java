@@ -83,7 +83,7 @@ public class ManagedServerUpIteratorStep extends Step {
     if (!startDetails.isEmpty()) {
       work.add(
               new Fiber.StepAndPacket(
-                      new StartManagedServersStep(null, 0, startDetails, null), packet));
+                      new StartManagedServersStep(null, 0, startDetails, null), packet.copy()));
     }
 
     for (Map.Entry<String, StartClusteredServersStepFactory> entry
@@ -97,14 +97,15 @@ public class ManagedServerUpIteratorStep extends Step {
     Collection<Fiber.StepAndPacket> startupWaiters =
             startupInfos.stream()
                     .map(ssi -> createManagedServerUpWaiters(packet, ssi)).toList();
-    work.addAll(startupWaiters);
+    Step waitForServersStep = new WaitForManagedPodsReadyStep(startupWaiters,
+            DomainStatusUpdater.createStatusUpdateStep(new ManagedServerUpAfterStep(getNext())));
 
+    // the waiters run only after the servers have been started, as the child fibers of a fork-join run concurrently
     if (!work.isEmpty()) {
-      return doForkJoin(DomainStatusUpdater.createStatusUpdateStep(
-              new ManagedServerUpAfterStep(getNext())), packet, work);
+      return doForkJoin(waitForServersStep, packet, work);
     }
 
-    return doNext(DomainStatusUpdater.createStatusUpdateStep(new ManagedServerUpAfterStep(getNext())), packet);
+    return doNext(waitForServersStep, packet);
   }
 
   // Adds an empty map to both the packet and the domain presence info to track servers that need to be rolled
@@ -134,6 +135,20 @@ public class ManagedServerUpIteratorStep extends Step {
             createPacketForServer(packet, ssi));
   }
 
+  static class WaitForManagedPodsReadyStep extends Step {
+    private final Collection<Fiber.StepAndPacket> startupWaiters;
+
+    WaitForManagedPodsReadyStep(Collection<Fiber.StepAndPacket> startupWaiters, Step next) {
+      super(next);
+      this.startupWaiters = startupWaiters;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doForkJoin(getNext(), packet, startupWaiters);
+    }
+  }
+
   static class ManagedPodReadyStep extends Step {
     private final String serverName;
 
@@ -10,10 +10,10 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
@@ -30,6 +30,7 @@ import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.http.client.HttpResponseStep;
 import oracle.kubernetes.operator.http.rest.Scan;
@@ -37,7 +38,6 @@ import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.wlsconfig.PortDetails;
-import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Packet;
@@ -46,6 +46,7 @@ import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
 
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.AGGREGATE_SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static oracle.kubernetes.operator.steps.HttpRequestProcessing.createRequestStep;
@@ -72,11 +73,30 @@ public class ReadHealthStep extends Step {
     return new ReadHealthStep(next);
   }
 
+  /**
+   * Creates asynchronous {@link Step} to read the state and health of all running servers in a domain with
+   * a single request to its admin server. The results are recorded under AGGREGATE_SERVER_HEALTH_MAP,
+   * from which the step created by {@link #createReadHealthStep(Step)} takes them in place of reading
+   * each server directly. If the admin server is not ready, or does not respond, nothing is recorded.
+   *
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadAggregateHealthStep(Step next) {
+    return new ReadAggregateHealthStep(next);
+  }
+
   // overallHealthState, healthState
 
   @Override
   public @Nonnull Result apply(Packet packet) {
     String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+    Pair<String, ServerHealth> aggregatedStateAndHealth = getAggregatedStateAndHealth(packet, serverName);
+    if (aggregatedStateAndHealth != null) {
+      RecordHealthStep.recordSuccessfulRead(packet, aggregatedStateAndHealth);
+      return doNext(packet);
+    }
+
     DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
     V1Service service = info.getServerService(serverName);
     if (service == null) {
@@ -90,10 +110,47 @@ public class ReadHealthStep extends Step {
     }
   }
 
+  private static Pair<String, ServerHealth> getAggregatedStateAndHealth(Packet packet, String serverName) {
+    return Optional.ofNullable(packet.<Map<String, Pair<String, ServerHealth>>>getValue(AGGREGATE_SERVER_HEALTH_MAP))
+        .map(m -> m.get(serverName))
+        .orElse(null);
+  }
+
+  private static class ReadAggregateHealthStep extends Step {
+
+    ReadAggregateHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      String adminServerName = info.getAdminServerName();
+      V1Service service = Optional.ofNullable(adminServerName).map(info::getServerService).orElse(null);
+      V1Pod pod = Optional.ofNullable(adminServerName).map(info::getServerPod).orElse(null);
+      if (service == null || !PodHelper.hasReadyStatus(pod)) {
+        return doNext(packet);
+      } else {
+        return doNext(
+            Step.chain(
+                SecretHelper.createAuthorizationSourceStep(),
+                new ReadAggregateHealthWithHttpStep(service, pod, adminServerName, getNext())),
+            packet);
+      }
+    }
+  }
+
   static final class ReadHealthProcessing extends HttpRequestProcessing {
 
+    private final String serverName;
+
     ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod) {
+      this(packet, service, pod, (String) packet.get(ProcessingConstants.SERVER_NAME));
+    }
+
+    ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod, String serverName) {
       super(packet, service, pod);
+      this.serverName = serverName;
     }
 
     private static String getRetrieveHealthSearchPath() {
@@ -104,15 +161,28 @@ public class ReadHealthStep extends Step {
       return "{ fields: [ 'state', 'overallHealthState', 'activationTime' ], links: [] }";
     }
 
+    private static String getRetrieveAggregateHealthSearchPath() {
+      return "/management/weblogic/latest/domainRuntime/serverRuntimes/search";
+    }
+
+    private static String getRetrieveAggregateHealthSearchPayload() {
+      return "{ fields: [ 'name', 'state', 'overallHealthState', 'activationTime' ], links: [] }";
+    }
+
     private HttpRequest createRequest() {
-      LOGGER.finer("Create REST request to service URL: " + getRequestUrl());
-      return createRequestBuilder(getRequestUrl(), HTTP_TIMEOUT_SECONDS)
-            .POST(HttpRequest.BodyPublishers.ofString(getRetrieveHealthSearchPayload()))
-            .build();
+      return createSearchRequest(getRetrieveHealthSearchPath(), getRetrieveHealthSearchPayload());
     }
 
-    private String getRequestUrl() {
-      return getServiceUrl() + getRetrieveHealthSearchPath();
+    private HttpRequest createAggregateRequest() {
+      return createSearchRequest(getRetrieveAggregateHealthSearchPath(), getRetrieveAggregateHealthSearchPayload());
+    }
+
+    private HttpRequest createSearchRequest(String path, String payload) {
+      String url = getServiceUrl() + path;
+      LOGGER.finer("Create REST request to service URL: " + url);
+      return createRequestBuilder(url, HTTP_TIMEOUT_SECONDS)
+            .POST(HttpRequest.BodyPublishers.ofString(payload))
+            .build();
     }
 
     protected PortDetails getPortDetails() {
@@ -131,9 +201,7 @@ public class ReadHealthStep extends Step {
 
       if (serverConfig == null) {
         // dynamic or configured server in a cluster
-        String clusterName = getClusterNameFromServiceLabel();
-        WlsClusterConfig cluster = getWlsDomainConfig().getClusterConfig(clusterName);
-        serverConfig = findServerConfig(cluster);
+        serverConfig = getWlsDomainConfig().getClusteredServerConfig(getClusterNameFromServiceLabel(), getServerName());
       }
       return serverConfig;
     }
@@ -146,17 +214,8 @@ public class ReadHealthStep extends Step {
           .orElse(null);
     }
 
-    private WlsServerConfig findServerConfig(WlsClusterConfig wlsClusterConfig) {
-      for (WlsServerConfig serverConfig : wlsClusterConfig.getServerConfigs()) {
-        if (Objects.equals(getServerName(), serverConfig.getName())) {
-          return serverConfig;
-        }
-      }
-      return null;
-    }
-
     private String getServerName() {
-      return (String) getPacket().get(ProcessingConstants.SERVER_NAME);
+      return serverName;
     }
 
     private WlsDomainConfig getWlsDomainConfig() {
@@ -199,6 +258,87 @@ public class ReadHealthStep extends Step {
 
   }
 
+  /**
+   * Step to send a query to the admin server to obtain the health of all running servers in the domain.
+   * Packet values used:
+   *  DOMAIN_TOPOLOGY                   the topology of the domain
+   */
+  static final class ReadAggregateHealthWithHttpStep extends Step {
+    @Nonnull
+    private final V1Service service;
+    private final V1Pod pod;
+    private final String adminServerName;
+
+    ReadAggregateHealthWithHttpStep(@Nonnull V1Service service, V1Pod pod, String adminServerName, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+      this.adminServerName = adminServerName;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      ReadHealthProcessing processing = new ReadHealthProcessing(packet, service, pod, adminServerName);
+      if (processing.getWlsServerConfig() == null) {
+        return doNext(packet);
+      }
+      return doNext(
+          createRequestStep(processing.createAggregateRequest(), new RecordAggregateHealthStep(getNext())), packet);
+    }
+  }
+
+  /**
+   * {@link Step} for processing json result object containing the response from the aggregate REST call.
+   * Servers missing from the response, or all servers if the call fails, are left to be read directly.
+   * Packet values used:
+   *  AGGREGATE_SERVER_HEALTH_MAP       a map of server names to state and health, to be filled in
+   *  (spi) HttpResponse.class          the response from the admin server
+   */
+  static final class RecordAggregateHealthStep extends HttpResponseStep {
+
+    RecordAggregateHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, HttpResponse<String> response) {
+      try {
+        Map<String, Pair<String, ServerHealth>> aggregatedHealth = parseAggregateHealthJson(response.body());
+        Optional.ofNullable(packet.<Map<String, Pair<String, ServerHealth>>>getValue(AGGREGATE_SERVER_HEALTH_MAP))
+            .ifPresent(m -> m.putAll(aggregatedHealth));
+      } catch (Throwable t) {
+        LOGGER.fine("Unable to parse aggregate server health: " + t);
+      }
+      return doNextWithoutResponse(packet);
+    }
+
+    @Override
+    public Result onFailure(Packet packet, HttpResponse<String> response) {
+      return doNextWithoutResponse(packet);
+    }
+
+    // the response from the admin server must not be mistaken for that of a later request
+    private Result doNextWithoutResponse(Packet packet) {
+      packet.remove(RESPONSE);
+      packet.remove(THROWABLE);
+      return doNext(packet);
+    }
+
+    private static Map<String, Pair<String, ServerHealth>> parseAggregateHealthJson(String jsonResult)
+        throws IOException {
+      Map<String, Pair<String, ServerHealth>> result = new HashMap<>();
+      if (jsonResult != null) {
+        Iterator<JsonNode> items = new ObjectMapper().readTree(jsonResult).path("items").elements();
+        while (items.hasNext()) {
+          JsonNode item = items.next();
+          Optional.ofNullable(emptyToNull(item.path("name").asText()))
+              .ifPresent(name -> result.put(name, RecordHealthStep.HealthResponseProcessing.parseServerHealth(item)));
+        }
+      }
+      return result;
+    }
+  }
+
   /**
    * {@link Step} for processing json result object containing the response from the REST call.
    * Packet values used:
@@ -217,10 +357,7 @@ public class ReadHealthStep extends Step {
     @Override
     public Result onSuccess(Packet packet, HttpResponse<String> response) {
       try {
-        HealthResponseProcessing responseProcessing = new HealthResponseProcessing(packet, response);
-        responseProcessing.recordStateAndHealth();
-        responseProcessing.resetHttpRequestFailureCount();
-        decrementIntegerInPacketAtomically(packet, REMAINING_SERVERS_HEALTH_TO_READ);
+        recordSuccessfulRead(packet, HealthResponseProcessing.parseServerHealthJson(response.body()));
 
         return doNext(packet);
       } catch (Throwable t) {
@@ -230,6 +367,13 @@ public class ReadHealthStep extends Step {
       }
     }
 
+    static void recordSuccessfulRead(Packet packet, Pair<String, ServerHealth> stateAndHealth) {
+      HealthResponseProcessing responseProcessing = new HealthResponseProcessing(packet, null);
+      responseProcessing.recordStateAndHealth(stateAndHealth);
+      responseProcessing.resetHttpRequestFailureCount();
+      decrementIntegerInPacketAtomically(packet, REMAINING_SERVERS_HEALTH_TO_READ);
+    }
+
     @SuppressWarnings("SameParameterValue")
     private static void decrementIntegerInPacketAtomically(Packet packet, String key) {
       packet.<AtomicInteger>getValue(key).getAndDecrement();
@@ -282,8 +426,10 @@ public class ReadHealthStep extends Step {
         }
 
         ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(jsonResult);
+        return parseServerHealth(mapper.readTree(jsonResult));
+      }
 
+      private static Pair<String, ServerHealth> parseServerHealth(JsonNode root) {
         JsonNode healthState = null;
         JsonNode subsystemName = null;
         JsonNode symptoms = null;
@@ -336,8 +482,7 @@ public class ReadHealthStep extends Step {
         return new Pair<>(stateVal, health);
       }
 
-      void recordStateAndHealth() throws IOException {
-        Pair<String, ServerHealth> pair = parseServerHealthJson(getResponse().body());
+      void recordStateAndHealth(Pair<String, ServerHealth> pair) {
         String state = emptyToNull(Optional.ofNullable(pair).map(Pair::left).orElse(null));
         ServerHealth health = Optional.ofNullable(pair).map(Pair::right).orElse(null);
         recordStateAndHealth(state, health);
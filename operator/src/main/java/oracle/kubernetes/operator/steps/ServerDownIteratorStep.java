@@ -226,12 +226,12 @@ public class ServerDownIteratorStep extends Step {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-
-      if (serversToShutdown.isEmpty()) {
+      // the queue is shared by concurrent fibers, so another one may take the last server between a check and a poll
+      final Fiber.StepAndPacket server = serversToShutdown.poll();
+      if (server == null) {
         return doNext(packet);
       } else {
-        Collection<Fiber.StepAndPacket> servers = Collections.singletonList(serversToShutdown.poll());
-        return doForkJoin(this, packet, servers);
+        return doForkJoin(this, packet, Collections.singletonList(server));
       }
     }
   }
@@ -10,7 +10,6 @@ import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
@@ -39,7 +38,6 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
 import oracle.kubernetes.operator.wlsconfig.PortDetails;
-import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Packet;
@@ -185,7 +183,6 @@ public class ShutdownManagedServerStep extends Step {
       shutdownType = shutdownType == null ? Optional.ofNullable(shutdown).map(Shutdown::getShutdownType)
           .orElse(ShutdownType.GRACEFUL).toString() : shutdownType;
 
-
       return shutdownType.equalsIgnoreCase(ShutdownType.GRACEFUL.toString());
     }
 
@@ -265,9 +262,7 @@ public class ShutdownManagedServerStep extends Step {
 
       if (serverConfig == null) {
         // dynamic or configured server in a cluster
-        String clusterName = getClusterNameFromServiceLabel();
-        WlsClusterConfig cluster = getWlsDomainConfig().getClusterConfig(clusterName);
-        serverConfig = findServerConfig(cluster);
+        serverConfig = getWlsDomainConfig().getClusteredServerConfig(getClusterNameFromServiceLabel(), getServerName());
       }
       return serverConfig;
     }
@@ -280,15 +275,6 @@ public class ShutdownManagedServerStep extends Step {
           .orElse(null);
     }
 
-    private WlsServerConfig findServerConfig(WlsClusterConfig wlsClusterConfig) {
-      for (WlsServerConfig serverConfig : wlsClusterConfig.getServerConfigs()) {
-        if (Objects.equals(getServerName(), serverConfig.getName())) {
-          return serverConfig;
-        }
-      }
-      return null;
-    }
-
     private String getServerName() {
       return this.getPod().getMetadata().getLabels().get(LabelConstants.SERVERNAME_LABEL);
     }
@@ -13,4 +13,20 @@ public interface CallBuilderTuning {
   int getCallMaxRetryCount();
 
   int getCallTimeoutSeconds();
+
+  /**
+   * Returns the sustained rate, in calls per second, at which the operator may call the Kubernetes API server.
+   * Zero or less disables client-side rate limiting.
+   */
+  int getApiRequestsPerSecond();
+
+  /**
+   * Returns the number of calls which may be made at once, above the sustained rate, after a quiet period.
+   */
+  int getApiRequestBurst();
+
+  /**
+   * Returns the percentage of the overall rate and burst which calls for resources in any one namespace may use.
+   */
+  int getApiNamespaceSharePercent();
 }
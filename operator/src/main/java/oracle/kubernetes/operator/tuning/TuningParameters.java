@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.tuning;
@@ -34,17 +34,27 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
  */
 public class TuningParameters {
   public static final int DEFAULT_CALL_LIMIT = 50;
+  public static final int DEFAULT_FORK_JOIN_CONCURRENCY_LIMIT = 32;
+  public static final int DEFAULT_NAMESPACE_LIST_CONCURRENCY_LIMIT = 16;
 
   //----------- supported tuning parameters. ------------
 
   public static final String WATCH_LIFETIME = "watchLifetime";
+  public static final String WATCH_LIFETIME_JITTER_PERCENT = "watchLifetimeJitterPercent";
   public static final String WATCH_MINIMUM_DELAY = "watchMinimumDelay";
   public static final String WATCH_BACKSTOP_RECHECK_COUNT = "watchBackstopRecheckCount";
   public static final String WATCH_BACKSTOP_RECHECK_DELAY_SECONDS = "watchBackstopRecheckDelaySeconds";
+  public static final String SHARED_INFORMER_ENABLED = "sharedInformerEnabled";
+  public static final String SLIM_SERVER_CACHE_ENABLED = "slimServerCacheEnabled";
 
   public static final String CALL_REQUEST_LIMIT = "callRequestLimit";
   public static final String CALL_MAX_RETRY_COUNT = "callMaxRetryCount";
   public static final String CALL_TIMEOUT_SECONDS = "callTimeoutSeconds";
+  public static final String API_REQUESTS_PER_SECOND = "apiRequestsPerSecond";
+  public static final String API_REQUEST_BURST = "apiRequestBurst";
+  public static final String API_NAMESPACE_SHARE_PERCENT = "apiNamespaceSharePercent";
+  public static final String FORK_JOIN_CONCURRENCY_LIMIT = "forkJoinConcurrencyLimit";
+  public static final String NAMESPACE_LIST_CONCURRENCY_LIMIT = "namespaceListConcurrencyLimit";
 
   public static final String READINESS_INITIAL_DELAY_SECONDS = "readinessProbeInitialDelaySeconds";
   public static final String READINESS_TIMEOUT_SECONDS = "readinessProbeTimeoutSeconds";
@@ -62,13 +72,27 @@ public class TuningParameters {
   public static final String DOMAIN_PRESENCE_RECHECK_INTERVAL_SECONDS = "domainPresenceRecheckIntervalSeconds";
   public static final String DOMAIN_NAMESPACE_RECHECK_INTERVAL_SECONDS = "domainNamespaceRecheckIntervalSeconds";
   public static final String STUCK_POD_RECHECK_SECONDS = "stuckPodRecheckSeconds";
+  public static final String STUCK_POD_DETECTION_FROM_WATCH = "stuckPodDetectionFromWatch";
   public static final String STATUS_UPDATE_TIMEOUT_SECONDS = "statusUpdateTimeoutSeconds";
   public static final String STATUS_UPDATE_INITIAL_SHORT_DELAY = "statusUpdateInitialShortDelay";
   public static final String STATUS_UPDATE_EVENTUAL_LONG_DELAY = "statusUpdateEventualLongDelay";
+  public static final String STATUS_PATCH_ENABLED = "statusPatchEnabled";
+  public static final String STATUS_WRITE_COALESCING_SECONDS = "statusWriteCoalescingSeconds";
   public static final String SECRET_REREAD_INTERVAL_SECONDS = "weblogicCredentialsSecretRereadIntervalSeconds";
   public static final String MAX_READY_WAIT_TIME_SECONDS = "maxReadyWaitTimeSeconds";
   public static final String MAX_PENDING_WAIT_TIME_SECONDS = "maxPendingWaitTimeSeconds";
   public static final String RESTART_EVICTED_PODS = "restartEvictedPods";
+  public static final String AGGREGATE_SERVER_HEALTH_READ = "aggregateServerHealthRead";
+  public static final String AUTH_REVIEW_CACHE_TTL_SECONDS = "authReviewCacheTtlSeconds";
+  public static final String AUTH_REVIEW_CACHE_NEGATIVE_TTL_SECONDS = "authReviewCacheNegativeTtlSeconds";
+  public static final String AUTH_REVIEW_CACHE_MAX_ENTRIES = "authReviewCacheMaxEntries";
+  public static final String MAKE_RIGHT_QUIET_PERIOD_MILLIS = "makeRightQuietPeriodMillis";
+  public static final String MAKE_RIGHT_MAX_LATENCY_MILLIS = "makeRightMaxLatencyMillis";
+  public static final String EVENT_SPAM_BURST = "eventSpamBurst";
+  public static final String EVENT_SPAM_REFILL_SECONDS = "eventSpamRefillSeconds";
+  public static final String EVENT_AGGREGATION_WINDOW_SECONDS = "eventAggregationWindowSeconds";
+  public static final String EVENT_AGGREGATION_MAX_SIMILAR = "eventAggregationMaxSimilar";
+  public static final String INTROSPECTION_SKIP_UNCHANGED_INPUTS = "introspectionSkipUnchangedInputs";
   public static final String INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS = "introspectorJobActiveDeadlineSeconds";
   public static final String INTROSPECTOR_JOB_DEADLINE_INCREMENT_SECONDS = "introspectorJobDeadlineIncrementSeconds";
   public static final String INTROSPECTOR_JOB_MAX_NUM_INCREMENTS = "introspectorJobMaxNumIncrements";
@@ -177,6 +201,14 @@ public class TuningParameters {
     return getParameter(STUCK_POD_RECHECK_SECONDS, 30);
   }
 
+  /**
+   * Returns true if the operator should find stuck server pods from the terminating pods reported by its pod
+   * watches, rather than by listing the pods in each domain namespace.
+   */
+  public boolean isStuckPodDetectionFromWatch() {
+    return getParameter(STUCK_POD_DETECTION_FROM_WATCH, false);
+  }
+
   public int getStatusUpdateTimeoutSeconds() {
     return getParameter(STATUS_UPDATE_TIMEOUT_SECONDS, 10);
   }
@@ -209,6 +241,143 @@ public class TuningParameters {
     return getParameter(RESTART_EVICTED_PODS, true);
   }
 
+  /**
+   * Returns true if the operator should read the state and health of all running servers in a domain with a
+   * single request to its admin server, reading directly from a managed server only when the admin server
+   * does not report it.
+   */
+  public boolean isAggregateServerHealthRead() {
+    return getParameter(AGGREGATE_SERVER_HEALTH_READ, false);
+  }
+
+  /**
+   * Returns the time, in seconds, for which the REST API reuses a successful token review or an allowed subject
+   * access review. Zero, the default, makes a new review for every request.
+   */
+  public int getAuthReviewCacheTtlSeconds() {
+    return getParameter(AUTH_REVIEW_CACHE_TTL_SECONDS, 0);
+  }
+
+  /**
+   * Returns the time, in seconds, for which the REST API reuses a failed token review or a denied subject
+   * access review. Zero, the default, makes a new review for every request.
+   */
+  public int getAuthReviewCacheNegativeTtlSeconds() {
+    return getParameter(AUTH_REVIEW_CACHE_NEGATIVE_TTL_SECONDS, 0);
+  }
+
+  /**
+   * Returns the maximum number of results which the REST API keeps for each kind of review.
+   */
+  public int getAuthReviewCacheMaxEntries() {
+    return getParameter(AUTH_REVIEW_CACHE_MAX_ENTRIES, 1000);
+  }
+
+  /**
+   * Returns true if the operator should write domain and cluster status as a JSON patch of only the fields which
+   * have changed, rather than replacing the whole status.
+   */
+  public boolean isStatusPatchEnabled() {
+    return getParameter(STATUS_PATCH_ENABLED, false);
+  }
+
+  /**
+   * Returns the maximum time, in seconds, for which a background domain status update is deferred while an earlier
+   * status write for the same domain is in progress; the deferred updates are then made as a single write.
+   * Zero, the default, makes every update as soon as it is computed.
+   */
+  public int getStatusWriteCoalescingSeconds() {
+    return getParameter(STATUS_WRITE_COALESCING_SECONDS, 0);
+  }
+
+  /**
+   * Returns the maximum number of the steps of a single fork-join that may run concurrently. A value of zero or
+   * less removes the limit.
+   */
+  public int getForkJoinConcurrencyLimit() {
+    return getParameter(FORK_JOIN_CONCURRENCY_LIMIT, DEFAULT_FORK_JOIN_CONCURRENCY_LIMIT);
+  }
+
+  /**
+   * Returns the maximum number of requests to list namespaced resources that may run concurrently, across all
+   * namespaces, when the operator reads the existing resources. A value of zero or less removes the limit.
+   */
+  public int getNamespaceListConcurrencyLimit() {
+    return getParameter(NAMESPACE_LIST_CONCURRENCY_LIMIT, DEFAULT_NAMESPACE_LIST_CONCURRENCY_LIMIT);
+  }
+
+  /**
+   * Returns the time, in milliseconds, during which no further pod changes must be seen before a make-right
+   * triggered by pod changes is run. Zero, the default, runs each such make-right immediately.
+   */
+  public long getMakeRightQuietPeriodMillis() {
+    return getParameter(MAKE_RIGHT_QUIET_PERIOD_MILLIS, 0L);
+  }
+
+  /**
+   * Returns the maximum time, in milliseconds, that a make-right triggered by pod changes may be deferred
+   * while waiting for a quiet period.
+   */
+  public long getMakeRightMaxLatencyMillis() {
+    return getParameter(MAKE_RIGHT_MAX_LATENCY_MILLIS, 2000L);
+  }
+
+  /**
+   * Returns the number of repeats of existing events about a single object which the operator may write
+   * immediately. Further repeats are combined and written as tokens are refilled.
+   */
+  public int getEventSpamBurst() {
+    return getParameter(EVENT_SPAM_BURST, 25);
+  }
+
+  /**
+   * Returns the time, in seconds, needed to refill one token of the event spam filter.
+   */
+  public int getEventSpamRefillSeconds() {
+    return getParameter(EVENT_SPAM_REFILL_SECONDS, 300);
+  }
+
+  /**
+   * Returns the time, in seconds, during which distinct events about a single object with the same reason
+   * are counted toward aggregation.
+   */
+  public int getEventAggregationWindowSeconds() {
+    return getParameter(EVENT_AGGREGATION_WINDOW_SECONDS, 600);
+  }
+
+  /**
+   * Returns the number of distinct events about a single object with the same reason, within the aggregation
+   * window, after which further such events are combined into a single event. A value less than one disables
+   * aggregation.
+   */
+  public int getEventAggregationMaxSimilar() {
+    return getParameter(EVENT_AGGREGATION_MAX_SIMILAR, 10);
+  }
+
+  /**
+   * Returns true if the operator should use a single cluster-scoped watch per resource type, shared by all domain
+   * namespaces, rather than one watch per resource type per namespace.
+   */
+  public boolean isSharedInformerEnabled() {
+    return getParameter(SHARED_INFORMER_ENABLED, false);
+  }
+
+  /**
+   * Returns true if the operator should record only the fields of server pods and services which it reads,
+   * rather than the complete resources returned by Kubernetes.
+   */
+  public boolean isSlimServerCacheEnabled() {
+    return getParameter(SLIM_SERVER_CACHE_ENABLED, false);
+  }
+
+  /**
+   * Returns true if the operator may reuse the recorded topology, rather than introspect, when it starts the servers
+   * of a domain with none running and the introspector pod spec is unchanged since that topology was found.
+   */
+  public boolean isIntrospectionSkipUnchangedInputs() {
+    return getParameter(INTROSPECTION_SKIP_UNCHANGED_INPUTS, false);
+  }
+
   /**
    * Returns the value of introspector job active deadline seconds with default value depending on the context.
    */
@@ -330,6 +499,7 @@ public class TuningParameters {
 
   private class WatchTuningImpl implements WatchTuning {
     private static final int DEFAULT_WATCH_LIFETIME_SECONDS = 300;
+    private static final int DEFAULT_WATCH_LIFETIME_JITTER_PERCENT = 20;
     private static final int DEFAULT_MINIMUM_DELAY = 5;
     private static final int DEFAULT_RECHECK_SECONDS = 5;
     private static final int DEFAULT_RECHECK_COUNT = 60;
@@ -339,6 +509,11 @@ public class TuningParameters {
       return getParameter(WATCH_LIFETIME, DEFAULT_WATCH_LIFETIME_SECONDS);
     }
 
+    @Override
+    public int getWatchLifetimeJitterPercent() {
+      return getParameter(WATCH_LIFETIME_JITTER_PERCENT, DEFAULT_WATCH_LIFETIME_JITTER_PERCENT);
+    }
+
     @Override
     public int getWatchMinimumDelay() {
       return getParameter(WATCH_MINIMUM_DELAY, DEFAULT_MINIMUM_DELAY);
@@ -371,6 +546,21 @@ public class TuningParameters {
     public int getCallTimeoutSeconds() {
       return getParameter(CALL_TIMEOUT_SECONDS, 10);
     }
+
+    @Override
+    public int getApiRequestsPerSecond() {
+      return getParameter(API_REQUESTS_PER_SECOND, 0);
+    }
+
+    @Override
+    public int getApiRequestBurst() {
+      return getParameter(API_REQUEST_BURST, 100);
+    }
+
+    @Override
+    public int getApiNamespaceSharePercent() {
+      return getParameter(API_NAMESPACE_SHARE_PERCENT, 50);
+    }
   }
 
   private class PodTuningImpl implements PodTuning {
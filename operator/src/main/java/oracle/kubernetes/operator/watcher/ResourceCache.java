@@ -0,0 +1,177 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+
+/**
+ * An in-memory store of Kubernetes objects, kept current from watch events, and indexed by namespace,
+ * domain UID and WebLogic server name. Updates are expected from a single watch thread; reads may be made
+ * from any thread without locking.
+ *
+ * @param <T> the type of the cached objects
+ */
+public class ResourceCache<T extends KubernetesObject> {
+
+  /** Namespace to object name to object. */
+  private final Map<String, Map<String, T>> byNamespace = new ConcurrentHashMap<>();
+  /** Namespace and domain UID to object name to object. */
+  private final Map<DomainKey, Map<String, T>> byDomain = new ConcurrentHashMap<>();
+  /** Namespace, domain UID and server name to object. */
+  private final Map<ServerKey, T> byServer = new ConcurrentHashMap<>();
+  private final Function<T, String> domainUidFunction;
+
+  private record DomainKey(String namespace, String domainUid) {
+  }
+
+  private record ServerKey(String namespace, String domainUid, String serverName) {
+  }
+
+  ResourceCache(Function<T, String> domainUidFunction) {
+    this.domainUidFunction = domainUidFunction;
+  }
+
+  synchronized void put(@Nonnull T object) {
+    V1ObjectMeta metadata = object.getMetadata();
+    Optional.ofNullable(getNamespaceObjects(metadata.getNamespace()).put(metadata.getName(), object))
+          .ifPresent(this::removeFromIndexes);
+    addToIndexes(object);
+  }
+
+  synchronized void remove(@Nonnull T object) {
+    V1ObjectMeta metadata = object.getMetadata();
+    Optional.ofNullable(byNamespace.get(metadata.getNamespace()))
+          .map(m -> m.remove(metadata.getName()))
+          .ifPresent(this::removeFromIndexes);
+  }
+
+  /**
+   * Replaces the cached objects with the specified ones. Objects not in the collection are removed one at a time,
+   * so that readers never see the cache empty while it is being replaced.
+   * @param objects the objects now known to exist
+   */
+  synchronized void replaceAll(@Nonnull Collection<T> objects) {
+    final Set<String> retained = new HashSet<>();
+    objects.forEach(o -> retained.add(getKey(o.getMetadata())));
+    byNamespace.values().stream()
+          .flatMap(m -> m.values().stream())
+          .filter(o -> !retained.contains(getKey(o.getMetadata())))
+          .toList()
+          .forEach(this::remove);
+    objects.forEach(this::put);
+  }
+
+  private String getKey(V1ObjectMeta metadata) {
+    return metadata.getNamespace() + "/" + metadata.getName();
+  }
+
+  private Map<String, T> getNamespaceObjects(String namespace) {
+    return byNamespace.computeIfAbsent(namespace, n -> new ConcurrentHashMap<>());
+  }
+
+  private void addToIndexes(T object) {
+    Optional.ofNullable(getDomainKey(object))
+          .ifPresent(k -> byDomain.computeIfAbsent(k, n -> new ConcurrentHashMap<>()).put(getName(object), object));
+    Optional.ofNullable(getServerKey(object)).ifPresent(k -> byServer.put(k, object));
+  }
+
+  private void removeFromIndexes(T object) {
+    Optional.ofNullable(getDomainKey(object)).map(byDomain::get).ifPresent(m -> m.remove(getName(object)));
+    Optional.ofNullable(getServerKey(object)).ifPresent(k -> byServer.remove(k, object));
+  }
+
+  private String getName(T object) {
+    return object.getMetadata().getName();
+  }
+
+  private DomainKey getDomainKey(T object) {
+    return Optional.ofNullable(domainUidFunction.apply(object))
+          .map(uid -> new DomainKey(object.getMetadata().getNamespace(), uid))
+          .orElse(null);
+  }
+
+  private ServerKey getServerKey(T object) {
+    return Optional.ofNullable(getDomainKey(object))
+          .flatMap(k -> Optional.ofNullable(getServerName(object))
+                .map(s -> new ServerKey(k.namespace(), k.domainUid(), s)))
+          .orElse(null);
+  }
+
+  private String getServerName(T object) {
+    return Optional.ofNullable(object.getMetadata().getLabels()).map(l -> l.get(SERVERNAME_LABEL)).orElse(null);
+  }
+
+  /**
+   * Returns the cached object with the specified namespace and name, or null if there is none.
+   * @param namespace the namespace of the object
+   * @param name the name of the object
+   */
+  public T get(String namespace, String name) {
+    return Optional.ofNullable(byNamespace.get(namespace)).map(m -> m.get(name)).orElse(null);
+  }
+
+  /**
+   * Returns all cached objects in the specified namespace.
+   * @param namespace a namespace name
+   */
+  @Nonnull
+  public List<T> list(String namespace) {
+    return copyOf(byNamespace.get(namespace));
+  }
+
+  /**
+   * Returns all cached objects in the specified namespace which belong to the specified domain.
+   * @param namespace a namespace name
+   * @param domainUid the UID of a domain
+   */
+  @Nonnull
+  public List<T> listForDomain(String namespace, String domainUid) {
+    return copyOf(byDomain.get(new DomainKey(namespace, domainUid)));
+  }
+
+  /**
+   * Returns the cached objects in the specified namespace, keyed by name.
+   * @param namespace a namespace name
+   */
+  @Nonnull
+  Map<String, T> getObjectsByName(String namespace) {
+    return Optional.ofNullable(byNamespace.get(namespace)).<Map<String, T>>map(HashMap::new).orElse(Map.of());
+  }
+
+  private List<T> copyOf(Map<String, T> objects) {
+    return Optional.ofNullable(objects).map(m -> List.copyOf(m.values())).orElse(List.of());
+  }
+
+  /**
+   * Returns the cached object in the specified namespace which belongs to the specified WebLogic server,
+   * or null if there is none.
+   * @param namespace a namespace name
+   * @param domainUid the UID of a domain
+   * @param serverName the name of a WebLogic server
+   */
+  public T getForServer(String namespace, String domainUid, String serverName) {
+    return byServer.get(new ServerKey(namespace, domainUid, serverName));
+  }
+
+  /**
+   * Returns the number of cached objects across all namespaces.
+   */
+  public int size() {
+    return byNamespace.values().stream().mapToInt(Map::size).sum();
+  }
+}
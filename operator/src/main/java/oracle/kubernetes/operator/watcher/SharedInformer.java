@@ -0,0 +1,399 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import oracle.kubernetes.operator.WatchTuning;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER;
+import static oracle.kubernetes.operator.ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER;
+
+/**
+ * A single cluster-scoped watch of one resource type, shared by all the domain namespaces managed by the operator.
+ * Instead of running a watch per namespace, the informer lists the selected objects across the cluster, watches
+ * for changes from the version of that list, and dispatches each event to the listener registered for the namespace
+ * of the event's object, if any. Whenever the watch must be restarted other than from the version at which it
+ * ended, the informer lists the objects again, and dispatches the differences from its previous list as events.
+ * The objects seen are kept in a {@link ResourceCache}, which may be read instead of listing them.
+ * Using it requires that the operator be permitted to list and watch the resource type in all namespaces.
+ *
+ * <p>Events are dispatched to listeners without holding the informer's lock, so that a slow listener delays only
+ * the events for its own namespace, and each listener receives its events in order.
+ *
+ * @param <T> The type of the object to be watched.
+ */
+public class SharedInformer<T extends KubernetesObject> implements WatchListener<T> {
+
+  private static final String OPERATOR_RESOURCE_SELECTOR = DOMAINUID_LABEL + "," + CREATEDBYOPERATOR_LABEL;
+
+  private final RequestBuilder<T, ?> builder;
+  private final UnaryOperator<ListOptions> selector;
+  private final ResourceCache<T> cache;
+  private final Map<String, Registration> registrations = new HashMap<>();
+  private String resourceVersion;
+  private SharedWatcher watcher;
+
+  /**
+   * Constructs a shared informer.
+   * @param builder the builder for requests to list and watch the resource type
+   * @param selector a function to add to list options the selectors for the objects of interest
+   * @param domainUidFunction a function to return the domain UID associated with an object
+   */
+  public SharedInformer(RequestBuilder<T, ?> builder, UnaryOperator<ListOptions> selector,
+                        Function<T, String> domainUidFunction) {
+    this.builder = builder;
+    this.selector = selector;
+    this.cache = new ResourceCache<>(domainUidFunction);
+  }
+
+  private static <T extends KubernetesObject> String getDomainUidLabel(T object) {
+    return KubernetesUtils.getDomainUidLabel(object.getMetadata());
+  }
+
+  private static <T extends KubernetesObject> SharedInformer<T> forOperatorResources(RequestBuilder<T, ?> builder) {
+    return new SharedInformer<>(
+          builder, o -> o.labelSelector(OPERATOR_RESOURCE_SELECTOR), SharedInformer::getDomainUidLabel);
+  }
+
+  public static SharedInformer<V1Pod> forPods() {
+    return forOperatorResources(RequestBuilder.POD);
+  }
+
+  public static SharedInformer<V1Service> forServices() {
+    return forOperatorResources(RequestBuilder.SERVICE);
+  }
+
+  public static SharedInformer<V1Job> forJobs() {
+    return forOperatorResources(RequestBuilder.JOB);
+  }
+
+  public static SharedInformer<V1PodDisruptionBudget> forPodDisruptionBudgets() {
+    return forOperatorResources(RequestBuilder.PDB);
+  }
+
+  /**
+   * Creates an informer for the config maps created by the operator.
+   */
+  public static SharedInformer<V1ConfigMap> forConfigMaps() {
+    return new SharedInformer<>(
+          RequestBuilder.CM, o -> o.labelSelector(CREATEDBYOPERATOR_LABEL), SharedInformer::getDomainUidLabel);
+  }
+
+  /**
+   * Creates an informer for readiness probe failure events.
+   */
+  public static SharedInformer<CoreV1Event> forEvents() {
+    return new SharedInformer<>(RequestBuilder.EVENT, o -> o.fieldSelector(READINESS_PROBE_FAILURE_EVENT_FILTER),
+          SharedInformer::getDomainUidLabel);
+  }
+
+  /**
+   * Creates an informer for the events created by the operator.
+   */
+  public static SharedInformer<CoreV1Event> forOperatorEvents() {
+    return new SharedInformer<>(RequestBuilder.EVENT, o -> o.labelSelector(OPERATOR_EVENT_LABEL_FILTER),
+          SharedInformer::getDomainUidLabel);
+  }
+
+  public static SharedInformer<DomainResource> forDomains() {
+    return new SharedInformer<>(RequestBuilder.DOMAIN, UnaryOperator.identity(), DomainResource::getDomainUid);
+  }
+
+  public static SharedInformer<ClusterResource> forClusters() {
+    return new SharedInformer<>(RequestBuilder.CLUSTER, UnaryOperator.identity(), SharedInformer::getDomainUidLabel);
+  }
+
+  /**
+   * Registers the listener for events in the specified namespace, replacing any previously registered listener.
+   * The listener is sent events only for changes after the specified list of the namespace's objects; if the
+   * informer has already seen later changes, it dispatches the differences from that list as events.
+   * @param namespace a namespace name
+   * @param listener the listener to receive events for objects in the namespace
+   * @param items the objects in the namespace already known to the listener
+   * @param listVersion the resource version of the list from which those objects were read
+   */
+  public void addListener(String namespace, WatchListener<T> listener, List<T> items, String listVersion) {
+    final Registration registration = new Registration(listener, listVersion);
+    synchronized (this) {
+      registrations.put(namespace, registration);
+      registration.known = toMap(items);
+      if (resourceVersion != null) {
+        reconcile(namespace, registration, registration.known, listVersion);
+      }
+    }
+    registration.deliverPending();
+  }
+
+  private Map<String, T> toMap(List<T> items) {
+    final Map<String, T> result = new HashMap<>();
+    Optional.ofNullable(items).orElse(List.of()).forEach(o -> result.put(getName(o), o));
+    return result;
+  }
+
+  /**
+   * Removes the listener, if any, for events in the specified namespace.
+   * @param namespace a namespace name
+   */
+  public synchronized void removeListener(String namespace) {
+    registrations.remove(namespace);
+  }
+
+  /**
+   * Starts the cluster-scoped watch, if it is not already running.
+   * @param factory a thread factory
+   * @param tuning watch tuning parameters
+   */
+  public synchronized void start(ThreadFactory factory, WatchTuning tuning) {
+    if (watcher == null) {
+      watcher = new SharedWatcher(tuning);
+      watcher.start(factory);
+    }
+  }
+
+  /**
+   * Requests the cluster-scoped watch to stop. A later call to {@link #start} will start a new one.
+   */
+  public synchronized void stop() {
+    Optional.ofNullable(watcher).ifPresent(SharedWatcher::stop);
+    watcher = null;
+  }
+
+  /**
+   * Returns the local store of objects seen by this informer. It is complete only once {@link #hasSynced()}
+   * returns true.
+   */
+  public ResourceCache<T> getCache() {
+    return cache;
+  }
+
+  /**
+   * Returns true if the informer has listed the objects across the cluster, so that its cache may be read.
+   */
+  public synchronized boolean hasSynced() {
+    return resourceVersion != null;
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> item) {
+    if (item.object == null || item.object.getMetadata() == null) {
+      return;
+    }
+
+    final Registration registration;
+    synchronized (this) {
+      updateCache(item);
+      final String eventVersion = getResourceVersion(item.object);
+      Optional.ofNullable(eventVersion).ifPresent(this::setResourceVersion);
+      registration = Optional.ofNullable(registrations.get(getNamespace(item.object)))
+            .filter(r -> !isNotAfter(eventVersion, r.version))
+            .orElse(null);
+      Optional.ofNullable(registration).ifPresent(r -> r.pending.add(item));
+    }
+    Optional.ofNullable(registration).ifPresent(Registration::deliverPending);
+  }
+
+  private void updateCache(Watch.Response<T> item) {
+    switch (item.type) {
+      case "ADDED", "MODIFIED" -> cache.put(item.object);
+      case "DELETED" -> cache.remove(item.object);
+      default -> {
+        // no change to the cache
+      }
+    }
+  }
+
+  // Once the informer has seen the version of the list read by a listener, it no longer needs that list.
+  private void setResourceVersion(String resourceVersion) {
+    this.resourceVersion = resourceVersion;
+    registrations.values().stream()
+          .filter(r -> !isAfter(r.version, resourceVersion))
+          .forEach(r -> r.known = null);
+  }
+
+  // Lists the objects across the cluster, dispatches any changes since they were last seen,
+  // and returns the version of the list, from which the watch should resume.
+  private String resync() throws ApiException {
+    final KubernetesListObject list = builder.list(selector.apply(new ListOptions()));
+    final List<Registration> updated;
+    final String listVersion;
+    synchronized (this) {
+      final Map<String, Map<String, T>> previous = new HashMap<>();
+      registrations.keySet().forEach(namespace -> previous.put(namespace, cache.getObjectsByName(namespace)));
+      final String previousVersion = resourceVersion;
+      cache.replaceAll(getItems(list));
+      listVersion = KubernetesUtils.getResourceVersion(list);
+      resourceVersion = listVersion;
+
+      registrations.forEach((namespace, registration) -> reconcile(namespace, registration,
+            Optional.ofNullable(registration.known).orElse(previous.get(namespace)),
+            registration.known != null ? registration.version : previousVersion));
+      updated = new ArrayList<>(registrations.values());
+    }
+    updated.forEach(Registration::deliverPending);
+    return listVersion;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<T> getItems(KubernetesListObject list) {
+    return (List<T>) Optional.ofNullable(list).map(KubernetesListObject::getItems).orElse(List.of());
+  }
+
+  // Dispatches to the listener, as events, the differences between the objects it is known to have seen
+  // and the objects now seen by the informer. If the listener has seen a later version than the informer,
+  // the informer will send it events only for changes after that version.
+  private void reconcile(String namespace, Registration registration, Map<String, T> known, String knownVersion) {
+    if (isAfter(knownVersion, resourceVersion)) {
+      registration.known = known;
+      registration.version = knownVersion;
+      return;
+    }
+
+    final Map<String, T> current = cache.getObjectsByName(namespace);
+    current.forEach((name, object) -> {
+      final T knownObject = known.get(name);
+      if (knownObject == null) {
+        registration.dispatch("ADDED", object);
+      } else if (!Objects.equals(getResourceVersion(knownObject), getResourceVersion(object))) {
+        registration.dispatch("MODIFIED", object);
+      }
+    });
+    known.forEach((name, object) -> {
+      if (!current.containsKey(name)) {
+        registration.dispatch("DELETED", object);
+      }
+    });
+    registration.known = null;
+    registration.version = resourceVersion;
+  }
+
+  // Resource versions are opaque, but in practice are increasing integers. Any other values are treated as
+  // unordered, so that events are never discarded because of them.
+  private static boolean isAfter(String first, String second) {
+    final Long firstVersion = toLong(first);
+    final Long secondVersion = toLong(second);
+    return firstVersion != null && secondVersion != null && firstVersion > secondVersion;
+  }
+
+  private static boolean isNotAfter(String first, String second) {
+    final Long firstVersion = toLong(first);
+    final Long secondVersion = toLong(second);
+    return firstVersion != null && secondVersion != null && firstVersion <= secondVersion;
+  }
+
+  private static Long toLong(String version) {
+    try {
+      return Optional.ofNullable(version).map(Long::valueOf).orElse(null);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static String getResourceVersion(KubernetesObject object) {
+    return Optional.ofNullable(object.getMetadata()).map(V1ObjectMeta::getResourceVersion).orElse(null);
+  }
+
+  private static String getNamespace(KubernetesObject object) {
+    return Optional.ofNullable(object.getMetadata()).map(V1ObjectMeta::getNamespace).orElse("");
+  }
+
+  private static String getName(KubernetesObject object) {
+    return Optional.ofNullable(object.getMetadata()).map(V1ObjectMeta::getName).orElse("");
+  }
+
+  private class Registration {
+    private final WatchListener<T> listener;
+    // events queued, while holding the informer's lock, for delivery to the listener without it
+    private final Queue<Watch.Response<T>> pending = new ConcurrentLinkedQueue<>();
+    // the version of the objects last seen by the listener, and, until the informer has seen that version, the
+    // objects themselves
+    private String version;
+    private Map<String, T> known;
+
+    Registration(WatchListener<T> listener, String version) {
+      this.listener = listener;
+      this.version = version;
+    }
+
+    void dispatch(String type, T object) {
+      pending.add(new Watch.Response<>(type, object));
+    }
+
+    // Whichever thread holds this registration's lock delivers all queued events, in the order they were queued.
+    synchronized void deliverPending() {
+      Watch.Response<T> item;
+      while ((item = pending.poll()) != null) {
+        listener.receivedResponse(item);
+      }
+    }
+  }
+
+  private class SharedWatcher extends Watcher<T> {
+    private final AtomicBoolean stopping;
+
+    SharedWatcher(WatchTuning tuning) {
+      this(tuning, new AtomicBoolean(false));
+    }
+
+    private SharedWatcher(WatchTuning tuning, AtomicBoolean stopping) {
+      super(null, tuning, stopping, SharedInformer.this);
+      this.stopping = stopping;
+    }
+
+    void stop() {
+      stopping.set(true);
+    }
+
+    @Override
+    protected String getWatchResourceVersion(String resourceVersion, boolean lastWatchExpired) throws ApiException {
+      return lastWatchExpired ? resourceVersion : resync();
+    }
+
+    @Override
+    public Watchable<T> initiateWatch(ListOptions options) throws ApiException {
+      return builder.watch(selector.apply(options));
+    }
+
+    @Override
+    public String getNamespace() {
+      return null;
+    }
+
+    @Override
+    public String getDomainUid(Watch.Response<T> item) {
+      return Optional.ofNullable(item.object).map(KubernetesObject::getMetadata)
+            .map(KubernetesUtils::getDomainUidLabel).orElse(null);
+    }
+  }
+}
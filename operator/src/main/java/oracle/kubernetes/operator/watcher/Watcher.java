@@ -1,15 +1,17 @@
-// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.watcher;
 
-import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleSupplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Status;
@@ -18,6 +20,8 @@ import io.kubernetes.client.util.Watchable;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.WatchTuning;
+import oracle.kubernetes.operator.calls.ApiRateLimiter;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
@@ -30,11 +34,12 @@ import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
  *
  * @param <T> The type of the object to be watched.
  */
-public abstract class Watcher<T> {
+public abstract class Watcher<T extends KubernetesObject> {
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String IGNORED = "0";
   private static final Pattern RESOURCE_VERSION_PATTERN = Pattern.compile("\\((\\d+)\\)");
+  private static final String BOOKMARK = "BOOKMARK";
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
   private final WatchTuning tuning;
@@ -42,11 +47,16 @@ public abstract class Watcher<T> {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can set it
   private static WatcherStarter starter = Watcher::startAsynchronousWatch;
 
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can set it
+  private static DoubleSupplier jitterSource = () -> ThreadLocalRandom.current().nextDouble();
+
   private String resourceVersion;
   private final AtomicBoolean stopping;
   private WatchListener<T> listener;
   private Thread thread = null;
   private long lastInitialize = 0;
+  private String kind = getClass().getSimpleName();
+  private String restartCause;
 
   /**
    * Constructs a watcher without specifying a listener. Needed when the listener is the watch
@@ -178,11 +188,10 @@ public abstract class Watcher<T> {
     } else {
       lastInitialize = now;
     }
-    try (Watchable<T> watch =
-        initiateWatch(
-            new ListOptions()
-                .resourceVersion(resourceVersion)
-                .timeoutSeconds(getWatchLifetime()))) {
+    waitForApiPermit();
+    final boolean lastWatchExpired = "expired".equals(restartCause);
+    restartCause = "expired";
+    try (Watchable<T> watch = startWatch(lastWatchExpired)) {
       while (hasNext(watch)) {
         Watch.Response<T> item = watch.next();
         setIsDraining(isStopping());
@@ -200,12 +209,36 @@ public abstract class Watcher<T> {
         }
       }
     } catch (Throwable ex) {
+      restartCause = "exception";
       LOGGER.warning(MessageKeys.EXCEPTION, ex);
     }
+    if (!isDraining()) {
+      OperatorMetrics.recordWatchRestart(kind, restartCause);
+    }
+  }
+
+  private Watchable<T> startWatch(boolean lastWatchExpired) throws ApiException {
+    resourceVersion = getWatchResourceVersion(resourceVersion, lastWatchExpired);
+    return initiateWatch(new ListOptions().resourceVersion(resourceVersion).timeoutSeconds(getJitteredWatchLifetime()));
+  }
+
+  // Re-establishing a watch is the highest priority call, but still respects the client-side rate limit.
+  private void waitForApiPermit() {
+    long delay;
+    while ((delay = ApiRateLimiter.getInstance().tryAcquire(ApiRateLimiter.Priority.WATCH, getNamespace())) > 0) {
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
   }
 
-  private int getWatchLifetime() {
-    return tuning.getWatchLifetime();
+  // Spreads out the restarts of watches which were started together, so that they do not all reconnect at once.
+  private int getJitteredWatchLifetime() {
+    final int lifetime = tuning.getWatchLifetime();
+    return lifetime + (int) (lifetime * tuning.getWatchLifetimeJitterPercent() / 100.0 * jitterSource.getAsDouble());
   }
 
   private int getWatchMinimumDelay() {
@@ -220,6 +253,20 @@ public abstract class Watcher<T> {
     }
   }
 
+  /**
+   * Returns the resource version from which to start the next watch. Unless overridden, this is the version
+   * from which the watcher was started or at which its last watch ended.
+   *
+   * @param resourceVersion the version from which the watch would otherwise start
+   * @param lastWatchExpired true if the last watch ended only because its lifetime passed, rather than because
+   *                         of an error or because it is the first watch
+   * @return the version from which to start the watch
+   * @throws ApiException if there is an API error.
+   */
+  protected String getWatchResourceVersion(String resourceVersion, boolean lastWatchExpired) throws ApiException {
+    return resourceVersion;
+  }
+
   /**
    * Initiates a watch by using the watch builder to request any updates for the specified watcher.
    *
@@ -251,15 +298,25 @@ public abstract class Watcher<T> {
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.finer(MessageKeys.WATCH_EVENT, item.type, item.object);
     trackResourceVersion(item.object);
-    if (listener != null) {
-      listener.receivedResponse(item);
+    Optional.ofNullable(item.object).ifPresent(o -> kind = o.getClass().getSimpleName());
+    if (isBookmark(item)) {
+      OperatorMetrics.recordWatchEvent(kind, item.type, () -> { });
+    } else if (listener != null) {
+      OperatorMetrics.recordWatchEvent(kind, item.type, () -> listener.receivedResponse(item));
     }
   }
 
+  // A bookmark only reports the latest resource version, and so has nothing for the listener to process.
+  private boolean isBookmark(Watch.Response<T> item) {
+    return BOOKMARK.equalsIgnoreCase(item.type);
+  }
+
   private void handleErrorResponse(Watch.Response<T> item) {
     if (Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0) != HTTP_GONE) {
+      restartCause = "error";
       resourceVersion = IGNORED;
     } else {
+      restartCause = "gone";
       resourceVersion = Optional.of(item.status).map(V1Status::getMessage).map(this::resourceVersion).orElse(IGNORED);
     }
   }
@@ -270,24 +327,13 @@ public abstract class Watcher<T> {
   }
 
   /**
-   * Track resourceVersion and keep the latest one for next watch iteration. The resourceVersion is
-   * extracted from the metadata in the class by a getter written to return that information. If the
-   * getter is not defined then the user will get all watches repeatedly.
+   * Track resourceVersion and keep the latest one for next watch iteration. Bookmark events carry only
+   * the resource version, so that a watch over objects which rarely change still resumes from a recent one.
    *
    * @param object the object that is returned
    */
-  private void trackResourceVersion(Object object) {
-    resourceVersion = getResourceVersionFromMetadata(object);
-  }
-
-  private String getResourceVersionFromMetadata(Object object) {
-    try {
-      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
-              .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
-    } catch (Exception e) {
-      LOGGER.warning(MessageKeys.EXCEPTION, e);
-      return IGNORED;
-    }
+  private void trackResourceVersion(T object) {
+    resourceVersion = Optional.ofNullable(object).map(KubernetesObject::getMetadata)
+        .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
   }
 }
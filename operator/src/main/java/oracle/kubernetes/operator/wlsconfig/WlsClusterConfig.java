@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -46,9 +47,11 @@ public class WlsClusterConfig {
    * @param dynamicServersConfig A WlsDynamicServersConfig object containing the dynamic servers
    *     configuration for this cluster
    */
+  @SuppressWarnings("this-escape")
   public WlsClusterConfig(String clusterName, WlsDynamicServersConfig dynamicServersConfig) {
     this.name = clusterName;
     this.dynamicServersConfig = dynamicServersConfig;
+    Optional.ofNullable(dynamicServersConfig).ifPresent(config -> config.setWlsClusterConfig(this));
   }
 
   /**
@@ -70,9 +73,15 @@ public class WlsClusterConfig {
    */
   public synchronized WlsClusterConfig addServerConfig(WlsServerConfig wlsServerConfig) {
     servers.add(wlsServerConfig);
+    clearDomainIndex();
     return this;
   }
 
+  // Discards the index of the domain to which this cluster belongs, as the servers of the cluster have changed.
+  void clearDomainIndex() {
+    Optional.ofNullable(wlsDomainConfig).ifPresent(WlsDomainConfig::clearIndex);
+  }
+
   public WlsClusterConfig addWlsServer(String name, String listenAddress, int port) {
     return addServerConfig(new WlsServerConfig(name, listenAddress, port));
   }
@@ -134,6 +143,7 @@ public class WlsClusterConfig {
    */
   public void setWlsDomainConfig(WlsDomainConfig wlsDomainConfig) {
     this.wlsDomainConfig = wlsDomainConfig;
+    Optional.ofNullable(dynamicServersConfig).ifPresent(config -> config.setWlsClusterConfig(this));
   }
 
   /**
@@ -154,7 +164,7 @@ public class WlsClusterConfig {
   }
 
   public List<WlsServerConfig> getServers() {
-    return this.servers;
+    return Collections.unmodifiableList(servers);
   }
 
   /**
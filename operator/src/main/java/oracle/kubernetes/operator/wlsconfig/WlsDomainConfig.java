@@ -4,9 +4,12 @@
 package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
@@ -36,6 +39,9 @@ public class WlsDomainConfig implements WlsDomain {
   private List<WlsServerConfig> servers = new ArrayList<>();
   // Contains all configured server templates in the WLS domain
   private List<WlsServerConfig> serverTemplates = new ArrayList<>();
+  // An index of the servers and clusters, built once the topology is complete; null until then.
+  @JsonIgnore
+  private transient volatile WlsDomainIndex index;
 
   public WlsDomainConfig() {
   }
@@ -84,6 +90,10 @@ public class WlsDomainConfig implements WlsDomain {
    * @return cluster name
    */
   public String getClusterName(String serverName) {
+    final WlsDomainIndex current = index;
+    if (current != null) {
+      return current.getClusterName(serverName);
+    }
     return getConfiguredClusters().stream()
         .filter(c -> c.hasNamedServer(serverName))
         .findFirst()
@@ -119,7 +129,15 @@ public class WlsDomainConfig implements WlsDomain {
    * @return A Map of WlsClusterConfig, keyed by name, containing server configurations for all
    *     clusters found in the WLS domain
    */
-  public synchronized Map<String, WlsClusterConfig> getClusterConfigs() {
+  public Map<String, WlsClusterConfig> getClusterConfigs() {
+    final WlsDomainIndex current = index;
+    if (current != null) {
+      return new HashMap<>(current.getClusterConfigs());
+    }
+    return createClusterConfigs();
+  }
+
+  private synchronized Map<String, WlsClusterConfig> createClusterConfigs() {
     Map<String, WlsClusterConfig> clusterConfigs = new HashMap<>();
     for (WlsClusterConfig clusterConfig : configuredClusters) {
       clusterConfigs.put(clusterConfig.getClusterName(), clusterConfig);
@@ -128,7 +146,7 @@ public class WlsDomainConfig implements WlsDomain {
   }
 
   public List<WlsClusterConfig> getConfiguredClusters() {
-    return this.configuredClusters;
+    return Collections.unmodifiableList(configuredClusters);
   }
 
   /**
@@ -152,7 +170,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return A List of WlsServerConfig for each server statically configured the WLS domain
    */
   public List<WlsServerConfig> getServers() {
-    return this.servers;
+    return Collections.unmodifiableList(servers);
   }
 
   /**
@@ -181,7 +199,16 @@ public class WlsDomainConfig implements WlsDomain {
    *     name. This methods return an empty WlsClusterConfig object even if no WLS configuration is
    *     found for the given cluster name.
    */
-  public synchronized WlsClusterConfig getClusterConfig(String clusterName) {
+  public WlsClusterConfig getClusterConfig(String clusterName) {
+    final WlsDomainIndex current = index;
+    final WlsClusterConfig result
+        = current != null ? current.getClusterConfig(clusterName) : findClusterConfig(clusterName);
+
+    // if none found, create an empty WlsClusterConfig, but do not add to configuredClusters
+    return Optional.ofNullable(result).orElseGet(() -> new WlsClusterConfig(clusterName));
+  }
+
+  private synchronized WlsClusterConfig findClusterConfig(String clusterName) {
     WlsClusterConfig result = null;
     if (clusterName != null) {
       for (WlsClusterConfig clusterConfig : configuredClusters) {
@@ -191,10 +218,6 @@ public class WlsDomainConfig implements WlsDomain {
         }
       }
     }
-    if (result == null) {
-      // create an empty WlsClusterConfig, but do not add to configuredClusters
-      result = new WlsClusterConfig(clusterName);
-    }
     return result;
   }
 
@@ -206,7 +229,12 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
+  public WlsServerConfig getServerConfig(String serverName) {
+    final WlsDomainIndex current = index;
+    return current != null ? current.getStandaloneServerConfig(serverName) : findServerConfig(serverName);
+  }
+
+  private synchronized WlsServerConfig findServerConfig(String serverName) {
     WlsServerConfig result = null;
     if (serverName != null && servers != null) {
       for (WlsServerConfig serverConfig : servers) {
@@ -219,22 +247,37 @@ public class WlsDomainConfig implements WlsDomain {
     return result;
   }
 
+  /**
+   * Returns the configuration for the WLS server with the given name in the given cluster, including dynamic servers.
+   *
+   * @param clusterName name of the WLS cluster
+   * @param serverName name of the WLS server
+   * @return The WlsServerConfig object containing configuration of the WLS server, or null if the cluster
+   *     has no server with the given name.
+   */
+  public WlsServerConfig getClusteredServerConfig(String clusterName, String serverName) {
+    final WlsDomainIndex current = index;
+    if (current != null) {
+      return current.getClusteredServerConfig(clusterName, serverName);
+    }
+    return getClusterConfig(clusterName).getServerConfigs().stream()
+        .filter(serverConfig -> Objects.equals(serverName, serverConfig.getName()))
+        .findFirst()
+        .orElse(null);
+  }
+
   /**
    * Whether the WebLogic domain contains a cluster with the given cluster name.
    *
    * @param clusterName cluster name to be checked
    * @return True if the WebLogic domain contains a cluster with the given cluster name
    */
-  public synchronized boolean containsCluster(String clusterName) {
-    if (clusterName != null) {
-      for (WlsClusterConfig clusterConfig : configuredClusters) {
-        if (clusterConfig.getClusterName().equals(clusterName)) {
-          return true;
-        }
-      }
+  public boolean containsCluster(String clusterName) {
+    final WlsDomainIndex current = index;
+    if (current != null) {
+      return clusterName != null && current.getClusterConfig(clusterName) != null;
     }
-
-    return false;
+    return findClusterConfig(clusterName) != null;
   }
 
   /**
@@ -244,7 +287,15 @@ public class WlsDomainConfig implements WlsDomain {
    * @param serverName server name to be checked
    * @return True if the WebLogic domain contains a server with the given server name
    */
-  public synchronized boolean containsServer(String serverName) {
+  public boolean containsServer(String serverName) {
+    final WlsDomainIndex current = index;
+    if (current != null) {
+      return !isNullOrEmpty(serverName) && current.containsServer(serverName);
+    }
+    return hasServer(serverName);
+  }
+
+  private synchronized boolean hasServer(String serverName) {
     if (!isNullOrEmpty(serverName)) {
       return getServers().stream().anyMatch(s -> serverName.equals(s.getName()))
           || getConfiguredClusters().stream().anyMatch(c -> c.containsServer(serverName));
@@ -260,11 +311,11 @@ public class WlsDomainConfig implements WlsDomain {
 
   @Override
   public int getReplicaLimit(String clusterName) {
-    if (!getClusterConfigs().containsKey(clusterName)) {
+    if (!containsCluster(clusterName)) {
       return 0;
     }
 
-    return getClusterConfigs().get(clusterName).getClusterSize();
+    return getClusterConfig(clusterName).getClusterSize();
   }
 
   /**
@@ -290,20 +341,55 @@ public class WlsDomainConfig implements WlsDomain {
     if (isAdmin) {
       setAdminServerName(server.getName());
     }
-    getServers().add(server);
+    clearIndex();
+    servers.add(server);
     return this;
   }
 
+  /**
+   * Build the domain config with a standalone WLS server.
+   * @param name the name of the server
+   * @param listenAddress the listen address of the server
+   * @param port the listen port of the server
+   * @return domain config
+   */
   public WlsDomainConfig addWlsServer(String name, String listenAddress, int port) {
-    getServers().add(new WlsServerConfig(name, listenAddress, port));
+    clearIndex();
+    servers.add(new WlsServerConfig(name, listenAddress, port));
     return this;
   }
 
+  /**
+   * Build the domain config with a WLS cluster.
+   * @param clusterConfig WLS cluster configuration
+   * @return domain config
+   */
   public WlsDomainConfig withCluster(WlsClusterConfig clusterConfig) {
+    clearIndex();
+    clusterConfig.setWlsDomainConfig(this);
     configuredClusters.add(clusterConfig);
     return this;
   }
 
+  /**
+   * Builds an index of the servers and clusters in this domain, which is then used for lookups instead of
+   * scanning the configurations. This should be called once the topology is complete, after any dynamic servers
+   * have been generated. Any later change to the servers of the domain or of its clusters, including the
+   * generation of dynamic servers, discards the index.
+   *
+   * @return this domain config
+   */
+  public WlsDomainConfig indexed() {
+    configuredClusters.forEach(cluster -> cluster.setWlsDomainConfig(this));
+    index = new WlsDomainIndex(servers, configuredClusters);
+    return this;
+  }
+
+  // Discards the index, so that lookups scan the configurations until it is rebuilt.
+  void clearIndex() {
+    index = null;
+  }
+
   /**
    * Returns the topology equivalent of the domain configuration, as a map. It may be converted to
    * YAML or JSON via an object mapper.
@@ -395,6 +481,7 @@ public class WlsDomainConfig implements WlsDomain {
    * Process dynamic clusters.
    */
   public void processDynamicClusters() {
+    clearIndex();
     for (WlsClusterConfig wlsClusterConfig : configuredClusters) {
       wlsClusterConfig.setWlsDomainConfig(this);
       if (wlsClusterConfig.hasDynamicServers()) {
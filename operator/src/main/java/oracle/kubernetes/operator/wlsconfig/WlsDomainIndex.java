@@ -0,0 +1,75 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An immutable, hash-indexed snapshot of a domain topology. It is built once the topology is complete,
+ * with any dynamic servers already expanded, so that lookups need neither locks nor scans of the server lists.
+ */
+final class WlsDomainIndex {
+
+  private final Map<String, WlsServerConfig> standaloneServers;
+  private final Map<String, WlsClusterConfig> clusters;
+  private final Map<String, Map<String, WlsServerConfig>> clusteredServers;
+  private final Map<String, String> clusterNamesByServer;
+
+  WlsDomainIndex(List<WlsServerConfig> servers, List<WlsClusterConfig> configuredClusters) {
+    Map<String, WlsServerConfig> standalone = new HashMap<>();
+    Optional.ofNullable(servers).ifPresent(list -> list.forEach(s -> standalone.putIfAbsent(s.getName(), s)));
+
+    Map<String, WlsClusterConfig> clustersByName = new HashMap<>();
+    Map<String, Map<String, WlsServerConfig>> serversByCluster = new HashMap<>();
+    Map<String, String> clusterNames = new HashMap<>();
+    for (WlsClusterConfig cluster : configuredClusters) {
+      if (clustersByName.putIfAbsent(cluster.getClusterName(), cluster) == null) {
+        serversByCluster.put(cluster.getClusterName(), indexClusteredServers(cluster, clusterNames));
+      }
+    }
+
+    this.standaloneServers = Collections.unmodifiableMap(standalone);
+    this.clusters = Collections.unmodifiableMap(clustersByName);
+    this.clusteredServers = Collections.unmodifiableMap(serversByCluster);
+    this.clusterNamesByServer = Collections.unmodifiableMap(clusterNames);
+  }
+
+  private static Map<String, WlsServerConfig> indexClusteredServers(
+      WlsClusterConfig cluster, Map<String, String> clusterNames) {
+    Map<String, WlsServerConfig> result = new HashMap<>();
+    for (WlsServerConfig server : cluster.getServerConfigs()) {
+      result.putIfAbsent(server.getName(), server);
+      clusterNames.putIfAbsent(server.getName(), cluster.getClusterName());
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  WlsServerConfig getStandaloneServerConfig(String serverName) {
+    return standaloneServers.get(serverName);
+  }
+
+  WlsClusterConfig getClusterConfig(String clusterName) {
+    return clusters.get(clusterName);
+  }
+
+  Map<String, WlsClusterConfig> getClusterConfigs() {
+    return clusters;
+  }
+
+  WlsServerConfig getClusteredServerConfig(String clusterName, String serverName) {
+    return Optional.ofNullable(clusteredServers.get(clusterName)).map(m -> m.get(serverName)).orElse(null);
+  }
+
+  String getClusterName(String serverName) {
+    return clusterNamesByServer.get(serverName);
+  }
+
+  boolean containsServer(String serverName) {
+    return standaloneServers.containsKey(serverName) || clusterNamesByServer.containsKey(serverName);
+  }
+}
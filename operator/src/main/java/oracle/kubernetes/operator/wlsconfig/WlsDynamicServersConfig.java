@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -28,6 +29,10 @@ public class WlsDynamicServersConfig {
   String machineNameMatchExpression;
   List<WlsServerConfig> serverConfigs;
 
+  // owner -- don't include in toString, hashCode, equals
+  @JsonIgnore
+  private WlsClusterConfig wlsClusterConfig;
+
   public WlsDynamicServersConfig() {
   }
 
@@ -115,6 +120,7 @@ public class WlsDynamicServersConfig {
 
   public void setDynamicClusterSize(Integer dynamicClusterSize) {
     this.dynamicClusterSize = dynamicClusterSize;
+    clearDomainIndex();
   }
 
   /**
@@ -156,6 +162,16 @@ public class WlsDynamicServersConfig {
 
   public void setServerConfigs(List<WlsServerConfig> serverConfigs) {
     this.serverConfigs = serverConfigs;
+    clearDomainIndex();
+  }
+
+  void setWlsClusterConfig(WlsClusterConfig wlsClusterConfig) {
+    this.wlsClusterConfig = wlsClusterConfig;
+  }
+
+  // Discards the index of the domain to which the cluster belongs, as the dynamic servers have changed.
+  private void clearDomainIndex() {
+    Optional.ofNullable(wlsClusterConfig).ifPresent(WlsClusterConfig::clearDomainIndex);
   }
 
   /**
@@ -199,6 +215,7 @@ public class WlsDynamicServersConfig {
     serverConfigs =
         createServerConfigsFromTemplate(
             dynamicServerNames, serverTemplate, clusterName, domainName, calculatedListenPorts);
+    clearDomainIndex();
   }
 
   private List<String> generateDynamicServerNames() {
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.work;
 import java.io.Serial;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -39,6 +40,11 @@ public final class Fiber implements Runnable {
   private final AtomicBoolean isCancelled = new AtomicBoolean(false);
   private final Queue<String> breadcrumbs = new ConcurrentLinkedQueue<>();
 
+  /** The step and packet from which a suspended fiber will resume, if it is not to restart its stepline. */
+  private volatile Step resumeStep;
+  private volatile Packet resumePacket;
+  private volatile Cancellable pendingResumption;
+
   public Fiber(FiberExecutor fiberExecutor, Step stepline, Packet packet) {
     this(fiberExecutor, stepline, packet, null);
   }
@@ -91,13 +97,30 @@ public final class Fiber implements Runnable {
    * Starts the execution of this fiber asynchronously.
    */
   public void start() {
+    Step.fiberStarted(this);
     fiberExecutor.execute(this);
   }
 
+  /**
+   * Starts a new fiber which shares this fiber's executor, but is otherwise independent of it: it is not
+   * cancelled with this fiber, and its completion is not reported.
+   * @param stepline the steps for the new fiber to run
+   * @param packet the packet for the new fiber
+   */
+  public void startDetached(Step stepline, Packet packet) {
+    new Fiber(fiberExecutor, stepline, packet).start();
+  }
+
   private boolean invokeAndPotentiallyRequeue(Step stepline, Packet packet) {
     Result result = stepline.apply(packet);
 
-    if (result.isRequeue()) {
+    if (result instanceof Step.DelayResult delayResult) {
+      suspend(delayResult);
+      return false;
+    } else if (result instanceof Step.ForkJoinResult forkJoinResult) {
+      suspend(forkJoinResult.getForkJoin());
+      return false;
+    } else if (result.isRequeue()) {
       addBreadcrumb("[" + result.getRequeueAfter() + "]");
       fiberExecutor.schedule(this, result.getRequeueAfter());
       return false;
@@ -105,6 +128,44 @@ public final class Fiber implements Runnable {
     return true;
   }
 
+  // Releases the thread, arranging to continue from the step and packet of the result once its delay has passed.
+  private void suspend(Step.DelayResult delayResult) {
+    addBreadcrumb("[suspend: " + delayResult.getRequeueAfter() + "]");
+    resumeStep = delayResult.getStep();
+    resumePacket = delayResult.getPacket();
+    pendingResumption = fiberExecutor.resume(this, delayResult.getRequeueAfter());
+    if (isCancelled()) {
+      pendingResumption.cancel();
+    }
+  }
+
+  // Releases the thread while the child fibers of the fork-join run. The fork-join will resume or requeue this fiber.
+  private void suspend(ForkJoin forkJoin) {
+    addBreadcrumb("[forkJoin]");
+    pendingResumption = forkJoin::cancel;
+    forkJoin.start(this);
+    if (isCancelled()) {
+      forkJoin.cancel();
+    }
+  }
+
+  // Continues a suspended fiber from the specified step and packet.
+  void resumeFrom(Step step, Packet packet) {
+    resumeStep = step;
+    resumePacket = packet;
+    fiberExecutor.resume(this, Duration.ZERO);
+  }
+
+  // Restarts a suspended fiber from the beginning of its stepline after the specified delay.
+  void requeue(Duration duration) {
+    addBreadcrumb("[" + duration + "]");
+    fiberExecutor.schedule(this, duration);
+  }
+
+  ScheduledExecutorService getScheduledExecutorService() {
+    return fiberExecutor.getScheduledExecutorService();
+  }
+
   static Fiber copyWithNewStepsAndPacket(Fiber fiber, Step stepline, Packet packet) {
     return new Fiber(fiber, stepline, packet);
   }
@@ -117,9 +178,14 @@ public final class Fiber implements Runnable {
 
       final Fiber oldFiber = CURRENT_FIBER.get();
       CURRENT_FIBER.set(this);
+      final Step firstStep = Optional.ofNullable(resumeStep).orElse(stepline);
+      final Packet firstPacket = Optional.ofNullable(resumePacket).orElse(packet);
+      resumeStep = null;
+      resumePacket = null;
+      pendingResumption = null;
       try {
         try {
-          if ((stepline == null || invokeAndPotentiallyRequeue(adapt(this, stepline, packet), packet))
+          if ((firstStep == null || invokeAndPotentiallyRequeue(adapt(this, firstStep, firstPacket), firstPacket))
                   && !isCancelled()
                   && completionCallback != null) {
             Throwable t = (Throwable) packet.remove(THROWABLE);
@@ -191,11 +257,12 @@ public final class Fiber implements Runnable {
   }
 
   /**
-   * Cancels this fiber.
+   * Cancels this fiber. If the fiber is suspended, it will not resume.
    */
   public void cancel() {
     if (!isCancelled.getAndSet(true)) {
       addBreadcrumb("[cancelled]");
+      Optional.ofNullable(pendingResumption).ifPresent(Cancellable::cancel);
     }
   }
 
@@ -251,6 +318,27 @@ public final class Fiber implements Runnable {
     void execute(Fiber fiber);
 
     Cancellable schedule(Fiber fiber, Duration duration);
+
+    Cancellable resume(Fiber fiber, Duration duration);
+
+    ScheduledExecutorService getScheduledExecutorService();
+  }
+
+  /**
+   * Runs a suspended fiber on the specified executor once the specified delay has passed.
+   * @param executor the executor on which to run the fiber
+   * @param fiber the fiber to run
+   * @param duration the delay before running the fiber
+   * @return a means to cancel the pending run
+   */
+  static Cancellable runAfter(ScheduledExecutorService executor, Fiber fiber, Duration duration) {
+    if (duration.isZero()) {
+      executor.execute(fiber);
+      return () -> false;
+    }
+
+    ScheduledFuture<?> future = executor.schedule(fiber, duration.toMillis(), TimeUnit.MILLISECONDS);
+    return () -> future.cancel(true);
   }
 
   private static FiberExecutor fromScheduled(ScheduledExecutorService scheduledExecutorService) {
@@ -262,6 +350,16 @@ public final class Fiber implements Runnable {
         return () -> future.cancel(true);
       }
 
+      @Override
+      public Cancellable resume(Fiber fiber, Duration duration) {
+        return runAfter(scheduledExecutorService, fiber, duration);
+      }
+
+      @Override
+      public ScheduledExecutorService getScheduledExecutorService() {
+        return scheduledExecutorService;
+      }
+
       @Override
       public void execute(@NotNull Fiber fiber) {
         scheduledExecutorService.execute(fiber);
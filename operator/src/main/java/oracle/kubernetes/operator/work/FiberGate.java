@@ -99,6 +99,17 @@ public class FiberGate {
         return () -> future.cancel(true);
       }
 
+      // A suspended fiber resumes in place, unless it has been cancelled by a newer fiber for the same key.
+      @Override
+      public Cancellable resume(Fiber fiber, Duration duration) {
+        return Fiber.runAfter(scheduledExecutorService, fiber, duration);
+      }
+
+      @Override
+      public ScheduledExecutorService getScheduledExecutorService() {
+        return scheduledExecutorService;
+      }
+
       private void scheduledExecution(Fiber fiber) {
         Fiber scheduledReplacement = Fiber.copyWithNewStepsAndPacket(fiber, stepSupplier.get(), packetSupplier.get());
         if (gateMap.compute(domainUid,
@@ -0,0 +1,225 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_FORK_JOIN_CONCURRENCY_LIMIT;
+
+/**
+ * Runs the steps of a fork-join in concurrent child fibers, and continues the suspended parent fiber once they
+ * have all completed. At most the configured number of child fibers run at once. If any child fiber fails,
+ * the others are cancelled and the parent terminates with the first failure; otherwise, if any child requests
+ * a requeue, the parent is requeued with the shortest requested delay. A fork-join may also share a
+ * {@link ForkJoinLimit} with others, in which case each child must also obtain a permit from that limit.
+ */
+class ForkJoin {
+
+  private static final Step END = new EndStep();
+
+  private final Step next;
+  private final Packet packet;
+  private final Queue<Fiber.StepAndPacket> pending;
+  private final List<Fiber> children = new CopyOnWriteArrayList<>();
+  private final int concurrencyLimit;
+  private final ForkJoinLimit sharedLimit;
+  private Fiber parent;
+  private int running;
+  private boolean requeue;
+  private Duration requeueAfter;
+  private boolean finished;
+  private Throwable failure;
+
+  ForkJoin(Step next, Packet packet, Collection<Fiber.StepAndPacket> startDetails) {
+    this(next, packet, startDetails, null);
+  }
+
+  ForkJoin(Step next, Packet packet, Collection<Fiber.StepAndPacket> startDetails, ForkJoinLimit sharedLimit) {
+    this.next = next;
+    this.packet = packet;
+    this.pending = new ArrayDeque<>(startDetails);
+    this.concurrencyLimit = getConcurrencyLimit(startDetails.size());
+    this.sharedLimit = sharedLimit;
+  }
+
+  private static int getConcurrencyLimit(int numSteps) {
+    int limit = Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getForkJoinConcurrencyLimit)
+        .orElse(DEFAULT_FORK_JOIN_CONCURRENCY_LIMIT);
+    return limit > 0 ? Math.min(limit, numSteps) : numSteps;
+  }
+
+  /**
+   * Starts the child fibers, up to the concurrency limit.
+   * @param parent the fiber to continue once the child fibers have completed
+   */
+  void start(Fiber parent) {
+    final List<Fiber> toStart;
+    synchronized (this) {
+      this.parent = parent;
+      toStart = createChildren();
+    }
+    toStart.forEach(Fiber::start);
+  }
+
+  // Starts children which were waiting for permits from the shared limit.
+  void startWaitingChildren() {
+    final List<Fiber> toStart;
+    synchronized (this) {
+      toStart = createChildren();
+    }
+    toStart.forEach(Fiber::start);
+  }
+
+  // Creates child fibers for pending steps, up to the concurrency limits. Must be called while holding the lock.
+  private List<Fiber> createChildren() {
+    List<Fiber> created = new ArrayList<>();
+    while (!finished && running < concurrencyLimit && !pending.isEmpty() && acquireSharedPermit()) {
+      Fiber.StepAndPacket sap = pending.poll();
+      Fiber child = new Fiber(new ChildExecutor(), sap.step(),
+          Optional.ofNullable(sap.packet()).orElseGet(packet::copy), new ChildCompletionCallback());
+      children.add(child);
+      created.add(child);
+      running++;
+    }
+    return created;
+  }
+
+  private boolean acquireSharedPermit() {
+    return sharedLimit == null || sharedLimit.tryAcquire(this);
+  }
+
+  private void releaseSharedPermits(int numPermits) {
+    Optional.ofNullable(sharedLimit).ifPresent(l -> l.release(numPermits));
+  }
+
+  /**
+   * Cancels any running child fibers, and prevents the parent fiber from continuing.
+   */
+  boolean cancel() {
+    final int numRunning;
+    synchronized (this) {
+      if (finished) {
+        return false;
+      }
+      finished = true;
+      numRunning = running;
+    }
+    children.forEach(Fiber::cancel);
+    Optional.ofNullable(sharedLimit).ifPresent(l -> l.cancelWaiting(this));
+    releaseSharedPermits(numRunning);
+    return true;
+  }
+
+  private void childCompleted(Result result) {
+    final boolean allCompleted;
+    final List<Fiber> toStart;
+    synchronized (this) {
+      if (finished) {
+        return;
+      }
+      running--;
+      if (result != null && result.isRequeue()) {
+        requeue = true;
+        requeueAfter = Step.minDuration(requeueAfter, result.getRequeueAfter());
+      }
+      allCompleted = running == 0 && pending.isEmpty();
+      finished = allCompleted;
+      toStart = createChildren();
+    }
+
+    releaseSharedPermits(1);
+    toStart.forEach(Fiber::start);
+    if (allCompleted) {
+      continueParent();
+    }
+  }
+
+  private void continueParent() {
+    if (requeue) {
+      parent.requeue(Optional.ofNullable(requeueAfter).orElse(Duration.ZERO));
+    } else {
+      parent.resumeFrom(Optional.ofNullable(next).orElse(END), packet);
+    }
+  }
+
+  // The failure is held here rather than in the packet, which the still-running children may share and update,
+  // and is set in the packet only by the parent fiber once it resumes.
+  private void childFailed(Throwable throwable) {
+    if (cancel()) {
+      failure = throwable;
+      parent.resumeFrom(new TerminateStep(failure), packet);
+    }
+  }
+
+  private static class EndStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doEnd(packet);
+    }
+  }
+
+  private static class TerminateStep extends Step {
+    private final Throwable throwable;
+
+    TerminateStep(Throwable throwable) {
+      this.throwable = throwable;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doTerminate(throwable, packet);
+    }
+  }
+
+  private class ChildCompletionCallback implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+      childCompleted(null);
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      childFailed(throwable);
+    }
+  }
+
+  // Runs child fibers on the parent's executor; a child which requests a requeue is treated as complete,
+  // and the request is passed on to the parent.
+  private class ChildExecutor implements Fiber.FiberExecutor {
+
+    @Override
+    public void execute(Fiber fiber) {
+      getScheduledExecutorService().execute(fiber);
+    }
+
+    @Override
+    public Cancellable schedule(Fiber fiber, Duration duration) {
+      childCompleted(new Result(true, duration));
+      return () -> false;
+    }
+
+    @Override
+    public Cancellable resume(Fiber fiber, Duration duration) {
+      return Fiber.runAfter(getScheduledExecutorService(), fiber, duration);
+    }
+
+    @Override
+    public ScheduledExecutorService getScheduledExecutorService() {
+      return parent.getScheduledExecutorService();
+    }
+  }
+}
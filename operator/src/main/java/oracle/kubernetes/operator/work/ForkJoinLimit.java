@@ -0,0 +1,75 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.IntSupplier;
+
+/**
+ * A limit on the number of child fibers which may run at once, shared by all the fork-joins which use it. A fork-join
+ * which cannot start a child because the limit has been reached waits, without holding a thread, until another
+ * fork-join sharing the limit releases a permit.
+ */
+public class ForkJoinLimit {
+
+  private final IntSupplier limitSupplier;
+  private final Queue<ForkJoin> waiting = new ArrayDeque<>();
+  private int inUse;
+
+  /**
+   * Creates a limit.
+   * @param limitSupplier supplies the maximum number of child fibers to run at once. A value less than one
+   *                      removes the limit.
+   */
+  public ForkJoinLimit(IntSupplier limitSupplier) {
+    this.limitSupplier = limitSupplier;
+  }
+
+  /**
+   * Returns the number of child fibers currently running under this limit.
+   */
+  public synchronized int getNumInUse() {
+    return inUse;
+  }
+
+  // Takes a permit if one is available; otherwise, records that the fork-join is waiting for one.
+  synchronized boolean tryAcquire(ForkJoin forkJoin) {
+    if (hasAvailablePermit()) {
+      inUse++;
+      return true;
+    } else if (!waiting.contains(forkJoin)) {
+      waiting.add(forkJoin);
+    }
+    return false;
+  }
+
+  // Returns permits and lets waiting fork-joins start children until no permits remain.
+  void release(int numPermits) {
+    if (numPermits <= 0) {
+      return;
+    }
+
+    synchronized (this) {
+      inUse -= numPermits;
+    }
+    ForkJoin next;
+    while ((next = getNextWaiting()) != null) {
+      next.startWaitingChildren();
+    }
+  }
+
+  private synchronized ForkJoin getNextWaiting() {
+    return hasAvailablePermit() ? waiting.poll() : null;
+  }
+
+  synchronized void cancelWaiting(ForkJoin forkJoin) {
+    waiting.remove(forkJoin);
+  }
+
+  private boolean hasAvailablePermit() {
+    final int limit = limitSupplier.getAsInt();
+    return limit < 1 || inUse < limit;
+  }
+}
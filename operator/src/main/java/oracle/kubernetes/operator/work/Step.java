@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -22,6 +22,10 @@ public abstract class Step {
 
   public interface StepAdapter {
     Step adapt(Fiber fiber, Step step, Packet packet);
+
+    default void fiberStarted(Fiber fiber) {
+      // no action by default
+    }
   }
 
   private static final StepAdapter DEFAULT_ADAPTER = (fiber, step, packet) -> {
@@ -31,8 +35,7 @@ public abstract class Step {
     return step;
   };
 
-  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
-  private static StepAdapter adapter = DEFAULT_ADAPTER;
+  private static volatile StepAdapter adapter = DEFAULT_ADAPTER;
 
   public static final String THROWABLE = "throwable";
 
@@ -177,6 +180,8 @@ public abstract class Step {
     return adapt(Fiber.getCurrentIfSet(), step, packet);
   }
 
+  // Every step which a fiber applies, whether it starts or resumes the fiber or is invoked by a preceding step,
+  // passes through here.
   static final Step adapt(Fiber fiber, Step step, Packet packet) {
     if (fiber != null && fiber.isCancelled()) {
       return null;
@@ -184,6 +189,34 @@ public abstract class Step {
     return adapter.adapt(fiber, step, packet);
   }
 
+  static void fiberStarted(Fiber fiber) {
+    adapter.fiberStarted(fiber);
+  }
+
+  /**
+   * Adds an adapter to be applied to each step after those already installed, such as to record metrics.
+   * @param stepAdapter the adapter to add
+   */
+  public static void addAdapter(StepAdapter stepAdapter) {
+    adapter = new ChainedAdapter(adapter, stepAdapter);
+  }
+
+  private record ChainedAdapter(StepAdapter first, StepAdapter second) implements StepAdapter {
+
+    @Override
+    public Step adapt(Fiber fiber, Step step, Packet packet) {
+      return Optional.ofNullable(first.adapt(fiber, step, packet))
+          .map(adapted -> second.adapt(fiber, adapted, packet))
+          .orElse(null);
+    }
+
+    @Override
+    public void fiberStarted(Fiber fiber) {
+      first.fiberStarted(fiber);
+      second.fiberStarted(fiber);
+    }
+  }
+
   /**
    * Invokes this step.
    *
@@ -266,7 +299,9 @@ public abstract class Step {
   }
 
   /**
-   * Invoke the indicated step after a delay.
+   * Invoke the indicated step after a delay. When running in a fiber, the fiber releases its thread and resumes
+   * with the indicated step once the delay has passed; cancelling the fiber in the meantime prevents it from
+   * resuming. Otherwise, the current thread waits.
    *
    * @param step Step from which to resume
    * @param packet Packet to provide when retrying this step
@@ -274,11 +309,15 @@ public abstract class Step {
    * @param unit Delay time unit
    */
   protected static final Result doDelay(Step step, Packet packet, long delay, TimeUnit unit) {
+    Fiber fiber = Fiber.getCurrentIfSet();
+    if (fiber != null) {
+      fiber.addBreadcrumb(("[delay: " + unit.toMillis(delay) + "ms]"));
+    }
+    if (delay > 0 && fiber != null) {
+      return new DelayResult(step, packet, Duration.ofNanos(unit.toNanos(delay)));
+    }
+
     try {
-      Fiber fiber = Fiber.getCurrentIfSet();
-      if (fiber != null) {
-        fiber.addBreadcrumb(("[delay: " + unit.toMillis(delay) + "ms]"));
-      }
       unit.sleep(delay);
     } catch (InterruptedException e) {
       return doTerminate(e, packet);
@@ -286,6 +325,44 @@ public abstract class Step {
     return step.doStepNext(packet);
   }
 
+  /**
+   * A result which asks the fiber to resume from the specified step after a delay, rather than to restart.
+   */
+  static final class DelayResult extends Result {
+    private final Step step;
+    private final Packet packet;
+
+    DelayResult(Step step, Packet packet, Duration delay) {
+      super(true, delay);
+      this.step = step;
+      this.packet = packet;
+    }
+
+    Step getStep() {
+      return step;
+    }
+
+    Packet getPacket() {
+      return packet;
+    }
+  }
+
+  /**
+   * A result which asks the fiber to run the child fibers of a fork-join, and to wait for them to complete.
+   */
+  static final class ForkJoinResult extends Result {
+    private final ForkJoin forkJoin;
+
+    ForkJoinResult(ForkJoin forkJoin) {
+      super(false);
+      this.forkJoin = forkJoin;
+    }
+
+    ForkJoin getForkJoin() {
+      return forkJoin;
+    }
+  }
+
   public final Step getNext() {
     return next;
   }
@@ -296,25 +373,39 @@ public abstract class Step {
    * shortest duration. Otherwise, if none of the steps request a requeue then the result of invoking the
    * conditional step is returned.
    *
+   * <p>When running in a fiber, each set of steps runs concurrently in a child fiber, limited by the
+   * fork-join concurrency tuning parameter, and the current fiber is suspended until they complete. If any
+   * child fiber fails, the others are cancelled and the current fiber terminates with the first failure.
+   *
    * @param step Step to invoke conditionally after the set of steps are invoked
    * @param packet Resume packet
    * @param startDetails Pairs of step and packet to use when starting
    */
   protected final Result doForkJoin(
       Step step, Packet packet, Collection<Fiber.StepAndPacket> startDetails) {
+    return doForkJoin(step, packet, startDetails, null);
+  }
+
+  /**
+   * Invokes a set of steps as {@link #doForkJoin(Step, Packet, Collection)} does, but when running in a fiber,
+   * also limits the number of child fibers running at once across all fork-joins which share the specified limit.
+   *
+   * @param step Step to invoke conditionally after the set of steps are invoked
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting
+   * @param sharedLimit a limit shared with other fork-joins. May be null.
+   */
+  protected final Result doForkJoin(
+      Step step, Packet packet, Collection<Fiber.StepAndPacket> startDetails, ForkJoinLimit sharedLimit) {
     boolean requeue = false;
     Duration duration = null;
 
     Fiber fiber = Fiber.getCurrentIfSet();
-    int count = 0;
-    if (LOGGER.isFinerEnabled() && fiber != null) {
-      fiber.addBreadcrumb("[forkJoin]");
+    if (fiber != null && !startDetails.isEmpty()) {
+      return new ForkJoinResult(new ForkJoin(step, packet, startDetails, sharedLimit));
     }
-    for (Fiber.StepAndPacket sap : startDetails) {
-      if (LOGGER.isFinerEnabled() && fiber != null) {
-        fiber.addBreadcrumb("[" + ++count + "of" + startDetails.size() + "]");
-      }
 
+    for (Fiber.StepAndPacket sap : startDetails) {
       Packet sapPacket = sap.packet();
       Result r = sap.step().doStepNext(sapPacket);
       Throwable t = Optional.ofNullable(sapPacket).map(p -> (Throwable) p.getValue(THROWABLE)).orElse(null);
@@ -346,7 +437,7 @@ public abstract class Step {
     return step.doStepNext(packet);
   }
 
-  private Duration minDuration(Duration one, Duration two) {
+  static Duration minDuration(Duration one, Duration two) {
     if (one == null) {
       return two;
     }
@@ -0,0 +1,279 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A scheduled executor service which holds pending tasks in a single queue, ordered by trigger time and served by
+ * one timer thread, and runs each task on a new virtual thread only when it becomes due. A pending task costs only
+ * its queue entry, rather than a parked virtual thread and its stack.
+ *
+ * <p>Cancelled tasks are removed from the queue, in time logarithmic in its size. A periodic task continues to be
+ * scheduled even if one of its executions throws an exception, which is logged. Tasks which are still delayed when
+ * the service is shut down are not run.
+ */
+public class TimerScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+  private final ConcurrentSkipListSet<TimerTask<?>> queue = new ConcurrentSkipListSet<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition headChanged = lock.newCondition();
+  private final AtomicLong sequencer = new AtomicLong();
+  private final Thread timerThread;
+  private volatile boolean shutdown;
+
+  /**
+   * Creates the service and starts its timer thread.
+   */
+  public TimerScheduledExecutorService() {
+    timerThread = Thread.ofPlatform().daemon().name("operator-timer").start(this::dispatchDueTasks);
+  }
+
+  private void dispatchDueTasks() {
+    try {
+      while (!shutdown) {
+        TimerTask<?> task = takeDueTask();
+        if (!task.isCancelled()) {
+          executorService.execute(task);
+        }
+      }
+    } catch (InterruptedException | RejectedExecutionException e) {
+      // the service has been shut down
+    }
+  }
+
+  // Waits until the earliest task is due, and removes it from the queue. A task cancelled while waiting for it
+  // is no longer in the queue, and the wait continues with the next.
+  private TimerTask<?> takeDueTask() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (true) {
+        TimerTask<?> head = getHead();
+        if (head == null) {
+          headChanged.await();
+        } else if (head.getDelay(NANOSECONDS) > 0) {
+          headChanged.awaitNanos(head.getDelay(NANOSECONDS));
+        } else if (queue.remove(head)) {
+          return head;
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private TimerTask<?> getHead() {
+    try {
+      return queue.first();
+    } catch (NoSuchElementException e) {
+      return null;
+    }
+  }
+
+  // The timer thread need only be woken if the new task is due before the one for which it is waiting.
+  private void addToQueue(TimerTask<?> task) {
+    queue.add(task);
+    lock.lock();
+    try {
+      if (getHead() == task) {
+        headChanged.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private long triggerTime(long delay, TimeUnit unit) {
+    return System.nanoTime() + unit.toNanos(Math.max(delay, 0));
+  }
+
+  private <V> TimerTask<V> enqueue(TimerTask<V> task) {
+    if (shutdown) {
+      throw new RejectedExecutionException("Executor has been shut down");
+    }
+    addToQueue(task);
+    return task;
+  }
+
+  // A failure of one execution of a periodic task does not suppress later ones.
+  private static Runnable ignoringFailures(Runnable command) {
+    return () -> {
+      try {
+        command.run();
+      } catch (Throwable t) {
+        LOGGER.severe(MessageKeys.EXCEPTION, t);
+      }
+    };
+  }
+
+  /**
+   * Returns the number of tasks waiting to become due.
+   */
+  int getNumPendingTasks() {
+    return queue.size();
+  }
+
+  @NotNull
+  @Override
+  public ScheduledFuture<?> schedule(@NotNull Runnable command, long delay, @NotNull TimeUnit unit) {
+    return enqueue(new TimerTask<Void>(command, triggerTime(delay, unit), 0));
+  }
+
+  @NotNull
+  @Override
+  public <V> ScheduledFuture<V> schedule(@NotNull Callable<V> callable, long delay, @NotNull TimeUnit unit) {
+    return enqueue(new TimerTask<>(callable, triggerTime(delay, unit)));
+  }
+
+  @NotNull
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(@NotNull Runnable command,
+                                                long initialDelay, long period, @NotNull TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("period must be positive");
+    }
+    return enqueue(new TimerTask<Void>(ignoringFailures(command), triggerTime(initialDelay, unit),
+        unit.toNanos(period)));
+  }
+
+  @NotNull
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(@NotNull Runnable command,
+                                                   long initialDelay, long delay, @NotNull TimeUnit unit) {
+    if (delay <= 0) {
+      throw new IllegalArgumentException("delay must be positive");
+    }
+    return enqueue(new TimerTask<Void>(ignoringFailures(command), triggerTime(initialDelay, unit),
+        -unit.toNanos(delay)));
+  }
+
+  @Override
+  public void execute(@NotNull Runnable command) {
+    executorService.execute(command);
+  }
+
+  @Override
+  public void shutdown() {
+    shutdown = true;
+    timerThread.interrupt();
+    queue.clear();
+    executorService.shutdown();
+  }
+
+  @NotNull
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown = true;
+    timerThread.interrupt();
+    List<Runnable> pending = new ArrayList<>(queue);
+    queue.clear();
+    pending.addAll(executorService.shutdownNow());
+    return pending;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return executorService.isTerminated() && !timerThread.isAlive();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    timerThread.join(Math.max(1, NANOSECONDS.toMillis(deadline - System.nanoTime())));
+    return executorService.awaitTermination(deadline - System.nanoTime(), NANOSECONDS);
+  }
+
+  private class TimerTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+    private final long sequenceNumber = sequencer.getAndIncrement();
+    private volatile long time;
+
+    /** Zero for a one-shot task; positive for a fixed-rate task; negative for a fixed-delay task. */
+    private final long period;
+
+    TimerTask(Runnable command, long triggerTime, long period) {
+      super(command, null);
+      this.time = triggerTime;
+      this.period = period;
+    }
+
+    TimerTask(Callable<V> callable, long triggerTime) {
+      super(callable);
+      this.time = triggerTime;
+      this.period = 0;
+    }
+
+    @Override
+    public boolean isPeriodic() {
+      return period != 0;
+    }
+
+    @Override
+    public long getDelay(@NotNull TimeUnit unit) {
+      return unit.convert(time - System.nanoTime(), NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(@NotNull Delayed other) {
+      if (other == this) {
+        return 0;
+      } else if (other instanceof TimerTask<?> task) {
+        int result = Long.compare(time, task.time);
+        return result != 0 ? result : Long.compare(sequenceNumber, task.sequenceNumber);
+      } else {
+        return Long.compare(getDelay(NANOSECONDS), other.getDelay(NANOSECONDS));
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      final boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        queue.remove(this);
+      }
+      return cancelled;
+    }
+
+    @Override
+    public void run() {
+      if (!isPeriodic()) {
+        super.run();
+      } else if (runAndReset() && !shutdown) {
+        time = period > 0 ? time + period : System.nanoTime() - period;
+        addToQueue(this);
+      }
+    }
+  }
+}
@@ -86,10 +86,33 @@ public abstract class BaseConfiguration {
   }
 
   private boolean overrideStartPolicyFrom(BaseConfiguration other) {
+    return overrideStartPolicy(getServerStartPolicy(), other);
+  }
+
+  private static boolean overrideStartPolicy(ServerStartPolicy policy, BaseConfiguration other) {
     if (other.isStartAdminServerOnly()) {
       return false;
     }
-    return getServerStartPolicy() == null || other.isStartNever();
+    return policy == null || other.isStartNever();
+  }
+
+  /**
+   * Returns the start policy which would result from filling in an empty configuration from each of the
+   * specified configurations in turn, without merging any of their other settings. The effective server specs
+   * start from such a copy of the server configuration, so an AdminOnly policy set on the server itself is
+   * not carried over, just as in {@link #fillInFrom(BaseConfiguration)}.
+   *
+   * @param configurations the configurations, from the most to the least specific; null entries are ignored
+   * @return the resulting start policy, or null if none is defined
+   */
+  static ServerStartPolicy fillInStartPolicy(BaseConfiguration... configurations) {
+    ServerStartPolicy policy = null;
+    for (BaseConfiguration other : configurations) {
+      if (other != null && overrideStartPolicy(policy, other)) {
+        policy = other.getServerStartPolicy();
+      }
+    }
+    return policy;
   }
 
   boolean isStartAdminServerOnly() {
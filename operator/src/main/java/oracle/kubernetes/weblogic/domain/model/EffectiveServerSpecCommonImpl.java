@@ -33,9 +33,12 @@ import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 
 /** The effective configuration for a server configured by the version 2 domain model. */
 public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecBase {
-  private final Server server;
+  private final Server baseServer;
   private final ClusterSpec clusterSpec;
   private final Integer clusterLimit;
+  private final ServerStartPolicy serverStartPolicy;
+  // the server configuration merged with those of its cluster and domain; built when first needed
+  private Server server;
 
   /**
    * Constructs an object to return the effective configuration.
@@ -48,11 +51,21 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
    */
   EffectiveServerSpecCommonImpl(DomainSpec spec, Server server, ClusterSpec clusterSpec, Integer clusterLimit) {
     super(spec);
-    this.server = getBaseConfiguration(server);
+    this.baseServer = server;
     this.clusterLimit = clusterLimit;
-    this.server.fillInFrom(clusterSpec);
-    this.server.fillInFrom(spec);
     this.clusterSpec = clusterSpec;
+    this.serverStartPolicy = BaseConfiguration.fillInStartPolicy(server, clusterSpec, spec);
+  }
+
+  // Merging the pod and service configurations is relatively expensive, and many callers need only the
+  // start policy, so the merge is deferred until a merged value is requested.
+  private synchronized Server getServer() {
+    if (server == null) {
+      server = getBaseConfiguration(baseServer);
+      server.fillInFrom(clusterSpec);
+      server.fillInFrom(domainSpec);
+    }
+    return server;
   }
 
   private Server getBaseConfiguration(Server server) {
@@ -61,62 +74,62 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
 
   @Override
   public List<V1EnvVar> getEnvironmentVariables() {
-    return server.getEnv();
+    return getServer().getEnv();
   }
 
   @Override
   public List<V1EnvFromSource> getEnvFrom() {
-    return server.getEnvFrom();
+    return getServer().getEnvFrom();
   }
 
   @Override
   public List<V1Volume> getAdditionalVolumes() {
-    return server.getAdditionalVolumes();
+    return getServer().getAdditionalVolumes();
   }
 
   @Override
   public List<V1VolumeMount> getAdditionalVolumeMounts() {
-    return server.getAdditionalVolumeMounts();
+    return getServer().getAdditionalVolumeMounts();
   }
 
   @Override
   @Nonnull
   public Map<String, String> getPodLabels() {
-    return server.getPodLabels();
+    return getServer().getPodLabels();
   }
 
   @Override
   @Nonnull
   public Map<String, String> getPodAnnotations() {
-    return server.getPodAnnotations();
+    return getServer().getPodAnnotations();
   }
 
   public Boolean isPrecreateServerService() {
-    return server.isPrecreateServerService();
+    return getServer().isPrecreateServerService();
   }
 
   @Override
   @Nonnull
   public Map<String, String> getServiceLabels() {
-    return server.getServiceLabels();
+    return getServer().getServiceLabels();
   }
 
   @Override
   @Nonnull
   public Map<String, String> getServiceAnnotations() {
-    return server.getServiceAnnotations();
+    return getServer().getServiceAnnotations();
   }
 
   @Override
   @Nonnull
   public List<V1Container> getContainers() {
-    return server.getContainers();
+    return getServer().getContainers();
   }
 
   @Override
   @Nonnull
   public List<V1Container> getInitContainers() {
-    return server.getInitContainers();
+    return getServer().getInitContainers();
   }
 
   @Override
@@ -143,7 +156,7 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
   }
 
   private ServerStartPolicy getEffectiveServerStartPolicy() {
-    return Optional.ofNullable(server.getServerStartPolicy())
+    return Optional.ofNullable(serverStartPolicy)
         .orElse(ServerStartPolicy.getDefaultPolicy());
   }
 
@@ -154,105 +167,105 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
   @Nonnull
   @Override
   public V1Probe getLivenessProbe() {
-    return server.getLivenessProbe();
+    return getServer().getLivenessProbe();
   }
 
   @Nonnull
   @Override
   public V1Probe getReadinessProbe() {
-    return server.getReadinessProbe();
+    return getServer().getReadinessProbe();
   }
 
   @Override
   public V1Probe getStartupProbe() {
-    return server.getStartupProbe();
+    return getServer().getStartupProbe();
   }
 
   @Nonnull
   @Override
   public Shutdown getShutdown() {
-    return server.getShutdown();
+    return getServer().getShutdown();
   }
 
   @Nonnull
   @Override
   public Map<String, String> getNodeSelectors() {
-    return server.getNodeSelector();
+    return getServer().getNodeSelector();
   }
 
   @Override
   public V1Affinity getAffinity() {
-    return server.getAffinity();
+    return getServer().getAffinity();
   }
 
   @Override
   public List<V1TopologySpreadConstraint> getTopologySpreadConstraints() {
-    return server.getTopologySpreadConstraints();
+    return getServer().getTopologySpreadConstraints();
   }
 
   @Override
   public String getPriorityClassName() {
-    return server.getPriorityClassName();
+    return getServer().getPriorityClassName();
   }
 
   @Override
   public List<V1PodReadinessGate> getReadinessGates() {
-    return server.getReadinessGates();
+    return getServer().getReadinessGates();
   }
 
   @Override
   public String getRestartPolicy() {
-    return server.getRestartPolicy();
+    return getServer().getRestartPolicy();
   }
 
   @Override
   public String getRuntimeClassName() {
-    return server.getRuntimeClassName();
+    return getServer().getRuntimeClassName();
   }
 
   @Override
   public String getNodeName() {
-    return server.getNodeName();
+    return getServer().getNodeName();
   }
 
   @Override
   public String getServiceAccountName() {
-    return server.getServiceAccountName();
+    return getServer().getServiceAccountName();
   }
 
   @Override
   public Boolean getAutomountServiceAccountToken() {
-    return server.getAutomountServiceAccountToken();
+    return getServer().getAutomountServiceAccountToken();
   }
 
   @Override
   public String getSchedulerName() {
-    return server.getSchedulerName();
+    return getServer().getSchedulerName();
   }
 
   @Override
   public List<V1Toleration> getTolerations() {
-    return server.getTolerations();
+    return getServer().getTolerations();
   }
 
   @Override
   public List<V1HostAlias> getHostAliases() {
-    return server.getHostAliases();
+    return getServer().getHostAliases();
   }
 
   @Override
   public V1ResourceRequirements getResources() {
-    return server.getResources();
+    return getServer().getResources();
   }
 
   @Override
   public V1PodSecurityContext getPodSecurityContext() {
-    return server.getPodSecurityContext();
+    return getServer().getPodSecurityContext();
   }
 
   @Override
   public V1SecurityContext getContainerSecurityContext() {
-    return server.getContainerSecurityContext();
+    return getServer().getContainerSecurityContext();
   }
 
   @Override
@@ -267,24 +280,24 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
 
   @Override
   public String getServerRestartVersion() {
-    return server.getRestartVersion();
+    return getServer().getRestartVersion();
   }
 
   @Override
   public Long getMaximumReadyWaitTimeSeconds() {
-    return server.getMaximumReadyWaitTimeSeconds();
+    return getServer().getMaximumReadyWaitTimeSeconds();
   }
 
   @Override
   public Long getMaximumPendingWaitTimeSeconds() {
-    return server.getMaximumPendingWaitTimeSeconds();
+    return getServer().getMaximumPendingWaitTimeSeconds();
   }
 
   @Override
   public String toString() {
     return new ToStringBuilder(this)
         .appendSuper(super.toString())
-        .append("server", server)
+        .append("server", getServer())
         .append("clusterLimit", clusterLimit)
         .append("cluster", clusterSpec)
         .toString();
@@ -302,7 +315,7 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
 
     return new EqualsBuilder()
         .appendSuper(super.equals(o))
-        .append(server, that.server)
+        .append(getServer(), that.getServer())
         .append(clusterLimit, that.clusterLimit)
         .append(clusterSpec, that.clusterSpec)
         .isEquals();
@@ -312,7 +325,7 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
   public int hashCode() {
     return new HashCodeBuilder(17, 37)
         .appendSuper(super.hashCode())
-        .append(server)
+        .append(getServer())
         .append(clusterLimit)
         .append(clusterSpec)
         .toHashCode();
@@ -1,5 +1,5 @@
 #!/bin/bash
-# Copyright (c) 2017, 2024, Oracle and/or its affiliates.
+# Copyright (c) 2017, 2025, Oracle and/or its affiliates.
 # Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 # Reads the current state of a server. The script checks a WebLogic Server state
@@ -18,10 +18,21 @@ DH=${DOMAIN_HOME?}
 
 STATEFILE=/${DH}/servers/${SN}/data/nodemanager/${SN}.state
 
-# Adjust PATH if necessary before calling jps
-adjustPath
-
-if [ `jps -v | grep -c " -Dweblogic.Name=${SERVER_NAME} "` -eq 0 ]; then
+# Returns success if a process was started with -Dweblogic.Name=${SERVER_NAME}. The process arguments are
+# read from /proc with a single grep, which is far cheaper than starting a JVM to run jps; jps is used only
+# where /proc is not available.
+isServerProcessRunning() {
+  if [ -r /proc/self/cmdline ]; then
+    # the bracket keeps the pattern from matching the command line of this grep
+    grep -qszx -e "-Dweblogic[.]Name=${SERVER_NAME}" /proc/[0-9]*/cmdline
+  else
+    # Adjust PATH if necessary before calling jps
+    adjustPath
+    [ `jps -v | grep -c " -Dweblogic.Name=${SERVER_NAME} "` -ne 0 ]
+  fi
+}
+
+if ! isServerProcessRunning; then
   trace "WebLogic server process not found"
   exit 1
 fi
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -34,7 +34,10 @@ import static oracle.kubernetes.operator.EventConstants.CLUSTER_COMPLETED_EVENT;
 import static oracle.kubernetes.operator.EventConstants.CLUSTER_INCOMPLETE_EVENT;
 import static oracle.kubernetes.operator.EventConstants.CLUSTER_UNAVAILABLE_EVENT;
 import static oracle.kubernetes.operator.EventMatcher.hasEvent;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_FORBIDDEN;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
+import static oracle.kubernetes.operator.tuning.TuningParameters.STATUS_PATCH_ENABLED;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
@@ -90,6 +93,39 @@ class ClusterResourceStatusUpdaterTest {
     assertThat(clusterResource.getStatus(), equalTo(newStatus));
   }
 
+  @Test
+  void whenStatusPatchEnabled_patchClusterResourceStatus() {
+    TuningParametersStub.setParameter(STATUS_PATCH_ENABLED, "true");
+    testSupport.failOnReplaceStatus(KubernetesTestSupport.CLUSTER, NAME + '-' + CLUSTER, NS, HTTP_FORBIDDEN);
+    ClusterStatus newStatus = new ClusterStatus().withMinimumReplicas(0).withMaximumReplicas(8)
+        .withClusterName(CLUSTER).withReplicas(2).withReadyReplicas(1).withReplicasGoal(2);
+    domain.getStatus().addCluster(newStatus);
+    info.addClusterResource(cluster.withStatus(new ClusterStatus().withClusterName(CLUSTER).withReplicas(1)));
+
+    updateClusterResourceStatus();
+
+    ClusterResource clusterResource = testSupport
+        .getResourceWithName(KubernetesTestSupport.CLUSTER, NAME + '-' + CLUSTER);
+    assertThat(clusterResource.getStatus(), equalTo(newStatus));
+  }
+
+  @Test
+  void whenStatusPatchRejected_replaceClusterResourceStatus() {
+    TuningParametersStub.setParameter(STATUS_PATCH_ENABLED, "true");
+    testSupport.failOnPatchStatus(
+        KubernetesTestSupport.CLUSTER, NAME + '-' + CLUSTER, NS, HTTP_UNPROCESSABLE_ENTITY);
+    ClusterStatus newStatus = new ClusterStatus().withMinimumReplicas(0).withMaximumReplicas(8)
+        .withClusterName(CLUSTER).withReplicas(2).withReadyReplicas(1).withReplicasGoal(2);
+    domain.getStatus().addCluster(newStatus);
+    info.addClusterResource(cluster.withStatus(null));
+
+    updateClusterResourceStatus();
+
+    ClusterResource clusterResource = testSupport
+        .getResourceWithName(KubernetesTestSupport.CLUSTER, NAME + '-' + CLUSTER);
+    assertThat(clusterResource.getStatus(), equalTo(newStatus));
+  }
+
   @Test
   void whenReplicaCountWithinMaxUnavailableOfReplicas_clusterIsAvailable() {
     ClusterStatus newStatus = new ClusterStatus().withMinimumReplicas(0).withMaximumReplicas(8)
@@ -131,6 +167,26 @@ class ClusterResourceStatusUpdaterTest {
     }
   }
 
+  @Test
+  void whenTwoClusterResourcesUpdated_eachPresenceInfoClusterIsReplacedWithItsOwnResponse() {
+    ClusterStatus status1 = new ClusterStatus().withMinimumReplicas(0).withMaximumReplicas(4)
+        .withClusterName("cluster1").withReplicas(1).withReadyReplicas(1).withReplicasGoal(1);
+    ClusterStatus status2 = new ClusterStatus().withMinimumReplicas(0).withMaximumReplicas(6)
+        .withClusterName("cluster2").withReplicas(3).withReadyReplicas(2).withReplicasGoal(3);
+    domain.getStatus().addCluster(status1);
+    domain.getStatus().addCluster(status2);
+    ClusterResource resource1 = createClusterResource("cluster1").withStatus(null);
+    ClusterResource resource2 = createClusterResource("cluster2").withStatus(null);
+    info.addClusterResource(resource1);
+    info.addClusterResource(resource2);
+    testSupport.defineResources(resource1, resource2);
+
+    updateClusterResourceStatus();
+
+    assertThat(info.getClusterResource("cluster1").getStatus(), equalTo(status1));
+    assertThat(info.getClusterResource("cluster2").getStatus(), equalTo(status2));
+  }
+
   @Test
   void whenNoClusterResourceInDomainPresenceInfo_doNothing() {
     domain.getStatus().addCluster(new ClusterStatus().withMinimumReplicas(0).withMaximumReplicas(5)
@@ -65,6 +65,7 @@ import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_CALL_LIMIT;
 import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
@@ -178,6 +179,62 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
     assertThat(getDomainPresenceInfoMap(dp), hasKey(UID2));
   }
 
+  @Test
+  void whenDomainsListedInMultiplePages_keepAllInPresenceMap() {
+    createDomains(LAST_DOMAIN_NUM);
+    testSupport.setListPageSize(CALL_REQUEST_LIMIT);
+
+    testSupport.addToPacket(ProcessingConstants.DOMAIN_PROCESSOR, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(getDomainPresenceInfoMap(dp).values().stream().filter(i -> i.getDomain() == null).toList(), empty());
+    assertThat(getDomainPresenceInfoMap(dp).keySet(), hasSize(LAST_DOMAIN_NUM));
+  }
+
+  @Test
+  void whenDomainAddedWhileListsInFlight_dontMarkItDeleted() {
+    testSupport.defineResources(createDomain(UID1, NS));
+    testSupport.addToPacket(ProcessingConstants.DOMAIN_PROCESSOR, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    final List<Runnable> heldEvents = new ArrayList<>();
+    testSupport.doAfterCall(DOMAIN, "list", () -> addDomainByWatchEvent(createDomain(UID2, NS), heldEvents));
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+    heldEvents.forEach(Runnable::run);
+
+    assertThat(getDomainPresenceInfo(dp, UID2).getDomain(), notNullValue());
+  }
+
+  // simulates the watch event for a domain created after its list was read; a paused watcher handles it on resuming
+  private void addDomainByWatchEvent(DomainResource domain, List<Runnable> heldEvents) {
+    testSupport.defineResources(domain);
+    final Runnable event
+        = () -> getDomainPresenceInfoMap(dp).put(domain.getDomainUid(), new DomainPresenceInfo(domain));
+    if (domainNamespaces.isStopping(NS).get()) {
+      heldEvents.add(event);
+    } else {
+      event.run();
+    }
+  }
+
+  @Test
+  void whenClustersListedInMultiplePages_addAllToDomainPresenceInfo() {
+    for (int i = 1; i <= LAST_DOMAIN_NUM; i++) {
+      testSupport.defineResources(createClusterResource(NS, "cluster" + i));
+      domain.getSpec().getClusters().add(new V1LocalObjectReference().name("cluster" + i));
+    }
+    testSupport.defineResources(domain);
+    testSupport.setListPageSize(CALL_REQUEST_LIMIT);
+
+    testSupport.addToPacket(ProcessingConstants.DOMAIN_PROCESSOR, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    DomainPresenceInfo info = getDomainPresenceInfo(dp, UID1);
+    MatcherAssert.assertThat(info.getClusterResource("cluster1"), notNullValue());
+    MatcherAssert.assertThat(info.getClusterResource("cluster" + LAST_DOMAIN_NUM), notNullValue());
+  }
+
   private void addDomainResource(String uid, String namespace) {
     testSupport.defineResources(createDomain(uid, namespace));
   }
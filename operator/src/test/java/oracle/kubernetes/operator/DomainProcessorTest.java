@@ -15,6 +15,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -55,6 +56,7 @@ import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import io.kubernetes.client.util.Watch.Response;
+import io.kubernetes.client.util.Yaml;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.helpers.AnnotationHelper;
@@ -169,6 +171,7 @@ import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTD_CO
 import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.OK_RESPONSE;
 import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.createExpectedRequest;
 import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.SLIM_SERVER_CACHE_ENABLED;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.AVAILABLE;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.COMPLETED;
@@ -179,11 +182,13 @@ import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.KUBERN
 import static oracle.kubernetes.weblogic.domain.model.DomainStatusNoConditionMatcher.hasNoCondition;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -893,6 +898,55 @@ class DomainProcessorTest {
     assertThat(getRunningPods().size(), equalTo(MIN_REPLICAS + NUM_ADMIN_SERVERS + NUM_JOB_PODS));
   }
 
+  @Test
+  void whenSlimServerCacheEnabled_recordedServerPodsAreProjections() {
+    TuningParametersStub.setParameter(SLIM_SERVER_CACHE_ENABLED, "true");
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(MIN_REPLICAS);
+    newInfo.getReferencedClusters().forEach(testSupport::defineResources);
+
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+
+    assertThat(getServerPodSize(newInfo::getServerPod), lessThan(getServerPodSize(this::getRunningPod) / 2));
+  }
+
+  @Test
+  void whenSlimServerCacheEnabled_recordedServerPodsArePlainPods() {
+    TuningParametersStub.setParameter(SLIM_SERVER_CACHE_ENABLED, "true");
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(MIN_REPLICAS);
+    newInfo.getReferencedClusters().forEach(testSupport::defineResources);
+
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+
+    assertThat(newInfo.getServerNames().stream().map(newInfo::getServerPod).map(Object::getClass).distinct().toList(),
+        contains(V1Pod.class));
+  }
+
+  // The serialized sizes of the server pods, a proxy for the heap which they occupy.
+  private int getServerPodSize(Function<String, V1Pod> podFunction) {
+    return newInfo.getServerNames().stream()
+        .map(podFunction)
+        .map(Yaml::dump)
+        .mapToInt(String::length)
+        .sum();
+  }
+
+  private V1Pod getRunningPod(String serverName) {
+    return testSupport.getResourceWithName(POD, LegalNames.toPodName(UID, serverName));
+  }
+
+  @Test
+  void whenSlimServerCacheEnabled_repeatedMakeRightDoesNotReplacePods() {
+    TuningParametersStub.setParameter(SLIM_SERVER_CACHE_ENABLED, "true");
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(MIN_REPLICAS);
+    newInfo.getReferencedClusters().forEach(testSupport::defineResources);
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+    final List<V1Pod> podsAfterFirstMakeRight = getRunningPods();
+
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+
+    assertThat(getRunningPods(), containsInAnyOrder(podsAfterFirstMakeRight.toArray()));
+  }
+
   @Test
   void whenDomainScaledDownAndServerStateUnknown_removeExcessPods() {
     newInfo.updateLastKnownServerStatus("cluster-managed-server3", UNKNOWN_STATE);
@@ -1,4 +1,4 @@
-// Copyright (c) 2021, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -100,6 +100,7 @@ import static oracle.kubernetes.operator.WebLogicConstants.STARTING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.EVENT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.STATUS_PATCH_ENABLED;
 import static oracle.kubernetes.weblogic.domain.model.DomainCondition.FALSE;
 import static oracle.kubernetes.weblogic.domain.model.DomainCondition.TRUE;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
@@ -131,6 +132,7 @@ abstract class DomainStatusUpdateTestBase {
   private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
   private List<String> liveServers;
   private final RetryStrategyStub retryStrategy = createStrictStub(RetryStrategyStub.class);
+  private boolean statusPatchEnabled;
 
   @BeforeEach
   void setUp() throws NoSuchFieldException {
@@ -214,6 +216,19 @@ abstract class DomainStatusUpdateTestBase {
                 .withHealth(overallHealth("health2"))));
   }
 
+  void enableStatusPatch() {
+    statusPatchEnabled = true;
+    TuningParametersStub.setParameter(STATUS_PATCH_ENABLED, "true");
+  }
+
+  private void failOnStatusWrite(int httpStatus) {
+    if (statusPatchEnabled) {
+      testSupport.failOnPatchStatus(DOMAIN, info.getDomainUid(), info.getNamespace(), httpStatus);
+    } else {
+      testSupport.failOnReplaceStatus(DOMAIN, info.getDomainUid(), info.getNamespace(), httpStatus);
+    }
+  }
+
   private void updateDomainStatus() {
     testSupport.runSteps(DomainStatusUpdater.createStatusUpdateStep(endStep));
   }
@@ -1883,7 +1898,7 @@ abstract class DomainStatusUpdateTestBase {
     testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
 
     info.getDomain().getMetadata().setGeneration(2L);
-    testSupport.failOnReplaceStatus(DOMAIN, info.getDomainUid(), info.getNamespace(), HTTP_UNAVAILABLE);
+    failOnStatusWrite(HTTP_UNAVAILABLE);
     testSupport.returnEmptyResultOnRead(DOMAIN, info.getDomainUid(), info.getNamespace());
     retryStrategy.setNumRetriesLeft(1);
     testSupport.addRetryStrategy(retryStrategy);
@@ -1897,7 +1912,7 @@ abstract class DomainStatusUpdateTestBase {
     testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
 
     info.getDomain().getMetadata().setGeneration(2L);
-    testSupport.failOnReplaceStatus(DOMAIN, info.getDomainUid(), info.getNamespace(), HTTP_UNAVAILABLE);
+    failOnStatusWrite(HTTP_UNAVAILABLE);
     retryStrategy.setNumRetriesLeft(1);
     testSupport.addRetryStrategy(retryStrategy);
     updateDomainStatusInEndOfProcessing();
@@ -1910,7 +1925,7 @@ abstract class DomainStatusUpdateTestBase {
     testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
 
     info.getDomain().getMetadata().setGeneration(2L);
-    testSupport.failOnReplaceStatus(DOMAIN, info.getDomainUid(), info.getNamespace(), HTTP_NOT_FOUND);
+    failOnStatusWrite(HTTP_NOT_FOUND);
     retryStrategy.setNumRetriesLeft(1);
     testSupport.addRetryStrategy(retryStrategy);
     updateDomainStatusInEndOfProcessing();
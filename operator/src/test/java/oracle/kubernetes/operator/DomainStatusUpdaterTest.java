@@ -44,10 +44,15 @@ import static oracle.kubernetes.operator.EventConstants.DOMAIN_FAILED_EVENT;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_ROLL_STARTING_EVENT;
 import static oracle.kubernetes.operator.EventMatcher.hasEvent;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_FORBIDDEN;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
 import static oracle.kubernetes.operator.ProcessingConstants.FATAL_INTROSPECTOR_ERROR;
+import static oracle.kubernetes.operator.tuning.TuningParameters.STATUS_PATCH_ENABLED;
+import static oracle.kubernetes.operator.tuning.TuningParameters.STATUS_WRITE_COALESCING_SECONDS;
 import static oracle.kubernetes.weblogic.domain.model.DomainCondition.TRUE;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.COMPLETED;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.ROLLING;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.ABORTED;
@@ -55,6 +60,7 @@ import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.INTERN
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.KUBERNETES;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -268,6 +274,59 @@ class DomainStatusUpdaterTest {
     assertThat(getRecordedDomain().getOrCreateStatus().getFailedIntrospectionUid(), equalTo(JOB_UID));
   }
 
+  @Test
+  void whenStatusPatchEnabled_dontReplaceStatus() {
+    TuningParametersStub.setParameter(STATUS_PATCH_ENABLED, "true");
+    testSupport.failOnReplaceStatus(KubernetesTestSupport.DOMAIN, NAME, NS, HTTP_FORBIDDEN);
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+  }
+
+  @Test
+  void whenStatusPatchRejected_replaceStatus() {
+    TuningParametersStub.setParameter(STATUS_PATCH_ENABLED, "true");
+    testSupport.failOnPatchStatus(KubernetesTestSupport.DOMAIN, NAME, NS, HTTP_UNPROCESSABLE_ENTITY);
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+  }
+
+  @Test
+  void whenStatusWriteInProgress_deferBackgroundStatusUpdate() {
+    TuningParametersStub.setParameter(STATUS_WRITE_COALESCING_SECONDS, "30");
+    info.startStatusWrite(30);
+
+    testSupport.runSteps(DomainStatusUpdater.createStatusUpdateStep(null));
+
+    assertThat(getRecordedDomain().getStatus().getConditions(), empty());
+  }
+
+  @Test
+  void whenStatusWriteInProgressTooLong_dontDeferBackgroundStatusUpdate() {
+    TuningParametersStub.setParameter(STATUS_WRITE_COALESCING_SECONDS, "30");
+    info.startStatusWrite(30);
+    SystemClockTestSupport.increment(30);
+
+    testSupport.runSteps(DomainStatusUpdater.createStatusUpdateStep(null));
+
+    assertThat(getRecordedDomain(), hasCondition(COMPLETED));
+  }
+
+  @Test
+  void afterStatusWriteCompletes_makeDeferredStatusUpdate() {
+    TuningParametersStub.setParameter(STATUS_WRITE_COALESCING_SECONDS, "30");
+    info.startStatusWrite(30);
+    testSupport.runSteps(DomainStatusUpdater.createStatusUpdateStep(null));
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+    assertThat(getRecordedDomain(), hasCondition(COMPLETED));
+  }
+
   @SuppressWarnings("SameParameterValue")
   private V1Job createIntrospectorJob(String uid) {
     return new V1Job().metadata(createJobMetadata(uid)).status(new V1JobStatus());
@@ -0,0 +1,154 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAKE_RIGHT_MAX_LATENCY_MILLIS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAKE_RIGHT_QUIET_PERIOD_MILLIS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class MakeRightCoalescerTest {
+
+  private static final String NS = "namespace";
+  private static final String UID1 = "domain1";
+  private static final String UID2 = "domain2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final MakeRightCoalescer coalescer
+        = new MakeRightCoalescer(DomainProcessorDelegateStub.createDelegate(testSupport));
+  private final List<String> makeRights = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(TuningParametersStub.install());
+
+    TuningParametersStub.setParameter(MAKE_RIGHT_QUIET_PERIOD_MILLIS, "500");
+    TuningParametersStub.setParameter(MAKE_RIGHT_MAX_LATENCY_MILLIS, "2000");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void trigger(String domainUid, String label) {
+    coalescer.trigger(NS, domainUid, () -> makeRights.add(label));
+  }
+
+  private void setTime(long millis) {
+    testSupport.setTime(millis, TimeUnit.MILLISECONDS);
+    SystemClockTestSupport.setCurrentTime(SystemClockTestSupport.getTestStartTime().plus(millis, ChronoUnit.MILLIS));
+  }
+
+  @Test
+  void whenQuietPeriodIsZero_runMakeRightImmediately() {
+    TuningParametersStub.setParameter(MAKE_RIGHT_QUIET_PERIOD_MILLIS, "0");
+
+    trigger(UID1, "first");
+    trigger(UID1, "second");
+
+    assertThat(makeRights, contains("first", "second"));
+    assertThat(coalescer.getMakeRightsExecuted(), equalTo(2L));
+  }
+
+  @Test
+  void beforeQuietPeriodEnds_doNotRunMakeRight() {
+    trigger(UID1, "first");
+
+    setTime(400);
+
+    assertThat(makeRights, empty());
+  }
+
+  @Test
+  void afterQuietPeriodEnds_runMakeRight() {
+    trigger(UID1, "first");
+
+    setTime(500);
+
+    assertThat(makeRights, contains("first"));
+  }
+
+  @Test
+  void whenTriggersArriveDuringQuietPeriod_runOnlyLatestMakeRightAfterQuietPeriod() {
+    trigger(UID1, "first");
+    setTime(300);
+    trigger(UID1, "second");
+    setTime(600);
+    trigger(UID1, "third");
+
+    setTime(1000);
+    assertThat(makeRights, empty());
+
+    setTime(1100);
+    assertThat(makeRights, contains("third"));
+  }
+
+  @Test
+  void whenTriggersNeverStop_runMakeRightAtMaximumLatency() {
+    for (int time = 0; time < 2000; time += 200) {
+      setTime(time);
+      trigger(UID1, "trigger at " + time);
+    }
+
+    setTime(2000);
+
+    assertThat(makeRights, contains("trigger at 1800"));
+  }
+
+  @Test
+  void triggersForDifferentDomains_areNotMerged() {
+    trigger(UID1, "first");
+    trigger(UID2, "second");
+
+    setTime(500);
+
+    assertThat(makeRights, contains("first", "second"));
+  }
+
+  @Test
+  void afterMakeRightRuns_nextTriggerStartsNewWindow() {
+    trigger(UID1, "first");
+    setTime(500);
+    trigger(UID1, "second");
+
+    setTime(1000);
+
+    assertThat(makeRights, contains("first", "second"));
+  }
+
+  @Test
+  void countersRecordReceivedMergedAndExecutedTriggers() {
+    trigger(UID1, "first");
+    trigger(UID1, "second");
+    trigger(UID1, "third");
+    trigger(UID2, "fourth");
+
+    setTime(500);
+
+    assertThat(coalescer.getTriggersReceived(), equalTo(4L));
+    assertThat(coalescer.getTriggersMerged(), equalTo(2L));
+    assertThat(coalescer.getMakeRightsExecuted(), equalTo(2L));
+  }
+}
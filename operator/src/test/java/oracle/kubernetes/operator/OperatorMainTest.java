@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -39,6 +39,8 @@ import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ObjectReference;
+import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
 import io.kubernetes.client.openapi.models.VersionInfo;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.Namespaces.SelectionStrategy;
@@ -53,6 +55,7 @@ import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.http.BaseServer;
 import oracle.kubernetes.operator.http.metrics.MetricsServer;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.InMemoryFileSystem;
 import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
@@ -112,6 +115,7 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.NAMESPACE
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.START_MANAGING_NAMESPACE;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.STOP_MANAGING_NAMESPACE;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_CALL_LIMIT;
 import static org.hamcrest.Matchers.contains;
@@ -677,6 +681,39 @@ class OperatorMainTest extends ThreadFactoryTestBase {
     assertThat(domainNamespaces.getPodDisruptionBudgetWatcher(NS), notNullValue());
   }
 
+  @Test
+  void whenSharedInformersEnabled_afterReadingExistingResourcesForNamespace_namespaceWatchersAreNotDefined() {
+    TuningParametersStub.setParameter(TuningParameters.SHARED_INFORMER_ENABLED, "true");
+    testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, s -> allow((V1SubjectAccessReview) s));
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
+
+    verifyWatchersNotDefined(domainNamespaces, NS);
+  }
+
+  private void allow(V1SubjectAccessReview subjectAccessReview) {
+    subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(true));
+  }
+
+  @Test
+  void whenSharedInformersEnabledWithoutClusterWidePermission_afterReadingExistingResources_watchersAreDefined() {
+    TuningParametersStub.setParameter(TuningParameters.SHARED_INFORMER_ENABLED, "true");
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
+
+    assertThat(domainNamespaces.getPodWatcher(NS), notNullValue());
+  }
+
+  @Test
+  void whenSharedInformersEnabledWithDedicatedStrategy_afterReadingExistingResources_namespaceWatchersAreDefined() {
+    TuningParametersStub.setParameter(TuningParameters.SHARED_INFORMER_ENABLED, "true");
+    defineSelectionStrategy(SelectionStrategy.DEDICATED);
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
+
+    assertThat(domainNamespaces.getPodWatcher(NS), notNullValue());
+  }
+
   @Test
   void afterReadingExistingResourcesForNamespace_ScriptConfigMapIsDefined() {
     testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
@@ -0,0 +1,20 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import org.junit.jupiter.api.BeforeEach;
+
+class PatchingDomainStatusUpdaterTest extends DomainStatusUpdateTestBase {
+
+  @BeforeEach
+  void setUpStatusPatch() {
+    enableStatusPatch();
+  }
+
+  @Override
+  void processTopology(WlsDomainConfig domainConfig) {
+    addTopologyToPacket(domainConfig);
+  }
+}
@@ -0,0 +1,79 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.StringReader;
+import java.util.List;
+
+import io.kubernetes.client.custom.V1Patch;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class StatusDiffTest {
+
+  private final DomainStatus oldStatus = createStatusWithServers(100);
+
+  private DomainStatus createStatusWithServers(int numServers) {
+    DomainStatus status = new DomainStatus().withReplicas(numServers);
+    for (int i = 0; i < numServers; i++) {
+      status.addServer(new ServerStatus()
+          .withServerName(String.format("ms%03d", i)).withState("RUNNING").withNodeName("node" + i));
+    }
+    return status;
+  }
+
+  private List<JsonObject> getOperations(V1Patch patch) {
+    return Json.createReader(new StringReader(patch.getValue())).readArray().getValuesAs(JsonObject.class);
+  }
+
+  @Test
+  void whenStatusUnchanged_returnNull() {
+    assertThat(StatusDiff.createPatch("1", oldStatus, new DomainStatus(oldStatus)), nullValue());
+  }
+
+  @Test
+  void patchStartsByTestingResourceVersion() {
+    DomainStatus newStatus = new DomainStatus(oldStatus).withReplicas(99);
+
+    JsonObject firstOperation = getOperations(StatusDiff.createPatch("17", oldStatus, newStatus)).get(0);
+
+    assertThat(firstOperation.getString("op"), equalTo("test"));
+    assertThat(firstOperation.getString("path"), equalTo("/metadata/resourceVersion"));
+    assertThat(firstOperation.getString("value"), equalTo("17"));
+  }
+
+  @Test
+  void patchContainsOnlyChangedFields() {
+    DomainStatus newStatus = new DomainStatus(oldStatus);
+    newStatus.getServers().stream().filter(s -> s.getServerName().equals("ms042")).forEach(s -> s.setState("SHUTDOWN"));
+
+    List<JsonObject> operations = getOperations(StatusDiff.createPatch(null, oldStatus, newStatus));
+
+    assertThat(operations.stream().map(o -> o.getString("path")).toList(), contains("/status/servers/42/state"));
+  }
+
+  @Test
+  void patchIsMuchSmallerThanStatus() {
+    DomainStatus newStatus = new DomainStatus(oldStatus).withReplicas(99);
+
+    assertThat(StatusDiff.getPatchSize(StatusDiff.createPatch("1", oldStatus, newStatus)) * 20,
+        lessThan(StatusDiff.getStatusSize(newStatus)));
+  }
+
+  @Test
+  void whenNoStatusRecorded_patchAddsStatus() {
+    List<JsonObject> operations = getOperations(StatusDiff.createPatch(null, null, oldStatus));
+
+    assertThat(operations.stream().map(o -> o.getString("path")).toList(), contains("/status"));
+  }
+}
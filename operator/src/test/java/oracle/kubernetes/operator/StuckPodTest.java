@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -15,11 +16,15 @@ import java.util.logging.LogRecord;
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.operator.watcher.ResourceCache;
+import oracle.kubernetes.operator.watcher.SharedInformer;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
@@ -134,6 +139,18 @@ class StuckPodTest {
     this.gracePeriodSeconds = context.gracePeriodSeconds();
   }
 
+  @Test
+  void whenPodCacheAvailable_selectStuckPodsFromCache() {
+    final V1Pod cachedPod = defineManagedPod(SERVER_POD_1);
+    markAsDelete(cachedPod);
+    mainDelegate.cachePods(cachedPod);
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.checkStuckPods(NS);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
   @Test
   void whenServerPodStuck_initiateMakeRightProcessing() {
     markAsDelete(getSelectedPod(SERVER_POD_2));
@@ -154,6 +171,62 @@ class StuckPodTest {
     assertThat(getSelectedPod(FOREIGN_POD), notNullValue());
   }
 
+  @Test
+  void whenDetectingFromWatchAndServerPodStuck_deleteIt() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    recordTerminatingPod(getSelectedPod(SERVER_POD_1));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.checkTerminatingPods();
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  void whenDetectingFromWatchAndServerPodNotStuck_ignoreIt() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    recordTerminatingPod(getSelectedPod(SERVER_POD_1));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS - 1);
+
+    processing.checkTerminatingPods();
+
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+  }
+
+  @Test
+  void whenDetectingFromWatchAndServerPodStuck_initiateMakeRightProcessing() {
+    markAsDelete(getSelectedPod(SERVER_POD_2));
+    recordTerminatingPod(getSelectedPod(SERVER_POD_2));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.checkTerminatingPods();
+
+    assertThat(mainDelegate.makeRightInvoked(domain), is(true));
+  }
+
+  @Test
+  void whenDetectingFromWatchAndCachedPodReplaced_ignoreIt() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    recordTerminatingPod(getSelectedPod(SERVER_POD_1));
+    getDomainPresenceInfo().setServerPod(SERVER_POD_1, defineManagedPod(SERVER_POD_1));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.checkTerminatingPods();
+
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+  }
+
+  private void recordTerminatingPod(V1Pod pod) {
+    getDomainPresenceInfo().setServerPod(PodHelper.getPodServerName(pod), pod);
+    mainDelegate.getDomainProcessor().getTerminatingPods().recordPod(pod);
+  }
+
+  private DomainPresenceInfo getDomainPresenceInfo() {
+    return mainDelegate.getDomainProcessor().getDomainPresenceInfoMap()
+        .computeIfAbsent(NS, k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(UID, k -> new DomainPresenceInfo(domain));
+  }
+
   private V1Pod getSelectedPod(String name) {
     return testSupport.getResourceWithName(POD, name);
   }
@@ -166,6 +239,7 @@ class StuckPodTest {
     return createPodMetadata(name)
           .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL,"true")
           .putLabelsItem(LabelConstants.DOMAINNAME_LABEL, UID)
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
           .putLabelsItem(LabelConstants.SERVERNAME_LABEL, name);
   }
 
@@ -189,13 +263,25 @@ class StuckPodTest {
   abstract static class MainDelegateStub implements MainDelegate {
     private final List<DomainResource> invocations = new ArrayList<>();
     private final DomainProcessorStub domainProcessor = createStrictStub(DomainProcessorStub.class, this);
-    private final DomainNamespaces domainNamespaces = new DomainNamespaces(null);
+    private final DomainNamespaces domainNamespaces = new DomainNamespaces(null) {
+      @Override
+      ResourceCache<V1Pod> getPodCache() {
+        return podCache;
+      }
+    };
+    private ResourceCache<V1Pod> podCache;
     private final KubernetesTestSupport testSupport;
 
     MainDelegateStub(KubernetesTestSupport testSupport) {
       this.testSupport = testSupport;
     }
 
+    void cachePods(V1Pod... pods) {
+      final SharedInformer<V1Pod> informer = SharedInformer.forPods();
+      Arrays.stream(pods).forEach(pod -> informer.receivedResponse(new Watch.Response<>("ADDED", pod)));
+      podCache = informer.getCache();
+    }
+
     boolean makeRightInvoked(DomainResource domain) {
       return invocations.contains(domain);
     }
@@ -223,6 +309,7 @@ class StuckPodTest {
     abstract static class DomainProcessorStub implements DomainProcessor {
       private final MainDelegateStub delegateStub;
       Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
+      private final TerminatingPodQueue terminatingPods = new TerminatingPodQueue();
 
       DomainProcessorStub(MainDelegateStub delegateStub) {
         this.delegateStub = delegateStub;
@@ -238,6 +325,11 @@ class StuckPodTest {
       public Map<String, Map<String,DomainPresenceInfo>> getDomainPresenceInfoMap() {
         return domains;
       }
+
+      @Override
+      public TerminatingPodQueue getTerminatingPods() {
+        return terminatingPods;
+      }
     }
 
     abstract static class MakeRightDomainOperationStub implements MakeRightDomainOperation {
@@ -0,0 +1,97 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.OffsetDateTime;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class TerminatingPodQueueTest {
+
+  private static final String NS = "namespace";
+  private static final long RETRY_SECONDS = 30;
+  private final OffsetDateTime start = OffsetDateTime.now();
+  private final TerminatingPodQueue queue = new TerminatingPodQueue();
+
+  private V1Pod createPod(String name, String uid) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(name).uid(uid));
+  }
+
+  private V1Pod createTerminatingPod(String name, String uid, long deletedAfterSeconds, long gracePeriodSeconds) {
+    V1Pod pod = createPod(name, uid);
+    pod.getMetadata().deletionTimestamp(start.plusSeconds(deletedAfterSeconds))
+        .deletionGracePeriodSeconds(gracePeriodSeconds);
+    return pod;
+  }
+
+  @Test
+  void whenPodNotTerminating_dontQueueIt() {
+    queue.recordPod(createPod("pod1", "1"));
+
+    assertThat(queue.size(), equalTo(0));
+  }
+
+  @Test
+  void whenGracePeriodNotExpired_dontReportPod() {
+    queue.recordPod(createTerminatingPod("pod1", "1", 0, 30));
+
+    assertThat(queue.pollOverdue(start.plusSeconds(29), RETRY_SECONDS), empty());
+  }
+
+  @Test
+  void reportOverduePodsInOrderOfDeadline() {
+    V1Pod pod1 = createTerminatingPod("pod1", "1", 0, 20);
+    V1Pod pod2 = createTerminatingPod("pod2", "2", 0, 10);
+    V1Pod pod3 = createTerminatingPod("pod3", "3", 0, 60);
+    queue.recordPod(pod1);
+    queue.recordPod(pod2);
+    queue.recordPod(pod3);
+
+    assertThat(queue.pollOverdue(start.plusSeconds(30), RETRY_SECONDS), contains(pod2, pod1));
+  }
+
+  @Test
+  void whenPodRecordedAgain_dontResetItsDeadline() {
+    V1Pod pod = createTerminatingPod("pod1", "1", 0, 10);
+    queue.recordPod(pod);
+    queue.recordPod(createTerminatingPod("pod1", "1", 5, 10));
+
+    assertThat(queue.pollOverdue(start.plusSeconds(11), RETRY_SECONDS), contains(pod));
+  }
+
+  @Test
+  void whenPodRemoved_dontReportIt() {
+    V1Pod pod = createTerminatingPod("pod1", "1", 0, 10);
+    queue.recordPod(pod);
+    queue.removePod(pod);
+
+    assertThat(queue.pollOverdue(start.plusSeconds(11), RETRY_SECONDS), empty());
+  }
+
+  @Test
+  void whenPodReported_reportAgainAfterRetryDelay() {
+    V1Pod pod = createTerminatingPod("pod1", "1", 0, 10);
+    queue.recordPod(pod);
+    queue.pollOverdue(start.plusSeconds(11), RETRY_SECONDS);
+
+    assertThat(queue.pollOverdue(start.plusSeconds(11 + RETRY_SECONDS - 1), RETRY_SECONDS), empty());
+    assertThat(queue.pollOverdue(start.plusSeconds(12 + RETRY_SECONDS), RETRY_SECONDS), contains(pod));
+  }
+
+  @Test
+  void whenPodReplacedWithNewTerminatingPod_reportOnlyReplacement() {
+    V1Pod replacement = createTerminatingPod("pod1", "2", 20, 10);
+    queue.recordPod(createTerminatingPod("pod1", "1", 0, 10));
+    queue.recordPod(replacement);
+
+    assertThat(queue.pollOverdue(start.plusSeconds(31), RETRY_SECONDS), contains(replacement));
+  }
+}
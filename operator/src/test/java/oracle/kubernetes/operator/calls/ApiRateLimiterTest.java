@@ -0,0 +1,221 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.calls.ApiRateLimiter.Priority.HIGH;
+import static oracle.kubernetes.operator.calls.ApiRateLimiter.Priority.LOW;
+import static oracle.kubernetes.operator.calls.ApiRateLimiter.Priority.NORMAL;
+import static oracle.kubernetes.operator.calls.ApiRateLimiter.Priority.WATCH;
+import static oracle.kubernetes.operator.tuning.TuningParameters.API_NAMESPACE_SHARE_PERCENT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.API_REQUESTS_PER_SECOND;
+import static oracle.kubernetes.operator.tuning.TuningParameters.API_REQUEST_BURST;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class ApiRateLimiterTest {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final ApiRateLimiter limiter = new ApiRateLimiter();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    TuningParametersStub.setParameter(API_REQUESTS_PER_SECOND, "10");
+    TuningParametersStub.setParameter(API_REQUEST_BURST, "10");
+    TuningParametersStub.setParameter(API_NAMESPACE_SHARE_PERCENT, "100");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private long reserveCalls(int numCalls, ApiRateLimiter.Priority priority, String namespace) {
+    long delay = 0;
+    for (int i = 0; i < numCalls; i++) {
+      delay = limiter.tryAcquire(priority, namespace);
+    }
+    return delay;
+  }
+
+  @Test
+  void whenRateNotConfigured_permitCallsImmediately() {
+    TuningParametersStub.setParameter(API_REQUESTS_PER_SECOND, "0");
+
+    assertThat(reserveCalls(1000, LOW, NS1), equalTo(0L));
+  }
+
+  @Test
+  void withinBurst_permitCallsImmediately() {
+    assertThat(reserveCalls(10, WATCH, NS1), equalTo(0L));
+  }
+
+  @Test
+  void afterBurstUsed_delayCallsBySustainedRate() {
+    reserveCalls(10, WATCH, NS1);
+
+    assertThat(limiter.tryAcquire(WATCH, NS1), equalTo(100L));
+    assertThat(limiter.tryAcquire(WATCH, NS1), equalTo(200L));
+  }
+
+  @Test
+  void afterTimePasses_permitCallsAgain() {
+    reserveCalls(12, WATCH, NS1);
+
+    SystemClockTestSupport.increment(2);
+
+    assertThat(limiter.tryAcquire(WATCH, NS1), equalTo(0L));
+  }
+
+  @Test
+  void lowPriorityCalls_mayUseOnlyPartOfBurst() {
+    assertThat(reserveCalls(5, LOW, NS1), equalTo(0L));
+    assertThat(limiter.tryAcquire(LOW, NS1), greaterThan(0L));
+  }
+
+  @Test
+  void whenLowPriorityCallsDelayed_permitHighPriorityCalls() {
+    reserveCalls(6, LOW, NS1);
+
+    assertThat(limiter.tryAcquire(HIGH, NS1), equalTo(0L));
+  }
+
+  @Test
+  void whenNamespaceShareLimited_delayCallsForBusyNamespace() {
+    TuningParametersStub.setParameter(API_NAMESPACE_SHARE_PERCENT, "50");
+
+    assertThat(reserveCalls(5, HIGH, NS1), equalTo(0L));
+    assertThat(limiter.tryAcquire(HIGH, NS1), greaterThan(0L));
+  }
+
+  @Test
+  void whenNamespaceBusy_permitCallsForOtherNamespaces() {
+    TuningParametersStub.setParameter(API_NAMESPACE_SHARE_PERCENT, "50");
+    reserveCalls(5, HIGH, NS1);
+
+    assertThat(limiter.tryAcquire(HIGH, NS2), equalTo(0L));
+  }
+
+  @Test
+  void whenNamespaceHasBacklog_callsForOtherNamespacesAreNotDelayedByIt() {
+    TuningParametersStub.setParameter(API_NAMESPACE_SHARE_PERCENT, "50");
+    reserveCalls(1000, NORMAL, NS1);
+
+    assertThat(limiter.tryAcquire(NORMAL, NS2), equalTo(0L));
+  }
+
+  @Test
+  void whileNamespaceHasBacklog_callsForOtherNamespacesUseRemainingRate() {
+    TuningParametersStub.setParameter(API_NAMESPACE_SHARE_PERCENT, "50");
+    reserveCalls(1000, NORMAL, NS1);
+    reserveCalls(10, NORMAL, NS2);
+
+    SystemClockTestSupport.increment(1);
+
+    assertThat(limiter.tryAcquire(NORMAL, NS2), equalTo(0L));
+  }
+
+  @Test
+  void whenManyLowPriorityCallsWaiting_highPriorityCallWaitsOnlyForItsOwnTokens() {
+    reserveCalls(10, WATCH, null);
+    for (int i = 0; i < 1000; i++) {
+      limiter.tryAcquire(LOW, "ns" + i);
+    }
+
+    assertThat(limiter.tryAcquire(HIGH, NS1), lessThanOrEqualTo(200L));
+  }
+
+  @Test
+  void whenHighPriorityCallRetriesAfterDelay_permitIt() {
+    reserveCalls(10, WATCH, null);
+    for (int i = 0; i < 1000; i++) {
+      limiter.tryAcquire(LOW, "ns" + i);
+    }
+    limiter.tryAcquire(HIGH, NS1);
+
+    SystemClockTestSupport.increment(1);
+
+    assertThat(limiter.tryAcquire(HIGH, NS1), equalTo(0L));
+  }
+
+  @Test
+  void whenWaitingCallsRetryTogether_onlyCallsWithinRateArePermitted() {
+    reserveCalls(10, WATCH, null);
+    reserveCalls(20, WATCH, null);
+
+    SystemClockTestSupport.increment(1);
+
+    assertThat(countPermittedCalls(20, WATCH), equalTo(10));
+  }
+
+  private int countPermittedCalls(int numCalls, ApiRateLimiter.Priority priority) {
+    int numPermitted = 0;
+    for (int i = 0; i < numCalls; i++) {
+      if (limiter.tryAcquire(priority, null) == 0) {
+        numPermitted++;
+      }
+    }
+    return numPermitted;
+  }
+
+  @Test
+  void afterNamespaceRemoved_discardItsAllowance() {
+    TuningParametersStub.setParameter(API_NAMESPACE_SHARE_PERCENT, "50");
+    reserveCalls(5, HIGH, NS1);
+
+    limiter.removeNamespace(NS1);
+
+    assertThat(limiter.tryAcquire(HIGH, NS1), equalTo(0L));
+  }
+
+  @Test
+  void watchCalls_areNotLimitedByNamespaceShare() {
+    TuningParametersStub.setParameter(API_NAMESPACE_SHARE_PERCENT, "10");
+
+    assertThat(reserveCalls(10, WATCH, NS1), equalTo(0L));
+  }
+
+  @Test
+  void afterPause_delayAllCalls() {
+    limiter.pauseFor(2000);
+
+    assertThat(limiter.tryAcquire(WATCH, NS1), equalTo(2000L));
+    assertThat(limiter.tryAcquire(NORMAL, null), equalTo(2000L));
+  }
+
+  @Test
+  void delayedCalls_areCountedAsWaitingInTheirLane() {
+    reserveCalls(7, LOW, NS1);
+    limiter.tryAcquire(HIGH, NS1);
+
+    assertThat(limiter.getNumWaitingCalls(LOW), equalTo(2));
+    assertThat(limiter.getNumWaitingCalls(HIGH), equalTo(0));
+  }
+
+  @Test
+  void afterReservedTimePasses_callsAreNoLongerWaiting() {
+    reserveCalls(7, LOW, NS1);
+
+    SystemClockTestSupport.increment(1);
+
+    assertThat(limiter.getNumWaitingCalls(LOW), equalTo(0));
+  }
+}
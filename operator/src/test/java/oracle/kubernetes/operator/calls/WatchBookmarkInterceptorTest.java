@@ -0,0 +1,72 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import javax.annotation.Nonnull;
+
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.calls.WatchBookmarkInterceptor.ALLOW_WATCH_BOOKMARKS_PARAMETER;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class WatchBookmarkInterceptorTest {
+
+  private static final String POD_URL = "http://localhost:1234/api/v1/namespaces/ns1/pods";
+
+  private final Interceptor interceptor = new WatchBookmarkInterceptor();
+
+  private String getBookmarkParameter(String url) throws IOException {
+    final Request request = new Request.Builder().url(url).build();
+    final Response response = interceptor.intercept(createStub(ChainStub.class, request));
+    return response.request().url().queryParameter(ALLOW_WATCH_BOOKMARKS_PARAMETER);
+  }
+
+  @Test
+  void whenRequestIsNotWatch_dontRequestBookmarks() throws IOException {
+    assertThat(getBookmarkParameter(POD_URL), nullValue());
+  }
+
+  @Test
+  void whenRequestIsWatch_requestBookmarks() throws IOException {
+    assertThat(getBookmarkParameter(POD_URL + "?watch=true"), equalTo("true"));
+  }
+
+  @Test
+  void whenWatchAlreadySpecifiesBookmarks_dontChangeIt() throws IOException {
+    assertThat(getBookmarkParameter(POD_URL + "?watch=true&allowWatchBookmarks=false"), equalTo("false"));
+  }
+
+  abstract static class ChainStub implements Interceptor.Chain {
+    private final Request request;
+
+    ChainStub(Request request) {
+      this.request = request;
+    }
+
+    @Nonnull
+    @Override
+    public Response proceed(@Nonnull Request request) {
+      return new Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_2)
+            .code(200)
+            .message("None")
+            .build();
+    }
+
+    @Nonnull
+    @Override
+    public Request request() {
+      return request;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class AnnotationHelperTest {
+
+  @Test
+  void hashOfYaml_isSameAsHashOfYamlString() {
+    V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().name("pod1").putLabelsItem("weblogic.serverName", "ms1"))
+        .spec(new V1PodSpec().addContainersItem(new V1Container().name("weblogic-server").image("image:1")));
+
+    assertThat(AnnotationHelper.sha256HexOfYaml(pod), equalTo(DigestUtils.sha256Hex(Yaml.dump(pod))));
+  }
+
+  @Test
+  void hashOfYamlWithNonAsciiCharacters_isSameAsHashOfYamlString() {
+    V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().name("pod1").putAnnotationsItem("note", "café ✓ 日本"))
+        .spec(new V1PodSpec().addContainersItem(new V1Container().name("weblogic-server")
+            .addEnvItem(new V1EnvVar().name("GREETING").value("grüße 😀"))));
+
+    assertThat(AnnotationHelper.sha256HexOfYaml(pod), equalTo(DigestUtils.sha256Hex(Yaml.dump(pod))));
+  }
+}
@@ -30,6 +30,9 @@ class ConfigMapSplitterTest {
   private static final int TEST_DATA_LIMIT = 1000;
   private static final String UNIT_DATA = "123456789";
   private static final String LARGE_DATA_VALUE = createLargeData(2.5); // require three maps, including other data
+  private static final char E_ACUTE = 0xe9;
+  private static final char CJK_IDEOGRAPH = 0x4e2d;
+  private static final String SMILEY = new String(Character.toChars(0x1f600)); // a surrogate pair
 
   private final ConfigMapSplitter<TestTarget> splitter = new ConfigMapSplitter<>(TestTarget::new);
   private final Map<String, String> data = new HashMap<>();
@@ -98,6 +101,47 @@ class ConfigMapSplitterTest {
     assertThat(result.get(2).numTargets, equalTo(0));
   }
 
+  @Test
+  void whenValueContainsCharactersEscapedInJson_splitByEncodedSize() {
+    data.put("b", "1\n".repeat(400));
+
+    final List<TestTarget> result = splitter.split(data);
+
+    assertThat(result, Matchers.hasSize(2));
+    assertThat(result.stream().map(TestTarget::getB).collect(Collectors.joining()), equalTo(data.get("b")));
+  }
+
+  @Test
+  void whenValueContainsMultiByteCharacters_splitByEncodedSize() {
+    data.put("b", String.valueOf(E_ACUTE).repeat(600));
+
+    final List<TestTarget> result = splitter.split(data);
+
+    assertThat(result, Matchers.hasSize(2));
+  }
+
+  @Test
+  void whenValueContainsSurrogatePairs_dontDivideThem() {
+    data.put("b", "x" + SMILEY.repeat(300));
+
+    final List<TestTarget> result = splitter.split(data);
+
+    assertThat(result, Matchers.hasSize(2));
+    assertThat(Character.isHighSurrogate(result.get(0).getB().charAt(result.get(0).getB().length() - 1)),
+        equalTo(false));
+    assertThat(result.stream().map(TestTarget::getB).collect(Collectors.joining()), equalTo(data.get("b")));
+  }
+
+  @Test
+  void encodedSizeOfCharacters() {
+    assertThat(ConfigMapSplitter.getEncodedSize('a'), equalTo(1));
+    assertThat(ConfigMapSplitter.getEncodedSize('"'), equalTo(2));
+    assertThat(ConfigMapSplitter.getEncodedSize('<'), equalTo(6));
+    assertThat(ConfigMapSplitter.getEncodedSize('\u0001'), equalTo(6));
+    assertThat(ConfigMapSplitter.getEncodedSize(E_ACUTE), equalTo(2));
+    assertThat(ConfigMapSplitter.getEncodedSize(CJK_IDEOGRAPH), equalTo(3));
+  }
+
   private static class TestTarget implements SplitterTarget {
     private final Map<String, String> data;
     private final int index;
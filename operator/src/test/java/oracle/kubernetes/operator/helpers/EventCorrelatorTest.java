@@ -0,0 +1,73 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_SPAM_BURST;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_SPAM_REFILL_SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class EventCorrelatorTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final EventCorrelator correlator = new EventCorrelator(Collections::emptyList);
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    TuningParametersStub.setParameter(EVENT_SPAM_BURST, "1");
+    TuningParametersStub.setParameter(EVENT_SPAM_REFILL_SECONDS, "60");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private static V1ObjectReference createReference(String name) {
+    return new V1ObjectReference().kind("Domain").namespace("ns").name(name);
+  }
+
+  @Test
+  void whenBucketHasRefilled_discardItOnceAnotherObjectIsLimited() {
+    correlator.tryAcquire(createReference("first"));
+    SystemClockTestSupport.increment(60);
+
+    correlator.tryAcquire(createReference("second"));
+
+    assertThat(correlator.getNumBuckets(), equalTo(1));
+  }
+
+  @Test
+  void whenBucketHasNotRefilled_keepIt() {
+    correlator.tryAcquire(createReference("first"));
+    SystemClockTestSupport.increment(30);
+
+    correlator.tryAcquire(createReference("second"));
+
+    assertThat(correlator.getNumBuckets(), equalTo(2));
+  }
+
+  @Test
+  void afterClose_discardBuckets() {
+    correlator.tryAcquire(createReference("first"));
+
+    correlator.close();
+
+    assertThat(correlator.getNumBuckets(), equalTo(0));
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -32,6 +33,7 @@ import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.DomainFailureReason;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
@@ -106,6 +108,7 @@ import static oracle.kubernetes.operator.EventTestUtils.containsEventWithNamespa
 import static oracle.kubernetes.operator.EventTestUtils.containsEventsWithCountOne;
 import static oracle.kubernetes.operator.EventTestUtils.containsOneEventWithCount;
 import static oracle.kubernetes.operator.EventTestUtils.getEvents;
+import static oracle.kubernetes.operator.EventTestUtils.getEventsWithReason;
 import static oracle.kubernetes.operator.EventTestUtils.getFormattedMessage;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
 import static oracle.kubernetes.operator.EventTestUtils.getNumberOfEvents;
@@ -131,6 +134,9 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.START_MAN
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.STOP_MANAGING_NAMESPACE;
 import static oracle.kubernetes.operator.helpers.EventHelper.createEventStep;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.EVENT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_AGGREGATION_MAX_SIMILAR;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_SPAM_BURST;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_SPAM_REFILL_SECONDS;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -370,6 +376,86 @@ class EventHelperTest {
         containsOneEventWithCount(getEvents(testSupport), EventConstants.DOMAIN_CHANGED_EVENT, 2), is(true));
   }
 
+  @Test
+  void whenRepeatsExceedSpamBurst_dontWriteRemainingRepeatsImmediately() throws NoSuchFieldException {
+    createDomainChangedEventWithRepeats(4);
+
+    presenceInfoMap.remove(NS);
+    assertThat("Found DOMAIN_CHANGED event with expected count",
+        containsOneEventWithCount(getEvents(testSupport), EventConstants.DOMAIN_CHANGED_EVENT, 3), is(true));
+  }
+
+  @Test
+  void whenSpamFilterTokenRefilled_writeDeferredRepeatsTogether() throws NoSuchFieldException {
+    createDomainChangedEventWithRepeats(4);
+
+    testSupport.setTime(60, TimeUnit.SECONDS);
+
+    presenceInfoMap.remove(NS);
+    assertThat("Found DOMAIN_CHANGED event with expected count",
+        containsOneEventWithCount(getEvents(testSupport), EventConstants.DOMAIN_CHANGED_EVENT, 5), is(true));
+  }
+
+  @Test
+  void afterEventObjectsClosed_dontWriteDeferredRepeats() throws NoSuchFieldException {
+    createDomainChangedEventWithRepeats(4);
+
+    domainEventObjects.get(NS).get(UID).close();
+    testSupport.setTime(60, TimeUnit.SECONDS);
+
+    presenceInfoMap.remove(NS);
+    assertThat("Found DOMAIN_CHANGED event with expected count",
+        containsOneEventWithCount(getEvents(testSupport), EventConstants.DOMAIN_CHANGED_EVENT, 3), is(true));
+  }
+
+  // Creates an event and repeats it, with a spam burst of two repeats and one further token each minute.
+  private void createDomainChangedEventWithRepeats(int numRepeats) throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    TuningParametersStub.setParameter(EVENT_SPAM_BURST, "2");
+    TuningParametersStub.setParameter(EVENT_SPAM_REFILL_SECONDS, "60");
+    presenceInfoMap.put(NS, Map.of(UID, info));
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    dispatchAddedEventWatches();
+
+    for (int i = 0; i < numRepeats; i++) {
+      testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    }
+  }
+
+  @Test
+  void whenTooManyDistinctSimilarEvents_combineFurtherEvents() {
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_MAX_SIMILAR, "2");
+
+    createDomainFailedEvents("first", "second", "third", "fourth");
+
+    assertThat(getEventsWithReason(getEvents(testSupport), DOMAIN_FAILED_EVENT).size(), equalTo(3));
+    assertThat(getCombinedEvent().getCount(), equalTo(2));
+  }
+
+  @Test
+  void whenFewDistinctSimilarEvents_dontCombineThem() {
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_MAX_SIMILAR, "5");
+
+    createDomainFailedEvents("first", "second", "third", "fourth");
+
+    assertThat(getEventsWithReason(getEvents(testSupport), DOMAIN_FAILED_EVENT).size(), equalTo(4));
+  }
+
+  private void createDomainFailedEvents(String... messages) {
+    for (String message : messages) {
+      testSupport.runSteps(createEventStep(
+          new EventData(DOMAIN_FAILED).message(message).failureReason(DomainFailureReason.ABORTED)));
+      dispatchAddedEventWatches();
+    }
+  }
+
+  private CoreV1Event getCombinedEvent() {
+    return getEventsWithReason(getEvents(testSupport), DOMAIN_FAILED_EVENT).stream()
+        .filter(e -> e.getMessage().startsWith(EventCorrelator.COMBINED_MESSAGE_PREFIX))
+        .findFirst()
+        .orElse(null);
+  }
+
   @Test
   void whenMakeRightCalled_withDeletedEventData_domainDeletedEventCreated() {
     processor.dispatchDomainWatch(new Watch.Response<>("DELETED", domain));
@@ -0,0 +1,79 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTION_COMPLETE;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class IntrospectorLogParserTest {
+
+  private static final String UID = "uid1";
+  private final List<String> logMessages = new ArrayList<>();
+  private final IntrospectorLogParser parser = new IntrospectorLogParser(UID, logMessages::add);
+
+  private static String onSeparateLines(String... lines) {
+    return String.join(System.lineSeparator(), lines);
+  }
+
+  @Test
+  void recordFileContentsByName() {
+    parser.parse(onSeparateLines(">>>  /u01/introspect/domain1/topology.yaml", "domain:", "  name: base", ">>> EOF"));
+
+    assertThat(parser.getFiles(), hasEntry("topology.yaml", onSeparateLines("domain:", "  name: base")));
+  }
+
+  @Test
+  void whenFileNotTerminated_dontRecordIt() {
+    parser.parse(onSeparateLines(">>>  /u01/introspect/domain1/topology.yaml", "domain:"));
+
+    assertThat(parser.getFiles(), not(hasKey("topology.yaml")));
+  }
+
+  @Test
+  void passLogMessagesToConsumer() {
+    parser.parse(onSeparateLines("ignored", "@[INFO] first", "continued", "@[WARNING] second"));
+
+    assertThat(logMessages, contains(onSeparateLines("@[INFO] first", "continued"), "@[WARNING] second"));
+  }
+
+  @Test
+  void dontAddFileContentsToPrecedingLogMessage() {
+    parser.parse(onSeparateLines("@[INFO] writing files", ">>>  /u01/introspect/domain1/domainzip.secure",
+        "UEsDBBQAAAAIA", ">>> EOF", "trailing"));
+
+    assertThat(logMessages, contains("@[INFO] writing files"));
+  }
+
+  @Test
+  void recordDynamicUpdateResult() {
+    parser.parse("@[INFO] >>>  updatedomainResult=103");
+
+    assertThat(parser.getFiles(), hasEntry(ConfigMapHelper.UPDATEDOMAINRESULT, "103"));
+  }
+
+  @Test
+  void whenCompletionReported_introspectionIsComplete() {
+    parser.parse(onSeparateLines("@[INFO] started", "@[INFO] " + DOMAIN_INTROSPECTION_COMPLETE));
+
+    assertThat(parser.isIntrospectionComplete(), is(true));
+  }
+
+  @Test
+  void whenCompletionNotReported_introspectionIsNotComplete() {
+    parser.parse("@[INFO] started");
+
+    assertThat(parser.isIntrospectionComplete(), equalTo(false));
+  }
+}
@@ -88,7 +88,9 @@ import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDomain;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.NUM_CONFIG_MAPS;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_DOMAIN_SPEC_GENERATION;
+import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_INPUTS_FINGERPRINT;
 import static oracle.kubernetes.operator.ProcessingConstants.DEFAULT_JRF_INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS;
 import static oracle.kubernetes.operator.ProcessingConstants.DEFAULT_WLS_OR_RESTRICTED_JRF_INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
@@ -120,6 +122,7 @@ import static oracle.kubernetes.operator.helpers.StepContextConstants.INIT_DOMAI
 import static oracle.kubernetes.operator.helpers.StepContextConstants.OPSS_KEY_MOUNT_PATH;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.OPSS_WALLETFILE_MOUNT_PATH;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.WDTCONFIGMAP_MOUNT_PATH;
+import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTION_SKIP_UNCHANGED_INPUTS;
 import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS;
 import static oracle.kubernetes.operator.tuning.TuningParameters.KUBERNETES_PLATFORM_NAME;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
@@ -1998,6 +2001,14 @@ class JobHelperTest extends DomainValidationTestBase {
     assertThat(job, notNullValue());
   }
 
+  @Test
+  void whenIntrospectorJobCreated_jobRecordsInputsFingerprint() {
+    runCreateJob();
+
+    assertThat(job.getMetadata().getAnnotations().get(INTROSPECTION_INPUTS_FINGERPRINT),
+        equalTo(getIntrospectionInputsFingerprint()));
+  }
+
   private void runCreateJob() {
     testSupport.doOnCreate(KubernetesTestSupport.JOB, j -> recordJob((V1Job) j));
     testSupport.runSteps(JobHelper.createIntrospectionStartStep());
@@ -2107,6 +2118,81 @@ class JobHelperTest extends DomainValidationTestBase {
     assertThat(job, nullValue());
   }
 
+  @Test
+  void whenStartingFromNoServersAndInputsUnchangedButSkipNotEnabled_runIntrospector() {
+    defineTopologyWithCluster();
+    configureServersToStart();
+    domain.getMetadata().setGeneration(121L);
+    testSupport.addToPacket(INTROSPECTION_DOMAIN_SPEC_GENERATION, "123");
+    recordIntrospectionInputsFingerprint();
+
+    runCreateJob();
+
+    assertThat(job, notNullValue());
+  }
+
+  @Test
+  void whenStartingFromNoServersAndDomainConfigurationDoesNotMatchButInputsUnchanged_dontRunIntrospector() {
+    TuningParametersStub.setParameter(INTROSPECTION_SKIP_UNCHANGED_INPUTS, "true");
+    defineTopologyWithCluster();
+    configureServersToStart();
+    domain.getMetadata().setGeneration(121L);
+    testSupport.addToPacket(INTROSPECTION_DOMAIN_SPEC_GENERATION, "123");
+    recordIntrospectionInputsFingerprint();
+
+    runCreateJob();
+
+    assertThat(job, nullValue());
+  }
+
+  private void recordIntrospectionInputsFingerprint() {
+    testSupport.addToPacket(INTROSPECTION_INPUTS_FINGERPRINT, getIntrospectionInputsFingerprint());
+  }
+
+  private String getIntrospectionInputsFingerprint() {
+    return JobHelper.getIntrospectionInputsFingerprint(testSupport.getPacket());
+  }
+
+  @Test
+  void whenStartingFromNoServersAndImageChangedSinceInputsRecorded_runIntrospector() {
+    TuningParametersStub.setParameter(INTROSPECTION_SKIP_UNCHANGED_INPUTS, "true");
+    defineTopologyWithCluster();
+    configureServersToStart();
+    domain.getMetadata().setGeneration(121L);
+    testSupport.addToPacket(INTROSPECTION_DOMAIN_SPEC_GENERATION, "123");
+    recordIntrospectionInputsFingerprint();
+    configureDomain().withDefaultImage("weblogic:14.1.2.0");
+
+    runCreateJob();
+
+    assertThat(job, notNullValue());
+  }
+
+  @Test
+  void whenStartingFromNoServersAndRestartVersionChangedSinceInputsRecorded_runIntrospector() {
+    TuningParametersStub.setParameter(INTROSPECTION_SKIP_UNCHANGED_INPUTS, "true");
+    defineTopologyWithCluster();
+    configureServersToStart();
+    domain.getMetadata().setGeneration(121L);
+    testSupport.addToPacket(INTROSPECTION_DOMAIN_SPEC_GENERATION, "123");
+    recordIntrospectionInputsFingerprint();
+    configureDomain().withRestartVersion("2");
+
+    runCreateJob();
+
+    assertThat(job, notNullValue());
+  }
+
+  @Test
+  void introspectionInputsFingerprint_ignoresSettingsFromEarlierIntrospection() {
+    final String fingerprint = getIntrospectionInputsFingerprint();
+
+    defineTopology();
+    testSupport.addToPacket(NUM_CONFIG_MAPS, "3");
+
+    assertThat(getIntrospectionInputsFingerprint(), equalTo(fingerprint));
+  }
+
   @Test
   void whenAllServersDeleted_runIntrospector() {
     domainPresenceInfo.setServerPod("ms1", createPodWithCreationTime());
@@ -75,6 +75,7 @@ import io.kubernetes.client.util.generic.options.PatchOptions;
 import io.kubernetes.client.util.generic.options.UpdateOptions;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
 import jakarta.json.JsonPatch;
 import jakarta.json.JsonStructure;
 import oracle.kubernetes.operator.calls.KubernetesApi;
@@ -93,6 +94,8 @@ import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
+
 @SuppressWarnings("WeakerAccess")
 public class KubernetesTestSupport extends FiberTestSupport {
   public static final VersionInfo TEST_VERSION_INFO = new VersionInfo().major("1").minor("18").gitVersion("0");
@@ -132,6 +135,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   private long resourceVersion;
   private int numCalls;
   private boolean addCreationTimestamp;
+  private Integer listPageSize;
   private EmptyResponse emptyResponse;
   private VersionInfo versionInfo = TEST_VERSION_INFO;
   private RetryStrategy retryStrategy;
@@ -313,6 +317,14 @@ public class KubernetesTestSupport extends FiberTestSupport {
     this.addCreationTimestamp = addCreationTimestamp;
   }
 
+  /**
+   * Limits the number of items returned by each list call, so that longer lists are returned in several pages.
+   * @param listPageSize the maximum number of items in a page, or null to return all items at once
+   */
+  public void setListPageSize(Integer listPageSize) {
+    this.listPageSize = listPageSize;
+  }
+
   @SuppressWarnings("unchecked")
   private <T extends KubernetesType> DataRepository<T> selectRepository(String resourceType) {
     if (resourceType == null) {
@@ -490,6 +502,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.replaceStatus, resourceType, name, namespace, httpStatus);
   }
 
+  /**
+   * Specifies that a patch status operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnPatchStatus(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.patchStatus, resourceType, name, namespace, httpStatus);
+  }
+
   /**
    * Specifies that a delete operation should fail if it matches the specified conditions. Applies to
    * namespaced resources and replaces any existing failure checks.
@@ -637,6 +662,13 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.patchResource(dataRepository);
       }
     },
+    patchStatus {
+      @Override
+      <T extends KubernetesType> KubernetesApiResponse<T> execute(CallContext<T> callContext,
+                                                                  DataRepository<T> dataRepository) {
+        return callContext.patchResourceStatus(dataRepository);
+      }
+    },
     getVersion {
       @Override
       @SuppressWarnings("unchecked")
@@ -782,18 +814,20 @@ public class KubernetesTestSupport extends FiberTestSupport {
 
         @Override
         public KubernetesApiResponse<L> list(ListOptions listOptions) {
-          return new CallContext<L>(
+          CallContext<L> callContext = new CallContext<>(
               Operation.list, getResourceName(apiTypeClass), null, null, null, null,
-              listOptions.getFieldSelector(), listOptions.getLabelSelector(), null)
-              .execute();
+              listOptions.getFieldSelector(), listOptions.getLabelSelector(), null);
+          callContext.setContinue(listOptions.getContinue());
+          return callContext.execute();
         }
 
         @Override
         public KubernetesApiResponse<L> list(String namespace, ListOptions listOptions) {
-          return new CallContext<L>(
+          CallContext<L> callContext = new CallContext<>(
               Operation.list, getResourceName(apiTypeClass), namespace, null, null, null,
-              listOptions.getFieldSelector(), listOptions.getLabelSelector(), null)
-              .execute();
+              listOptions.getFieldSelector(), listOptions.getLabelSelector(), null);
+          callContext.setContinue(listOptions.getContinue());
+          return callContext.execute();
         }
 
         @Override
@@ -833,6 +867,13 @@ public class KubernetesTestSupport extends FiberTestSupport {
               .execute();
         }
 
+        @Override
+        public KubernetesApiResponse<A> patchStatus(String namespace, String name, V1Patch patch) {
+          return new CallContext<A>(
+              Operation.patchStatus, getResourceName(apiTypeClass), namespace, name, patch)
+              .execute();
+        }
+
         @Override
         public KubernetesApiResponse<A> patch(String name, String patchType, V1Patch patch,
                                               PatchOptions patchOptions) {
@@ -1186,6 +1227,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    T patchResourceStatus(String name, String namespace, V1Patch body) {
+      T current = data.get(name);
+      if (current == null) {
+        throw new NotFoundException(getResourceName(), name, namespace);
+      }
+
+      JsonPatch patch = Json.createPatch(fromV1Patch(body));
+      copyResourceStatus(fromJsonStructure(patch.apply(toJsonStructure(current))), current);
+      incrementResourceVersion(getMetadata(current));
+      onUpdateActions.forEach(a -> a.accept(current));
+      return current;
+    }
+
     T fromJsonStructure(JsonStructure jsonStructure) {
       return new JSON().deserialize(jsonStructure.toString(), resourceType);
     }
@@ -1352,11 +1406,28 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).patchResource(name, namespace, body);
     }
 
+    @Override
+    T patchResourceStatus(String name, String namespace, V1Patch body) {
+      return inNamespace(namespace).patchResourceStatus(name, namespace, body);
+    }
+
     @Override
     List<T> getResources(String namespace, String fieldSelector, String... labelSelectors) {
+      if (namespace == null) {
+        return getResources(fieldSelector, labelSelectors);
+      }
       return inNamespace(namespace).getResources(fieldSelector, labelSelectors);
     }
 
+    @Override
+    List<T> getResources(String fieldSelector, String... labelSelectors) {
+      List<T> result = new ArrayList<>();
+      for (DataRepository<T> repository : repositories.values()) {
+        result.addAll(repository.getResources(fieldSelector, labelSelectors));
+      }
+      return result;
+    }
+
     @Override
     List<T> getResources() {
       List<T> result = new ArrayList<>();
@@ -1414,7 +1485,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
 
     public Integer getLimit() {
-      return null;
+      return listPageSize;
     }
 
     private VersionInfo getVersionInfo() {
@@ -1498,6 +1569,17 @@ public class KubernetesTestSupport extends FiberTestSupport {
       }
     }
 
+    private <T extends KubernetesType> KubernetesApiResponse<T> patchResourceStatus(
+        DataRepository<T> dataRepository) {
+      try {
+        return new KubernetesApiResponse<>(dataRepository.patchResourceStatus(requestName, requestNamespace, patch));
+      } catch (NotFoundException nfe) {
+        return new KubernetesApiResponse<>(new V1Status().message(nfe.getMessage()), HttpURLConnection.HTTP_NOT_FOUND);
+      } catch (JsonException e) {
+        return new KubernetesApiResponse<>(new V1Status().message(e.getMessage()), HTTP_UNPROCESSABLE_ENTITY);
+      }
+    }
+
     private <T extends KubernetesType> KubernetesApiResponse<T> listResources(Integer limit, String cont,
                                                                               DataRepository<T> dataRepository) {
       return new KubernetesApiResponse<>(
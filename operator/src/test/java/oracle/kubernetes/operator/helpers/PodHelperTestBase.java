@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import javax.annotation.Nonnull;
@@ -189,6 +190,7 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -644,6 +646,35 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     verifyPodReplaced();
   }
 
+  @Test
+  void afterLegacyPodHashChecked_dontRepeatCheckForUnchangedPod() throws NoSuchFieldException {
+    useProductionHash();
+    final CountingHash countingHash = new CountingHash();
+    mementos.add(StaticStubSupport.install(AnnotationHelper.class, "hashFunction", countingHash));
+    defineExporterConfigurationWithResourceRequirements();
+    final V1Pod legacyPod = loadPodModel(getReferenceIstioMonitoringExporterTcpProtocol());
+    legacyPod.getMetadata().resourceVersion("1");
+    initializeExistingPod(legacyPod);
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    countingHash.numHashes = 0;
+    domainPresenceInfo.setServerPod(getServerName(), legacyPod);
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    logRecords.clear();
+    assertThat(countingHash.numHashes, lessThan(3));
+  }
+
+  static class CountingHash implements Function<Object, String> {
+    private int numHashes;
+
+    @Override
+    public String apply(Object object) {
+      numHashes++;
+      return AnnotationHelper.sha256HexOfYaml(object);
+    }
+  }
+
   @Test
   void afterUpgradeLogHomeLayoutStillFlat_dontReplacePod() {
     useProductionHash();
@@ -0,0 +1,210 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nonnull;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.prometheus.client.CollectorRegistry;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class OperatorMetricsTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private static double getSampleValue(String name, String[] labelNames, String[] labelValues) {
+    return Optional.ofNullable(CollectorRegistry.defaultRegistry.getSampleValue(name, labelNames, labelValues))
+        .orElse(0.0);
+  }
+
+  private static double getRetries(String resource, String verb) {
+    return getSampleValue("weblogic_operator_api_request_retries_total",
+        new String[] {"resource", "verb"}, new String[] {resource, verb});
+  }
+
+  private static double getWatchEvents(String kind, String type) {
+    return getSampleValue("weblogic_operator_watch_events_total",
+        new String[] {"kind", "type"}, new String[] {kind, type});
+  }
+
+  private static double getIntrospections(String result) {
+    return getSampleValue("weblogic_operator_introspections_total", new String[] {"result"}, new String[] {result});
+  }
+
+  private static double getMakeRights(String namespace, String outcome) {
+    return getSampleValue("weblogic_operator_make_right_duration_seconds_count",
+        new String[] {"namespace", "outcome"}, new String[] {namespace, outcome});
+  }
+
+  private static double getFibersStarted() {
+    return getSampleValue("weblogic_operator_fibers_started_total", new String[0], new String[0]);
+  }
+
+  private static double getStepsRun(Class<? extends Step> stepClass) {
+    return getSampleValue("weblogic_operator_fiber_steps_total",
+        new String[] {"step"}, new String[] {stepClass.getSimpleName()});
+  }
+
+  @Test
+  void recordApiRetry_incrementsRetryCounter() {
+    double before = getRetries("pods", "createPod");
+
+    OperatorMetrics.recordApiRetry("pods", "createPod");
+
+    assertThat(getRetries("pods", "createPod"), equalTo(before + 1));
+  }
+
+  @Test
+  void recordMakeRight_countsByNamespaceAndOutcome() {
+    double before = getMakeRights("ns-make-right", "success");
+
+    OperatorMetrics.recordMakeRight("ns-make-right", true, System.nanoTime());
+
+    assertThat(getMakeRights("ns-make-right", "success"), equalTo(before + 1));
+  }
+
+  @Test
+  void afterFiberMetricsInstalled_countFibersStarted() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(Step.class, "adapter", (Step.StepAdapter) (fiber, step, p) -> step));
+    double before = getFibersStarted();
+
+    OperatorMetrics.installFiberMetrics();
+    new FiberTestSupport().runSteps(new CountedStep(new CountedStep(null)));
+
+    assertThat(getFibersStarted(), equalTo(before + 1));
+  }
+
+  @Test
+  void afterFiberMetricsInstalled_countEachStepRun() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(Step.class, "adapter", (Step.StepAdapter) (fiber, step, p) -> step));
+    double before = getStepsRun(CountedStep.class);
+
+    OperatorMetrics.installFiberMetrics();
+    new FiberTestSupport().runSteps(new CountedStep(new CountedStep(null)));
+
+    assertThat(getStepsRun(CountedStep.class), equalTo(before + 2));
+  }
+
+  @Test
+  void recordWatchEvent_incrementsEventCounter() {
+    double before = getWatchEvents("V1Pod", "MODIFIED");
+
+    OperatorMetrics.recordWatchEvent("V1Pod", "MODIFIED", () -> { });
+
+    assertThat(getWatchEvents("V1Pod", "MODIFIED"), equalTo(before + 1));
+  }
+
+  @Test
+  void recordWatchRestart_incrementsRestartCounter() {
+    String[] labelNames = {"kind", "cause"};
+    String[] labelValues = {"V1Service", "gone"};
+    double before = getSampleValue("weblogic_operator_watch_restarts_total", labelNames, labelValues);
+
+    OperatorMetrics.recordWatchRestart("V1Service", "gone");
+
+    assertThat(getSampleValue("weblogic_operator_watch_restarts_total", labelNames, labelValues),
+        equalTo(before + 1));
+  }
+
+  @Test
+  void recordStatusWrite_addsBytesWritten() {
+    String[] labelNames = {"resource", "method"};
+    String[] labelValues = {"Domain", "patch"};
+    double before = getSampleValue("weblogic_operator_status_write_bytes_total", labelNames, labelValues);
+
+    OperatorMetrics.recordStatusWrite("Domain", "patch", 120);
+
+    assertThat(getSampleValue("weblogic_operator_status_write_bytes_total", labelNames, labelValues),
+        equalTo(before + 120));
+  }
+
+  @Test
+  void recordStatusWriteAvoided_incrementsAvoidedCounter() {
+    String[] labelNames = {"resource", "reason"};
+    String[] labelValues = {"Cluster", "coalesced"};
+    double before = getSampleValue("weblogic_operator_status_writes_avoided_total", labelNames, labelValues);
+
+    OperatorMetrics.recordStatusWriteAvoided("Cluster", "coalesced");
+
+    assertThat(getSampleValue("weblogic_operator_status_writes_avoided_total", labelNames, labelValues),
+        equalTo(before + 1));
+  }
+
+  @Test
+  void recordIntrospection_countsRunAndSkippedSeparately() {
+    double ranBefore = getIntrospections("ran");
+    double skippedBefore = getIntrospections("skipped");
+
+    OperatorMetrics.recordIntrospection(false);
+
+    assertThat(getIntrospections("ran"), equalTo(ranBefore));
+    assertThat(getIntrospections("skipped"), equalTo(skippedBefore + 1));
+  }
+
+  @Test
+  void whileHandlingWatchEvent_eventTimeIsAvailable() {
+    AtomicReference<Long> eventTime = new AtomicReference<>();
+
+    OperatorMetrics.recordWatchEvent("V1Pod", "ADDED", () -> eventTime.set(OperatorMetrics.getWatchEventTime()));
+
+    assertThat(eventTime.get(), notNullValue());
+  }
+
+  @Test
+  void afterHandlingWatchEvent_eventTimeIsCleared() {
+    OperatorMetrics.recordWatchEvent("V1Pod", "ADDED", () -> { });
+
+    assertThat(OperatorMetrics.getWatchEventTime(), nullValue());
+  }
+
+  @Test
+  void recordMakeRightStart_whileHandlingWatchEvent_recordsLatency() {
+    String[] labelNames = {"namespace"};
+    String[] labelValues = {"ns-latency"};
+
+    OperatorMetrics.runForWatchEvent(System.nanoTime(), () -> OperatorMetrics.recordMakeRightStart("ns-latency"));
+
+    assertThat(getSampleValue("weblogic_operator_watch_event_to_make_right_seconds_count", labelNames, labelValues),
+        equalTo(1.0));
+  }
+
+  @Test
+  void recordMakeRightStart_outsideWatchEvent_recordsNoLatency() {
+    OperatorMetrics.recordMakeRightStart("ns-no-event");
+
+    assertThat(getSampleValue("weblogic_operator_watch_event_to_make_right_seconds_count",
+        new String[] {"namespace"}, new String[] {"ns-no-event"}), equalTo(0.0));
+  }
+
+  static class CountedStep extends Step {
+    CountedStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+}
@@ -18,6 +18,8 @@ import com.google.gson.Gson;
 import io.kubernetes.client.openapi.models.V1ScaleSpec;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import oracle.kubernetes.operator.http.rest.backend.RestBackend;
@@ -31,6 +33,7 @@ import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.http.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
 import static oracle.kubernetes.operator.http.rest.RestTestBase.JsonArrayMatcher.withValues;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
@@ -156,6 +159,47 @@ class OperatorRestTest extends RestTestBase {
         hasJsonPath("$.items[?(@.domainUID=='uid2')].links[*].href", withValues(DOMAIN2_HREF)));
   }
 
+  @Test
+  void domainsEndPoint_returnsEntityTag() {
+    defineDomains("uid1", "uid2");
+
+    Response response = createRequest(DOMAINS_HREF).get();
+
+    assertThat(response.getEntityTag(), notNullValue());
+  }
+
+  @Test
+  void whenDomainsUnchanged_conditionalGetReturnsNotModified() {
+    defineDomains("uid1", "uid2");
+    EntityTag tag = createRequest(DOMAINS_HREF).get().getEntityTag();
+
+    Response response = createRequest(DOMAINS_HREF).header(HttpHeaders.IF_NONE_MATCH, tag.toString()).get();
+
+    assertThat(response.getStatus(), equalTo(HttpURLConnection.HTTP_NOT_MODIFIED));
+  }
+
+  @Test
+  void whenDomainsChanged_conditionalGetReturnsDomains() {
+    defineDomains("uid1");
+    EntityTag tag = createRequest(DOMAINS_HREF).get().getEntityTag();
+    defineDomains("uid2");
+
+    Response response = createRequest(DOMAINS_HREF).header(HttpHeaders.IF_NONE_MATCH, tag.toString()).get();
+
+    assertThat(response.getStatus(), equalTo(HttpURLConnection.HTTP_OK));
+  }
+
+  @Test
+  void whenClustersUnchanged_conditionalGetReturnsNotModified() {
+    defineClusters("uid1", "cluster1", "cluster2");
+    EntityTag tag = createRequest(DOMAIN1_CLUSTERS_HREF).get().getEntityTag();
+
+    Response response =
+        createRequest(DOMAIN1_CLUSTERS_HREF).header(HttpHeaders.IF_NONE_MATCH, tag.toString()).get();
+
+    assertThat(response.getStatus(), equalTo(HttpURLConnection.HTTP_NOT_MODIFIED));
+  }
+
   @Test
   @SuppressWarnings("rawtypes")
   void existingDomainEndPoint_returnsDomainsUidAndClusterLink() {
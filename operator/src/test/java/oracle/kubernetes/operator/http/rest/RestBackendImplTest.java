@@ -6,7 +6,9 @@ package oracle.kubernetes.operator.http.rest;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
@@ -46,6 +48,7 @@ import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
+import static oracle.kubernetes.operator.tuning.TuningParameters.AUTH_REVIEW_CACHE_TTL_SECONDS;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
@@ -81,6 +84,7 @@ class RestBackendImplTest {
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain1);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private WlsDomainConfig config;
+  private final Map<String, Map<String, DomainPresenceInfo>> cachedDomains = new HashMap<>();
 
   private static V1Namespace createNamespace(String name) {
     return new V1Namespace().metadata(new V1ObjectMeta().name(name));
@@ -128,6 +132,7 @@ class RestBackendImplTest {
   @AfterEach
   void tearDown() {
     mementos.forEach(Memento::revert);
+    RestBackendImpl.clearReviewCaches();
   }
 
   // functionality needed for Domains resource
@@ -485,6 +490,107 @@ class RestBackendImplTest {
     assertThat(authorizationProxyStub.atzCheck, is(true));
   }
 
+  @Test
+  void whenReviewCacheEnabled_repeatedRequestsDontRepeatAuthorizationChecks() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    TuningParametersStub.setParameter(AUTH_REVIEW_CACHE_TTL_SECONDS, "60");
+    final int checksPerRequest = countAuthorizationChecks(1);
+    RestBackendImpl.clearReviewCaches();
+
+    assertThat(countAuthorizationChecks(3), equalTo(checksPerRequest));
+  }
+
+  @Test
+  void whenReviewCacheDisabled_eachRequestRepeatsAuthorizationChecks() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    final int checksPerRequest = countAuthorizationChecks(1);
+
+    assertThat(countAuthorizationChecks(3), equalTo(3 * checksPerRequest));
+  }
+
+  private int countAuthorizationChecks(int numRequests) {
+    AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+    for (int i = 0; i < numRequests; i++) {
+      new RestBackendImpl("", "", this::getDomainNamespaces)
+          .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN1);
+    }
+    return authorizationProxyStub.numChecks;
+  }
+
+  @Test
+  void whenReviewCacheEnabled_differentOperationsAreCheckedSeparately() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    TuningParametersStub.setParameter(AUTH_REVIEW_CACHE_TTL_SECONDS, "60");
+    AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+    RestBackendImpl backend = new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub);
+
+    backend.getClusters(DOMAIN1);
+    backend.getDomainUids();
+
+    assertThat(authorizationProxyStub.numChecks, equalTo(2));
+  }
+
+  @Test
+  void whenReviewCacheEnabled_reuseTokenReview() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    TuningParametersStub.setParameter(AUTH_REVIEW_CACHE_TTL_SECONDS, "60");
+    final V1UserInfo userInfo = new RestBackendImpl("", "token", this::getDomainNamespaces).getUserInfo();
+
+    testSupport.doOnCreate(TOKEN_REVIEW, r -> ((V1TokenReview) r).setStatus(new V1TokenReviewStatus()));
+
+    assertThat(new RestBackendImpl("", "token", this::getDomainNamespaces).getUserInfo(), equalTo(userInfo));
+  }
+
+  @Test
+  void whenNamespaceTrackedByResourceCache_readDomainsFromCache() {
+    cachedDomains.put(NS, Map.of(DOMAIN3, new DomainPresenceInfo(createDomain(NS, DOMAIN3))));
+
+    assertThat(createCachingBackend().getDomainUids(), containsInAnyOrder(DOMAIN3));
+  }
+
+  @Test
+  void whenNamespaceNotTrackedByResourceCache_listDomainsFromKubernetes() {
+    assertThat(createCachingBackend().getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenCachedDomainBeingDeleted_dontReportIt() {
+    DomainPresenceInfo deletingInfo = new DomainPresenceInfo(createDomain(NS, DOMAIN3));
+    deletingInfo.setDeleting(true);
+    cachedDomains.put(NS, Map.of(DOMAIN1, new DomainPresenceInfo(domain1), DOMAIN3, deletingInfo));
+
+    assertThat(createCachingBackend().getDomainUids(), containsInAnyOrder(DOMAIN1));
+  }
+
+  @Test
+  void whenCachedDomainIsStale_scaleClusterUsesDomainFromKubernetes() {
+    final ClusterResource clusterResource = createClusterResource(DOMAIN1, NS, CLUSTER_1)
+            .withReplicas(1);
+    testSupport.defineResources(clusterResource);
+    configureDomain().withClusterReference(clusterResource.getClusterResourceName());
+    cachedDomains.put(NS, Map.of(DOMAIN1, new DomainPresenceInfo(createDomain(NS, DOMAIN1))));
+
+    createCachingBackend().scaleCluster(DOMAIN1, CLUSTER_1, 5);
+
+    assertThat(getUpdatedClusterResource().getSpec().getReplicas(), equalTo(5));
+  }
+
+  @Test
+  void whenUnreferencedClusterResourceAlreadyExists_scaleClusterUpdatesIt() {
+    testSupport.defineResources(createClusterResource(DOMAIN1, NS, CLUSTER_1).withReplicas(1));
+    configureDomain().withDefaultReplicaCount(REPLICA_LIMIT);
+
+    restBackend.scaleCluster(DOMAIN1, CLUSTER_1, 3);
+
+    assertThat(getUpdatedClusterResource().getSpec().getReplicas(), equalTo(3));
+  }
+
+  private RestBackend createCachingBackend() {
+    return new RestBackendImpl("", "", this::getDomainNamespaces,
+        new ResourceCache(() -> cachedDomains));
+  }
+
   private DomainConfigurator configureDomain() {
     return configurator;
   }
@@ -502,6 +608,7 @@ class RestBackendImplTest {
 
   private static class AuthorizationProxyStub extends AuthorizationProxy {
     boolean atzCheck = false;
+    int numChecks;
 
     /**
      * Check if the specified principal is allowed to perform the specified operation on the specified
@@ -527,6 +634,7 @@ class RestBackendImplTest {
         Scope scope,
         String namespaceName) {
       atzCheck = true;
+      numChecks++;
       return atzCheck;
     }
   }
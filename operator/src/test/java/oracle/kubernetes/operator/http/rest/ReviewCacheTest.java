@@ -0,0 +1,121 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.AUTH_REVIEW_CACHE_MAX_ENTRIES;
+import static oracle.kubernetes.operator.tuning.TuningParameters.AUTH_REVIEW_CACHE_NEGATIVE_TTL_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.AUTH_REVIEW_CACHE_TTL_SECONDS;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class ReviewCacheTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final ReviewCache<String, Boolean> cache = new ReviewCache<>("test", Boolean::booleanValue);
+  private int numReviews;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private Boolean review(Boolean result) {
+    numReviews++;
+    return result;
+  }
+
+  @Test
+  void whenTtlsNotSet_alwaysMakeReview() {
+    cache.get("key", () -> review(true));
+    cache.get("key", () -> review(true));
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenTtlSet_reuseFavorableResult() {
+    TuningParametersStub.setParameter(AUTH_REVIEW_CACHE_TTL_SECONDS, "30");
+
+    cache.get("key", () -> review(true));
+
+    assertThat(cache.get("key", () -> review(false)), is(true));
+    assertThat(numReviews, equalTo(1));
+  }
+
+  @Test
+  void whenTtlExpired_makeNewReview() {
+    TuningParametersStub.setParameter(AUTH_REVIEW_CACHE_TTL_SECONDS, "30");
+
+    cache.get("key", () -> review(true));
+    SystemClockTestSupport.increment(30);
+
+    assertThat(cache.get("key", () -> review(false)), is(false));
+  }
+
+  @Test
+  void whenOnlyTtlSet_dontReuseUnfavorableResult() {
+    TuningParametersStub.setParameter(AUTH_REVIEW_CACHE_TTL_SECONDS, "30");
+
+    cache.get("key", () -> review(false));
+    cache.get("key", () -> review(false));
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenNegativeTtlSet_reuseUnfavorableResultUntilItExpires() {
+    TuningParametersStub.setParameter(AUTH_REVIEW_CACHE_NEGATIVE_TTL_SECONDS, "5");
+
+    cache.get("key", () -> review(false));
+    cache.get("key", () -> review(true));
+    SystemClockTestSupport.increment(5);
+
+    assertThat(cache.get("key", () -> review(true)), is(true));
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void dontCacheNullResult() {
+    TuningParametersStub.setParameter(AUTH_REVIEW_CACHE_TTL_SECONDS, "30");
+    TuningParametersStub.setParameter(AUTH_REVIEW_CACHE_NEGATIVE_TTL_SECONDS, "30");
+
+    cache.get("key", () -> review(null));
+    cache.get("key", () -> review(null));
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenMaxEntriesExceeded_evictLeastRecentlyUsed() {
+    TuningParametersStub.setParameter(AUTH_REVIEW_CACHE_TTL_SECONDS, "30");
+    TuningParametersStub.setParameter(AUTH_REVIEW_CACHE_MAX_ENTRIES, "2");
+
+    cache.get("a", () -> review(true));
+    cache.get("b", () -> review(true));
+    cache.get("a", () -> review(true));
+    cache.get("c", () -> review(true));
+    cache.get("a", () -> review(true));
+    cache.get("b", () -> review(true));
+
+    assertThat(cache.size(), equalTo(2));
+    assertThat(numReviews, equalTo(4));
+  }
+}
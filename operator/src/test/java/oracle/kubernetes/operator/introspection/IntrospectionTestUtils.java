@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.introspection;
@@ -93,18 +93,46 @@ public class IntrospectionTestUtils {
     defineIntrospectionResult(testSupport, getIntrospectResult(domainConfig), jobStatus);
   }
 
+  /**
+   * Define in-memory kubernetes resources to represent the pod of an introspector job for the specified domain.
+   * Unlike the other methods, this does not complete the introspector jobs which the operator creates;
+   * call {@link #completeIntrospectorJobs(KubernetesTestSupport)} once for that.
+   *
+   * @param testSupport a kubernetes test support instance
+   * @param uid the UID of the domain
+   * @param domainConfig the configuration from which the topology should be computed
+   * @throws JsonProcessingException if an error occurs in creating the topology
+   */
+  public static void defineIntrospectionTopology(KubernetesTestSupport testSupport, String uid,
+                                                 WlsDomainConfig domainConfig) throws JsonProcessingException {
+    defineIntrospectorPod(testSupport, uid, getIntrospectResult(domainConfig));
+  }
+
+  /**
+   * Arrange for each introspector job which the operator creates to complete immediately.
+   *
+   * @param testSupport a kubernetes test support instance
+   */
+  public static void completeIntrospectorJobs(KubernetesTestSupport testSupport) {
+    testSupport.doOnCreate(KubernetesTestSupport.JOB, job -> ((V1Job) job).setStatus(createCompletedStatus()));
+  }
+
   private static void defineIntrospectionResult(KubernetesTestSupport testSupport,
                                                 String introspectResult,
                                                 Supplier<V1JobStatus> jobStatus) {
     testSupport.addToPacket(JOB_POD, new V1Pod().metadata(new V1ObjectMeta().name(INTROSPECTION_JOB)));
     testSupport.doOnCreate(KubernetesTestSupport.JOB, job -> ((V1Job) job).setStatus(jobStatus.get()));
-    testSupport.definePodLog(LegalNames.toJobIntrospectorName(UID), NS, introspectResult);
+    defineIntrospectorPod(testSupport, UID, introspectResult);
+  }
+
+  private static void defineIntrospectorPod(KubernetesTestSupport testSupport, String uid, String introspectResult) {
+    testSupport.definePodLog(LegalNames.toJobIntrospectorName(uid), NS, introspectResult);
     testSupport.defineResources(
         new V1Pod()
             .metadata(
                 new V1ObjectMeta()
-                    .putLabelsItem("job-name", LegalNames.toJobIntrospectorName(UID))
-                    .name(LegalNames.toJobIntrospectorName(UID))
+                    .putLabelsItem("job-name", LegalNames.toJobIntrospectorName(uid))
+                    .name(LegalNames.toJobIntrospectorName(uid))
                     .namespace(NS))
             .status(createJobPodTerminatedStatus()));
   }
@@ -25,6 +25,7 @@ import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.ConfigMapSplitter;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainTopology;
+import oracle.kubernetes.operator.helpers.IntrospectorLogParser;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.http.rest.ScanCacheStub;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -50,6 +51,7 @@ import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SECRETS_
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.TOPOLOGY_YAML;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.getIntrospectorConfigMapNamePrefix;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_INPUTS_FINGERPRINT;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_FAILED;
@@ -125,7 +127,8 @@ class IntrospectorConfigMapTest {
     }
 
     void addToPacket() {
-      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, builder.toString());
+      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT,
+          new IntrospectorLogParser(UID, m -> { }).parse(builder.toString()).getFiles());
     }
 
   }
@@ -164,6 +167,19 @@ class IntrospectorConfigMapTest {
     assertThat(getIntrospectionVersion(), equalTo(domain.getIntrospectVersion()));
   }
 
+  @Test
+  void whenInputsFingerprintInPacket_addAnnotation() {
+    testSupport.defineResources(
+          createIntrospectorConfigMap(0, Map.of(TOPOLOGY_YAML, TOPOLOGY_VALUE, SECRETS_MD_5, MD5_SECRETS)));
+    introspectResult.defineFile(SECRETS_MD_5, "not telling").addToPacket();
+    testSupport.addToPacket(INTROSPECTION_INPUTS_FINGERPRINT, "abc123");
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectionConfigMap().map(V1ConfigMap::getMetadata).map(V1ObjectMeta::getAnnotations)
+          .map(m -> m.get(INTROSPECTION_INPUTS_FINGERPRINT)).orElse(null), equalTo("abc123"));
+  }
+
   @SuppressWarnings("SameParameterValue")
   private String getIntrospectorConfigMapValue(String key) {
     return getIntrospectionConfigMap()
@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.logging;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -78,6 +79,16 @@ class OperatorLoggingFormatterTest {
     assertThat(getFormattedMessage(), allOf(hasEntry("code", "420"), hasEntry("body", "a response")));
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void whenThrowableIsApiExceptionWithHeaders_extractHeaders() throws JsonProcessingException {
+    logRecord.setThrown(new ApiException(420, Map.of("Retry-After", List.of("5")), "a response"));
+
+    Map<String, Object> message = new ObjectMapper().readValue(formatter.format(logRecord), Map.class);
+
+    assertThat((Map<String, Object>) message.get("headers"), hasEntry("Retry-After", List.of("5")));
+  }
+
   @Test
   void whenPacketLacksDomainPresence_domainUidIsEmpty() {
     assertThat(getFormattedMessageInFiber().get("domainUID"), equalTo(""));
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.makeright;
@@ -17,6 +17,7 @@ import oracle.kubernetes.operator.IntrospectorConfigMapConstants;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainTopology;
+import oracle.kubernetes.operator.helpers.IntrospectorLogParser;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
@@ -174,7 +175,8 @@ class IntrospectionValidationTest {
     private void initializeScenario(DomainPresenceInfo info, KubernetesTestSupport testSupport)
         throws JsonProcessingException {
       if (initialTopology != null) {
-        testSupport.addToPacket(DOMAIN_INTROSPECTOR_LOG_RESULT, initialTopology.createIntrospectionResult());
+        testSupport.addToPacket(DOMAIN_INTROSPECTOR_LOG_RESULT,
+            new IntrospectorLogParser(UID, m -> { }).parse(initialTopology.createIntrospectionResult()).getFiles());
         testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(null));
       }
       if (initialTopology != finalTopology) {
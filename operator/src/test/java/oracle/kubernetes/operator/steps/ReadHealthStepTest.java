@@ -3,12 +3,14 @@
 
 package oracle.kubernetes.operator.steps;
 
+import java.net.URI;
 import java.net.http.HttpRequest;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -16,12 +18,18 @@ import javax.annotation.Nonnull;
 
 import com.meterware.httpunit.Base64;
 import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceBuilder;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
+import oracle.kubernetes.operator.http.client.HttpResponseStep;
 import oracle.kubernetes.operator.http.client.HttpResponseStub;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
@@ -43,6 +51,7 @@ import static com.meterware.simplestub.Stub.createStub;
 import static oracle.kubernetes.common.logging.MessageKeys.WLS_HEALTH_READ_FAILED;
 import static oracle.kubernetes.common.logging.MessageKeys.WLS_HEALTH_READ_FAILED_NO_HTTPCLIENT;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.AGGREGATE_SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
@@ -74,6 +83,25 @@ class ReadHealthStepTest {
   private static final String DYNAMIC_MANAGED_SERVER1 = "dyn-managed-server1";
   private static final String DYNAMIC_MANAGED_SERVER2 = "dyn-managed-server2";
 
+  private static final String AGGREGATE_RESPONSE = """
+      {
+        "items": [
+          {
+            "name": "admin-server",
+            "state": "RUNNING",
+            "overallHealthState": { "state": "ok", "subsystemName": null, "symptoms": [] },
+            "activationTime": 1556759105378
+          },
+          {
+            "name": "managed-server1",
+            "state": "ADMIN",
+            "overallHealthState": { "state": "warning", "subsystemName": null, "symptoms": [] },
+            "activationTime": 1556759105378
+          }
+        ]
+      }
+      """;
+
   private static final ClassCastException CLASSCAST_EXCEPTION = new ClassCastException("");
   private final List<LogRecord> logRecords = new ArrayList<>();
   private final List<Memento> mementos = new ArrayList<>();
@@ -83,6 +111,7 @@ class ReadHealthStepTest {
   private final Step readHealthStep = ReadHealthStep.createReadHealthStep(terminalStep);
   private final Map<String, ServerHealth> serverHealthMap = new HashMap<>();
   private final Map<String, String> serverStateMap = new HashMap<>();
+  private final Map<String, Pair<String, ServerHealth>> aggregateServerHealthMap = new ConcurrentHashMap<>();
   private final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
   private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
 
@@ -415,4 +444,84 @@ class ReadHealthStepTest {
     service.getMetadata().putLabelsItem(CLUSTERNAME_LABEL, clusterName);
   }
 
+  @Test
+  void whenAggregateHealthRead_recordStateAndHealthOfReportedServers() {
+    defineReadyAdminServer();
+    defineAggregateResponse(200, AGGREGATE_RESPONSE);
+
+    testSupport.runSteps(ReadHealthStep.createReadAggregateHealthStep(terminalStep));
+
+    assertThat(aggregateServerHealthMap.get(MANAGED_SERVER1).left(), equalTo("ADMIN"));
+    assertThat(aggregateServerHealthMap.get(MANAGED_SERVER1).right().getOverallHealth(), equalTo("warning"));
+  }
+
+  @Test
+  void whenAdminServerNotReady_dontReadAggregateHealth() {
+    defineReadyAdminServer();
+    info.getServerPod(ADMIN_NAME).getStatus().phase("Pending");
+    defineAggregateResponse(200, AGGREGATE_RESPONSE);
+
+    testSupport.runSteps(ReadHealthStep.createReadAggregateHealthStep(terminalStep));
+
+    assertThat(httpSupport.getHandledRequests().isEmpty(), is(true));
+  }
+
+  @Test
+  void whenAggregateHealthReadFails_recordNothing() {
+    defineReadyAdminServer();
+    defineAggregateResponse(500, "");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadAggregateHealthStep(terminalStep));
+
+    assertThat(aggregateServerHealthMap.isEmpty(), is(true));
+    assertThat(packet.get(HttpResponseStep.RESPONSE), nullValue());
+  }
+
+  @Test
+  void whenServerHealthAggregated_recordItWithoutReadingServer() {
+    testSupport.addToPacket(AGGREGATE_SERVER_HEALTH_MAP, aggregateServerHealthMap);
+    aggregateServerHealthMap.put(MANAGED_SERVER1, new Pair<>("ADMIN", new ServerHealth().withOverallHealth("warning")));
+    selectServer(MANAGED_SERVER1);
+
+    Packet packet = testSupport.runSteps(readHealthStep);
+
+    assertThat(httpSupport.getHandledRequests().isEmpty(), is(true));
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1).getOverallHealth(), equalTo("warning"));
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("ADMIN"));
+    assertThat(getRemainingServersToRead(packet), equalTo(0));
+  }
+
+  @Test
+  void whenServerHealthNotAggregated_readItFromServer() {
+    testSupport.addToPacket(AGGREGATE_SERVER_HEALTH_MAP, aggregateServerHealthMap);
+    aggregateServerHealthMap.put(ADMIN_NAME, new Pair<>("RUNNING", new ServerHealth().withOverallHealth("ok")));
+    selectServer(MANAGED_SERVER1);
+    defineResponse(200, OK_RESPONSE, "http://" + MANAGED_SERVER1 + ".Test.svc:8001");
+
+    Packet packet = testSupport.runSteps(readHealthStep);
+
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
+    assertThat(httpSupport.getHandledRequests().size(), equalTo(1));
+  }
+
+  private void defineReadyAdminServer() {
+    testSupport.addToPacket(AGGREGATE_SERVER_HEALTH_MAP, aggregateServerHealthMap);
+    info.setAdminServerName(ADMIN_NAME);
+    info.setServerService(ADMIN_NAME, createService(ADMIN_NAME));
+    info.setServerPod(ADMIN_NAME, new V1Pod()
+        .metadata(new V1ObjectMeta().name(ADMIN_NAME).namespace("Test"))
+        .status(new V1PodStatus()
+            .phase("Running")
+            .addConditionsItem(new V1PodCondition().type("Ready").status("True"))));
+  }
+
+  private void defineAggregateResponse(int status, String body) {
+    httpSupport.defineResponse(
+        HttpRequest.newBuilder()
+            .uri(URI.create("http://" + ADMIN_NAME + ".Test.svc:3456"
+                + "/management/weblogic/latest/domainRuntime/serverRuntimes/search"))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build(),
+        createStub(HttpResponseStub.class, status, body));
+  }
 }
@@ -8,6 +8,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
@@ -31,6 +33,7 @@ import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
@@ -45,6 +48,7 @@ import org.junit.jupiter.api.Test;
 
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -266,6 +270,36 @@ class ServerDownIteratorStepTest {
     testSupport.setTime(5, TimeUnit.SECONDS);
   }
 
+  @Test
+  void whenMoreServersThanMaxConcurrentShutdown_eventuallyShutDownAllServers() {
+    domainPresenceInfo = createDomainPresenceInfoWithServers(MS1, MS2, MS3, MS4);
+    configureCluster(CLUSTER).withMaxConcurrentShutdown(2).withReplicas(1);
+    addWlsCluster(CLUSTER, PORT, MS1, MS2, MS3, MS4);
+    testSupport.addDomainPresenceInfo(domainPresenceInfo);
+
+    createShutdownInfos()
+            .forClusteredServers(CLUSTER, MS1, MS2, MS3, MS4)
+            .shutdown();
+    testSupport.setTime(1, TimeUnit.MINUTES);
+
+    assertThat(serverPodsDeleted(),
+            containsInAnyOrder(UID_MS1, UID_MS2, UID + "-" + MS3, UID + "-" + MS4));
+  }
+
+  @Test
+  void whenAnotherFiberTakesLastQueuedServer_completeWithoutShuttingDownServer() {
+    final Queue<Fiber.StepAndPacket> serversToShutdown = new ConcurrentLinkedQueue<>() {
+      @Override
+      public boolean isEmpty() {
+        return false; // as if the last server were taken after this check
+      }
+    };
+
+    testSupport.runSteps(new ServerDownIteratorStep.ShutdownClusteredServersStep(serversToShutdown));
+
+    assertThat(serverPodsDeleted(), empty());
+  }
+
   @Test
   @Disabled("Contents of data repository doesn't match expectations of test")
   void withMultipleClusters_concurrencySettingIsIgnoredForShuttingDownClusterAndHonoredForShrinkingCluster() {
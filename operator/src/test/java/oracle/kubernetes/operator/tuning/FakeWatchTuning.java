@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.tuning;
@@ -7,11 +7,23 @@ import oracle.kubernetes.operator.WatchTuning;
 
 public class FakeWatchTuning implements WatchTuning {
 
+  private int watchLifetimeJitterPercent;
+
+  public FakeWatchTuning withWatchLifetimeJitterPercent(int watchLifetimeJitterPercent) {
+    this.watchLifetimeJitterPercent = watchLifetimeJitterPercent;
+    return this;
+  }
+
   @Override
   public int getWatchLifetime() {
     return 30;
   }
 
+  @Override
+  public int getWatchLifetimeJitterPercent() {
+    return watchLifetimeJitterPercent;
+  }
+
   @Override
   public int getWatchMinimumDelay() {
     return 0;
@@ -7,7 +7,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
@@ -199,19 +198,23 @@ public class WlsDomainConfigSupport {
    */
   public WlsDomainConfig createDomainConfig() {
     // reconcile static clusters
-    for (WlsClusterConfig cluster : wlsClusters.values()) {
-      ListIterator<WlsServerConfig> servers = cluster.getServers().listIterator();
-      while (servers.hasNext()) {
-        WlsServerConfig existing = wlsServers.get(servers.next().getName());
-        if (existing != null) {
-          servers.set(existing);
-        }
-      }
-    }
+    wlsClusters.replaceAll((name, cluster) -> reconcile(cluster));
     return new WlsDomainConfig(
         domain, adminServerName, wlsClusters, wlsServers, templates);
   }
 
+  // Returns a cluster whose servers are the standalone servers of the same names, where those are defined.
+  private WlsClusterConfig reconcile(WlsClusterConfig cluster) {
+    if (cluster.getServers().stream().noneMatch(server -> wlsServers.containsKey(server.getName()))) {
+      return cluster;
+    }
+
+    WlsClusterConfig reconciled = new WlsClusterConfig(cluster.getClusterName(), cluster.getDynamicServersConfig());
+    cluster.getServers()
+        .forEach(server -> reconciled.addServerConfig(wlsServers.getOrDefault(server.getName(), server)));
+    return reconciled;
+  }
+
   static class ServerConfigBuilder {
     private final String name;
     private final Integer listenPort;
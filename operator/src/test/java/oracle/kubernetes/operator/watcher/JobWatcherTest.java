@@ -265,4 +265,8 @@ class JobWatcherTest extends WatcherTestBase implements WatchListener<V1Job> {
   public void receivedEvents_areNotSentToListenersWhenWatchersPaused() {
     // Override as JobWatcher doesn't currently implement listener for callback
   }
+
+  public void bookmarkEvents_areNotSentToListeners() {
+    // Override as JobWatcher doesn't currently implement listener for callback
+  }
 }
@@ -0,0 +1,307 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import javax.annotation.Nonnull;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.FakeWatchTuning;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.net.HttpURLConnection.HTTP_GONE;
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.deleteEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class SharedInformerTest implements ThreadFactory, StubWatchFactory.AllWatchesClosedListener {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final String UID1 = "domain1";
+  private static final String UID2 = "domain2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Thread> threads = new ArrayList<>();
+  private final List<Watch.Response<V1Pod>> ns1Responses = new ArrayList<>();
+  private final List<Watch.Response<V1Pod>> ns2Responses = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final SharedInformer<V1Pod> informer = SharedInformer.forPods();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+
+    StubWatchFactory.setListener(this);
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Override
+  public Thread newThread(@Nonnull Runnable r) {
+    Thread thread = new Thread(r);
+    threads.add(thread);
+    return thread;
+  }
+
+  @Override
+  public void allWatchesClosed() {
+    informer.stop();
+  }
+
+  private void runInformer() throws InterruptedException {
+    informer.start(this, new FakeWatchTuning());
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+  private V1Pod createPod(String namespace, String domainUid, String serverName) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(namespace).name(domainUid + "-" + serverName)
+          .putLabelsItem(DOMAINUID_LABEL, domainUid)
+          .putLabelsItem(SERVERNAME_LABEL, serverName)
+          .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true"));
+  }
+
+  @Test
+  void watchRequest_isClusterScopedAndSelectsOperatorResources() throws InterruptedException {
+    runInformer();
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), not(hasKey("namespace")));
+    assertThat(StubWatchFactory.getRequestParameters().get(0),
+          hasEntry("labelSelector", DOMAINUID_LABEL + "," + CREATEDBYOPERATOR_LABEL));
+  }
+
+  @Test
+  void receivedEvents_areDispatchedToListenerForNamespace() throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    V1Pod pod2 = createPod(NS2, UID2, "ms1");
+    V1Pod pod3 = createPod(NS1, UID1, "ms2");
+    StubWatchFactory.addCallResponses(
+          WatchEvent.createAddedEvent(pod1).toWatchResponse(),
+          WatchEvent.createAddedEvent(pod2).toWatchResponse(),
+          WatchEvent.createModifiedEvent(pod3).toWatchResponse());
+    informer.addListener(NS1, ns1Responses::add, List.of(), null);
+    informer.addListener(NS2, ns2Responses::add, List.of(), null);
+
+    runInformer();
+
+    assertThat(ns1Responses, contains(addEvent(pod1), modifyEvent(pod3)));
+    assertThat(ns2Responses, contains(addEvent(pod2)));
+  }
+
+  @Test
+  void afterListenerRemoved_eventsForNamespaceAreNotDispatched() throws InterruptedException {
+    StubWatchFactory.addCallResponses(WatchEvent.createAddedEvent(createPod(NS1, UID1, "ms1")).toWatchResponse());
+    informer.addListener(NS1, ns1Responses::add, List.of(), null);
+    informer.removeListener(NS1);
+
+    runInformer();
+
+    assertThat(ns1Responses, empty());
+  }
+
+  @Test
+  void listedObjectsInNamespace_areDispatchedToNewListenerAsAdded() throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    V1Pod pod2 = createPod(NS2, UID2, "ms1");
+    testSupport.defineResources(pod1, pod2);
+    informer.addListener(NS1, ns1Responses::add, List.of(), null);
+
+    runInformer();
+
+    assertThat(ns1Responses, contains(addEvent(pod1)));
+  }
+
+  @Test
+  void objectsAlreadyKnownToListener_areNotDispatched() throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    testSupport.defineResources(pod1);
+    informer.addListener(NS1, ns1Responses::add, List.of(pod1), null);
+
+    runInformer();
+
+    assertThat(ns1Responses, empty());
+  }
+
+  @Test
+  void objectsKnownToListenerButNoLongerListed_areDispatchedAsDeleted() throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    informer.addListener(NS1, ns1Responses::add, List.of(pod1), null);
+
+    runInformer();
+
+    assertThat(ns1Responses, contains(deleteEvent(pod1)));
+  }
+
+  @Test
+  void eventsNotAfterListenerListVersion_areNotDispatched() throws InterruptedException {
+    V1Pod pod1 = withResourceVersion(createPod(NS1, UID1, "ms1"), "5");
+    V1Pod pod2 = withResourceVersion(createPod(NS1, UID1, "ms2"), "7");
+    StubWatchFactory.addCallResponses(
+          WatchEvent.createModifiedEvent(pod1).toWatchResponse(),
+          WatchEvent.createModifiedEvent(pod2).toWatchResponse());
+    informer.addListener(NS1, ns1Responses::add, List.of(), "6");
+
+    runInformer();
+
+    assertThat(ns1Responses, contains(modifyEvent(pod2)));
+  }
+
+  @Test
+  void afterWatchError_objectsNoLongerListedAreDispatchedAsDeleted() throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    StubWatchFactory.addCallResponses(
+          WatchEvent.createAddedEvent(pod1).toWatchResponse(),
+          WatchEvent.<V1Pod>createErrorEvent(HTTP_GONE).toWatchResponse());
+    StubWatchFactory.addCallResponses();
+    informer.addListener(NS1, ns1Responses::add, List.of(), null);
+
+    runInformer();
+
+    assertThat(ns1Responses, contains(addEvent(pod1), deleteEvent(pod1)));
+  }
+
+  @Test
+  void whenListenerAddedAfterInformerHasListed_differencesFromListenerListAreDispatched()
+        throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    V1Pod pod2 = createPod(NS1, UID1, "ms2");
+    testSupport.defineResources(pod1);
+    runInformer();
+
+    informer.addListener(NS1, ns1Responses::add, List.of(pod2), null);
+
+    assertThat(ns1Responses, contains(addEvent(pod1), deleteEvent(pod2)));
+  }
+
+  @Test
+  void receivedEvents_areCachedEvenWithoutListener() throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    StubWatchFactory.addCallResponses(WatchEvent.createAddedEvent(pod1).toWatchResponse());
+
+    runInformer();
+
+    assertThat(informer.getCache().get(NS1, "domain1-ms1"), sameInstance(pod1));
+  }
+
+  @Test
+  void cache_isIndexedByDomainAndServer() throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    V1Pod pod2 = createPod(NS1, UID1, "ms2");
+    V1Pod pod3 = createPod(NS1, UID2, "ms1");
+    StubWatchFactory.addCallResponses(
+          WatchEvent.createAddedEvent(pod1).toWatchResponse(),
+          WatchEvent.createAddedEvent(pod2).toWatchResponse(),
+          WatchEvent.createAddedEvent(pod3).toWatchResponse());
+
+    runInformer();
+
+    assertThat(informer.getCache().listForDomain(NS1, UID1), containsInAnyOrder(pod1, pod2));
+    assertThat(informer.getCache().getForServer(NS1, UID2, "ms1"), sameInstance(pod3));
+  }
+
+  @Test
+  void afterDeleteEvent_objectIsRemovedFromCacheAndIndexes() throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    StubWatchFactory.addCallResponses(
+          WatchEvent.createAddedEvent(pod1).toWatchResponse(),
+          WatchEvent.createDeletedEvent(pod1).toWatchResponse());
+
+    runInformer();
+
+    assertThat(informer.getCache().get(NS1, "domain1-ms1"), nullValue());
+    assertThat(informer.getCache().listForDomain(NS1, UID1), empty());
+    assertThat(informer.getCache().getForServer(NS1, UID1, "ms1"), nullValue());
+  }
+
+  @Test
+  void afterModifiedEventWithChangedServer_serverIndexIsUpdated() throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    V1Pod pod2 = createPod(NS1, UID1, "ms2");
+    pod2.getMetadata().setName(pod1.getMetadata().getName());
+    StubWatchFactory.addCallResponses(
+          WatchEvent.createAddedEvent(pod1).toWatchResponse(),
+          WatchEvent.createModifiedEvent(pod2).toWatchResponse());
+
+    runInformer();
+
+    assertThat(informer.getCache().getForServer(NS1, UID1, "ms1"), nullValue());
+    assertThat(informer.getCache().getForServer(NS1, UID1, "ms2"), sameInstance(pod2));
+  }
+
+  @Test
+  void afterListing_cacheHoldsListedObjectsAndInformerHasSynced() throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    V1Pod pod2 = createPod(NS2, UID2, "ms1");
+    testSupport.defineResources(pod1, pod2);
+
+    runInformer();
+
+    assertThat(informer.hasSynced(), is(true));
+    assertThat(informer.getCache().list(NS1), contains(pod1));
+    assertThat(informer.getCache().getForServer(NS2, UID2, "ms1"), equalTo(pod2));
+  }
+
+  @Test
+  void afterWatchError_objectsNoLongerListedAreRemovedFromCache() throws InterruptedException {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    StubWatchFactory.addCallResponses(
+          WatchEvent.createAddedEvent(pod1).toWatchResponse(),
+          WatchEvent.<V1Pod>createErrorEvent(HTTP_GONE).toWatchResponse());
+    StubWatchFactory.addCallResponses();
+
+    runInformer();
+
+    assertThat(informer.getCache().get(NS1, "domain1-ms1"), nullValue());
+  }
+
+  @Test
+  void listeners_receiveEventsWithoutHoldingInformerLock() throws InterruptedException {
+    final List<Boolean> lockHeld = new ArrayList<>();
+    StubWatchFactory.addCallResponses(WatchEvent.createAddedEvent(createPod(NS1, UID1, "ms1")).toWatchResponse());
+    informer.addListener(NS1, r -> lockHeld.add(Thread.holdsLock(informer)), List.of(), null);
+
+    runInformer();
+
+    assertThat(lockHeld, contains(false));
+  }
+
+  private V1Pod withResourceVersion(V1Pod pod, String resourceVersion) {
+    pod.getMetadata().setResourceVersion(resourceVersion);
+    return pod;
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.watcher;
@@ -7,13 +7,14 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleSupplier;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.common.utils.BaseTestUtils;
 import oracle.kubernetes.operator.ThreadFactoryTestBase;
-import oracle.kubernetes.operator.WatchTuning;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.tuning.FakeWatchTuning;
@@ -45,7 +46,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
   private final List<Memento> mementos = new ArrayList<>();
   private final List<Watch.Response<?>> callBacks = new ArrayList<>();
   private final AtomicBoolean stopping = new AtomicBoolean(false);
-  final WatchTuning tuning = new FakeWatchTuning();
+  final FakeWatchTuning tuning = new FakeWatchTuning();
   private BigInteger resourceVersion = INITIAL_RESOURCE_VERSION;
 
   private V1ObjectMeta createMetaData() {
@@ -172,8 +173,9 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     Object object2 = createObjectWithMetaData();
     StubWatchFactory.addCallResponses(createAddResponse(object1), createModifyResponse(object2));
 
+    stopping.set(true);
     Watcher watcher = createWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
-    pauseWatcher(watcher);
+    watcher.waitForExit();
     assertThat(callBacks, empty());
 
     resumeWatcher(watcher);
@@ -182,14 +184,8 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
 
   @SuppressWarnings("rawtypes")
   private void resumeWatcher(Watcher watcher1) {
-    watcher1.start(this);
     watcher1.resume();
-    watcher1.waitForExit();
-  }
-
-  @SuppressWarnings("rawtypes")
-  private void pauseWatcher(Watcher watcher1) {
-    watcher1.pause();
+    watcher1.start(this);
     watcher1.waitForExit();
   }
 
@@ -241,6 +237,46 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "0"));
   }
 
+  @Test
+  void bookmarkEvents_areNotSentToListeners() {
+    Object object = createObjectWithMetaData();
+    scheduleBookmarkResponse(createObjectWithMetaData());
+    scheduleAddResponse(object);
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, contains(addEvent(object)));
+  }
+
+  @Test
+  void afterBookmarkEvent_nextRequestSendsBookmarkResourceVersion() {
+    scheduleBookmarkResponse(createObjectWithMetaData(NEXT_RESOURCE_VERSION.toString()));
+    scheduleAddResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", NEXT_RESOURCE_VERSION.toString()));
+  }
+
+  @Test
+  void withoutJitter_requestWatchLifetimeAsTimeout() {
+    sendInitialRequest(INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), hasEntry("timeoutSeconds", "30"));
+  }
+
+  @Test
+  void withJitter_extendTimeoutByRandomFractionOfJitter() throws NoSuchFieldException {
+    tuning.withWatchLifetimeJitterPercent(20);
+    mementos.add(StaticStubSupport.install(Watcher.class, "jitterSource", (DoubleSupplier) () -> 0.5));
+
+    sendInitialRequest(INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), hasEntry("timeoutSeconds", "33"));
+  }
+
   @Test
   void afterExceptionDuringNext_closeWatchAndTryAgain() {
     StubWatchFactory.throwExceptionOnNext(hasNextException);
@@ -30,9 +30,11 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class WlsDomainConfigTest {
 
@@ -245,6 +247,106 @@ class WlsDomainConfigTest {
     assertThat(wlsDomainConfig.containsCluster(null), equalTo(false));
   }
 
+  @Test
+  void whenIndexed_findStandaloneServerConfig() {
+    support.addWlsServer("standalone");
+    support.addWlsCluster("cluster-1", "ms1");
+
+    WlsDomainConfig domainConfig = support.createDomainConfig().indexed();
+
+    assertThat(domainConfig.getServerConfig("standalone").getName(), equalTo("standalone"));
+    assertThat(domainConfig.getServerConfig("ms1"), nullValue());
+  }
+
+  @Test
+  void whenIndexed_findClusteredServerConfigs() {
+    support.addWlsCluster("cluster-1", "ms1", "ms2");
+    support.addDynamicWlsCluster("dynamic-cluster", "dyn1", "dyn2");
+
+    WlsDomainConfig domainConfig = support.createDomainConfig().indexed();
+
+    assertThat(domainConfig.getClusteredServerConfig("cluster-1", "ms2").getName(), equalTo("ms2"));
+    assertThat(domainConfig.getClusteredServerConfig("dynamic-cluster", "dyn2").getName(), equalTo("dyn2"));
+    assertThat(domainConfig.getClusteredServerConfig("cluster-1", "dyn2"), nullValue());
+  }
+
+  @Test
+  void whenIndexed_returnClusterNameForServer() {
+    support.addWlsCluster("cluster-1", "ms1");
+    support.addDynamicWlsCluster("dynamic-cluster", "dyn1");
+
+    WlsDomainConfig domainConfig = support.createDomainConfig().indexed();
+
+    assertThat(domainConfig.getClusterName("dyn1"), equalTo("dynamic-cluster"));
+    assertThat(domainConfig.getClusterName("ms1"), equalTo("cluster-1"));
+    assertThat(domainConfig.getClusterName("notthere"), nullValue());
+  }
+
+  @Test
+  void whenIndexed_containsServersAndClusters() {
+    support.addWlsServer("standalone");
+    support.addDynamicWlsCluster("dynamic-cluster", "dyn1");
+
+    WlsDomainConfig domainConfig = support.createDomainConfig().indexed();
+
+    assertThat(domainConfig.containsServer("standalone"), equalTo(true));
+    assertThat(domainConfig.containsServer("dyn1"), equalTo(true));
+    assertThat(domainConfig.containsServer("notthere"), equalTo(false));
+    assertThat(domainConfig.containsServer(null), equalTo(false));
+    assertThat(domainConfig.containsCluster("dynamic-cluster"), equalTo(true));
+    assertThat(domainConfig.containsCluster(null), equalTo(false));
+  }
+
+  @Test
+  void whenIndexed_unknownClusterConfigIsEmpty() {
+    WlsDomainConfig domainConfig = support.createDomainConfig().indexed();
+
+    assertThat(domainConfig.getClusterConfig("notthere").getClusterSize(), equalTo(0));
+    assertThat(domainConfig.getClusterConfigs().isEmpty(), equalTo(true));
+  }
+
+  @Test
+  void afterIndexedConfigChanged_findNewServer() {
+    WlsDomainConfig domainConfig = support.createDomainConfig().indexed();
+
+    domainConfig.addWlsServer("added", "host1", 8001);
+
+    assertThat(domainConfig.containsServer("added"), equalTo(true));
+  }
+
+  @Test
+  void afterIndexedClusterGainsServer_findNewServer() {
+    support.addWlsCluster("cluster-1", "ms1");
+    WlsDomainConfig domainConfig = support.createDomainConfig().indexed();
+
+    domainConfig.getClusterConfig("cluster-1").addWlsServer("ms2", "host2", 8001);
+
+    assertThat(domainConfig.getClusterName("ms2"), equalTo("cluster-1"));
+  }
+
+  @Test
+  void afterIndexedDynamicServersChanged_findNewServer() {
+    support.addDynamicWlsCluster("dynamic-cluster", "dyn1");
+    WlsDomainConfig domainConfig = support.createDomainConfig().indexed();
+
+    domainConfig.getClusterConfig("dynamic-cluster").getDynamicServersConfig().setServerConfigs(
+        List.of(new WlsServerConfig("dyn1", "host1", 8001), new WlsServerConfig("dyn2", "host2", 8001)));
+
+    assertThat(domainConfig.getClusteredServerConfig("dynamic-cluster", "dyn2").getName(), equalTo("dyn2"));
+  }
+
+  @Test
+  void serverListsCannotBeModifiedDirectly() {
+    support.addWlsServer("standalone");
+    support.addWlsCluster("cluster-1", "ms1");
+    WlsDomainConfig domainConfig = support.createDomainConfig();
+    WlsServerConfig server = new WlsServerConfig("added", "host1", 8001);
+
+    assertThrows(UnsupportedOperationException.class, () -> domainConfig.getServers().add(server));
+    assertThrows(UnsupportedOperationException.class,
+        () -> domainConfig.getClusterConfig("cluster-1").getServers().add(server));
+  }
+
   @SuppressWarnings("unused")
   static class WlsServerConfigMatcher
       extends org.hamcrest.TypeSafeDiagnosingMatcher<
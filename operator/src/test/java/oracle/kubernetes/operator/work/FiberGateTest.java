@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
@@ -54,6 +55,37 @@ class FiberGateTest {
     assertThat(terminalStep.wasRun(), is(true));
   }
 
+  @Test
+  void whenSuspendedFiberReplaced_doNotResumeIt() {
+    fiberGate.startFiber(UID1, () -> new DelayStep(terminalStep), () -> packet, completionCallback);
+    fiberGate.startFiber(UID1, () -> noopStep, () -> packet, completionCallback);
+
+    testSupport.setTime(1, TimeUnit.SECONDS);
+
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  @Test
+  void whenSuspendedFiberNotReplaced_resumeAfterDelay() {
+    fiberGate.startFiber(UID1, () -> new DelayStep(terminalStep), () -> packet, completionCallback);
+
+    testSupport.setTime(1, TimeUnit.SECONDS);
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  private static class DelayStep extends Step {
+
+    DelayStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doDelay(getNext(), packet, 1, TimeUnit.SECONDS);
+    }
+  }
+
   private static class NoopStep extends Step {
 
     @Override
@@ -13,6 +13,7 @@ import java.util.logging.LogRecord;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import static oracle.kubernetes.common.logging.MessageKeys.DUMP_BREADCRUMBS;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -71,6 +73,41 @@ class FiberTest {
     fiber.start();
   }
 
+  @Test
+  void whenAdapterAdded_applyItToEachStepAfterTheInstalledOnes() throws NoSuchFieldException {
+    final List<Step> adaptedSteps = new ArrayList<>();
+    mementos.add(StaticStubSupport.install(Step.class, "adapter", (Step.StepAdapter) (fiber, step, p) -> step));
+    Step.addAdapter((fiber, step, p) -> {
+      adaptedSteps.add(step);
+      return step;
+    });
+
+    runSteps(step1, step2, step3);
+
+    assertThat(adaptedSteps, contains(step1, step2, step3));
+  }
+
+  @Test
+  void whenAdapterAdded_notifyItOfFiberStart() throws NoSuchFieldException {
+    final List<Fiber> startedFibers = new ArrayList<>();
+    mementos.add(StaticStubSupport.install(Step.class, "adapter", (Step.StepAdapter) (fiber, step, p) -> step));
+    Step.addAdapter(new Step.StepAdapter() {
+      @Override
+      public Step adapt(Fiber fiber, Step step, Packet packet) {
+        return step;
+      }
+
+      @Override
+      public void fiberStarted(Fiber fiber) {
+        startedFibers.add(fiber);
+      }
+    });
+
+    runSteps(step1, step2, step3);
+
+    assertThat(startedFibers, hasSize(1));
+  }
+
   @Test
   void afterSuccessfulRun_executeCompletionCallback() {
     runSteps(step1, step2, step3);
@@ -106,6 +143,116 @@ class FiberTest {
     assertThat(stepList, containsInRelativeOrder(step2, step3));
   }
 
+  @Test
+  void whenStepRetries_suspendFiberUntilDelayPasses() {
+    Step retryStep = new RetryStep();
+    runSteps(retryStep, step2);
+
+    assertThat(stepList, contains(retryStep));
+
+    testSupport.setTime(50, TimeUnit.MILLISECONDS);
+    assertThat(stepList, contains(retryStep, retryStep));
+  }
+
+  @Test
+  void afterDelays_resumeFromDelayedStep() {
+    Step retryStep = new RetryStep();
+    runSteps(step1, retryStep, step2);
+
+    testSupport.setTime(100, TimeUnit.MILLISECONDS);
+
+    assertThat(stepList, contains(step1, retryStep, retryStep, retryStep, step2));
+    assertThat(completionCallback.completed, is(true));
+  }
+
+  @Test
+  void whenSuspendedFiberCancelled_doNotResume() {
+    Step retryStep = new RetryStep();
+    Fiber fiber = new Fiber(testSupport.getScheduledExecutorService(), Step.chain(retryStep, step2),
+          packet, completionCallback);
+    fiber.start();
+
+    fiber.cancel();
+    testSupport.setTime(100, TimeUnit.MILLISECONDS);
+
+    assertThat(stepList, contains(retryStep));
+    assertThat(completionCallback.completed, is(false));
+  }
+
+  @Test
+  void whenChildStepRetries_suspendOnlyChildFiber() {
+    Step retryStep = new RetryStep();
+    runSteps(new ChildFiberStep(step3, retryStep, step1));
+
+    assertThat(stepList, contains(retryStep, step1));
+  }
+
+  @Test
+  void afterChildStepDelays_runSynchronizationStep() {
+    Step retryStep = new RetryStep();
+    runSteps(new ChildFiberStep(step3, retryStep, step1));
+
+    testSupport.setTime(100, TimeUnit.MILLISECONDS);
+
+    assertThat(stepList, contains(retryStep, step1, retryStep, retryStep, step3));
+  }
+
+  @Test
+  void whenForkJoinsShareLimit_childBeyondLimitWaitsForPermit() {
+    ForkJoinLimit limit = new ForkJoinLimit(() -> 1);
+    Step retryStep = new RetryStep();
+    runSteps(new ChildFiberStep(step3, retryStep).withLimit(limit));
+    runSteps(new ChildFiberStep(step2, step1).withLimit(limit));
+
+    assertThat(stepList, contains(retryStep));
+  }
+
+  @Test
+  void afterChildWithPermitCompletes_runWaitingChild() {
+    ForkJoinLimit limit = new ForkJoinLimit(() -> 1);
+    Step retryStep = new RetryStep();
+    runSteps(new ChildFiberStep(step3, retryStep).withLimit(limit));
+    runSteps(new ChildFiberStep(step2, step1).withLimit(limit));
+
+    testSupport.setTime(100, TimeUnit.MILLISECONDS);
+
+    assertThat(stepList, containsInRelativeOrder(retryStep, retryStep, retryStep, step1, step2));
+    assertThat(limit.getNumInUse(), is(0));
+  }
+
+  @Test
+  void whenForkJoinCancelled_releaseItsPermits() {
+    ForkJoinLimit limit = new ForkJoinLimit(() -> 1);
+    Step retryStep = new RetryStep();
+    Fiber fiber = new Fiber(testSupport.getScheduledExecutorService(),
+          new ChildFiberStep(step3, retryStep).withLimit(limit), packet, completionCallback);
+    fiber.start();
+    runSteps(new ChildFiberStep(step2, step1).withLimit(limit));
+
+    fiber.cancel();
+
+    assertThat(stepList, contains(retryStep, step1, step2));
+  }
+
+  @Test
+  void whenDetachedFiberStarted_completeWithoutWaitingForIt() {
+    Step retryStep = new RetryStep();
+    runSteps(new DetachedFiberStep(retryStep), step1);
+
+    assertThat(stepList, contains(step1, retryStep));
+    assertThat(completionCallback.completed, is(true));
+  }
+
+  @Test
+  void afterDelays_runDetachedFiberToEnd() {
+    Step retryStep = new RetryStep();
+    runSteps(new DetachedFiberStep(retryStep, step2), step1);
+
+    testSupport.setTime(100, TimeUnit.MILLISECONDS);
+
+    assertThat(stepList, contains(step1, retryStep, retryStep, retryStep, step2));
+  }
+
   static class BasicStep extends Step {
 
     private final Integer stepNum;
@@ -158,15 +305,21 @@ class FiberTest {
 
     private final Step nextStep;
     private final Step[] childSteps;
+    private ForkJoinLimit limit;
 
     ChildFiberStep(Step nextStep, Step... steps) {
       this.nextStep = nextStep;
       childSteps = steps;
     }
 
+    ChildFiberStep withLimit(ForkJoinLimit limit) {
+      this.limit = limit;
+      return this;
+    }
+
     @Override
     public @Nonnull Result apply(Packet packet) {
-      return doForkJoin(nextStep, packet, createStepAndPacketList(packet));
+      return doForkJoin(nextStep, packet, createStepAndPacketList(packet), limit);
     }
 
     @Nonnull
@@ -177,6 +330,21 @@ class FiberTest {
     }
   }
 
+  static class DetachedFiberStep extends BasicStep {
+
+    private final Step[] detachedSteps;
+
+    DetachedFiberStep(Step... steps) {
+      detachedSteps = steps;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      packet.getFiber().startDetached(Step.chain(detachedSteps), packet.copy());
+      return doNext(packet);
+    }
+  }
+
   class CompletionCallbackImpl implements Fiber.CompletionCallback {
     boolean completed;
 
@@ -0,0 +1,180 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static oracle.kubernetes.common.logging.MessageKeys.EXCEPTION;
+import static oracle.kubernetes.common.utils.LogMatcher.containsSevere;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimerScheduledExecutorServiceTest {
+
+  private final TimerScheduledExecutorService executor = new TimerScheduledExecutorService();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleControl;
+
+  @BeforeEach
+  void setUp() {
+    mementos.add(consoleControl = TestUtils.silenceOperatorLogger()
+        .ignoringLoggedExceptions(IllegalStateException.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void scheduledRunnable_runsAfterDelay() throws Exception {
+    long start = System.nanoTime();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    executor.schedule(latch::countDown, 50, MILLISECONDS);
+
+    assertThat(latch.await(5, SECONDS), is(true));
+    assertThat(System.nanoTime() - start, greaterThanOrEqualTo(MILLISECONDS.toNanos(50)));
+  }
+
+  @Test
+  void scheduledCallable_returnsResultFromFuture() throws Exception {
+    ScheduledFuture<String> future = executor.schedule(() -> "done", 10, MILLISECONDS);
+
+    assertThat(future.get(5, SECONDS), equalTo("done"));
+  }
+
+  @Test
+  void tasks_runInOrderOfTriggerTime() throws Exception {
+    List<String> runs = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(3);
+
+    executor.schedule(() -> record(runs, latch, "third"), 150, MILLISECONDS);
+    executor.schedule(() -> record(runs, latch, "first"), 10, MILLISECONDS);
+    executor.schedule(() -> record(runs, latch, "second"), 80, MILLISECONDS);
+
+    assertThat(latch.await(5, SECONDS), is(true));
+    assertThat(runs, contains("first", "second", "third"));
+  }
+
+  private void record(List<String> runs, CountDownLatch latch, String name) {
+    runs.add(name);
+    latch.countDown();
+  }
+
+  @Test
+  void cancelledTask_doesNotRun() throws Exception {
+    AtomicInteger count = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    executor.schedule(count::incrementAndGet, 20, MILLISECONDS).cancel(false);
+    executor.schedule(latch::countDown, 60, MILLISECONDS);
+
+    assertThat(latch.await(5, SECONDS), is(true));
+    assertThat(count.get(), equalTo(0));
+  }
+
+  @Test
+  void cancelledTask_isRemovedFromQueue() {
+    ScheduledFuture<?> future = executor.schedule(() -> { }, 1, HOURS);
+
+    future.cancel(false);
+
+    assertThat(executor.getNumPendingTasks(), equalTo(0));
+  }
+
+  @Test
+  void fixedDelayTask_repeatsUntilCancelled() throws Exception {
+    CountDownLatch latch = new CountDownLatch(3);
+
+    ScheduledFuture<?> future = executor.scheduleWithFixedDelay(latch::countDown, 0, 10, MILLISECONDS);
+
+    assertThat(latch.await(5, SECONDS), is(true));
+    future.cancel(false);
+    assertThat(future.isCancelled(), is(true));
+  }
+
+  @Test
+  void fixedRateTask_continuesAfterFailedExecution() throws Exception {
+    CountDownLatch latch = new CountDownLatch(3);
+
+    executor.scheduleAtFixedRate(() -> failAfterCountdown(latch), 0, 10, MILLISECONDS);
+
+    assertThat(latch.await(5, SECONDS), is(true));
+  }
+
+  @Test
+  void whenPeriodicTaskFails_logFailure() throws Exception {
+    consoleControl.collectLogMessages(logRecords, EXCEPTION);
+    AtomicInteger count = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    ScheduledFuture<?> future = executor.scheduleWithFixedDelay(
+        () -> failOnlyFirstTime(count, latch), 0, 10, MILLISECONDS);
+
+    assertThat(latch.await(5, SECONDS), is(true));
+    future.cancel(false);
+    assertThat(logRecords, containsSevere(EXCEPTION));
+  }
+
+  private void failOnlyFirstTime(AtomicInteger count, CountDownLatch latch) {
+    if (count.getAndIncrement() == 0) {
+      throw new IllegalStateException("test failure");
+    }
+    latch.countDown();
+  }
+
+  private void failAfterCountdown(CountDownLatch latch) {
+    latch.countDown();
+    throw new IllegalStateException("test failure");
+  }
+
+  @Test
+  void pendingTasks_areHeldInQueue() {
+    for (int i = 0; i < 10_000; i++) {
+      executor.schedule(() -> { }, 1, HOURS);
+    }
+
+    assertThat(executor.getNumPendingTasks(), equalTo(10_000));
+  }
+
+  @Test
+  void afterShutdown_rejectNewTasks() {
+    executor.shutdown();
+
+    assertThrows(RejectedExecutionException.class, () -> executor.schedule(() -> { }, 1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void afterShutdown_serviceTerminates() throws Exception {
+    executor.schedule(() -> { }, 1, HOURS);
+
+    executor.shutdown();
+
+    assertThat(executor.awaitTermination(5, SECONDS), is(true));
+  }
+}
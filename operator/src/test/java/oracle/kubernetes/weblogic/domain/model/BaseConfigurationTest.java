@@ -0,0 +1,90 @@
+// Copyright (c) 2025, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import oracle.kubernetes.operator.ServerStartPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class BaseConfigurationTest {
+
+  private static Stream<Arguments> startPolicyCombinations() {
+    List<ServerStartPolicy> policies = new ArrayList<>(Arrays.asList(ServerStartPolicy.values()));
+    policies.add(null);
+
+    List<Arguments> combinations = new ArrayList<>();
+    for (ServerStartPolicy serverPolicy : policies) {
+      for (ServerStartPolicy clusterPolicy : policies) {
+        for (ServerStartPolicy domainPolicy : policies) {
+          combinations.add(Arguments.of(serverPolicy, clusterPolicy, domainPolicy));
+        }
+      }
+    }
+    return combinations.stream();
+  }
+
+  @ParameterizedTest
+  @MethodSource("startPolicyCombinations")
+  void fillInStartPolicy_matchesPolicyOfMergedServerConfiguration(
+      ServerStartPolicy serverPolicy, ServerStartPolicy clusterPolicy, ServerStartPolicy domainPolicy) {
+    Server server = createServer(serverPolicy);
+    ClusterSpec clusterSpec = new ClusterSpec().withServerStartPolicy(clusterPolicy);
+    DomainSpec domainSpec = createDomainSpec(domainPolicy);
+
+    assertThat(BaseConfiguration.fillInStartPolicy(server, clusterSpec, domainSpec),
+        equalTo(getMergedStartPolicy(server, clusterSpec, domainSpec)));
+  }
+
+  @ParameterizedTest
+  @EnumSource(ServerStartPolicy.class)
+  @NullSource
+  void fillInStartPolicy_withoutServerOrCluster_matchesPolicyOfMergedServerConfiguration(
+      ServerStartPolicy domainPolicy) {
+    DomainSpec domainSpec = createDomainSpec(domainPolicy);
+
+    assertThat(BaseConfiguration.fillInStartPolicy(null, null, domainSpec),
+        equalTo(getMergedStartPolicy(null, null, domainSpec)));
+  }
+
+  @Test
+  void whenServerIsAdminOnlyAndClusterIsAlways_useClusterPolicy() {
+    Server server = createServer(ServerStartPolicy.ADMIN_ONLY);
+    ClusterSpec clusterSpec = new ClusterSpec().withServerStartPolicy(ServerStartPolicy.ALWAYS);
+
+    assertThat(BaseConfiguration.fillInStartPolicy(server, clusterSpec, createDomainSpec(null)),
+        equalTo(ServerStartPolicy.ALWAYS));
+  }
+
+  private static Server createServer(ServerStartPolicy policy) {
+    Server server = new Server();
+    server.setServerStartPolicy(policy);
+    return server;
+  }
+
+  private static DomainSpec createDomainSpec(ServerStartPolicy policy) {
+    DomainSpec domainSpec = new DomainSpec();
+    domainSpec.setServerStartPolicy(policy);
+    return domainSpec;
+  }
+
+  // the policy computed by the full merge which the effective server specs performed before computing it directly
+  private static ServerStartPolicy getMergedStartPolicy(Server server, ClusterSpec clusterSpec, DomainSpec spec) {
+    Server merged = server != null ? server.getConfiguration() : new Server();
+    merged.fillInFrom(clusterSpec);
+    merged.fillInFrom(spec);
+    return merged.getServerStartPolicy();
+  }
+}